@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.executor;
+
+import org.apache.shardingsphere.benchmark.fixture.H2ExecutionConnection;
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixtures;
+import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementExecuteGroupEngine;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code AbstractExecuteGroupEngine.generate} with connections of in-memory H2 databases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecuteGroupEngineBenchmark {
+    
+    private static final List<String> DATA_SOURCE_NAMES = Arrays.asList("ds_0", "ds_1");
+    
+    @Param({"2", "16", "128"})
+    private int executionUnitCount;
+    
+    @Param({"1", "8"})
+    private int maxConnectionsSizePerQuery;
+    
+    private H2ExecutionConnection executionConnection;
+    
+    private StatementExecuteGroupEngine executeGroupEngine;
+    
+    private Collection<ExecutionUnit> executionUnits;
+    
+    /**
+     * Set up.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        executionConnection = new H2ExecutionConnection(DATA_SOURCE_NAMES, maxConnectionsSizePerQuery);
+        executeGroupEngine = new StatementExecuteGroupEngine(
+                maxConnectionsSizePerQuery, executionConnection, new StatementOption(false), Collections.singletonList(ShardingFixtures.createShardingRule()));
+        executionUnits = new LinkedList<>();
+        for (int i = 0; i < executionUnitCount; i++) {
+            String dataSourceName = DATA_SOURCE_NAMES.get(i % DATA_SOURCE_NAMES.size());
+            executionUnits.add(new ExecutionUnit(dataSourceName, new SQLUnit(String.format("SELECT order_id, user_id, status FROM t_order_%s", i), Collections.emptyList())));
+        }
+    }
+    
+    /**
+     * Tear down.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        executionConnection.close();
+    }
+    
+    /**
+     * Generate execute groups.
+     * 
+     * @return count of generated execute units
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int generate() throws SQLException {
+        int result = 0;
+        for (InputGroup<StatementExecuteUnit> each : executeGroupEngine.generate(executionUnits)) {
+            for (StatementExecuteUnit unit : each.getInputs()) {
+                unit.getStorageResource().close();
+                result++;
+            }
+        }
+        return result;
+    }
+}
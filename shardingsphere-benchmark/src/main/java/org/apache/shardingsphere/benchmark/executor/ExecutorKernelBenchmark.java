@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.executor;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for {@code ExecutorKernel} executing broadcast query over 256 shards with platform thread pool and virtual threads.
+ * 
+ * <p>Each shard blocks for a simulated backend round trip. Sample time mode reports percentiles of latency, compare {@code p0.99} of each mode.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ExecutorKernelBenchmark {
+    
+    private static final int SHARD_COUNT = 256;
+    
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param({"0", "64"})
+    private int executorSize;
+    
+    private ExecutorKernel executorKernel;
+    
+    private Collection<InputGroup<Integer>> inputGroups;
+    
+    private ExecutorCallback<Integer, Integer> callback;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        executorKernel = new ExecutorKernel(executorSize, virtualThreadEnabled);
+        inputGroups = new LinkedList<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            inputGroups.add(new InputGroup<>(Collections.singletonList(i)));
+        }
+        callback = (inputs, isTrunkThread, dataMap) -> {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            return inputs;
+        };
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        executorKernel.close();
+    }
+    
+    /**
+     * Execute broadcast query.
+     * 
+     * @return results of all shards
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Integer> executeBroadcast() throws SQLException {
+        return executorKernel.execute(inputGroups, callback);
+    }
+}
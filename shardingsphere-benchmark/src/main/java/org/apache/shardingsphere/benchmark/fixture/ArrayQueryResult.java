@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+
+import java.io.InputStream;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+
+/**
+ * Query result over rows held in arrays, which stands for the result of one shard without a backend database.
+ */
+@RequiredArgsConstructor
+public final class ArrayQueryResult implements QueryResult {
+    
+    private final String[] columnLabels;
+    
+    private final Object[][] rows;
+    
+    private int rowIndex = -1;
+    
+    private boolean wasNull;
+    
+    @Override
+    public ResultSetMetaData getResultSetMetaData() {
+        return null;
+    }
+    
+    @Override
+    public boolean next() {
+        return ++rowIndex < rows.length;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = rows[rowIndex][columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("getInputStream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.length;
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return columnLabels[columnIndex - 1];
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels[columnIndex - 1];
+    }
+}
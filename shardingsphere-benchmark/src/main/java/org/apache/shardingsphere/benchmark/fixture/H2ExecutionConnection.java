@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.JDBCExecutionConnection;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Execution connection which holds connections of in-memory H2 databases.
+ */
+public final class H2ExecutionConnection implements JDBCExecutionConnection, AutoCloseable {
+    
+    private final Map<String, List<Connection>> cachedConnections;
+    
+    public H2ExecutionConnection(final Collection<String> dataSourceNames, final int maxConnectionsSizePerQuery) throws SQLException {
+        cachedConnections = new LinkedHashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            List<Connection> connections = new ArrayList<>(maxConnectionsSizePerQuery);
+            for (int i = 0; i < maxConnectionsSizePerQuery; i++) {
+                connections.add(DriverManager.getConnection(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", each), "sa", ""));
+            }
+            cachedConnections.put(each, connections);
+        }
+    }
+    
+    @Override
+    public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) {
+        return cachedConnections.get(dataSourceName).subList(0, connectionSize);
+    }
+    
+    @Override
+    public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        return connection.createStatement(option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+    }
+    
+    @Override
+    public Statement createStorageResource(final String sql, final List<Object> parameters, 
+                                           final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        return option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        for (List<Connection> each : cachedConnections.values()) {
+            for (Connection connection : each) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+/**
+ * Complex keys sharding algorithm which routes to the target suffixed with sum of {@code user_id} and {@code region_id} mod target count.
+ */
+@Getter
+@Setter
+public final class ModComplexKeysShardingAlgorithm implements ComplexKeysShardingAlgorithm<Comparable<?>> {
+    
+    public static final String TYPE = "BENCHMARK_COMPLEX_MOD";
+    
+    private Properties props = new Properties();
+    
+    @Override
+    public void init() {
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ComplexKeysShardingValue<Comparable<?>> shardingValue) {
+        Collection<Comparable<?>> userIds = shardingValue.getColumnNameAndShardingValuesMap().get("user_id");
+        Collection<Comparable<?>> regionIds = shardingValue.getColumnNameAndShardingValuesMap().get("region_id");
+        if (null == userIds || null == regionIds) {
+            return availableTargetNames;
+        }
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1);
+        for (Comparable<?> each : userIds) {
+            for (Comparable<?> regionId : regionIds) {
+                result.add(getTargetName(availableTargetNames, (((Number) each).longValue() + ((Number) regionId).longValue()) % availableTargetNames.size()));
+            }
+        }
+        return result;
+    }
+    
+    private String getTargetName(final Collection<String> availableTargetNames, final long suffix) {
+        for (String each : availableTargetNames) {
+            if (each.endsWith("_" + suffix)) {
+                return each;
+            }
+        }
+        throw new UnsupportedOperationException(String.format("Can not find target with suffix `%s`", suffix));
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Sharding fixtures shared by benchmarks.
+ * 
+ * <p>Tables of fixture:</p>
+ * <ul>
+ *     <li>{@code t_order} and {@code t_order_item}: standard sharding by {@code user_id} and {@code order_id}, bound with each other</li>
+ *     <li>{@code t_user}: complex sharding by {@code user_id} and {@code region_id}</li>
+ *     <li>{@code t_config}: broadcast table</li>
+ * </ul>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingFixtures {
+    
+    public static final String DATABASE_TYPE_NAME = "MySQL";
+    
+    /**
+     * Get database type of fixture.
+     * 
+     * @return database type
+     */
+    public static DatabaseType getDatabaseType() {
+        return DatabaseTypes.getActualDatabaseType(DATABASE_TYPE_NAME);
+    }
+    
+    /**
+     * Create sharding rule.
+     * 
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTables().add(createTableRuleConfiguration("t_order", new StandardShardingStrategyConfiguration("order_id", "t_order_inline")));
+        result.getTables().add(createTableRuleConfiguration("t_order_item", new StandardShardingStrategyConfiguration("order_id", "t_order_item_inline")));
+        result.getTables().add(createTableRuleConfiguration("t_user", new ComplexShardingStrategyConfiguration("user_id,region_id", "t_user_complex")));
+        result.getBindingTableGroups().add("t_order,t_order_item");
+        result.getBroadcastTables().add("t_config");
+        result.getShardingAlgorithms().put("ds_inline", createInlineAlgorithmConfiguration("ds_${user_id % 2}"));
+        result.getShardingAlgorithms().put("t_order_inline", createInlineAlgorithmConfiguration("t_order_${order_id % 2}"));
+        result.getShardingAlgorithms().put("t_order_item_inline", createInlineAlgorithmConfiguration("t_order_item_${order_id % 2}"));
+        result.getShardingAlgorithms().put("t_user_complex", new ShardingSphereAlgorithmConfiguration(ModComplexKeysShardingAlgorithm.TYPE, new Properties()));
+        return new ShardingRule(result, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private static ShardingTableRuleConfiguration createTableRuleConfiguration(final String logicTable, final ShardingStrategyConfiguration tableShardingStrategy) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTable, String.format("ds_${0..1}.%s_${0..1}", logicTable));
+        result.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        result.setTableShardingStrategy(tableShardingStrategy);
+        return result;
+    }
+    
+    private static ShardingSphereAlgorithmConfiguration createInlineAlgorithmConfiguration(final String expression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm.expression", expression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    /**
+     * Create meta data.
+     * 
+     * @return meta data
+     */
+    public static ShardingSphereMetaData createMetaData() {
+        return new ShardingSphereMetaData(new DataSourceMetas(getDatabaseType(), Collections.emptyMap()), new RuleSchemaMetaData(createSchemaMetaData(), Collections.emptyMap()));
+    }
+    
+    private static SchemaMetaData createSchemaMetaData() {
+        Map<String, TableMetaData> tables = new HashMap<>(4, 1);
+        tables.put("t_order", createTableMetaData("order_id", "user_id", "status"));
+        tables.put("t_order_item", createTableMetaData("item_id", "order_id", "user_id"));
+        tables.put("t_user", createTableMetaData("user_id", "region_id", "user_name"));
+        tables.put("t_config", createTableMetaData("config_id", "status"));
+        return new SchemaMetaData(tables);
+    }
+    
+    private static TableMetaData createTableMetaData(final String primaryKeyColumn, final String... otherColumns) {
+        List<ColumnMetaData> columns = new LinkedList<>();
+        columns.add(new ColumnMetaData(primaryKeyColumn, Types.BIGINT, "BIGINT", true, false, false));
+        for (String each : otherColumns) {
+            columns.add(new ColumnMetaData(each, Types.VARCHAR, "VARCHAR", false, false, false));
+        }
+        return new TableMetaData(columns, Collections.emptyList());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixtures;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.kernel.context.schema.KernelPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for creating router, rewrite entry and merge engine of each query.
+ * 
+ * <p>Run with GC profiler to compare allocated bytes per operation, e.g. {@code java -jar target/benchmarks.jar KernelPipelineBenchmark -prof gc}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KernelPipelineBenchmark {
+    
+    private DatabaseType databaseType;
+    
+    private Collection<ShardingSphereRule> rules;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ConfigurationProperties props;
+    
+    private KernelPipeline kernelPipeline;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        databaseType = ShardingFixtures.getDatabaseType();
+        rules = Collections.singletonList(ShardingFixtures.createShardingRule());
+        metaData = ShardingFixtures.createMetaData();
+        props = new ConfigurationProperties(new Properties());
+        kernelPipeline = new KernelPipeline(databaseType, rules, metaData);
+    }
+    
+    /**
+     * Resolve kernel engines from rules for each query.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void resolveEnginesPerQuery(final Blackhole blackhole) {
+        blackhole.consume(new DataNodeRouter(metaData, props, rules));
+        blackhole.consume(new SQLRewriteEntry(metaData.getSchema().getConfiguredSchemaMetaData(), props, rules));
+        blackhole.consume(new MergeEngine(databaseType, metaData.getSchema().getConfiguredSchemaMetaData(), props, rules));
+    }
+    
+    /**
+     * Create kernel engines from precomputed kernel pipeline.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void createEnginesFromKernelPipeline(final Blackhole blackhole) {
+        blackhole.consume(kernelPipeline.newDataNodeRouter(props));
+        blackhole.consume(kernelPipeline.newSQLRewriteEntry(props));
+        blackhole.consume(kernelPipeline.newMergeEngine(props));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.ArrayQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixtures;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByValue;
+import org.apache.shardingsphere.sql.parser.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for k-way merge of {@code ORDER BY}, loser tree of {@code OrderByStreamMergedResult} against priority queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderByStreamMergedResultBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY user_id, order_id";
+    
+    private static final String[] COLUMN_LABELS = {"order_id", "user_id", "status"};
+    
+    private static final int ROW_COUNT_PER_SHARD = 1000;
+    
+    @Param({"16", "128"})
+    private int shardCount;
+    
+    private SchemaMetaData schemaMetaData;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private Object[][][] shardRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        schemaMetaData = ShardingFixtures.createMetaData().getSchema().getConfiguredSchemaMetaData();
+        selectStatementContext = (SelectStatementContext) SQLStatementContextFactory.newInstance(
+                schemaMetaData, Collections.emptyList(), new SQLParserEngine(ShardingFixtures.DATABASE_TYPE_NAME).parse(SQL, false));
+        Map<String, Integer> columnLabelIndexMap = new HashMap<>(COLUMN_LABELS.length, 1);
+        for (int i = 0; i < COLUMN_LABELS.length; i++) {
+            columnLabelIndexMap.put(COLUMN_LABELS[i], i + 1);
+        }
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        shardRows = new Object[shardCount][ROW_COUNT_PER_SHARD][];
+        for (int i = 0; i < shardCount; i++) {
+            for (int j = 0; j < ROW_COUNT_PER_SHARD; j++) {
+                shardRows[i][j] = new Object[]{(long) j * shardCount + i, j / 10, "init"};
+            }
+        }
+    }
+    
+    /**
+     * Merge with loser tree.
+     *
+     * @param blackhole blackhole
+     * @return row count of merged result
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int loserTree(final Blackhole blackhole) throws SQLException {
+        OrderByStreamMergedResult mergedResult = new OrderByStreamMergedResult(createQueryResults(), selectStatementContext, schemaMetaData);
+        int result = 0;
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Merge with priority queue.
+     *
+     * @param blackhole blackhole
+     * @return row count of merged result
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int priorityQueue(final Blackhole blackhole) throws SQLException {
+        Queue<OrderByValue> orderByValues = new PriorityQueue<>(shardCount);
+        for (QueryResult each : createQueryResults()) {
+            OrderByValue orderByValue = new OrderByValue(each, selectStatementContext.getOrderByContext().getItems(), selectStatementContext, schemaMetaData);
+            if (orderByValue.next()) {
+                orderByValues.offer(orderByValue);
+            }
+        }
+        int result = 0;
+        while (!orderByValues.isEmpty()) {
+            OrderByValue first = orderByValues.poll();
+            blackhole.consume(first.getQueryResult().getValue(1, Object.class));
+            result++;
+            if (first.next()) {
+                orderByValues.offer(first);
+            }
+        }
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            result.add(new ArrayQueryResult(COLUMN_LABELS, each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.benchmark.fixture.ArrayQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixtures;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code ShardingDQLResultMerger} over query results of shards held in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingDQLResultMergerBenchmark {
+    
+    private static final int ROW_COUNT_PER_SHARD = 1000;
+    
+    @Param({"ORDER_BY", "GROUP_BY", "PAGINATION"})
+    private MergeScenario scenario;
+    
+    @Param({"4", "16"})
+    private int shardCount;
+    
+    private ShardingDQLResultMerger merger;
+    
+    private SchemaMetaData schemaMetaData;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private Object[][][] shardRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        merger = new ShardingDQLResultMerger(ShardingFixtures.getDatabaseType());
+        schemaMetaData = ShardingFixtures.createMetaData().getSchema().getConfiguredSchemaMetaData();
+        sqlStatementContext = SQLStatementContextFactory.newInstance(
+                schemaMetaData, Collections.emptyList(), new SQLParserEngine(ShardingFixtures.DATABASE_TYPE_NAME).parse(scenario.getSql(), false));
+        shardRows = new Object[shardCount][ROW_COUNT_PER_SHARD][];
+        for (int i = 0; i < shardCount; i++) {
+            for (int j = 0; j < ROW_COUNT_PER_SHARD; j++) {
+                shardRows[i][j] = createRow(i, j);
+            }
+        }
+    }
+    
+    private Object[] createRow(final int shardIndex, final int rowIndex) {
+        if (MergeScenario.GROUP_BY == scenario) {
+            return new Object[]{(long) rowIndex, (long) shardIndex + 1};
+        }
+        return new Object[]{(long) rowIndex * shardCount + shardIndex, (long) rowIndex, "init"};
+    }
+    
+    /**
+     * Merge query results and iterate merged result.
+     * 
+     * @param blackhole blackhole
+     * @return row count of merged result
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            queryResults.add(new ArrayQueryResult(scenario.getColumnLabels(), each));
+        }
+        MergedResult mergedResult = merger.merge(queryResults, sqlStatementContext, schemaMetaData);
+        int result = 0;
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Merge scenario.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public enum MergeScenario {
+        
+        ORDER_BY("SELECT order_id, user_id, status FROM t_order ORDER BY order_id", new String[]{"order_id", "user_id", "status"}),
+        
+        GROUP_BY("SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id", new String[]{"user_id", "order_count"}),
+        
+        PAGINATION("SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 1000, 10", new String[]{"order_id", "user_id", "status"});
+        
+        private final String sql;
+        
+        private final String[] columnLabels;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code SQLParserEngine.parse} of each dialect.
+ * 
+ * <p>Cold parsing goes through lexer, parser and visitor every time, cached parsing hits parse result cache after the first invocation.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParserEngineBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, o.user_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id "
+            + "WHERE o.user_id = ? AND o.order_id IN (?, ?, ?) AND o.status <> ? ORDER BY o.order_id DESC";
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer", "SQL92"})
+    private String databaseType;
+    
+    private SQLParserEngine sqlParserEngine;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        sqlParserEngine = new SQLParserEngine(databaseType);
+    }
+    
+    /**
+     * Parse without cache.
+     * 
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseCold() {
+        return sqlParserEngine.parse(SQL, false);
+    }
+    
+    /**
+     * Parse with cache.
+     * 
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseCached() {
+        return sqlParserEngine.parse(SQL, true);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixtures;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code SQLRewriteEntry.rewrite} of multi-row INSERT.
+ * 
+ * <p>Average time of rewrite should scale linearly with row count.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteEntryBenchmark {
+    
+    @Param({"10", "1000", "10000", "50000"})
+    private int rowCount;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private RouteContext routeContext;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        sql = createInsertSQL();
+        parameters = createParameters();
+        ShardingSphereMetaData metaData = ShardingFixtures.createMetaData();
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        Collection<ShardingSphereRule> rules = Collections.singletonList(ShardingFixtures.createShardingRule());
+        SQLStatement sqlStatement = new SQLParserEngine(ShardingFixtures.DATABASE_TYPE_NAME).parse(sql, false);
+        routeContext = new DataNodeRouter(metaData, props, rules).route(sqlStatement, sql, new ArrayList<>(parameters));
+        sqlRewriteEntry = new SQLRewriteEntry(metaData.getSchema().getConfiguredSchemaMetaData(), props, rules);
+    }
+    
+    private String createInsertSQL() {
+        StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            result.append(0 == i ? "" : ", ").append("(?, ?, ?)");
+        }
+        return result.toString();
+    }
+    
+    private List<Object> createParameters() {
+        List<Object> result = new ArrayList<>(rowCount * 3);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(i);
+            result.add(i / 10);
+            result.add("init");
+        }
+        return result;
+    }
+    
+    /**
+     * Rewrite.
+     * 
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return sqlRewriteEntry.rewrite(sql, new ArrayList<>(parameters), routeContext);
+    }
+}
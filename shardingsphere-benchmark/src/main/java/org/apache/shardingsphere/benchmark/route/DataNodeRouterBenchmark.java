@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.benchmark.fixture.ShardingFixtures;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code DataNodeRouter.route} under standard, complex, broadcast and binding table rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataNodeRouterBenchmark {
+    
+    @Param({"STANDARD", "COMPLEX", "BROADCAST", "BINDING"})
+    private RouteScenario scenario;
+    
+    private DataNodeRouter router;
+    
+    private SQLStatement sqlStatement;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        router = new DataNodeRouter(ShardingFixtures.createMetaData(), new ConfigurationProperties(new Properties()), Collections.singletonList(ShardingFixtures.createShardingRule()));
+        sqlStatement = new SQLParserEngine(ShardingFixtures.DATABASE_TYPE_NAME).parse(scenario.getSql(), false);
+    }
+    
+    /**
+     * Route.
+     * 
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return router.route(sqlStatement, scenario.getSql(), new ArrayList<>(scenario.getParameters()));
+    }
+    
+    /**
+     * Route scenario.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public enum RouteScenario {
+        
+        STANDARD("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList(1, 2)),
+        
+        COMPLEX("SELECT user_id, region_id, user_name FROM t_user WHERE user_id = ? AND region_id IN (?, ?)", Arrays.asList(1, 10, 11)),
+        
+        BROADCAST("UPDATE t_config SET status = ? WHERE config_id = ?", Arrays.asList("on", 1)),
+        
+        BINDING("SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id IN (?, ?)", Arrays.asList(1, 2, 3));
+        
+        private final String sql;
+        
+        private final List<Object> parameters;
+    }
+}
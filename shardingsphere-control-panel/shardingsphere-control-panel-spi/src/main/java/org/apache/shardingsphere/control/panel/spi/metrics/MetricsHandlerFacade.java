@@ -32,6 +32,15 @@ public interface MetricsHandlerFacade {
      */
     void counterIncrement(String metricsLabel, String... labelValues);
     
+    /**
+     * Increment of counter metrics tracker by amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount amount to increase
+     * @param labelValues label values
+     */
+    void counterIncrement(String metricsLabel, double amount, String... labelValues);
+    
     /**
      * Increment of gauge metrics tracker.
      *
@@ -26,6 +26,10 @@ public class FirstMetricsTrackerFacade implements MetricsHandlerFacade {
     public void counterIncrement(final String metricsLabel, final String... labelValues) {
     }
     
+    @Override
+    public void counterIncrement(final String metricsLabel, final double amount, final String... labelValues) {
+    }
+    
     @Override
     public void gaugeIncrement(final String metricsLabel, final String... labelValues) {
     }
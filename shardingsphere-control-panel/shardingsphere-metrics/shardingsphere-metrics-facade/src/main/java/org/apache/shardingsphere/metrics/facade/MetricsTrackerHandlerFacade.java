@@ -38,6 +38,13 @@ public final class MetricsTrackerHandlerFacade implements MetricsHandlerFacade {
         }
     }
     
+    @Override
+    public void counterIncrement(final String metricsLabel, final double amount, final String... labelValues) {
+        if (MetricsTrackerManagerFacade.getEnabled()) {
+            MetricsTrackerHandler.getInstance().counterInc(metricsLabel, amount, labelValues);
+        }
+    }
+    
     @Override
     public void gaugeIncrement(final String metricsLabel, final String... labelValues) {
         if (MetricsTrackerManagerFacade.getEnabled()) {
@@ -90,10 +90,21 @@ public final class MetricsTrackerHandler {
      * @param labelValues  label values
      */
     public void counterInc(final String metricsLabel, final String... labelValues) {
+        counterInc(metricsLabel, 1.0, labelValues);
+    }
+    
+    /**
+     * Increment of counter metrics tracker by amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount amount to increase
+     * @param labelValues  label values
+     */
+    public void counterInc(final String metricsLabel, final double amount, final String... labelValues) {
         if (async) {
-            executorService.execute(() -> handlerCounter(metricsLabel, labelValues));
+            executorService.execute(() -> handlerCounter(metricsLabel, amount, labelValues));
         } else {
-            handlerCounter(metricsLabel, labelValues);
+            handlerCounter(metricsLabel, amount, labelValues);
         }
     }
     
@@ -199,9 +210,9 @@ public final class MetricsTrackerHandler {
         }
     }
     
-    private void handlerCounter(final String metricsLabel, final String... labelValues) {
+    private void handlerCounter(final String metricsLabel, final double amount, final String... labelValues) {
         metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.COUNTER.name(), metricsLabel)
-                .ifPresent(metricsTracker -> ((CounterMetricsTracker) metricsTracker).inc(1.0, labelValues));
+                .ifPresent(metricsTracker -> ((CounterMetricsTracker) metricsTracker).inc(amount, labelValues));
     }
     
     private void handlerGaugeInc(final String metricsLabel, final String... labelValues) {
@@ -40,6 +40,11 @@ public final class MetricsTrackerHandlerFacadeTest {
         metricsTrackerHandlerFacade.counterIncrement("request_total");
     }
     
+    @Test
+    public void assertCounterIncrementByAmount() {
+        metricsTrackerHandlerFacade.counterIncrement("request_total", 2.0);
+    }
+    
     @Test
     public void assertGaugeIncrement() {
         metricsTrackerHandlerFacade.gaugeIncrement("request_total");
@@ -50,6 +50,13 @@ public final class MetricsTrackerHandlerTest {
         handler.counterInc(METRICS_LABEL);
     }
     
+    @Test
+    public void counterIncByAmount() {
+        handler.counterInc(METRICS_LABEL, 2.0);
+        FieldUtil.setField(handler, "async", false);
+        handler.counterInc(METRICS_LABEL, 2.0);
+    }
+    
     @Test
     public void gaugeInc() {
         handler.gaugeInc(METRICS_LABEL);
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.metrics.prometheus;
 
 import org.apache.shardingsphere.metrics.api.MetricsTracker;
 import org.apache.shardingsphere.metrics.api.MetricsTrackerFactory;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.GroupByMergeSpillBytesCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.GroupByMergeSpillPartitionsCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.RequestTotalCounterMetricsTracker;
+import org.apache.shardingsphere.metrics.prometheus.impl.counter.SQLParseCacheCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.SQLStatementCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.ShadowHitTotalCounterMetricsTracker;
 import org.apache.shardingsphere.metrics.prometheus.impl.counter.ShardingDatasourceCounterMetricsTracker;
@@ -50,6 +53,9 @@ public final class PrometheusMetricsTrackerFactory implements MetricsTrackerFact
         REGISTER.add(new ShardingDatasourceCounterMetricsTracker());
         REGISTER.add(new TransactionCounterMetricsTracker());
         REGISTER.add(new ShadowHitTotalCounterMetricsTracker());
+        REGISTER.add(new SQLParseCacheCounterMetricsTracker());
+        REGISTER.add(new GroupByMergeSpillPartitionsCounterMetricsTracker());
+        REGISTER.add(new GroupByMergeSpillBytesCounterMetricsTracker());
     }
     
     @Override
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.counter;
+
+import io.prometheus.client.Counter;
+import org.apache.shardingsphere.metrics.api.CounterMetricsTracker;
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+
+/**
+ * Group by merge spill partitions counter metrics tracker.
+ */
+public final class GroupByMergeSpillPartitionsCounterMetricsTracker implements CounterMetricsTracker {
+    
+    private static final Counter GROUP_BY_MERGE_SPILL_PARTITIONS = Counter.build()
+            .name("group_by_merge_spill_partitions")
+            .help("group by merge spilled partition count")
+            .register();
+    
+    @Override
+    public void inc(final double amount, final String... labelValues) {
+        GROUP_BY_MERGE_SPILL_PARTITIONS.inc(amount);
+    }
+    
+    @Override
+    public String metricsLabel() {
+        return MetricsLabelEnum.GROUP_BY_MERGE_SPILL_PARTITIONS.getName();
+    }
+}
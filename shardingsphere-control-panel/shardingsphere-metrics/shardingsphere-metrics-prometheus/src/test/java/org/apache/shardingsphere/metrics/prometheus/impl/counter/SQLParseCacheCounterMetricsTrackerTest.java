@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metrics.prometheus.impl.counter;
+
+import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
+import org.apache.shardingsphere.metrics.enums.MetricsTypeEnum;
+import org.apache.shardingsphere.metrics.prometheus.impl.AbstractPrometheusCollectorRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParseCacheCounterMetricsTrackerTest extends AbstractPrometheusCollectorRegistry {
+    
+    @Test
+    public void counterSQLParseCache() {
+        SQLParseCacheCounterMetricsTracker tracker = new SQLParseCacheCounterMetricsTracker();
+        assertThat(tracker.metricsLabel(), is(MetricsLabelEnum.SQL_PARSE_CACHE.getName()));
+        assertThat(tracker.metricsType(), is(MetricsTypeEnum.COUNTER.name()));
+        
+        tracker.inc(1.0, "MySQL", "sql", "hit");
+        tracker.inc(2.0, "MySQL", "sql", "hit");
+        tracker.inc(1.0, "MySQL", "normalized_sql", "miss");
+        tracker.inc(1.0, "PostgreSQL", "sql", "eviction");
+        
+        String metricsName = "sql_parse_cache";
+        String[] labelNames = {"database_type", "cache_name", "event"};
+        
+        Double hit = getCollectorRegistry().getSampleValue(metricsName, labelNames, new String[]{"MySQL", "sql", "hit"});
+        assertThat(hit, is(3.0));
+        
+        Double miss = getCollectorRegistry().getSampleValue(metricsName, labelNames, new String[]{"MySQL", "normalized_sql", "miss"});
+        assertThat(miss, is(1.0));
+        
+        Double eviction = getCollectorRegistry().getSampleValue(metricsName, labelNames, new String[]{"PostgreSQL", "sql", "eviction"});
+        assertThat(eviction, is(1.0));
+    }
+}
@@ -65,7 +65,22 @@ public enum MetricsLabelEnum {
     /**
      * Shadow hit total label.
      */
-    SHADOW_HIT_TOTAL("shadow_hit_total");
+    SHADOW_HIT_TOTAL("shadow_hit_total"),
+    
+    /**
+     * SQL parse cache metrics label.
+     */
+    SQL_PARSE_CACHE("sql_parse_cache"),
+    
+    /**
+     * Group by merge spill partitions label.
+     */
+    GROUP_BY_MERGE_SPILL_PARTITIONS("group_by_merge_spill_partitions"),
+    
+    /**
+     * Group by merge spill bytes label.
+     */
+    GROUP_BY_MERGE_SPILL_BYTES("group_by_merge_spill_bytes");
     
     private final String name;
 }
@@ -30,6 +30,9 @@ public final class MetricsLabelEnumTest {
         assertThat(MetricsLabelEnum.SQL_STATEMENT_COUNT.getName(), is("sql_statement_count"));
         assertThat(MetricsLabelEnum.CHANNEL_COUNT.getName(), is("channel_count"));
         assertThat(MetricsLabelEnum.REQUEST_LATENCY.getName(), is("request_latency"));
+        assertThat(MetricsLabelEnum.SQL_PARSE_CACHE.getName(), is("sql_parse_cache"));
+        assertThat(MetricsLabelEnum.GROUP_BY_MERGE_SPILL_PARTITIONS.getName(), is("group_by_merge_spill_partitions"));
+        assertThat(MetricsLabelEnum.GROUP_BY_MERGE_SPILL_BYTES.getName(), is("group_by_merge_spill_bytes"));
     }
 }
 
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.log.ConfigurationLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.callback.orchestration.MetaDataCallback;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.StatusContainedRule;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
 import org.apache.shardingsphere.kernel.context.SchemaContextsAware;
 import org.apache.shardingsphere.kernel.context.SchemaContextsBuilder;
+import org.apache.shardingsphere.kernel.context.runtime.ParseCacheOptionBuilder;
 import org.apache.shardingsphere.kernel.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.kernel.context.schema.DataSourceParameter;
 import org.apache.shardingsphere.kernel.context.schema.ShardingSphereSchema;
@@ -61,6 +63,8 @@ import org.apache.shardingsphere.orchestration.core.metadata.event.MetaDataChang
 import org.apache.shardingsphere.orchestration.core.registry.event.CircuitStateChangedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.orchestration.core.registry.schema.OrchestrationSchema;
+import org.apache.shardingsphere.rdl.parser.engine.ShardingSphereSQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -126,6 +130,11 @@ public abstract class OrchestrationSchemaContexts implements SchemaContextsAware
         return schemaContexts.getProps();
     }
     
+    @Override
+    public final ParseCacheOption getParseCacheOption() {
+        return schemaContexts.getParseCacheOption();
+    }
+    
     @Override
     public final Authentication getAuthentication() {
         return schemaContexts.getAuthentication();
@@ -221,6 +230,7 @@ public abstract class OrchestrationSchemaContexts implements SchemaContextsAware
         Map<String, SchemaContext> schemaContexts = new HashMap<>(this.schemaContexts.getSchemaContexts().size());
         for (Entry<String, SchemaContext> entry : this.schemaContexts.getSchemaContexts().entrySet()) {
             if (event.getSchemaNames().contains(entry.getKey())) {
+                entry.getValue().getRuntimeContext().getSqlRewriteTemplateCache().clear();
                 schemaContexts.put(entry.getKey(), new SchemaContext(entry.getValue().getName(),
                         getChangedShardingSphereSchema(entry.getValue().getSchema(), event.getRuleSchemaMetaData()), entry.getValue().getRuntimeContext()));
             } else {
@@ -344,7 +354,10 @@ public abstract class OrchestrationSchemaContexts implements SchemaContextsAware
         for (Entry<String, SchemaContext> entry : this.schemaContexts.getSchemaContexts().entrySet()) {
             RuntimeContext runtimeContext = entry.getValue().getRuntimeContext();
             result.put(entry.getKey(), new SchemaContext(entry.getValue().getName(), entry.getValue().getSchema(), new RuntimeContext(runtimeContext.getCachedDatabaseMetaData(),
-                    new ExecutorKernel(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE)), runtimeContext.getSqlParserEngine(), runtimeContext.getTransactionManagerEngine())));
+                    new ExecutorKernel(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), props.<Boolean>getValue(ConfigurationPropertyKey.EXECUTOR_VIRTUAL_THREAD_ENABLED)),
+                    ShardingSphereSQLParserEngineFactory.getSQLParserEngine(
+                    DatabaseTypes.getTrunkDatabaseTypeName(entry.getValue().getSchema().getDatabaseType()), ParseCacheOptionBuilder.build(props)),
+                    runtimeContext.getTransactionManagerEngine(), new SQLRewriteTemplateCache(props.<Long>getValue(ConfigurationPropertyKey.SQL_REWRITE_TEMPLATE_CACHE_SIZE)))));
         }
         return result;
     }
@@ -40,6 +40,8 @@ public enum MySQLServerErrorCode implements SQLErrorCode {
     
     ER_INTERNAL_ERROR(1815, "HY000", "Internal error: %s"),
     
+    ER_UNKNOWN_STMT_HANDLER(1243, "HY000", "Unknown prepared statement handler (%s) given to %s"),
+    
     ER_UNSUPPORTED_PS(1295, "HY000", "This command is not supported in the prepared statement protocol yet"),
     
     ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE(3176, "HY000", 
@@ -22,6 +22,7 @@ import lombok.ToString;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 /**
@@ -42,8 +43,15 @@ public final class MySQLComStmtClosePacket extends MySQLCommandPacket {
     
     /**
      * Remove cached statement.
+     * 
+     * <p>COM_STMT_CLOSE has no response, so unknown statement ID is ignored.</p>
+     *
+     * @param connectionId connection ID
      */
-    public void removeCachedStatement() {
-        MySQLBinaryStatementRegistry.getInstance().remove(statementId);
+    public void removeCachedStatement(final int connectionId) {
+        MySQLConnectionScopeBinaryStatementRegistry registry = MySQLBinaryStatementRegistry.getInstance().get(connectionId);
+        if (null != registry) {
+            registry.remove(statementId);
+        }
     }
 }
@@ -17,29 +17,56 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.handshake;
 
+import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.Arrays;
+
 /**
  * MySQL auth switch request packet.
  *
  * @see <a href="https://dev.mysql.com/doc/internals/en/connection-phase-packets.html#packet-Protocol::AuthSwitchRequest">AuthSwitchRequest</a>
  */
 @RequiredArgsConstructor
+@Getter
 public final class MySQLAuthSwitchRequestPacket implements MySQLPacket {
     
-    @Getter
+    /**
+     * Header of MySQL auth switch request packet.
+     */
+    public static final int HEADER = 0xfe;
+    
+    private static final int AUTH_PLUGIN_DATA_PART1_LENGTH = 8;
+    
     private final int sequenceId;
     
     private final String authPluginName;
     
     private final MySQLAuthPluginData authPluginData;
     
+    public MySQLAuthSwitchRequestPacket(final MySQLPacketPayload payload) {
+        sequenceId = payload.readInt1();
+        Preconditions.checkArgument(HEADER == payload.readInt1(), "Header of MySQL auth switch request packet must be `0xfe`.");
+        authPluginName = payload.readStringNul();
+        authPluginData = readAuthPluginData(payload);
+    }
+    
+    /**
+     * Auth plugin data is terminated by nul byte for mysql_native_password, which should be excluded.
+     */
+    private MySQLAuthPluginData readAuthPluginData(final MySQLPacketPayload payload) {
+        byte[] data = payload.readStringEOFByBytes();
+        int length = data.length > 0 && 0 == data[data.length - 1] ? data.length - 1 : data.length;
+        int part1Length = Math.min(length, AUTH_PLUGIN_DATA_PART1_LENGTH);
+        return new MySQLAuthPluginData(Arrays.copyOfRange(data, 0, part1Length), Arrays.copyOfRange(data, part1Length, length));
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
-        payload.writeInt1(0xfe);
+        payload.writeInt1(HEADER);
         payload.writeStringNul(authPluginName);
         payload.writeStringNul(new String(authPluginData.getAuthPluginData()));
     }
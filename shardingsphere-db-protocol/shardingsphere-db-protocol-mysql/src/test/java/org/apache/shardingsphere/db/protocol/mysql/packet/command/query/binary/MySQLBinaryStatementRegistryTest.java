@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,33 +30,48 @@ public final class MySQLBinaryStatementRegistryTest {
     private final String sql = "SELECT * FROM tbl WHERE id=?";
     
     @Before
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().register(2);
+    }
+    
     @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        MySQLBinaryStatementRegistry.getInstance().unregister(2);
     }
     
     @Test
-    public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
+    public void assertRegister() {
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(1));
+        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParametersCount(), is(1));
     }
     
     @Test
-    public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParametersCount(), is(1));
+    public void assertRegisterSameSQLTwice() {
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(2));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(2).getSql(), is(sql));
+    }
+    
+    @Test
+    public void assertRegisterInDifferentConnections() {
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(1));
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(2).getBinaryStatement(1));
+    }
+    
+    @Test
+    public void assertRemove() {
+        MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).remove(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1));
     }
     
     @Test
-    public void assertRemoveIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
-        MySQLBinaryStatementRegistry.getInstance().remove(1);
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertNull(actual);
+    public void assertUnregister() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1));
     }
 }
@@ -23,6 +23,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -45,4 +47,22 @@ public class MySQLAuthSwitchRequestPacketTest {
         verify(payload).writeInt1(0xfe);
         verify(payload, times(2)).writeStringNul(anyString());
     }
+    
+    @Test
+    public void assertNewWithPayload() {
+        when(payload.readInt1()).thenReturn(2, MySQLAuthSwitchRequestPacket.HEADER);
+        when(payload.readStringNul()).thenReturn("mysql_native_password");
+        when(payload.readStringEOFByBytes()).thenReturn(new byte[] {0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77, 0x08, 0x09, 0x0a, 0x00});
+        MySQLAuthSwitchRequestPacket actual = new MySQLAuthSwitchRequestPacket(payload);
+        assertThat(actual.getSequenceId(), is(2));
+        assertThat(actual.getAuthPluginName(), is("mysql_native_password"));
+        assertThat(actual.getAuthPluginData().getAuthPluginDataPart1(), is(new byte[] {0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77, 0x08}));
+        assertThat(actual.getAuthPluginData().getAuthPluginDataPart2(), is(new byte[] {0x09, 0x0a}));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewWithInvalidHeader() {
+        when(payload.readInt1()).thenReturn(2, 0x00);
+        new MySQLAuthSwitchRequestPacket(payload);
+    }
 }
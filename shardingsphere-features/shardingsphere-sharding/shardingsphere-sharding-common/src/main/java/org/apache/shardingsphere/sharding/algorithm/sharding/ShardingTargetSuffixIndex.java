@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Suffix index of sharding targets.
+ * 
+ * <p>Available target names are indexed by their suffixes. Indexes are cached by identity of available target names, which are held by table rules,
+ * and rebuilt if size of available target names changes.</p>
+ * 
+ * @param <T> type of suffix
+ */
+@RequiredArgsConstructor
+public final class ShardingTargetSuffixIndex<T> {
+    
+    private final Function<String, T> suffixParser;
+    
+    private final Cache<Collection<String>, SuffixIndex> indexes = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Create suffix index of sharding targets by their numeric suffixes.
+     * 
+     * @return suffix index of sharding targets
+     */
+    public static ShardingTargetSuffixIndex<Integer> numeric() {
+        return new ShardingTargetSuffixIndex<>(ShardingTargetSuffixIndex::parseNumericSuffix);
+    }
+    
+    private static Integer parseNumericSuffix(final String targetName) {
+        int index = targetName.length();
+        while (index > 0 && Character.isDigit(targetName.charAt(index - 1))) {
+            index--;
+        }
+        int length = targetName.length() - index;
+        return 0 == length || length > 9 ? null : Integer.parseInt(targetName.substring(index));
+    }
+    
+    /**
+     * Get targets with suffix.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @param suffix suffix of targets
+     * @return targets with suffix, in order of available target names
+     */
+    public List<String> getTargets(final Collection<String> availableTargetNames, final T suffix) {
+        return getIndex(availableTargetNames).getOrDefault(suffix, Collections.emptyList());
+    }
+    
+    private Map<T, List<String>> getIndex(final Collection<String> availableTargetNames) {
+        SuffixIndex result = indexes.getIfPresent(availableTargetNames);
+        if (null == result || result.size != availableTargetNames.size()) {
+            result = createIndex(availableTargetNames);
+            indexes.put(availableTargetNames, result);
+        }
+        return result.targets;
+    }
+    
+    private SuffixIndex createIndex(final Collection<String> availableTargetNames) {
+        Map<T, List<String>> result = new HashMap<>(availableTargetNames.size(), 1);
+        for (String each : availableTargetNames) {
+            T suffix = suffixParser.apply(each);
+            if (null != suffix) {
+                result.computeIfAbsent(suffix, key -> new ArrayList<>(1)).add(each);
+            }
+        }
+        return new SuffixIndex(availableTargetNames.size(), result);
+    }
+    
+    @RequiredArgsConstructor
+    private final class SuffixIndex {
+        
+        private final int size;
+        
+        private final Map<T, List<String>> targets;
+    }
+}
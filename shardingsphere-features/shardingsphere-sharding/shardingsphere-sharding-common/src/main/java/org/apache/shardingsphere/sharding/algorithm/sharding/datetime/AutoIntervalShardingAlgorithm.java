@@ -19,9 +19,12 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Range;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetSuffixIndex;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -34,13 +37,14 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * Auto interval sharding algorithm.
  */
 @Getter
-public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm, DeterministicShardingAlgorithm {
     
     private static final String DATE_TIME_LOWER_KEY = "datetime.lower";
     
@@ -53,6 +57,9 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     @Setter
     private Properties props = new Properties();
     
+    @Getter(AccessLevel.NONE)
+    private final ShardingTargetSuffixIndex<Integer> targetIndex = ShardingTargetSuffixIndex.numeric();
+    
     private LocalDateTime dateTimeLower;
     
     private long shardingSeconds;
@@ -83,12 +90,8 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        for (String each : availableTargetNames) {
-            if (each.endsWith(doSharding(parseDate(shardingValue.getValue())) + "")) {
-                return each;
-            }
-        }
-        return null;
+        List<String> result = targetIndex.getTargets(availableTargetNames, doSharding(parseDate(shardingValue.getValue())));
+        return result.isEmpty() ? null : result.get(0);
     }
     
     @Override
@@ -97,14 +100,7 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int i = firstPartition; i <= lastPartition; i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(i + "")) {
-                    result.add(each);
-                }
-                if (result.size() == availableTargetNames.size()) {
-                    return result;
-                }
-            }
+            result.addAll(targetIndex.getTargets(availableTargetNames, i));
         }
         return result;
     }
@@ -22,6 +22,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAlgorithmException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetSuffixIndex;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -38,8 +40,10 @@ import java.util.stream.Collectors;
 
 /**
  * Interval sharding algorithm.
+ * 
+ * <p>Available targets are indexed by suffixes in length of formatted table suffix, so that each interval of range sharding value is matched in constant time.</p>
  */
-public final class IntervalShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
+public final class IntervalShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, DeterministicShardingAlgorithm {
     
     private static final String DATE_TIME_PATTERN_KEY = "datetime.pattern";
     
@@ -67,6 +71,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private DateTimeFormatter tableSuffixPattern;
     
+    private int tableSuffixLength;
+    
+    private ShardingTargetSuffixIndex<String> targetIndex;
+    
     private int stepAmount;
     
     private ChronoUnit stepUnit;
@@ -79,6 +87,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         dateTimeLower = getDateTimeLower(dateTimePattern);
         dateTimeUpper = getDateTimeUpper(dateTimePattern);
         tableSuffixPattern = getTableSuffixPattern();
+        tableSuffixLength = dateTimeLower.format(tableSuffixPattern).length();
+        targetIndex = new ShardingTargetSuffixIndex<>(each -> each.length() < tableSuffixLength ? null : each.substring(each.length() - tableSuffixLength));
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
     }
@@ -121,9 +131,11 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        return availableTargetNames.stream()
-                .filter(each -> each.endsWith(parseDateTime(shardingValue.getValue().toString()).format(tableSuffixPattern)))
-                .findFirst().orElseThrow(() -> new ShardingAlgorithmException(String.format("failed to shard value %s, and availableTables %s", shardingValue, availableTargetNames)));
+        Collection<String> result = getMatchedTables(parseDateTime(shardingValue.getValue().toString()), availableTargetNames);
+        if (result.isEmpty()) {
+            throw new ShardingAlgorithmException(String.format("failed to shard value %s, and availableTables %s", shardingValue, availableTargetNames));
+        }
+        return result.iterator().next();
     }
     
     @Override
@@ -137,7 +149,7 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         LocalDateTime endTime = hasEndTime ? parseDateTime(shardingValue.getValueRange().upperEndpoint().toString()) : dateTimeUpper;
         LocalDateTime calculateTime = startTime;
         Set<String> result = new HashSet<>();
-        while (!calculateTime.isAfter(endTime)) {
+        while (!calculateTime.isAfter(endTime) && result.size() < availableTargetNames.size()) {
             result.addAll(getMatchedTables(calculateTime, availableTargetNames));
             calculateTime = calculateTime.plus(stepAmount, stepUnit);
         }
@@ -151,7 +163,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
         String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        if (tableSuffix.length() == tableSuffixLength) {
+            return targetIndex.getTargets(availableTargetNames, tableSuffix);
+        }
+        return availableTargetNames.stream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toList());
     }
     
     @Override
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline expression compiled to Java.
+ * 
+ * <p>Only expressions which consist of literals and placeholders of one variable are compiled, the placeholders can be {@code ${x}}, {@code ${x % n}},
+ * {@code ${x.hashCode() % n}} or {@code ${Math.abs(x.hashCode()) % n}}. Results of expressions with only one modulo placeholder are looked up from table.</p>
+ */
+public final class CompiledInlineExpression {
+    
+    private static final int MAX_LOOKUP_TABLE_SIZE = 1024;
+    
+    private static final Pattern VALUE_PATTERN = Pattern.compile("^\\s*([a-zA-Z_]\\w*)\\s*$");
+    
+    private static final Pattern MOD_PATTERN = Pattern.compile("^\\s*([a-zA-Z_]\\w*)\\s*%\\s*(\\d{1,9})\\s*$");
+    
+    private static final Pattern HASH_MOD_PATTERN = Pattern.compile("^\\s*([a-zA-Z_]\\w*)\\s*\\.\\s*hashCode\\s*\\(\\s*\\)\\s*%\\s*(\\d{1,9})\\s*$");
+    
+    private static final Pattern ABS_HASH_MOD_PATTERN = Pattern.compile("^\\s*Math\\s*\\.\\s*abs\\s*\\(\\s*([a-zA-Z_]\\w*)\\s*\\.\\s*hashCode\\s*\\(\\s*\\)\\s*\\)\\s*%\\s*(\\d{1,9})\\s*$");
+    
+    @Getter
+    private final String variableName;
+    
+    private final List<Segment> segments;
+    
+    private final Segment lookupPlaceholder;
+    
+    private final String[] lookupTable;
+    
+    private CompiledInlineExpression(final String variableName, final List<Segment> segments) {
+        this.variableName = variableName;
+        this.segments = segments;
+        lookupPlaceholder = getLookupPlaceholder();
+        lookupTable = null == lookupPlaceholder ? null : createLookupTable(lookupPlaceholder.modulus);
+    }
+    
+    private Segment getLookupPlaceholder() {
+        Segment result = getSinglePlaceholder();
+        return null == result || SegmentType.VALUE == result.type || result.modulus > MAX_LOOKUP_TABLE_SIZE ? null : result;
+    }
+    
+    private String[] createLookupTable(final int modulus) {
+        String[] result = new String[modulus];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = assemble(i);
+        }
+        return result;
+    }
+    
+    private Segment getSinglePlaceholder() {
+        Segment result = null;
+        for (Segment each : segments) {
+            if (SegmentType.LITERAL == each.type) {
+                continue;
+            }
+            if (null != result) {
+                return null;
+            }
+            result = each;
+        }
+        return result;
+    }
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if inline expression can only be evaluated by Groovy
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Segment> segments = new ArrayList<>();
+        String variableName = null;
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int placeholderStartIndex = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, -1 == placeholderStartIndex ? inlineExpression.length() : placeholderStartIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                segments.add(new Segment(SegmentType.LITERAL, literal, 0));
+            }
+            if (-1 == placeholderStartIndex) {
+                break;
+            }
+            int placeholderStopIndex = inlineExpression.indexOf('}', placeholderStartIndex);
+            if (-1 == placeholderStopIndex) {
+                return Optional.empty();
+            }
+            Optional<Segment> placeholder = compilePlaceholder(inlineExpression.substring(placeholderStartIndex + 2, placeholderStopIndex));
+            if (!placeholder.isPresent() || null != variableName && !variableName.equals(placeholder.get().text)) {
+                return Optional.empty();
+            }
+            variableName = placeholder.get().text;
+            segments.add(placeholder.get());
+            index = placeholderStopIndex + 1;
+        }
+        return null == variableName ? Optional.empty() : Optional.of(new CompiledInlineExpression(variableName, segments));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('{') && -1 == literal.indexOf('}');
+    }
+    
+    private static Optional<Segment> compilePlaceholder(final String placeholder) {
+        if (placeholder.contains("{")) {
+            return Optional.empty();
+        }
+        Matcher matcher = VALUE_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            return "it".equals(matcher.group(1)) ? Optional.empty() : Optional.of(new Segment(SegmentType.VALUE, matcher.group(1), 0));
+        }
+        Optional<Segment> result = compileModuloPlaceholder(MOD_PATTERN.matcher(placeholder), SegmentType.MOD);
+        if (!result.isPresent()) {
+            result = compileModuloPlaceholder(HASH_MOD_PATTERN.matcher(placeholder), SegmentType.HASH_MOD);
+        }
+        if (!result.isPresent()) {
+            result = compileModuloPlaceholder(ABS_HASH_MOD_PATTERN.matcher(placeholder), SegmentType.ABS_HASH_MOD);
+        }
+        return result;
+    }
+    
+    private static Optional<Segment> compileModuloPlaceholder(final Matcher matcher, final SegmentType type) {
+        if (!matcher.matches() || "it".equals(matcher.group(1))) {
+            return Optional.empty();
+        }
+        int modulus = Integer.parseInt(matcher.group(2));
+        return 0 == modulus ? Optional.empty() : Optional.of(new Segment(type, matcher.group(1), modulus));
+    }
+    
+    /**
+     * Evaluate inline expression with value of variable.
+     * 
+     * @param value value of variable
+     * @return evaluated result, empty if the type of value can only be evaluated by Groovy
+     */
+    public Optional<String> evaluate(final Object value) {
+        if (null == value) {
+            return Optional.empty();
+        }
+        if (null != lookupTable) {
+            Long remainder = getRemainder(lookupPlaceholder, value);
+            if (null == remainder) {
+                return Optional.empty();
+            }
+            return Optional.of(remainder >= 0 ? lookupTable[remainder.intValue()] : assemble(remainder));
+        }
+        StringBuilder result = new StringBuilder();
+        for (Segment each : segments) {
+            if (SegmentType.LITERAL == each.type) {
+                result.append(each.text);
+            } else if (SegmentType.VALUE == each.type) {
+                if (!isIntegral(value) && !(value instanceof String)) {
+                    return Optional.empty();
+                }
+                result.append(value);
+            } else {
+                Long remainder = getRemainder(each, value);
+                if (null == remainder) {
+                    return Optional.empty();
+                }
+                result.append(remainder.longValue());
+            }
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private Long getRemainder(final Segment placeholder, final Object value) {
+        switch (placeholder.type) {
+            case MOD:
+                return isIntegral(value) ? ((Number) value).longValue() % placeholder.modulus : null;
+            case HASH_MOD:
+                return isIntegral(value) || value instanceof String ? (long) (value.hashCode() % placeholder.modulus) : null;
+            case ABS_HASH_MOD:
+                return isIntegral(value) || value instanceof String ? (long) (Math.abs(value.hashCode()) % placeholder.modulus) : null;
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private String assemble(final long remainder) {
+        StringBuilder result = new StringBuilder();
+        for (Segment each : segments) {
+            if (SegmentType.LITERAL == each.type) {
+                result.append(each.text);
+            } else {
+                result.append(remainder);
+            }
+        }
+        return result.toString();
+    }
+    
+    private enum SegmentType {
+        
+        LITERAL, VALUE, MOD, HASH_MOD, ABS_HASH_MOD
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Segment {
+        
+        private final SegmentType type;
+        
+        private final String text;
+        
+        private final int modulus;
+    }
+}
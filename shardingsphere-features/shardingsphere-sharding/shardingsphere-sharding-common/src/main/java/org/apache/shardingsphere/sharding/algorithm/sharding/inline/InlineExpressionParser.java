@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -77,6 +78,15 @@ public final class InlineExpressionParser {
         return (Closure) evaluate(Joiner.on("").join("{it -> \"", inlineExpression, "\"}"));
     }
     
+    /**
+     * Compile inline expression to Java.
+     *
+     * @return compiled inline expression, empty if inline expression can only be evaluated by Groovy
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        return Strings.isNullOrEmpty(inlineExpression) ? Optional.empty() : CompiledInlineExpression.compile(handlePlaceHolder(inlineExpression));
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
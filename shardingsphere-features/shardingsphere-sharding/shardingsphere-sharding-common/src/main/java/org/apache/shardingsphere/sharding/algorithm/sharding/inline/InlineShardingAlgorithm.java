@@ -18,28 +18,41 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
 import groovy.lang.Closure;
 import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
  * Inline sharding algorithm.
+ * 
+ * <p>Common expressions are compiled to Java when initializing, Groovy closure is only used for other expressions and values.
+ * Small closed ranges of integral values are pruned by evaluating compiled expression for each value in range.</p>
  */
-public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
+public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, DeterministicShardingAlgorithm {
     
     private static final String ALGORITHM_EXPRESSION_KEY = "algorithm.expression";
     
     private static final String ALLOW_RANGE_QUERY_KEY = "allow.range.query.with.inline.sharding";
     
+    private static final long MAX_ENUMERATED_RANGE_SIZE = 1024L;
+    
     private Closure<?> closure;
     
+    private CompiledInlineExpression compiledExpression;
+    
     private boolean allowRangeQuery;
     
     @Getter
@@ -48,17 +61,16 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public void init() {
-        closure = createClosure();
+        String algorithmExpression = getAlgorithmExpression();
+        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledExpression = new InlineExpressionParser(algorithmExpression).compile().orElse(null);
         allowRangeQuery = isAllowRangeQuery();
     }
     
-    private Closure<?> createClosure() {
+    private String getAlgorithmExpression() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
+        return InlineExpressionParser.handlePlaceHolder(expression.trim());
     }
     
     private boolean isAllowRangeQuery() {
@@ -67,18 +79,72 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return closure.call().toString();
+        if (null != compiledExpression && compiledExpression.getVariableName().equals(shardingValue.getColumnName())) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
+        return result.call().toString();
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         if (allowRangeQuery) {
-            return availableTargetNames;
+            return pruneRange(availableTargetNames, shardingValue).orElse(availableTargetNames);
         }
         throw new UnsupportedOperationException("Since the property of `allow.range.query.with.inline.sharding` is false, inline sharding algorithm can not tackle with range query.");
     }
     
+    private Optional<Collection<String>> pruneRange(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        if (null == compiledExpression || !compiledExpression.getVariableName().equals(shardingValue.getColumnName()) || !valueRange.hasLowerBound() || !valueRange.hasUpperBound()
+                || !isIntegral(valueRange.lowerEndpoint()) || valueRange.lowerEndpoint().getClass() != valueRange.upperEndpoint().getClass()) {
+            return Optional.empty();
+        }
+        long lower = ((Number) valueRange.lowerEndpoint()).longValue();
+        long upper = ((Number) valueRange.upperEndpoint()).longValue();
+        if (BoundType.OPEN == valueRange.lowerBoundType()) {
+            if (Long.MAX_VALUE == lower) {
+                return Optional.of(Collections.emptyList());
+            }
+            lower++;
+        }
+        if (BoundType.OPEN == valueRange.upperBoundType()) {
+            if (Long.MIN_VALUE == upper) {
+                return Optional.of(Collections.emptyList());
+            }
+            upper--;
+        }
+        if (lower > upper) {
+            return Optional.of(Collections.emptyList());
+        }
+        if (upper - lower >= MAX_ENUMERATED_RANGE_SIZE || upper - lower < 0) {
+            return Optional.empty();
+        }
+        Collection<String> result = new LinkedHashSet<>();
+        for (long each = lower; each <= upper; each++) {
+            Optional<String> target = compiledExpression.evaluate(valueRange.lowerEndpoint() instanceof Long ? (Object) each : (Object) (int) each);
+            if (!target.isPresent()) {
+                return Optional.empty();
+            }
+            if (availableTargetNames.contains(target.get())) {
+                result.add(target.get());
+            }
+            if (result.size() == availableTargetNames.size()) {
+                break;
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
     @Override
     public String getType() {
         return "INLINE";
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 
+import com.google.common.collect.ImmutableRangeMap;
 import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingTargetSuffixIndex;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -27,16 +31,21 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 
 /**
  * Abstract range sharding algorithm.
+ * 
+ * <p>Partition ranges are indexed by boundaries, so that both precise and range sharding values are routed in O(log n) of partitions.</p>
  */
-public abstract class AbstractRangeShardingAlgorithm implements StandardShardingAlgorithm<Long>, ShardingAutoTableAlgorithm {
+public abstract class AbstractRangeShardingAlgorithm implements StandardShardingAlgorithm<Long>, ShardingAutoTableAlgorithm, DeterministicShardingAlgorithm {
     
-    private volatile Map<Integer, Range<Long>> partitionRange;
+    private final ShardingTargetSuffixIndex<Integer> targetIndex = ShardingTargetSuffixIndex.numeric();
+    
+    private volatile RangeMap<Long, Integer> partitionRange;
     
     @Getter
     @Setter
@@ -44,50 +53,44 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     @Override
     public final void init() {
-        partitionRange = calculatePartitionRange(props);
+        partitionRange = createPartitionRange(calculatePartitionRange(props));
+    }
+    
+    private RangeMap<Long, Integer> createPartitionRange(final Map<Integer, Range<Long>> partitionRange) {
+        ImmutableRangeMap.Builder<Long, Integer> result = ImmutableRangeMap.builder();
+        for (Entry<Integer, Range<Long>> entry : partitionRange.entrySet()) {
+            result.put(entry.getValue(), entry.getKey());
+        }
+        return result.build();
     }
     
     protected abstract Map<Integer, Range<Long>> calculatePartitionRange(Properties props);
     
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(getPartition(shardingValue.getValue()) + "")).findFirst().orElse(null);
+        List<String> result = targetIndex.getTargets(availableTargetNames, getPartition(shardingValue.getValue()));
+        return result.isEmpty() ? null : result.get(0);
     }
     
     @Override
     public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Long> shardingValue) {
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        int firstPartition = getFirstPartition(shardingValue.getValueRange());
-        int lastPartition = getLastPartition(shardingValue.getValueRange());
-        for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(partition + "")) {
-                    result.add(each);
-                }
-            }
+        Collection<String> result = new LinkedHashSet<>();
+        for (Integer each : partitionRange.subRangeMap(shardingValue.getValueRange()).asMapOfRanges().values()) {
+            result.addAll(targetIndex.getTargets(availableTargetNames, each));
         }
         return result;
     }
     
-    private int getFirstPartition(final Range<Long> valueRange) {
-        return valueRange.hasLowerBound() ? getPartition(valueRange.lowerEndpoint()) : 0;
-    }
-    
-    private int getLastPartition(final Range<Long> valueRange) {
-        return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
-    }
-    
     private Integer getPartition(final Long value) {
-        for (Entry<Integer, Range<Long>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(value)) {
-                return entry.getKey();
-            }
+        Integer result = partitionRange.get(value);
+        if (null == result) {
+            throw new UnsupportedOperationException();
         }
-        throw new UnsupportedOperationException();
+        return result;
     }
     
     @Override
     public final int getAutoTablesAmount() {
-        return partitionRange.size();
+        return partitionRange.asMapOfRanges().size();
     }
 }
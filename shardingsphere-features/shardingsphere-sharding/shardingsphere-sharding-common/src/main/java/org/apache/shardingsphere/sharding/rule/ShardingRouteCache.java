@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Sharding route cache.
+ * 
+ * <p>Routed data nodes are cached by logic table and precise sharding values of database and table, only immutable sharding values are cacheable.</p>
+ */
+public final class ShardingRouteCache {
+    
+    @Getter
+    private final long maximumSize;
+    
+    private final Cache<ShardingRouteCacheKey, Collection<DataNode>> cache;
+    
+    public ShardingRouteCache(final long maximumSize) {
+        this.maximumSize = maximumSize;
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Judge whether sharding value is cacheable or not.
+     * 
+     * @param shardingValue sharding value
+     * @return cacheable or not
+     */
+    public static boolean isCacheable(final Comparable<?> shardingValue) {
+        return shardingValue instanceof String || shardingValue instanceof Integer || shardingValue instanceof Long || shardingValue instanceof Short || shardingValue instanceof Byte
+                || shardingValue instanceof BigDecimal || shardingValue instanceof BigInteger || shardingValue instanceof Character || shardingValue instanceof Enum
+                || (shardingValue instanceof Temporal && shardingValue.getClass().getName().startsWith("java.time."));
+    }
+    
+    /**
+     * Get routed data nodes.
+     * 
+     * @param logicTableName logic table name
+     * @param databaseShardingValue precise sharding value of database, null if database is not sharded by value
+     * @param tableShardingValue precise sharding value of table, null if table is not sharded by value
+     * @return routed data nodes
+     */
+    public Optional<Collection<DataNode>> get(final String logicTableName, final Comparable<?> databaseShardingValue, final Comparable<?> tableShardingValue) {
+        return Optional.ofNullable(cache.getIfPresent(new ShardingRouteCacheKey(logicTableName, databaseShardingValue, tableShardingValue)));
+    }
+    
+    /**
+     * Put routed data nodes.
+     * 
+     * @param logicTableName logic table name
+     * @param databaseShardingValue precise sharding value of database, null if database is not sharded by value
+     * @param tableShardingValue precise sharding value of table, null if table is not sharded by value
+     * @param dataNodes routed data nodes
+     * @return routed data nodes which are cached and can not be modified
+     */
+    public Collection<DataNode> put(final String logicTableName, final Comparable<?> databaseShardingValue, final Comparable<?> tableShardingValue, final Collection<DataNode> dataNodes) {
+        Collection<DataNode> result = Collections.unmodifiableList(new ArrayList<>(dataNodes));
+        cache.put(new ShardingRouteCacheKey(logicTableName, databaseShardingValue, tableShardingValue), result);
+        return result;
+    }
+    
+    /**
+     * Clear sharding route cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
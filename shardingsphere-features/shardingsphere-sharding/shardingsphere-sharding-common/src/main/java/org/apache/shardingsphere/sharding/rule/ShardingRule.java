@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -77,6 +78,9 @@ public final class ShardingRule implements DataNodeRoutedRule {
     
     private final KeyGenerateAlgorithm defaultKeyGenerateAlgorithm;
     
+    @Getter(AccessLevel.NONE)
+    private volatile ShardingRouteCache routeCache;
+    
     public ShardingRule(final ShardingRuleConfiguration configuration, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != configuration, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
@@ -168,6 +172,27 @@ public final class ShardingRule implements DataNodeRoutedRule {
                 : ShardingStrategyFactory.newInstance(shardingStrategyConfiguration, shardingAlgorithms.get(shardingStrategyConfiguration.getShardingAlgorithmName()));
     }
     
+    /**
+     * Get route cache.
+     * 
+     * <p>Route cache belongs to sharding rule, so it is dropped when sharding rule is rebuilt for rule changes.</p>
+     *
+     * @param maximumSize maximum size of route cache
+     * @return route cache
+     */
+    public ShardingRouteCache getRouteCache(final long maximumSize) {
+        ShardingRouteCache result = routeCache;
+        if (null != result && maximumSize == result.getMaximumSize()) {
+            return result;
+        }
+        synchronized (this) {
+            if (null == routeCache || maximumSize != routeCache.getMaximumSize()) {
+                routeCache = new ShardingRouteCache(maximumSize);
+            }
+            return routeCache;
+        }
+    }
+    
     /**
      * Find table rule.
      *
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingTargetSuffixIndexTest {
+    
+    @Test
+    public void assertGetTargetsWithNumericSuffix() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_1", "t_order_11", "t_order_21", "ds_1");
+        ShardingTargetSuffixIndex<Integer> suffixIndex = ShardingTargetSuffixIndex.numeric();
+        assertThat(suffixIndex.getTargets(availableTargetNames, 1), is(Lists.newArrayList("t_order_1", "ds_1")));
+        assertThat(suffixIndex.getTargets(availableTargetNames, 11), is(Collections.singletonList("t_order_11")));
+        assertTrue(suffixIndex.getTargets(availableTargetNames, 2).isEmpty());
+    }
+    
+    @Test
+    public void assertGetTargetsWithoutNumericSuffix() {
+        ShardingTargetSuffixIndex<Integer> suffixIndex = ShardingTargetSuffixIndex.numeric();
+        assertTrue(suffixIndex.getTargets(Lists.newArrayList("t_order", "t_order_1234567890"), 0).isEmpty());
+    }
+    
+    @Test
+    public void assertGetTargetsAfterAvailableTargetNamesChanged() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0");
+        ShardingTargetSuffixIndex<Integer> suffixIndex = ShardingTargetSuffixIndex.numeric();
+        assertTrue(suffixIndex.getTargets(availableTargetNames, 1).isEmpty());
+        availableTargetNames.add("t_order_1");
+        assertThat(suffixIndex.getTargets(availableTargetNames, 1), is(Collections.singletonList("t_order_1")));
+    }
+}
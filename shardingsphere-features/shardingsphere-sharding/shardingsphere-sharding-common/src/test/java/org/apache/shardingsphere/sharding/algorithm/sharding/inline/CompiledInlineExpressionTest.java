@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    private static final List<Object> VALUES = Arrays.asList(0, 1, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 10000000000L, -10000000000L, (short) 3, (byte) -3);
+    
+    @Test
+    public void assertEvaluateForValue() {
+        assertEvaluateSameAsGroovy("t_order_${order_id}");
+    }
+    
+    @Test
+    public void assertEvaluateForModulo() {
+        assertEvaluateSameAsGroovy("t_order_${order_id % 4}");
+        assertEvaluateSameAsGroovy("t_order_$->{ order_id % 16 }_suffix");
+        assertEvaluateSameAsGroovy("t_order_${order_id % 4096}");
+    }
+    
+    @Test
+    public void assertEvaluateForHashModulo() {
+        assertEvaluateSameAsGroovy("t_order_${order_id.hashCode() % 4}");
+        assertEvaluateSameAsGroovy("t_order_${Math.abs(order_id.hashCode()) % 4}");
+    }
+    
+    @Test
+    public void assertEvaluateForConcatenation() {
+        assertEvaluateSameAsGroovy("ds_${order_id % 2}_t_order_${order_id % 4}");
+        assertEvaluateSameAsGroovy("t_order_${order_id}_${Math.abs(order_id.hashCode()) % 8}");
+    }
+    
+    @Test
+    public void assertEvaluateForString() {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionParser("t_order_${Math.abs(order_id.hashCode()) % 4}").compile();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("foo"), is(Optional.of(evaluateByGroovy("t_order_${Math.abs(order_id.hashCode()) % 4}", "foo"))));
+        assertFalse(new InlineExpressionParser("t_order_${order_id % 4}").compile().get().evaluate("foo").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateForUnsupportedValue() {
+        CompiledInlineExpression expression = new InlineExpressionParser("t_order_${order_id % 4}").compile().get();
+        assertFalse(expression.evaluate(null).isPresent());
+        assertFalse(expression.evaluate(1.5D).isPresent());
+    }
+    
+    @Test
+    public void assertCompileForUnsupportedExpression() {
+        assertFalse(new InlineExpressionParser("t_order_0").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${order_id % 4 + 1}").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${order_id % 0}").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${it % 4}").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_${order_id % 2}_${user_id % 2}").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${[0, 1].collect{ it }}").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_\"order\"_${order_id % 4}").compile().isPresent());
+    }
+    
+    @Test
+    public void assertGetVariableName() {
+        assertThat(new InlineExpressionParser("t_order_${order_id % 4}").compile().get().getVariableName(), is("order_id"));
+    }
+    
+    private void assertEvaluateSameAsGroovy(final String inlineExpression) {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionParser(inlineExpression).compile();
+        assertTrue(actual.isPresent());
+        for (Object each : VALUES) {
+            assertThat(actual.get().evaluate(each), is(Optional.of(evaluateByGroovy(inlineExpression, each))));
+        }
+    }
+    
+    private String evaluateByGroovy(final String inlineExpression, final Object value) {
+        Closure<?> closure = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(inlineExpression)).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", value);
+        return closure.call().toString();
+    }
+}
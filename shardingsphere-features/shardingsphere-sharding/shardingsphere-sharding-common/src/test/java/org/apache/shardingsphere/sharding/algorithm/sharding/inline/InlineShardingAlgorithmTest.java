@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.sharding.strategy.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.strategy.value.ListRouteValue;
+import org.apache.shardingsphere.sharding.strategy.value.RangeRouteValue;
 import org.apache.shardingsphere.sharding.strategy.value.RouteValue;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +33,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class InlineShardingAlgorithmTest {
 
@@ -78,6 +81,51 @@ public final class InlineShardingAlgorithmTest {
         assertThat(actualWithSimplified.size(), is(2));
     }
     
+    @Test
+    public void assertDoShardingWithGroovyFallback() {
+        InlineShardingAlgorithm shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("algorithm.expression", "t_order_${order_id % 4 + 1}");
+        shardingAlgorithm.init();
+        StandardShardingStrategy shardingStrategy = new StandardShardingStrategy("order_id", shardingAlgorithm);
+        List<String> availableTargetNames = Lists.newArrayList("t_order_1", "t_order_2", "t_order_3", "t_order_4");
+        List<RouteValue> shardingValues = Lists.newArrayList(new ListRouteValue<>("order_id", "t_order", Lists.newArrayList(0, 1, 2, 3)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithSmallRange() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.openClosed(4L, 6L)));
+        Collection<String> actual = createRangeShardingStrategy().doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_1"));
+        assertTrue(actual.contains("t_order_2"));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithoutUpperBound() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.greaterThan(4L)));
+        Collection<String> actual = createRangeShardingStrategy().doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertRangeDoShardingWithoutAllowRangeQuery() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.closed(4L, 6L)));
+        shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+    }
+    
+    private StandardShardingStrategy createRangeShardingStrategy() {
+        InlineShardingAlgorithm shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("algorithm.expression", "t_order_${order_id % 4}");
+        shardingAlgorithm.getProps().setProperty("allow.range.query.with.inline.sharding", Boolean.TRUE.toString());
+        shardingAlgorithm.init();
+        return new StandardShardingStrategy("order_id", shardingAlgorithm);
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         assertThat(shardingStrategy.getShardingColumns().size(), is(1));
@@ -94,6 +94,15 @@ public final class VolumeBasedRangeShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_5"));
     }
     
+    @Test
+    public void assertRangeDoShardingWithTwoDigitsSuffix() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5", "t_order_11");
+        List<RouteValue> shardingValues = Lists.newArrayList(new RangeRouteValue<>("order_id", "t_order", Range.closed(12L, 15L)));
+        Collection<String> actual = shardingStrategy.doSharding(availableTargetNames, shardingValues, new ConfigurationProperties(new Properties()));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_1"));
+    }
+    
     @Test
     public void assertGetAutoTablesAmount() {
         VolumeBasedRangeShardingAlgorithm shardingAlgorithm = new VolumeBasedRangeShardingAlgorithm();
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingRouteCacheTest {
+    
+    @Test
+    public void assertIsCacheable() {
+        assertTrue(ShardingRouteCache.isCacheable(1));
+        assertTrue(ShardingRouteCache.isCacheable("foo"));
+        assertTrue(ShardingRouteCache.isCacheable(LocalDate.of(2020, 1, 1)));
+        assertFalse(ShardingRouteCache.isCacheable(new Timestamp(0L)));
+        assertFalse(ShardingRouteCache.isCacheable(null));
+    }
+    
+    @Test
+    public void assertPutAndGet() {
+        ShardingRouteCache routeCache = new ShardingRouteCache(16L);
+        Collection<DataNode> dataNodes = routeCache.put("t_order", 1L, 2L, Collections.singletonList(new DataNode("ds_1.t_order_0")));
+        assertThat(routeCache.get("t_order", 1L, 2L).get(), is(dataNodes));
+        assertFalse(routeCache.get("t_order", 1L, 3L).isPresent());
+        assertFalse(routeCache.get("t_order_item", 1L, 2L).isPresent());
+        routeCache.clear();
+        assertFalse(routeCache.get("t_order", 1L, 2L).isPresent());
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertPutReturnsUnmodifiableDataNodes() {
+        new ShardingRouteCache(16L).put("t_order", 1L, null, Collections.singletonList(new DataNode("ds_1.t_order_0"))).clear();
+    }
+}
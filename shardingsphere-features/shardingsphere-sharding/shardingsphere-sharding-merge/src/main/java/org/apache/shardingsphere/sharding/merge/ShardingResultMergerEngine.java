@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge;
 
+import com.google.common.base.Splitter;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.merge.dal.ShardingDALResultMerger;
@@ -26,10 +27,13 @@ import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.impl.TransparentResultMerger;
 
+import java.util.Collection;
+
 /**
  * Result merger engine for sharding.
  */
@@ -38,7 +42,8 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
     @Override
     public ResultMerger newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final ConfigurationProperties props, final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new ShardingDQLResultMerger(databaseType);
+            return new ShardingDQLResultMerger(databaseType, props.<Long>getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_BUDGET),
+                    props.<Boolean>getValue(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_ENABLED), getApproximateDistinctCountTables(props));
         } 
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return new ShardingDALResultMerger(shardingRule);
@@ -46,6 +51,10 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
         return new TransparentResultMerger();
     }
     
+    private Collection<String> getApproximateDistinctCountTables(final ConfigurationProperties props) {
+        return Splitter.on(',').trimResults().omitEmptyStrings().splitToList(props.<String>getValue(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_TABLES));
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
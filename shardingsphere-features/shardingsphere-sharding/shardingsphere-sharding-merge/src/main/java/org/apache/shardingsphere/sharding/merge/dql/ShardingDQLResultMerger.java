@@ -18,14 +18,17 @@
 package org.apache.shardingsphere.sharding.merge.dql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByExternalMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.PaginationBoundaryLocator;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
@@ -40,6 +43,8 @@ import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -52,6 +57,16 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final long groupByMergeMemoryBudget;
+    
+    private final boolean approximateDistinctCountEnabled;
+    
+    private final Collection<String> approximateDistinctCountTables;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, 0L, false, Collections.emptyList());
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final SchemaMetaData schemaMetaData) throws SQLException {
         if (1 == queryResults.size()) {
@@ -60,8 +75,22 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
         selectStatementContext.setIndexes(columnLabelIndexMap);
-        MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, schemaMetaData);
-        return decorate(queryResults, selectStatementContext, mergedResult);
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (paginationContext.isLocatingBoundary()) {
+            new PaginationBoundaryLocator(selectStatementContext).locate(queryResults);
+            return new IteratorStreamMergedResult(queryResults);
+        }
+        List<QueryResult> actualQueryResults = paginationContext.getBoundary().isPresent() ? new PaginationBoundaryLocator(selectStatementContext).seek(queryResults) : queryResults;
+        MergedResult mergedResult = build(actualQueryResults, selectStatementContext, columnLabelIndexMap, schemaMetaData);
+        return decorate(actualQueryResults, selectStatementContext, mergedResult);
+    }
+    
+    private boolean isApproximateDistinctCount(final SelectStatementContext selectStatementContext) {
+        if (approximateDistinctCountEnabled || HintManager.isApproximateDistinctCount()) {
+            return true;
+        }
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        return !tableNames.isEmpty() && tableNames.stream().allMatch(each -> approximateDistinctCountTables.stream().anyMatch(each::equalsIgnoreCase));
     }
     
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
@@ -105,9 +134,13 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final SchemaMetaData schemaMetaData) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schemaMetaData)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schemaMetaData);
+        boolean approximateDistinctCount = isApproximateDistinctCount(selectStatementContext);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schemaMetaData, approximateDistinctCount);
+        }
+        return groupByMergeMemoryBudget > 0L
+                ? new GroupByExternalMergedResult(queryResults, selectStatementContext, schemaMetaData, groupByMergeMemoryBudget, approximateDistinctCount)
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schemaMetaData, approximateDistinctCount);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
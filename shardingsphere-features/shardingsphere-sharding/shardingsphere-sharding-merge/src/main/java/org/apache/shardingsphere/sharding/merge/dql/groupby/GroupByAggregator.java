@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult.MemoryQueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AccumulationAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Aggregator for group by.
+ * 
+ * <p>Sizes returned by aggregator are estimated heap bytes retained by groups, they are rough but cheap to calculate.</p>
+ */
+@RequiredArgsConstructor
+final class GroupByAggregator {
+    
+    private static final int GROUP_OVERHEAD_SIZE = 160;
+    
+    private static final int AGGREGATION_UNIT_OVERHEAD_SIZE = 48;
+    
+    private static final int DISTINCT_VALUE_OVERHEAD_SIZE = 48;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+    
+    /**
+     * Judge whether group by value is aggregated.
+     * 
+     * @param groupByValue group by value
+     * @return group by value is aggregated or not
+     */
+    boolean contains(final GroupByValue groupByValue) {
+        return dataMap.containsKey(groupByValue);
+    }
+    
+    /**
+     * Judge whether no group aggregated.
+     * 
+     * @return no group aggregated or not
+     */
+    boolean isEmpty() {
+        return dataMap.isEmpty();
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     * 
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @return estimated size of memory retained by this aggregation
+     * @throws SQLException SQL exception
+     */
+    long aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        long result = initForFirstGroupByValue(queryResult, groupByValue);
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue);
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            AggregationUnit aggregationUnit = aggregationUnits.get(each);
+            if (aggregationUnit instanceof AccumulationAggregationUnit && isIntegralValue(queryResult, each)) {
+                ((AccumulationAggregationUnit) aggregationUnit).merge(((MemoryQueryResult) queryResult).getLong(each.getIndex()));
+                continue;
+            }
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationUnit.merge(values);
+            if (each instanceof AggregationDistinctProjection && !(approximateDistinctCount && AggregationType.COUNT == each.getType())) {
+                result += DISTINCT_VALUE_OVERHEAD_SIZE + estimateSize(values.get(0));
+            }
+        }
+        return result;
+    }
+    
+    private long initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (dataMap.containsKey(groupByValue)) {
+            return 0L;
+        }
+        MemoryQueryResultRow row = new MemoryQueryResultRow(queryResult);
+        dataMap.put(groupByValue, row);
+        Map<AggregationProjection, AggregationUnit> map = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(),
+            input -> AggregationUnitFactory.create(input, approximateDistinctCount));
+        aggregationMap.put(groupByValue, map);
+        return GROUP_OVERHEAD_SIZE + (long) AGGREGATION_UNIT_OVERHEAD_SIZE * map.size() + estimateSize(row, queryResult.getColumnCount()) + estimateSize(groupByValue);
+    }
+    
+    private boolean isIntegralValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) {
+        return queryResult instanceof MemoryQueryResult && ((MemoryQueryResult) queryResult).isIntegralColumn(aggregationProjection.getIndex())
+                && !((MemoryQueryResult) queryResult).isNull(aggregationProjection.getIndex());
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    private long estimateSize(final MemoryQueryResultRow row, final int columnCount) {
+        long result = 16L + 8L * columnCount;
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateSize(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateSize(final GroupByValue groupByValue) {
+        long result = 16L + 8L * groupByValue.getGroupValues().size();
+        for (Object each : groupByValue.getGroupValues()) {
+            result += estimateSize(each);
+        }
+        return result;
+    }
+    
+    private long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return 40L + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+        }
+        return 24L;
+    }
+    
+    /**
+     * Get aggregated rows.
+     * 
+     * @return aggregated rows
+     */
+    List<MemoryQueryResultRow> getRows() {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey());
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                entry.getValue().setCell(each.getIndex(), aggregationUnits.get(each).getResult());
+            }
+        }
+        return new ArrayList<>(dataMap.values());
+    }
+    
+    /**
+     * Get row when no group aggregated.
+     * 
+     * @return row when no group aggregated
+     */
+    MemoryQueryResultRow getRowWithoutGroup() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getProjections());
+        Object[] data = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                data[i] = 0;
+            }
+        }
+        return new MemoryQueryResultRow(data);
+    }
+    
+    /**
+     * Get value case sensitive of columns.
+     * 
+     * @param queryResults query results
+     * @param schemaMetaData schema meta data
+     * @return value case sensitive of columns, index 0 is placeholder
+     * @throws SQLException SQL exception
+     */
+    List<Boolean> getValueCaseSensitive(final List<QueryResult> queryResults, final SchemaMetaData schemaMetaData) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QueryResult queryResult = queryResults.get(0);
+        List<Boolean> result = Lists.newArrayList(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, schemaMetaData, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final SchemaMetaData schemaMetaData, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            TableMetaData tableMetaData = schemaMetaData.get(tableName);
+            Map<String, ColumnMetaData> columns = tableMetaData.getColumns();
+            String columnName = queryResult.getColumnName(columnIndex);
+            if (columns.containsKey(columnName)) {
+                return columns.get(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+}
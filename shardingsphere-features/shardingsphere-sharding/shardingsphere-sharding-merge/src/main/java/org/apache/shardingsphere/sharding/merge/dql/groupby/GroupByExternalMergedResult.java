@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.Iterators;
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.LoserTree;
+import org.apache.shardingsphere.sharding.merge.hook.GroupBySpillHookRegistry;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * External merged result for group by.
+ * 
+ * <p>Groups are aggregated in memory until estimated memory size exceeds memory budget.
+ * After that, groups already in memory are still aggregated in memory, rows of other groups are spilled to hash partitions in temporary files.
+ * Each partition is aggregated in the same way after rows of memory are done, with another hash seed for partitions of partition.
+ * Aggregated groups are sorted into runs, and the runs are merged by order by items at last.
+ * Temporary files of all runs are deleted when the merged result is closed, even if it is not read through.</p>
+ */
+public final class GroupByExternalMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 3;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryBudget;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final GroupByRowComparator comparator;
+    
+    private final Collection<GroupByRunCursor> runCursors = new LinkedList<>();
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    @Getter(AccessLevel.PACKAGE)
+    private int spilledPartitionCount;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private long spilledBytes;
+    
+    private final LoserTree<GroupByRunCursor> runs;
+    
+    private boolean isFirstNext = true;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupByExternalMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                       final SchemaMetaData schemaMetaData, final long memoryBudget, final boolean approximateDistinctCount) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryBudget = memoryBudget;
+        this.approximateDistinctCount = approximateDistinctCount;
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, approximateDistinctCount);
+        comparator = new GroupByRowComparator(selectStatementContext, aggregator.getValueCaseSensitive(queryResults, schemaMetaData));
+        try {
+            aggregate(queryResults.isEmpty() ? null : queryResults.get(0), queryResults, 0);
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(ex);
+        } catch (final SQLException | ShardingSphereException ex) {
+            close();
+            throw ex;
+        }
+        if (runCursors.isEmpty()) {
+            addRun(Collections.singletonList(aggregator.getRowWithoutGroup()).iterator());
+        }
+        if (spilledPartitionCount > 0) {
+            GroupBySpillHookRegistry.getInstance().spill(spilledPartitionCount, spilledBytes);
+        }
+        runs = new LoserTree<>(runCursors);
+    }
+    
+    private void aggregate(final QueryResult metaDataQueryResult, final Collection<QueryResult> queryResults, final int depth) throws SQLException, IOException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, approximateDistinctCount);
+        GroupBySpillFile[] partitions = null;
+        long memorySize = 0L;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (null == partitions || aggregator.contains(groupByValue)) {
+                    memorySize += aggregator.aggregate(each, groupByValue);
+                    if (null == partitions && memorySize > memoryBudget && depth < MAX_PARTITION_DEPTH) {
+                        partitions = createPartitions();
+                    }
+                } else {
+                    partitions[getPartitionIndex(groupByValue, depth)].write(getRow(each));
+                }
+            }
+        }
+        if (!aggregator.isEmpty()) {
+            List<MemoryQueryResultRow> rows = aggregator.getRows();
+            rows.sort(comparator);
+            if (0 == depth && null == partitions) {
+                addRun(rows.iterator());
+            } else {
+                spillRun(rows, metaDataQueryResult.getColumnCount());
+            }
+        }
+        if (null != partitions) {
+            aggregatePartitions(metaDataQueryResult, partitions, depth);
+        }
+    }
+    
+    private GroupBySpillFile[] createPartitions() throws IOException {
+        GroupBySpillFile[] result = new GroupBySpillFile[PARTITION_COUNT];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = createSpillFile();
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile() throws IOException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        return Math.floorMod(Hashing.murmur3_32(depth).hashInt(groupByValue.hashCode()).asInt(), PARTITION_COUNT);
+    }
+    
+    private Object[] getRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[queryResult.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private void spillRun(final List<MemoryQueryResultRow> rows, final int columnCount) throws IOException {
+        GroupBySpillFile spillFile = createSpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            spillFile.write(row);
+        }
+        spilledBytes += spillFile.finish();
+        addRun(Iterators.transform(spillFile.read(), MemoryQueryResultRow::new));
+    }
+    
+    private void aggregatePartitions(final QueryResult metaDataQueryResult, final GroupBySpillFile[] partitions, final int depth) throws SQLException, IOException {
+        for (GroupBySpillFile each : partitions) {
+            spilledBytes += each.finish();
+        }
+        for (GroupBySpillFile each : partitions) {
+            if (0 == each.getRowCount()) {
+                each.close();
+                continue;
+            }
+            spilledPartitionCount++;
+            aggregate(metaDataQueryResult, Collections.singletonList(new GroupBySpilledQueryResult(metaDataQueryResult, each.read())), depth + 1);
+        }
+    }
+    
+    private void addRun(final Iterator<MemoryQueryResultRow> rows) {
+        GroupByRunCursor runCursor = new GroupByRunCursor(rows, comparator);
+        if (runCursor.next()) {
+            runCursors.add(runCursor);
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (runs.isEmpty()) {
+            return false;
+        }
+        if (!isFirstNext) {
+            if (runs.getWinner().next()) {
+                runs.replayWinner();
+            } else {
+                runs.removeWinner();
+            }
+        }
+        isFirstNext = false;
+        if (runs.isEmpty()) {
+            return false;
+        }
+        currentRow = runs.getWinner().getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException();
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        spillFiles.forEach(GroupBySpillFile::close);
+        spillFiles.clear();
+    }
+}
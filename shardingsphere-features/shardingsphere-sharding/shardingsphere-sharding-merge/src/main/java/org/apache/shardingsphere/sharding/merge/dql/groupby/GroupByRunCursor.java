@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.util.Iterator;
+
+/**
+ * Cursor of sorted run of group by rows.
+ */
+@RequiredArgsConstructor
+final class GroupByRunCursor implements Comparable<GroupByRunCursor> {
+    
+    private final Iterator<MemoryQueryResultRow> rows;
+    
+    private final GroupByRowComparator comparator;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    /**
+     * Move to next row.
+     * 
+     * @return has next row or not
+     */
+    boolean next() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    public int compareTo(final GroupByRunCursor o) {
+        return comparator.compare(currentRow, o.currentRow);
+    }
+}
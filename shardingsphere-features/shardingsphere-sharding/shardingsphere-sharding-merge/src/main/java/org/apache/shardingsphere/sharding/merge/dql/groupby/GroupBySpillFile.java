@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill file for group by rows.
+ * 
+ * <p>Rows are appended to a temporary file and read back once, the file is deleted when it is read through or closed,
+ * or when it can not be opened.</p>
+ */
+final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int RESET_INTERVAL = 256;
+    
+    private final Path path;
+    
+    private final FileChannel writeChannel;
+    
+    private final ObjectOutputStream output;
+    
+    @Getter
+    private long rowCount;
+    
+    private ObjectInputStream input;
+    
+    GroupBySpillFile() throws IOException {
+        path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            output = new ObjectOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            closeQuietly(channel);
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+        writeChannel = channel;
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    void write(final Object[] row) throws IOException {
+        output.writeObject(row);
+        rowCount++;
+        if (0 == rowCount % RESET_INTERVAL) {
+            output.reset();
+        }
+    }
+    
+    /**
+     * Finish writing and get size of file.
+     * 
+     * @return size of file
+     * @throws IOException IO exception
+     */
+    long finish() throws IOException {
+        output.close();
+        return Files.size(path);
+    }
+    
+    /**
+     * Read rows.
+     * 
+     * <p>Writing must be finished before reading.</p>
+     * 
+     * @return iterator of rows
+     * @throws IOException IO exception
+     */
+    Iterator<Object[]> read() throws IOException {
+        Preconditions.checkState(!writeChannel.isOpen() && null == input, "Spill file can only be read once after writing finished.");
+        FileChannel readChannel = null;
+        try {
+            readChannel = FileChannel.open(path, StandardOpenOption.READ);
+            input = new ObjectInputStream(new BufferedInputStream(Channels.newInputStream(readChannel), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            closeQuietly(readChannel);
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+        return new RowIterator();
+    }
+    
+    @Override
+    public void close() {
+        closeQuietly(output);
+        closeQuietly(input);
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private final class RowIterator implements Iterator<Object[]> {
+        
+        private long readCount;
+        
+        @Override
+        public boolean hasNext() {
+            if (readCount < rowCount) {
+                return true;
+            }
+            close();
+            return false;
+        }
+        
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            readCount++;
+            try {
+                return (Object[]) input.readObject();
+            } catch (final IOException | ClassNotFoundException ex) {
+                close();
+                throw new ShardingSphereException(ex);
+            }
+        }
+    }
+}
@@ -30,6 +30,10 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
     
     private BigDecimal result;
     
+    private long integralResult;
+    
+    private boolean integralMerged;
+    
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
@@ -41,8 +45,27 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         result = result.add(new BigDecimal(values.get(0).toString()));
     }
     
+    /**
+     * Merge integral aggregation value without boxing.
+     * 
+     * @param value integral aggregation value
+     */
+    public void merge(final long value) {
+        try {
+            integralResult = Math.addExact(integralResult, value);
+        } catch (final ArithmeticException ex) {
+            result = add(result, integralResult);
+            integralResult = value;
+        }
+        integralMerged = true;
+    }
+    
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return integralMerged ? add(result, integralResult) : result;
+    }
+    
+    private BigDecimal add(final BigDecimal decimalValue, final long integralValue) {
+        return null == decimalValue ? BigDecimal.valueOf(integralValue) : decimalValue.add(BigDecimal.valueOf(integralValue));
     }
 }
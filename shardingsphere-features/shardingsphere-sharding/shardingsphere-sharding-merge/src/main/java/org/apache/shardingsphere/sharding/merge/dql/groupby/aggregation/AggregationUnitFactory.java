@@ -19,6 +19,8 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
 
 /**
@@ -50,4 +52,21 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance for aggregation projection.
+     * 
+     * @param aggregationProjection aggregation projection
+     * @param approximateDistinctCount whether count distinct values approximately
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationProjection aggregationProjection, final boolean approximateDistinctCount) {
+        if (!(aggregationProjection instanceof AggregationDistinctProjection)) {
+            return create(aggregationProjection.getType(), false);
+        }
+        if (AggregationType.COUNT == aggregationProjection.getType() && approximateDistinctCount) {
+            return new ApproximateDistinctCountAggregationUnit();
+        }
+        return create(aggregationProjection.getType(), true);
+    }
 }
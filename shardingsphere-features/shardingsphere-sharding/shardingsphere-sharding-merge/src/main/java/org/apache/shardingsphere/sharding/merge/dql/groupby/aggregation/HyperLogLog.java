@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog sketch to estimate count of distinct values.
+ * 
+ * <p>Values are hashed to 64 bits, the first {@code precision} bits select a register, and the register keeps max rank of first 1 bit of the rest bits.
+ * Standard error of estimation is about {@code 1.04 / sqrt(2 ^ precision)}.</p>
+ */
+public final class HyperLogLog {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final int precision;
+    
+    private final byte[] registers;
+    
+    public HyperLogLog(final int precision) {
+        Preconditions.checkArgument(precision >= 4 && precision <= 18, "Precision of HyperLogLog must be between 4 and 18.");
+        this.precision = precision;
+        registers = new byte[1 << precision];
+    }
+    
+    /**
+     * Offer value.
+     * 
+     * @param value value to be counted
+     */
+    public void offer(final Object value) {
+        offerHash(hash(value));
+    }
+    
+    private long hash(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong();
+        }
+        if (value instanceof byte[]) {
+            return HASH_FUNCTION.hashBytes((byte[]) value).asLong();
+        }
+        return HASH_FUNCTION.hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+    }
+    
+    private void offerHash(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) Math.min(Long.numberOfLeadingZeros(hash << precision) + 1, Long.SIZE - precision + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * Estimate count of distinct values.
+     * 
+     * @return estimated count of distinct values
+     */
+    public long estimate() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1.0 / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double result = 0.7213 / (1 + 1.079 / registerCount) * registerCount * registerCount / sum;
+        if (result <= 2.5 * registerCount && zeroRegisterCount > 0) {
+            result = registerCount * Math.log((double) registerCount / zeroRegisterCount);
+        }
+        return Math.round(result);
+    }
+}
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.sharding.merge.dql.iterator;
 
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Stream merged result for iterator.
@@ -31,9 +33,9 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
     
     private final Iterator<QueryResult> queryResults;
     
-    public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
+    public IteratorStreamMergedResult(final List<QueryResult> queryResults) throws SQLException {
         this.queryResults = queryResults.iterator();
-        setCurrentQueryResult(this.queryResults.next());
+        setCurrentQueryResult(nextQueryResult(this.queryResults));
     }
     
     @Override
@@ -44,15 +46,20 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         if (!queryResults.hasNext()) {
             return false;
         }
-        setCurrentQueryResult(queryResults.next());
+        setCurrentQueryResult(nextQueryResult(queryResults));
         boolean hasNext = getCurrentQueryResult().next();
         if (hasNext) {
             return true;
         }
         while (!hasNext && queryResults.hasNext()) {
-            setCurrentQueryResult(queryResults.next());
+            setCurrentQueryResult(nextQueryResult(queryResults));
             hasNext = getCurrentQueryResult().next();
         }
         return hasNext;
     }
+    
+    @Override
+    public Optional<RawRow> getRawRow() throws SQLException {
+        return getCurrentQueryResult().getRawRow();
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merge.
+ *
+ * <p>Each inner node keeps the loser of the match between its subtrees and the root keeps the winner,
+ * so replaying the match of the winner after it changes takes only {@code log(k)} comparisons.
+ * Equal values win in the order they are given.</p>
+ *
+ * @param <T> type of value
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private final List<T> values;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private int remainingSize;
+    
+    public LoserTree(final Collection<T> values) {
+        this.values = new ArrayList<>(values);
+        exhausted = new boolean[this.values.size()];
+        tree = new int[Math.max(this.values.size(), 1)];
+        remainingSize = this.values.size();
+        Arrays.fill(tree, this.values.size());
+        for (int i = this.values.size() - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all values are exhausted.
+     * 
+     * @return all values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remainingSize;
+    }
+    
+    /**
+     * Get winner.
+     * 
+     * @return winner
+     */
+    public T getWinner() {
+        Preconditions.checkState(!isEmpty(), "Loser tree is empty.");
+        return values.get(tree[0]);
+    }
+    
+    /**
+     * Replay the match of winner after winner changed.
+     */
+    public void replayWinner() {
+        replay(tree[0]);
+    }
+    
+    /**
+     * Remove winner after winner exhausted.
+     */
+    public void removeWinner() {
+        Preconditions.checkState(!isEmpty(), "Loser tree is empty.");
+        exhausted[tree[0]] = true;
+        remainingSize--;
+        replay(tree[0]);
+    }
+    
+    private void replay(final int index) {
+        int winner = index;
+        for (int parent = (index + values.size()) / 2; parent > 0; parent /= 2) {
+            if (isBefore(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isBefore(final int index, final int otherIndex) {
+        if (values.size() == index) {
+            return true;
+        }
+        if (values.size() == otherIndex || exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = values.get(index).compareTo(values.get(otherIndex));
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+}
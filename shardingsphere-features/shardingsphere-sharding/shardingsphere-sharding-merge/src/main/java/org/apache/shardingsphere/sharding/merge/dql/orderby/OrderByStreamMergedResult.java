@@ -27,9 +27,9 @@ import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderB
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
@@ -39,45 +39,49 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final LoserTree<OrderByValue> orderByValues;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final SchemaMetaData schemaMetaData) throws SQLException {
         this.orderByItems = selectStatementContext.getOrderByContext().getItems();
-        this.orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults, selectStatementContext, schemaMetaData);
+        this.orderByValues = new LoserTree<>(createOrderByValues(queryResults, selectStatementContext, schemaMetaData));
+        setCurrentQueryResult(orderByValues.isEmpty() ? queryResults.get(0) : orderByValues.getWinner().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final SchemaMetaData schemaMetaData) throws SQLException {
-        for (QueryResult each : queryResults) {
-            OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schemaMetaData);
+    private Collection<OrderByValue> createOrderByValues(final List<QueryResult> queryResults, 
+                                                         final SelectStatementContext selectStatementContext, final SchemaMetaData schemaMetaData) throws SQLException {
+        Collection<OrderByValue> result = new LinkedList<>();
+        Iterator<QueryResult> queryResultsIterator = queryResults.iterator();
+        while (queryResultsIterator.hasNext()) {
+            OrderByValue orderByValue = new OrderByValue(nextQueryResult(queryResultsIterator), orderByItems, selectStatementContext, schemaMetaData);
             if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
+                result.add(orderByValue);
             }
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return result;
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValues.isEmpty()) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
+        if (orderByValues.getWinner().next()) {
+            orderByValues.replayWinner();
+        } else {
+            orderByValues.removeWinner();
         }
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValues.isEmpty()) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(orderByValues.getWinner().getQueryResult());
         return true;
     }
 }
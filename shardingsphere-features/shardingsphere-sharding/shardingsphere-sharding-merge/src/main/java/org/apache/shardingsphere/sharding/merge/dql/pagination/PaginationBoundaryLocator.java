@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationBoundary;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Boundary locator for limit pagination.
+ * 
+ * <p>Boundary of pagination is located by query results of boundary query, which are fetched from offset divided by count of routes.
+ * Locating is stopped if any route has no rows, null order by values, or rows all equal to the first row which may be continued.</p>
+ * 
+ * <p>Rows of range query before the first row of boundary query of the same route are counted
+ * to revise the offset to skip while merging rows of range query.</p>
+ */
+public final class PaginationBoundaryLocator {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final PaginationContext pagination;
+    
+    private final List<OrderByItem> orderByItems;
+    
+    public PaginationBoundaryLocator(final SelectStatementContext selectStatementContext) {
+        this.selectStatementContext = selectStatementContext;
+        pagination = selectStatementContext.getPaginationContext();
+        orderByItems = new ArrayList<>(selectStatementContext.getOrderByContext().getItems());
+    }
+    
+    /**
+     * Locate boundary of pagination.
+     *
+     * @param queryResults query results of boundary query
+     * @throws SQLException SQL exception
+     */
+    public void locate(final List<QueryResult> queryResults) throws SQLException {
+        long boundaryOffset = pagination.getRevisedOffset();
+        long boundaryRowCount = pagination.getRevisedRowCount(selectStatementContext);
+        List<Object> lowerValues = null;
+        List<Object> upperValues = null;
+        List<List<Object>> firstValues = new ArrayList<>(queryResults.size());
+        long headRowCount = 0L;
+        for (QueryResult each : queryResults) {
+            if (!each.next()) {
+                pagination.stopLocatingBoundary();
+                return;
+            }
+            List<Object> first = getOrderValues(each);
+            List<Object> last = first;
+            long rowCount = 1L;
+            long firstRowCount = 1L;
+            while (each.next()) {
+                last = getOrderValues(each);
+                rowCount++;
+                if (0 == compare(first, last)) {
+                    firstRowCount++;
+                }
+            }
+            if (first.contains(null) || last.contains(null) || rowCount >= boundaryRowCount && 0 == compare(first, last)) {
+                pagination.stopLocatingBoundary();
+                return;
+            }
+            lowerValues = null == lowerValues || compare(first, lowerValues) < 0 ? first : lowerValues;
+            upperValues = null == upperValues || compare(last, upperValues) > 0 ? last : upperValues;
+            firstValues.add(first);
+            headRowCount += boundaryOffset + firstRowCount;
+        }
+        if (firstValues.isEmpty()) {
+            pagination.stopLocatingBoundary();
+            return;
+        }
+        pagination.seekBetween(new PaginationBoundary(lowerValues, upperValues, firstValues, headRowCount));
+    }
+    
+    /**
+     * Seek query results of range query.
+     *
+     * @param queryResults query results of range query
+     * @return query results which rows read to revise seek offset are kept
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResult> seek(final List<QueryResult> queryResults) throws SQLException {
+        PaginationBoundary boundary = pagination.getBoundary().orElseThrow(() -> new IllegalStateException("Boundary of pagination is not located."));
+        List<QueryResult> result = new ArrayList<>(queryResults.size());
+        long headRowCount = 0L;
+        for (int i = 0; i < queryResults.size(); i++) {
+            QueryResult queryResult = queryResults.get(i);
+            List<Object[]> headRows = new LinkedList<>();
+            boolean exhausted = true;
+            while (queryResult.next()) {
+                Object[] row = getRow(queryResult);
+                headRows.add(row);
+                if (compare(getOrderValues(row), boundary.getFirstValues().get(i)) > 0) {
+                    exhausted = false;
+                    break;
+                }
+                headRowCount++;
+            }
+            result.add(new PaginationBoundaryQueryResult(queryResult, headRows.iterator(), exhausted));
+        }
+        pagination.setSeekOffset(Math.max(0L, pagination.getActualOffset() - boundary.getHeadRowCount() + headRowCount));
+        return result;
+    }
+    
+    private Object[] getRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[queryResult.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private List<Object> getOrderValues(final QueryResult queryResult) throws SQLException {
+        List<Object> result = new ArrayList<>(orderByItems.size());
+        for (OrderByItem each : orderByItems) {
+            result.add(checkOrderValue(queryResult.getValue(each.getIndex(), Object.class)));
+        }
+        return result;
+    }
+    
+    private List<Object> getOrderValues(final Object[] row) {
+        List<Object> result = new ArrayList<>(orderByItems.size());
+        for (OrderByItem each : orderByItems) {
+            result.add(checkOrderValue(row[each.getIndex() - 1]));
+        }
+        return result;
+    }
+    
+    private Object checkOrderValue(final Object value) {
+        Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
+        return value;
+    }
+    
+    private int compare(final List<Object> thisValues, final List<Object> otherValues) {
+        for (int i = 0; i < orderByItems.size(); i++) {
+            OrderByItem orderByItem = orderByItems.get(i);
+            int result = CompareUtil.compareTo((Comparable) thisValues.get(i), (Comparable) otherValues.get(i), 
+                    orderByItem.getSegment().getOrderDirection(), orderByItem.getSegment().getNullOrderDirection(), false);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
+
+import java.io.InputStream;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Query result of range query between boundary of pagination.
+ * 
+ * <p>Head rows read to revise seek offset are returned first, then rows are delegated to query result of range query.</p>
+ */
+@RequiredArgsConstructor
+final class PaginationBoundaryQueryResult implements QueryResult {
+    
+    private final QueryResult queryResult;
+    
+    private final Iterator<Object[]> headRows;
+    
+    private final boolean exhausted;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    @Override
+    public ResultSetMetaData getResultSetMetaData() {
+        return queryResult.getResultSetMetaData();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (headRows.hasNext()) {
+            currentRow = headRows.next();
+            return true;
+        }
+        currentRow = null;
+        return !exhausted && queryResult.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (null == currentRow) {
+            return queryResult.getValue(columnIndex, type);
+        }
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return null == currentRow ? queryResult.getCalendarValue(columnIndex, type, calendar) : getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        if (null == currentRow) {
+            return queryResult.getInputStream(columnIndex, type);
+        }
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return null == currentRow ? queryResult.wasNull() : wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResult.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) throws SQLException {
+        return queryResult.getColumnName(columnIndex);
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return queryResult.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public Optional<RawRow> getRawRow() throws SQLException {
+        return null == currentRow ? queryResult.getRawRow() : Optional.empty();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        queryResult.close();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.hook;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.ServiceLoader;
+
+/**
+ * Group by spill hook registry.
+ */
+public final class GroupBySpillHookRegistry {
+    
+    private static final GroupBySpillHookRegistry INSTANCE = new GroupBySpillHookRegistry();
+    
+    private final Collection<GroupBySpillHook> hooks;
+    
+    private GroupBySpillHookRegistry() {
+        hooks = new LinkedList<>();
+        for (GroupBySpillHook each : ServiceLoader.load(GroupBySpillHook.class)) {
+            hooks.add(each);
+        }
+    }
+    
+    /**
+     * Get instance.
+     * 
+     * @return instance
+     */
+    public static GroupBySpillHookRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Handle when group by merge spilled.
+     *
+     * @param partitionCount count of spilled partitions
+     * @param spilledBytes bytes of spilled files
+     */
+    public void spill(final int partitionCount, final long spilledBytes) {
+        hooks.forEach(each -> each.spill(partitionCount, spilledBytes));
+    }
+}
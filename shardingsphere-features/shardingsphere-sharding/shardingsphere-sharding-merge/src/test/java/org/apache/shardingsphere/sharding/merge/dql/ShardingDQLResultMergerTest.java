@@ -35,6 +35,7 @@ import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderB
 import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
@@ -56,9 +57,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -316,6 +321,47 @@ public final class ShardingDQLResultMergerTest {
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
     
+    @Test
+    public void assertMergeDistinctCountApproximatelyForConfiguredTable() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 0L, false, Collections.singletonList("TBL"));
+        SelectStatementContext selectStatementContext = createDistinctCountSelectStatementContext();
+        MergedResult actual = resultMerger.merge(createDistinctCountQueryResults(), selectStatementContext, createSchemaMetaData());
+        assertTrue(actual.next());
+        long count = ((Number) actual.getValue(1, Object.class)).longValue();
+        assertThat(count, not(100000L));
+        assertTrue(Math.abs(count - 100000L) < 3000L);
+    }
+    
+    @Test
+    public void assertMergeDistinctCountExactlyForOtherTable() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), 0L, false, Collections.singletonList("other_tbl"));
+        SelectStatementContext selectStatementContext = createDistinctCountSelectStatementContext();
+        MergedResult actual = resultMerger.merge(createDistinctCountQueryResults(), selectStatementContext, createSchemaMetaData());
+        assertTrue(actual.next());
+        assertThat(((Number) actual.getValue(1, Object.class)).longValue(), is(100000L));
+    }
+    
+    private SelectStatementContext createDistinctCountSelectStatementContext() {
+        ProjectionsContext projectionsContext = new ProjectionsContext(
+                0, 0, false, Collections.singletonList(new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT col1)", "c", "col1")));
+        return new SelectStatementContext(createSelectStatement(), new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private List<QueryResult> createDistinctCountQueryResults() throws SQLException {
+        return Arrays.asList(createDistinctCountQueryResult(0, 60000), createDistinctCountQueryResult(30000, 100000));
+    }
+    
+    private QueryResult createDistinctCountQueryResult(final int startValue, final int endValue) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(1);
+        when(result.getColumnLabel(1)).thenReturn("c");
+        AtomicInteger value = new AtomicInteger(startValue - 1);
+        when(result.next()).thenAnswer(invocation -> value.incrementAndGet() < endValue);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> value.get());
+        return result;
+    }
+    
     private List<QueryResult> createQueryResults() throws SQLException {
         List<QueryResult> result = new LinkedList<>();
         QueryResult queryResult = createQueryResult();
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.sharding.merge.hook.fixture.GroupBySpillHookFixture;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByExternalMergedResultTest {
+    
+    private static final int GROUP_COUNT = 500;
+    
+    @Before
+    public void setUp() {
+        GroupBySpillHookFixture.clear();
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        GroupByExternalMergedResult actual = new GroupByExternalMergedResult(
+                Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()), createSelectStatementContext(), null, 1L, false);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertThat(actual.getValue(2, Object.class), is(0));
+        assertThat(actual.getValue(3, Object.class), is(nullValue()));
+        assertFalse(actual.next());
+        assertThat(actual.getSpilledPartitionCount(), is(0));
+    }
+    
+    @Test
+    public void assertNextWithinMemoryBudget() throws SQLException {
+        List<List<Object[]>> shards = createShards();
+        GroupByExternalMergedResult actual = new GroupByExternalMergedResult(createQueryResults(shards), createSelectStatementContext(), null, Long.MAX_VALUE, false);
+        assertMergedResult(actual, shards);
+        assertThat(actual.getSpilledPartitionCount(), is(0));
+        assertThat(GroupBySpillHookFixture.getPartitionCount(), is(0));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        List<List<Object[]>> shards = createShards();
+        GroupByExternalMergedResult actual = new GroupByExternalMergedResult(createQueryResults(shards), createSelectStatementContext(), null, 4096L, false);
+        assertTrue(actual.getSpilledPartitionCount() > 0);
+        assertTrue(actual.getSpilledBytes() > 0L);
+        assertThat(GroupBySpillHookFixture.getPartitionCount(), is(actual.getSpilledPartitionCount()));
+        assertThat(GroupBySpillHookFixture.getSpilledBytes(), is(actual.getSpilledBytes()));
+        assertMergedResult(actual, shards);
+    }
+    
+    @Test
+    public void assertCloseBeforeReadThrough() throws SQLException, IOException {
+        long spillFileCount = countSpillFiles();
+        List<List<Object[]>> shards = createShards();
+        GroupByExternalMergedResult actual = new GroupByExternalMergedResult(createQueryResults(shards), createSelectStatementContext(), null, 4096L, false);
+        assertTrue(countSpillFiles() > spillFileCount);
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(Paths.get(System.getProperty("java.io.tmpdir")), "shardingsphere-group-by-*.spill")) {
+            return StreamSupport.stream(paths.spliterator(), false).count();
+        }
+    }
+    
+    private void assertMergedResult(final GroupByExternalMergedResult actual, final List<List<Object[]>> shards) throws SQLException {
+        long[] expectedCounts = new long[GROUP_COUNT];
+        long[] expectedSums = new long[GROUP_COUNT];
+        List<Set<Object>> expectedDistinctValues = new ArrayList<>(GROUP_COUNT);
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            expectedDistinctValues.add(new HashSet<>());
+        }
+        for (List<Object[]> each : shards) {
+            for (Object[] row : each) {
+                int id = (Integer) row[1];
+                expectedCounts[id] += (Integer) row[0];
+                expectedSums[id] += (Integer) row[2];
+                expectedDistinctValues.get(id).add(row[2]);
+            }
+        }
+        for (int id = GROUP_COUNT - 1; id >= 0; id--) {
+            if (0 == expectedCounts[id]) {
+                continue;
+            }
+            assertTrue(actual.next());
+            assertThat(actual.getValue(2, Object.class), is(id));
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(expectedCounts[id])));
+            assertThat(actual.getValue(3, Object.class), is(expectedDistinctValues.get(id).size()));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(expectedSums[id])));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private List<List<Object[]>> createShards() {
+        Random random = new Random(7L);
+        List<List<Object[]>> result = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            List<Object[]> rows = new ArrayList<>(1000);
+            for (int j = 0; j < 1000; j++) {
+                int num = random.nextInt(10);
+                rows.add(new Object[]{1, random.nextInt(GROUP_COUNT), num, num});
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults(final List<List<Object[]>> shards) throws SQLException {
+        List<QueryResult> result = new ArrayList<>(shards.size());
+        for (List<Object[]> each : shards) {
+            result.add(new GroupBySpilledQueryResult(createQueryResult(), each.iterator()));
+        }
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        AggregationProjection countProjection = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        countProjection.setIndex(1);
+        AggregationDistinctProjection distinctCountProjection = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT num)", null, "num");
+        distinctCountProjection.setIndex(3);
+        AggregationProjection sumProjection = new AggregationProjection(AggregationType.SUM, "(num)", null);
+        sumProjection.setIndex(4);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.asList(countProjection, distinctCountProjection, sumProjection));
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        return new SelectStatementContext(selectStatement,
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(4);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("id");
+        when(result.getColumnLabel(3)).thenReturn("num");
+        when(result.getColumnLabel(4)).thenReturn("SUM(num)");
+        return result;
+    }
+}
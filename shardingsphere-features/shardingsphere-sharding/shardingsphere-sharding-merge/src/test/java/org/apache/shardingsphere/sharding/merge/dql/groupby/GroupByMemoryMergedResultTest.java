@@ -29,6 +29,7 @@ import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
 import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
@@ -94,7 +95,36 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForTopRowsWithPagination() throws SQLException {
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenReturn(true, true, false);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(30, 30, 40);
+        when(queryResult2.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(3, 3, 4);
+        when(queryResult2.getValue(4, Object.class)).thenReturn(3, 3, 4);
+        when(queryResult2.getValue(5, Object.class)).thenReturn(30, 30, 40);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        PaginationContext paginationContext = new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 1L), new NumberLiteralLimitValueSegment(0, 0, 1L), Collections.emptyList());
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(paginationContext), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
+        return createSelectStatementContext(new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final PaginationContext paginationContext) {
         AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
         aggregationProjection1.setIndex(1);
         AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
@@ -112,7 +142,7 @@ public final class GroupByMemoryMergedResultTest {
         return new SelectStatementContext(selectStatement,
                 new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
                 new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
-                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+                projectionsContext, paginationContext);
     }
 
     @Test
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -36,4 +37,22 @@ public final class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    public void assertAccumulationAggregationWithIntegralValues() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(1L);
+        accumulationAggregationUnit.merge(10L);
+        assertThat(accumulationAggregationUnit.getResult(), is((Comparable) new BigDecimal("12")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithIntegralValuesOverflow() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Long.MAX_VALUE);
+        accumulationAggregationUnit.merge(Long.MAX_VALUE);
+        accumulationAggregationUnit.merge(2L);
+        assertThat(accumulationAggregationUnit.getResult(), is((Comparable) BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.valueOf(2L))));
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.sql.constant.AggregationType;
 import org.junit.Test;
 
@@ -56,4 +58,23 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateDistinctAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true), instanceOf(DistinctAverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateWithAggregationProjection() {
+        assertThat(AggregationUnitFactory.create(new AggregationProjection(AggregationType.COUNT, "(order_id)", null), true), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateWithAggregationDistinctProjection() {
+        assertThat(AggregationUnitFactory.create(new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", null, "order_id"), false),
+                instanceOf(DistinctCountAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateWithApproximateAggregationDistinctProjection() {
+        AggregationDistinctProjection countProjection = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", null, "order_id");
+        assertThat(AggregationUnitFactory.create(countProjection, true), instanceOf(ApproximateDistinctCountAggregationUnit.class));
+        AggregationDistinctProjection sumProjection = new AggregationDistinctProjection(0, 0, AggregationType.SUM, "(DISTINCT order_id)", null, "order_id");
+        assertThat(AggregationUnitFactory.create(sumProjection, true), instanceOf(DistinctSumAggregationUnit.class));
+    }
 }
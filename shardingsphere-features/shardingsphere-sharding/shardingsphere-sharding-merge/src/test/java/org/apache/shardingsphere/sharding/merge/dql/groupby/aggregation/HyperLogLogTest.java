@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithInvalidPrecision() {
+        new HyperLogLog(3);
+    }
+    
+    @Test
+    public void assertEstimateWithoutValue() {
+        assertThat(new HyperLogLog(14).estimate(), is(0L));
+    }
+    
+    @Test
+    public void assertEstimateSmallCardinality() {
+        HyperLogLog hyperLogLog = new HyperLogLog(14);
+        for (int i = 0; i < 100; i++) {
+            hyperLogLog.offer("value_" + i);
+            hyperLogLog.offer("value_" + i);
+        }
+        assertTrue(Math.abs(hyperLogLog.estimate() - 100L) <= 2L);
+    }
+    
+    @Test
+    public void assertEstimateLargeCardinality() {
+        HyperLogLog hyperLogLog = new HyperLogLog(14);
+        for (long i = 0; i < 1000000L; i++) {
+            hyperLogLog.offer(i);
+        }
+        assertTrue(Math.abs(hyperLogLog.estimate() - 1000000L) < 30000L);
+    }
+}
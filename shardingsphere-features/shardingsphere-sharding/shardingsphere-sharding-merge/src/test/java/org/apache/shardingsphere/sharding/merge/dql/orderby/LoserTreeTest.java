@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertIsEmptyWithoutValues() {
+        assertTrue(new LoserTree<SortedValues>(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetWinnerWhenEmpty() {
+        new LoserTree<SortedValues>(Collections.emptyList()).getWinner();
+    }
+    
+    @Test
+    public void assertMerge() {
+        Random random = new Random(0L);
+        for (int size = 1; size <= 17; size++) {
+            Collection<SortedValues> sortedValues = new ArrayList<>(size);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                List<Integer> values = new ArrayList<>();
+                for (int j = random.nextInt(5) + 1; j > 0; j--) {
+                    values.add(random.nextInt(20));
+                }
+                Collections.sort(values);
+                expected.addAll(values);
+                sortedValues.add(new SortedValues(values.iterator()));
+            }
+            Collections.sort(expected);
+            assertThat(merge(new LoserTree<>(sortedValues)), is(expected));
+        }
+    }
+    
+    private List<Integer> merge(final LoserTree<SortedValues> loserTree) {
+        List<Integer> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            SortedValues winner = loserTree.getWinner();
+            result.add(winner.current);
+            if (winner.next()) {
+                loserTree.replayWinner();
+            } else {
+                loserTree.removeWinner();
+            }
+        }
+        return result;
+    }
+    
+    private static final class SortedValues implements Comparable<SortedValues> {
+        
+        private final Iterator<Integer> iterator;
+        
+        private Integer current;
+        
+        private SortedValues(final Iterator<Integer> iterator) {
+            this.iterator = iterator;
+            next();
+        }
+        
+        private boolean next() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final SortedValues o) {
+            return current.compareTo(o.current);
+        }
+    }
+}
@@ -37,6 +37,8 @@ import java.util.Collections;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class LimitDecoratorMergedResultTest {
@@ -79,6 +81,48 @@ public final class LimitDecoratorMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithSeek() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        PaginationContext paginationContext = new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 7), new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList());
+        paginationContext.seek(Collections.singletonList(1));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false), 
+                new ProjectionsContext(0, 0, false, Collections.emptyList()), paginationContext);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult(), createQueryResult()), selectStatementContext, null);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSeekOffset() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        PaginationContext paginationContext = new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 7), new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList());
+        paginationContext.seek(Collections.singletonList(1));
+        paginationContext.setSeekOffset(7L);
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false), 
+                new ProjectionsContext(0, 0, false, Collections.emptyList()), paginationContext);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult(), createQueryResult()), selectStatementContext, null);
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetRawRow() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false), 
+                new ProjectionsContext(0, 0, false, Collections.emptyList()),
+                new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 0), new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList()));
+        QueryResult queryResult = createQueryResult();
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult, createQueryResult()), selectStatementContext, null);
+        assertTrue(actual.next());
+        assertFalse(actual.getRawRow().isPresent());
+        verify(queryResult, never()).getRawRow();
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, true, false);
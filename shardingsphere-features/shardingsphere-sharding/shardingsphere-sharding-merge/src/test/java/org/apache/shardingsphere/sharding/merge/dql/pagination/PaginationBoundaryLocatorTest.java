@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.pagination;
+
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationBoundary;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PaginationBoundaryLocatorTest {
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private PaginationContext paginationContext;
+    
+    @Before
+    public void setUp() {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        paginationContext = new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 5), new NumberLiteralLimitValueSegment(0, 0, 2), Collections.emptyList());
+        paginationContext.locateBoundary(2L, 3L);
+        selectStatementContext = new SelectStatementContext(new SelectStatement(), new GroupByContext(Collections.emptyList(), 0),
+                new OrderByContext(Collections.singletonList(orderByItem), false), new ProjectionsContext(0, 0, false, Collections.emptyList()), paginationContext);
+    }
+    
+    @Test
+    public void assertLocate() throws SQLException {
+        new PaginationBoundaryLocator(selectStatementContext).locate(Arrays.asList(createQueryResult(3, 4, 5), createQueryResult(1, 2, 6)));
+        assertFalse(paginationContext.isLocatingBoundary());
+        assertTrue(paginationContext.isSeeking());
+        assertTrue(paginationContext.getBoundary().isPresent());
+        assertThat(paginationContext.getBoundary().get().getLowerValues(), is(Collections.<Object>singletonList(1)));
+        assertThat(paginationContext.getBoundary().get().getUpperValues(), is(Collections.<Object>singletonList(6)));
+        assertThat(paginationContext.getBoundary().get().getHeadRowCount(), is(6L));
+    }
+    
+    @Test
+    public void assertLocateWithEmptyQueryResult() throws SQLException {
+        new PaginationBoundaryLocator(selectStatementContext).locate(Arrays.asList(createQueryResult(3, 4, 5), createQueryResult()));
+        assertFalse(paginationContext.isLocatingBoundary());
+        assertFalse(paginationContext.isSeeking());
+        assertFalse(paginationContext.getBoundary().isPresent());
+    }
+    
+    @Test
+    public void assertLocateWithAllRowsEqualToFirstRow() throws SQLException {
+        new PaginationBoundaryLocator(selectStatementContext).locate(Arrays.asList(createQueryResult(3, 3, 3), createQueryResult(1, 2, 6)));
+        assertFalse(paginationContext.isLocatingBoundary());
+        assertFalse(paginationContext.getBoundary().isPresent());
+    }
+    
+    @Test
+    public void assertLocateWithNullValue() throws SQLException {
+        new PaginationBoundaryLocator(selectStatementContext).locate(Arrays.asList(createQueryResult(null, 4, 5), createQueryResult(1, 2, 6)));
+        assertFalse(paginationContext.isLocatingBoundary());
+        assertFalse(paginationContext.getBoundary().isPresent());
+    }
+    
+    @Test
+    public void assertSeek() throws SQLException {
+        paginationContext.seekBetween(new PaginationBoundary(Collections.singletonList(1), Collections.singletonList(6), 
+                Arrays.asList(Collections.singletonList(3), Collections.singletonList(1)), 6L));
+        List<QueryResult> actual = new PaginationBoundaryLocator(selectStatementContext).seek(Arrays.asList(createQueryResult(2, 3, 4, 5), createQueryResult(1, 2, 6)));
+        assertThat(paginationContext.getSeekOffset(), is(2L));
+        assertQueryResult(actual.get(0), 2, 3, 4, 5);
+        assertQueryResult(actual.get(1), 1, 2, 6);
+    }
+    
+    private void assertQueryResult(final QueryResult actual, final Integer... expectedValues) throws SQLException {
+        for (Integer each : expectedValues) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) each));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult createQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(1);
+        if (0 == values.length) {
+            return result;
+        }
+        Boolean[] nextResults = new Boolean[values.length];
+        Arrays.fill(nextResults, true);
+        nextResults[values.length - 1] = false;
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.hook.fixture;
+
+import org.apache.shardingsphere.sharding.merge.hook.GroupBySpillHook;
+
+public final class GroupBySpillHookFixture implements GroupBySpillHook {
+    
+    private static int partitionCount;
+    
+    private static long spilledBytes;
+    
+    @Override
+    public void spill(final int partitionCount, final long spilledBytes) {
+        GroupBySpillHookFixture.partitionCount += partitionCount;
+        GroupBySpillHookFixture.spilledBytes += spilledBytes;
+    }
+    
+    /**
+     * Get count of spilled partitions.
+     * 
+     * @return count of spilled partitions
+     */
+    public static int getPartitionCount() {
+        return partitionCount;
+    }
+    
+    /**
+     * Get bytes of spilled files.
+     * 
+     * @return bytes of spilled files
+     */
+    public static long getSpilledBytes() {
+        return spilledBytes;
+    }
+    
+    /**
+     * Clear spilled partitions and bytes.
+     */
+    public static void clear() {
+        partitionCount = 0;
+        spilledBytes = 0L;
+    }
+}
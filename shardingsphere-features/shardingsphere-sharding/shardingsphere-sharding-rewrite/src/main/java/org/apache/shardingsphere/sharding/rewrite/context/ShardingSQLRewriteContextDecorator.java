@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rewrite.context;
 
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
@@ -27,6 +28,19 @@ import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.rewrite.parameter.ShardingParameterRewriterBuilder;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingTokenGenerateBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitValueSegment;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL rewrite context decorator for sharding.
@@ -37,6 +51,12 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
     @SuppressWarnings("unchecked")
     @Override
     public void decorate(final ShardingRule shardingRule, final ConfigurationProperties props, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        if (sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext && !routeContext.getRouteResult().isSingleRouting()) {
+            SelectStatementContext selectStatementContext = (SelectStatementContext) sqlRewriteContext.getSqlStatementContext();
+            boolean inlineValues = sqlRewriteContext.getParameters().isEmpty();
+            seekPagination(selectStatementContext, inlineValues);
+            locatePaginationBoundary(selectStatementContext, routeContext.getRouteResult().getRouteUnits().size(), sqlRewriteContext.getSchemaMetaData(), inlineValues);
+        }
         for (ParameterRewriter each : new ShardingParameterRewriterBuilder(shardingRule, routeContext).getParameterRewriters(sqlRewriteContext.getSchemaMetaData())) {
             if (!sqlRewriteContext.getParameters().isEmpty() && each.isNeedRewrite(sqlRewriteContext.getSqlStatementContext())) {
                 each.rewrite(sqlRewriteContext.getParameterBuilder(), sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getParameters());
@@ -45,6 +65,113 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
         sqlRewriteContext.addSQLTokenGenerators(new ShardingTokenGenerateBuilder(shardingRule, routeContext).getSQLTokenGenerators());
     }
     
+    private void seekPagination(final SelectStatementContext selectStatementContext, final boolean inlineSeekValues) {
+        List<Comparable<?>> seekValues = HintManager.getPaginationSeekValues();
+        if (!seekValues.isEmpty() && isSeekable(selectStatementContext) && isSeekValues(selectStatementContext, seekValues, inlineSeekValues)) {
+            selectStatementContext.getPaginationContext().seek(seekValues);
+        }
+    }
+    
+    private void locatePaginationBoundary(final SelectStatementContext selectStatementContext, 
+                                          final int routeCount, final SchemaMetaData schemaMetaData, final boolean inlineBoundaryValues) {
+        PaginationContext pagination = selectStatementContext.getPaginationContext();
+        long minOffset = pagination.getBoundaryQueryMinOffset();
+        if (0L == minOffset || pagination.getActualOffset() < minOffset || pagination.isSeeking() || pagination.isBoundaryQueried()) {
+            return;
+        }
+        if (!(pagination.getRowCountSegment().orElse(null) instanceof LimitValueSegment) || !isSeekable(selectStatementContext)) {
+            return;
+        }
+        for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
+            if (!isBoundaryColumn(selectStatementContext, ((ColumnOrderByItemSegment) each.getSegment()).getColumn(), schemaMetaData, inlineBoundaryValues)) {
+                return;
+            }
+        }
+        long offset = pagination.getActualOffset();
+        pagination.locateBoundary(offset / routeCount, pagination.getActualRowCount().orElse(0L) + offset % routeCount);
+    }
+    
+    private boolean isBoundaryColumn(final SelectStatementContext selectStatementContext, 
+                                     final ColumnSegment column, final SchemaMetaData schemaMetaData, final boolean inlineBoundaryValues) {
+        Optional<String> tableName = selectStatementContext.getTablesContext().findTableName(column, schemaMetaData);
+        if (!tableName.isPresent() || !schemaMetaData.containsTable(tableName.get())) {
+            return false;
+        }
+        ColumnMetaData columnMetaData = schemaMetaData.get(tableName.get()).getColumns().get(column.getIdentifier().getValue().toLowerCase());
+        if (null == columnMetaData) {
+            return false;
+        }
+        switch (columnMetaData.getDataType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return true;
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return !inlineBoundaryValues;
+            default:
+                return false;
+        }
+    }
+    
+    private boolean isSeekable(final SelectStatementContext selectStatementContext) {
+        PaginationContext pagination = selectStatementContext.getPaginationContext();
+        if (!(pagination.getOffsetSegment().orElse(null) instanceof LimitValueSegment) || 0 == pagination.getActualOffset()) {
+            return false;
+        }
+        if (!selectStatementContext.getGroupByContext().getItems().isEmpty() || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                || selectStatementContext.getProjectionsContext().isDistinctRow()) {
+            return false;
+        }
+        if (selectStatementContext.getOrderByContext().isGenerated()) {
+            return false;
+        }
+        for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
+            if (!(each.getSegment() instanceof ColumnOrderByItemSegment) || !isSeekableColumn(selectStatementContext, ((ColumnOrderByItemSegment) each.getSegment()).getColumn())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSeekValues(final SelectStatementContext selectStatementContext, final List<Comparable<?>> seekValues, final boolean inlineSeekValues) {
+        if (selectStatementContext.getOrderByContext().getItems().size() != seekValues.size()) {
+            return false;
+        }
+        for (Comparable<?> each : seekValues) {
+            if (null == each || inlineSeekValues && !(each instanceof Number)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSeekableColumn(final SelectStatementContext selectStatementContext, final ColumnSegment column) {
+        if (column.getOwner().isPresent() && containsIgnoreCase(selectStatementContext.getTablesContext().getTableNames(), column.getOwner().get().getIdentifier().getValue())) {
+            return false;
+        }
+        for (Projection each : selectStatementContext.getProjectionsContext().getProjections()) {
+            Optional<String> alias = each.getAlias();
+            if (alias.isPresent() && alias.get().equalsIgnoreCase(column.getIdentifier().getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean containsIgnoreCase(final Iterable<String> tableNames, final String owner) {
+        for (String each : tableNames) {
+            if (each.equalsIgnoreCase(owner)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rewrite.parameter.impl;
 
 import lombok.Setter;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteContextAware;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationBoundary;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
@@ -27,7 +28,9 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardPa
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Sharding pagination parameter rewriter.
@@ -49,6 +52,9 @@ public final class ShardingPaginationParameterRewriter implements ParameterRewri
         pagination.getOffsetParameterIndex().ifPresent(offsetParameterIndex -> rewriteOffset(pagination, offsetParameterIndex, (StandardParameterBuilder) parameterBuilder));
         pagination.getRowCountParameterIndex().ifPresent(
             rowCountParameterIndex -> rewriteRowCount(pagination, rowCountParameterIndex, (StandardParameterBuilder) parameterBuilder, selectStatementContext));
+        if (pagination.isSeeking()) {
+            rewriteSeekValues(pagination, (StandardParameterBuilder) parameterBuilder, parameters);
+        }
     }
     
     private void rewriteOffset(final PaginationContext pagination, final int offsetParameterIndex, final StandardParameterBuilder parameterBuilder) {
@@ -59,4 +65,23 @@ public final class ShardingPaginationParameterRewriter implements ParameterRewri
                                  final int rowCountParameterIndex, final StandardParameterBuilder parameterBuilder, final SQLStatementContext sqlStatementContext) {
         parameterBuilder.addReplacedParameters(rowCountParameterIndex, pagination.getRevisedRowCount((SelectStatementContext) sqlStatementContext));
     }
+    
+    private void rewriteSeekValues(final PaginationContext pagination, final StandardParameterBuilder parameterBuilder, final List<Object> parameters) {
+        List<Object> seekParameters = new LinkedList<>();
+        Optional<PaginationBoundary> boundary = pagination.getBoundary();
+        if (boundary.isPresent()) {
+            addSeekParameters(seekParameters, boundary.get().getLowerValues());
+            addSeekParameters(seekParameters, boundary.get().getUpperValues());
+        } else {
+            addSeekParameters(seekParameters, pagination.getSeekValues());
+        }
+        int seekParameterIndex = Math.min(pagination.getOffsetParameterIndex().orElse(parameters.size()), pagination.getRowCountParameterIndex().orElse(parameters.size()));
+        parameterBuilder.addAddedParameters(seekParameterIndex, seekParameters);
+    }
+    
+    private void addSeekParameters(final List<Object> seekParameters, final List<Object> seekValues) {
+        for (int i = 0; i < seekValues.size(); i++) {
+            seekParameters.addAll(seekValues.subList(0, i + 1));
+        }
+    }
 }
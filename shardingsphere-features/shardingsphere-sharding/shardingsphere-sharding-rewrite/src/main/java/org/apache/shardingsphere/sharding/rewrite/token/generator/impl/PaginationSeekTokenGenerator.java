@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import com.google.common.base.Preconditions;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.PaginationSeekToken;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationBoundary;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pagination seek token generator.
+ * 
+ * <p>Rows after order by values of the last row of previous page are filtered by condition,
+ * i.e. {@code a > ? OR (a = ? AND b < ?)} for {@code ORDER BY a ASC, b DESC}.
+ * If nulls of an order by item are sorted after other values, rows with null are also after the seek value,
+ * i.e. {@code (a > ? OR a IS NULL)}.</p>
+ * 
+ * <p>Rows between boundary of pagination are filtered by conditions after lower values and before upper values, both of them are inclusive,
+ * i.e. {@code ((a > ?) OR (a = ? AND b >= ?)) AND ((a < ? OR a IS NULL) OR (a = ? AND (b <= ? OR b IS NULL)))} for {@code ORDER BY a ASC, b ASC}.</p>
+ */
+@Setter
+public final class PaginationSeekTokenGenerator implements CollectionSQLTokenGenerator<SelectStatementContext>, IgnoreForSingleRoute, ParametersAware {
+    
+    private List<Object> parameters;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().isSeeking();
+    }
+    
+    @Override
+    public Collection<PaginationSeekToken> generateSQLTokens(final SelectStatementContext selectStatementContext) {
+        String seekCondition = getSeekCondition(selectStatementContext);
+        Optional<WhereSegment> where = selectStatementContext.getWhere();
+        if (where.isPresent()) {
+            return Arrays.asList(new PaginationSeekToken(where.get().getStartIndex() + "WHERE".length(), " ("),
+                    new PaginationSeekToken(where.get().getStopIndex() + 1, ") AND (" + seekCondition + ")"));
+        }
+        Optional<OrderBySegment> orderBy = selectStatementContext.getSqlStatement().getOrderBy();
+        Preconditions.checkState(orderBy.isPresent());
+        return Collections.singletonList(new PaginationSeekToken(orderBy.get().getStartIndex(), "WHERE " + seekCondition + " "));
+    }
+    
+    private String getSeekCondition(final SelectStatementContext selectStatementContext) {
+        List<OrderByItem> orderByItems = new ArrayList<>(selectStatementContext.getOrderByContext().getItems());
+        PaginationContext pagination = selectStatementContext.getPaginationContext();
+        Optional<PaginationBoundary> boundary = pagination.getBoundary();
+        if (!boundary.isPresent()) {
+            return getCondition(orderByItems, pagination.getSeekValues(), true, false);
+        }
+        String lowerCondition = getCondition(orderByItems, boundary.get().getLowerValues(), true, true);
+        String upperCondition = getCondition(orderByItems, boundary.get().getUpperValues(), false, true);
+        return "(" + lowerCondition + ") AND (" + upperCondition + ")";
+    }
+    
+    private String getCondition(final List<OrderByItem> orderByItems, final List<Object> values, final boolean after, final boolean inclusive) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < orderByItems.size(); i++) {
+            if (0 != i) {
+                result.append(" OR ");
+            }
+            result.append("(");
+            for (int j = 0; j < i; j++) {
+                result.append(getColumnName(orderByItems.get(j))).append(" = ").append(getValue(values.get(j))).append(" AND ");
+            }
+            String itemCondition = getItemCondition(orderByItems.get(i), values.get(i), after, inclusive && orderByItems.size() - 1 == i);
+            result.append(0 == i || !isNullIncluded(orderByItems.get(i), after) ? itemCondition : "(" + itemCondition + ")").append(")");
+        }
+        return result.toString();
+    }
+    
+    private String getItemCondition(final OrderByItem orderByItem, final Object value, final boolean after, final boolean inclusive) {
+        String columnName = getColumnName(orderByItem);
+        String operator = after == (OrderDirection.ASC == orderByItem.getSegment().getOrderDirection()) ? ">" : "<";
+        String result = columnName + " " + operator + (inclusive ? "= " : " ") + getValue(value);
+        return isNullIncluded(orderByItem, after) ? result + " OR " + columnName + " IS NULL" : result;
+    }
+    
+    private boolean isNullIncluded(final OrderByItem orderByItem, final boolean after) {
+        return after == isNullLast(orderByItem);
+    }
+    
+    private boolean isNullLast(final OrderByItem orderByItem) {
+        return orderByItem.getSegment().getOrderDirection() != orderByItem.getSegment().getNullOrderDirection();
+    }
+    
+    private String getColumnName(final OrderByItem orderByItem) {
+        return ((ColumnOrderByItemSegment) orderByItem.getSegment()).getText();
+    }
+    
+    private String getValue(final Object seekValue) {
+        return parameters.isEmpty() ? seekValue.toString() : "?";
+    }
+}
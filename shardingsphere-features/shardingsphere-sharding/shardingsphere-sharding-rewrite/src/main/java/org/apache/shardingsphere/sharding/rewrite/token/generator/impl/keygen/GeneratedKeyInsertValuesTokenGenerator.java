@@ -54,14 +54,13 @@ public final class GeneratedKeyInsertValuesTokenGenerator extends BaseGeneratedK
         Preconditions.checkState(result.isPresent());
         Optional<GeneratedKeyContext> generatedKey = insertStatementContext.getGeneratedKeyContext();
         Preconditions.checkState(generatedKey.isPresent());
-        Iterator<Comparable<?>> generatedValues = generatedKey.get().getGeneratedValues().descendingIterator();
-        int count = 0;
+        Iterator<Comparable<?>> generatedValues = generatedKey.get().getGeneratedValues().iterator();
+        Iterator<InsertValue> insertValues = result.get().getInsertValues().iterator();
         for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
-            InsertValue insertValueToken = result.get().getInsertValues().get(count);
-            DerivedSimpleExpressionSegment expressionSegment = isToAddDerivedLiteralExpression(insertStatementContext, count)
+            InsertValue insertValueToken = insertValues.next();
+            DerivedSimpleExpressionSegment expressionSegment = isToAddDerivedLiteralExpression(each)
                     ? new DerivedLiteralExpressionSegment(generatedValues.next()) : new DerivedParameterMarkerExpressionSegment(each.getParametersCount());
             insertValueToken.getValues().add(expressionSegment);
-            count++;
         }
         return result.get();
     }
@@ -75,7 +74,7 @@ public final class GeneratedKeyInsertValuesTokenGenerator extends BaseGeneratedK
         return Optional.empty();
     }
     
-    private boolean isToAddDerivedLiteralExpression(final InsertStatementContext insertStatementContext, final int insertValueCount) {
-        return insertStatementContext.getGroupedParameters().get(insertValueCount).isEmpty();
+    private boolean isToAddDerivedLiteralExpression(final InsertValueContext insertValueContext) {
+        return insertValueContext.getParameters().isEmpty();
     }
 }
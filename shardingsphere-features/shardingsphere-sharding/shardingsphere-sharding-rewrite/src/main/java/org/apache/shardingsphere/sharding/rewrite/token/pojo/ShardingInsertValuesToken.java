@@ -21,13 +21,25 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Insert values token for sharding.
+ * 
+ * <p>Insert values are grouped by data nodes in a single pass, so that rewriting for each route unit only visits its own insert values.</p>
  */
 public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
     
+    private Map<DataNode, BitSet> groupedInsertValues;
+    
+    private BitSet ungroupedInsertValues;
+    
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex, stopIndex);
     }
@@ -41,22 +53,45 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
-        for (InsertValue each : getInsertValues()) {
-            if (isAppend(routeUnit, (ShardingInsertValue) each)) {
+        List<InsertValue> insertValues = getInsertValues();
+        if (null == routeUnit) {
+            for (InsertValue each : insertValues) {
                 stringBuilder.append(each).append(", ");
             }
+            return;
+        }
+        BitSet appendedInsertValues = getAppendedInsertValues(routeUnit);
+        for (int i = appendedInsertValues.nextSetBit(0); i >= 0; i = appendedInsertValues.nextSetBit(i + 1)) {
+            stringBuilder.append(insertValues.get(i)).append(", ");
         }
     }
     
-    private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
-            return true;
+    private BitSet getAppendedInsertValues(final RouteUnit routeUnit) {
+        if (null == groupedInsertValues) {
+            groupInsertValues();
         }
-        for (DataNode each : insertValueToken.getDataNodes()) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+        BitSet result = (BitSet) ungroupedInsertValues.clone();
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            BitSet insertValues = groupedInsertValues.get(new DataNode(routeUnit.getDataSourceMapper().getLogicName(), each.getActualName()));
+            if (null != insertValues) {
+                result.or(insertValues);
+            }
+        }
+        return result;
+    }
+    
+    private void groupInsertValues() {
+        List<InsertValue> insertValues = getInsertValues();
+        groupedInsertValues = new HashMap<>();
+        ungroupedInsertValues = new BitSet(insertValues.size());
+        for (int i = 0; i < insertValues.size(); i++) {
+            ShardingInsertValue insertValue = (ShardingInsertValue) insertValues.get(i);
+            if (insertValue.getDataNodes().isEmpty()) {
+                ungroupedInsertValues.set(i);
+            }
+            for (DataNode each : insertValue.getDataNodes()) {
+                groupedInsertValues.computeIfAbsent(each, key -> new BitSet(insertValues.size())).set(i);
             }
         }
-        return false;
     }
 }
@@ -20,19 +20,23 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteResult;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sharding.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.strategy.hint.HintShardingStrategy;
+import org.apache.shardingsphere.sharding.strategy.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.strategy.value.ListRouteValue;
 import org.apache.shardingsphere.sharding.strategy.value.RouteValue;
 
@@ -174,6 +178,38 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     }
     
     private Collection<DataNode> route0(final ShardingRule shardingRule, final TableRule tableRule, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        long routeCacheSize = properties.<Long>getValue(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_SIZE);
+        if (routeCacheSize <= 0L || !isCacheable(shardingRule.getDatabaseShardingStrategy(tableRule), databaseShardingValues)
+                || !isCacheable(shardingRule.getTableShardingStrategy(tableRule), tableShardingValues)) {
+            return routeDataNodes(shardingRule, tableRule, databaseShardingValues, tableShardingValues);
+        }
+        ShardingRouteCache routeCache = shardingRule.getRouteCache(routeCacheSize);
+        Comparable<?> databaseShardingValue = getPreciseShardingValue(databaseShardingValues);
+        Comparable<?> tableShardingValue = getPreciseShardingValue(tableShardingValues);
+        Optional<Collection<DataNode>> result = routeCache.get(logicTableName, databaseShardingValue, tableShardingValue);
+        return result.isPresent() ? result.get()
+                : routeCache.put(logicTableName, databaseShardingValue, tableShardingValue, routeDataNodes(shardingRule, tableRule, databaseShardingValues, tableShardingValues));
+    }
+    
+    private boolean isCacheable(final ShardingStrategy shardingStrategy, final List<RouteValue> shardingValues) {
+        if (shardingValues.isEmpty()) {
+            return true;
+        }
+        if (!(shardingStrategy instanceof StandardShardingStrategy && ((StandardShardingStrategy) shardingStrategy).getShardingAlgorithm() instanceof DeterministicShardingAlgorithm)) {
+            return false;
+        }
+        if (1 != shardingValues.size() || !(shardingValues.get(0) instanceof ListRouteValue)) {
+            return false;
+        }
+        Collection<?> values = ((ListRouteValue<?>) shardingValues.get(0)).getValues();
+        return 1 == values.size() && ShardingRouteCache.isCacheable((Comparable<?>) values.iterator().next());
+    }
+    
+    private Comparable<?> getPreciseShardingValue(final List<RouteValue> shardingValues) {
+        return shardingValues.isEmpty() ? null : (Comparable<?>) ((ListRouteValue<?>) shardingValues.get(0)).getValues().iterator().next();
+    }
+    
+    private Collection<DataNode> routeDataNodes(final ShardingRule shardingRule, final TableRule tableRule, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
         Collection<String> routedDataSources = routeDataSources(shardingRule, tableRule, databaseShardingValues);
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedDataSources) {
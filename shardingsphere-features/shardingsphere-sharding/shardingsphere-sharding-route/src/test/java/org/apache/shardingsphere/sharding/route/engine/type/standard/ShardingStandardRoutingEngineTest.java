@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteResult;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.fixture.AbstractRoutingEngineTest;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.After;
 import org.junit.Test;
 
@@ -33,6 +35,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngineTest {
@@ -80,6 +83,20 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsWithRouteCache() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_SIZE.getKey(), "16");
+        ShardingRule shardingRule = createBasedShardingRule();
+        RouteResult expected = new ShardingStandardRoutingEngine("t_order", createShardingConditions("t_order"), new ConfigurationProperties(props)).route(shardingRule);
+        RouteResult actual = new ShardingStandardRoutingEngine("t_order", createShardingConditions("t_order"), new ConfigurationProperties(props)).route(shardingRule);
+        assertThat(actual.getOriginalDataNodes().iterator().next(), sameInstance(expected.getOriginalDataNodes().iterator().next()));
+        List<RouteUnit> routeUnits = new ArrayList<>(actual.getRouteUnits());
+        assertThat(routeUnits.size(), is(1));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+    }
+    
     @Test
     public void assertRouteByHint() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_hint_test", new ShardingConditions(Collections.emptyList()));
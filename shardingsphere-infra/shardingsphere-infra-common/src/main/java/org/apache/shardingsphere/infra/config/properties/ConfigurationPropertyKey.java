@@ -38,6 +38,71 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql.simple", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Whether cache parse result by SQL shape, which replaces literals of SQL with slot markers.
+     */
+    SQL_PARSE_NORMALIZED_CACHE_ENABLED("sql.parse.normalized.cache.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether parse simple DML of MySQL by hand-written fast path parser instead of ANTLR.
+     */
+    SQL_PARSE_FAST_PATH_ENABLED("sql.parse.fast.path.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Type of SQL parse cache, GUAVA for LRU, CAFFEINE for W-TinyLFU which needs shardingsphere-sql-parser-cache-caffeine.
+     */
+    SQL_PARSE_CACHE_TYPE("sql.parse.cache.type", "GUAVA", String.class),
+    
+    /**
+     * Weigher of SQL parse cache, ENTRY, SQL_LENGTH or NODE_COUNT.
+     */
+    SQL_PARSE_CACHE_WEIGHER("sql.parse.cache.weigher", "ENTRY", String.class),
+    
+    /**
+     * Maximum weight of each SQL parse cache.
+     */
+    SQL_PARSE_CACHE_MAXIMUM_WEIGHT("sql.parse.cache.maximum.weight", String.valueOf(65535L), long.class),
+    
+    /**
+     * Count of SQL parsed by ANTLR for each database type after which DFA cache of ANTLR is cleared to reclaim memory, 0 means never cleared.
+     */
+    SQL_PARSE_DFA_CACHE_CLEAR_PARSE_COUNT("sql.parse.dfa.cache.clear.parse.count", String.valueOf(0L), long.class),
+    
+    /**
+     * Maximum size of SQL rewrite template cache for prepared statement, which is keyed by SQL only, 0 means disabled.
+     */
+    SQL_REWRITE_TEMPLATE_CACHE_SIZE("sql.rewrite.template.cache.size", String.valueOf(0L), long.class),
+    
+    /**
+     * Maximum size of route cache for each sharding rule, only point queries routed by deterministic sharding algorithms are cached, 0 means disabled.
+     */
+    SHARDING_ROUTE_CACHE_SIZE("sharding.route.cache.size", String.valueOf(0L), long.class),
+    
+    /**
+     * Maximum rows of each chunk which batch of prepared single row insert is routed and rewritten in as one multi-row insert, 0 means each added batch is routed and rewritten alone.
+     */
+    BATCH_INSERT_CHUNK_SIZE("batch.insert.chunk.size", String.valueOf(0), int.class),
+    
+    /**
+     * Memory budget in bytes of group by merge for each query, groups beyond the budget are spilled to temporary files, 0 means unlimited.
+     */
+    GROUP_BY_MERGE_MEMORY_BUDGET("group.by.merge.memory.budget", String.valueOf(0L), long.class),
+    
+    /**
+     * Minimum offset of multiple routing limit pagination of prepared statement to query by boundary query and range query, instead of fetching rows of offset from every route, 0 means disabled.
+     */
+    PAGINATION_BOUNDARY_QUERY_MIN_OFFSET("pagination.boundary.query.min.offset", String.valueOf(0L), long.class),
+    
+    /**
+     * Whether count distinct values approximately by HyperLogLog sketch, standard error is about 1%.
+     */
+    APPROXIMATE_DISTINCT_COUNT_ENABLED("approximate.distinct.count.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Logic tables separated by comma whose count distinct values are counted approximately, only queries of these tables are counted approximately.
+     */
+    APPROXIMATE_DISTINCT_COUNT_TABLES("approximate.distinct.count.tables", "", String.class),
+    
     /**
      * The max thread size of accepter group to accept TCP connections.
      */
@@ -48,6 +113,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Whether execute SQL on virtual threads, fall back to worker group of {@code executor.size} if JVM does not support virtual thread.
+     */
+    EXECUTOR_VIRTUAL_THREAD_ENABLED("executor.virtual.thread.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -68,6 +138,64 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Max size of commands waiting for command executors of ShardingSphere-Proxy, 0 means unlimited.
+     *
+     * <p>
+     * Connections stop reading from client when the pending commands reach three quarters of the size, and resume when they fall to half of the size.
+     * Commands beyond the size are rejected with error.
+     * </p>
+     */
+    PROXY_FRONTEND_EXECUTOR_QUEUE_SIZE("proxy.frontend.executor.queue.size", String.valueOf(0), int.class),
+    
+    /**
+     * Whether merge query results of ShardingSphere-Proxy in completion order of backend databases.
+     *
+     * <p>
+     * Rows of the fastest databases are sent to client first, instead of waiting for all databases to complete.
+     * </p>
+     */
+    PROXY_BACKEND_QUERY_COMPLETION_ORDER_ENABLED("proxy.backend.query.completion.order.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether execute SQL of ShardingSphere-Proxy through native MySQL protocol client.
+     *
+     * <p>
+     * Statements without parameters out of transaction are sent to MySQL backends by Netty connections with callbacks, instead of blocking JDBC connections.
+     * Each statement leases its own connection until its response is fully read, rows of query results are streamed with back pressure.
+     * Connections of each data source are limited by max connections size of native MySQL protocol client, extra statements wait until connection timeout of the data source.
+     * </p>
+     */
+    PROXY_BACKEND_NATIVE_PROTOCOL_ENABLED("proxy.backend.native.protocol.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max connections size of native MySQL protocol client for each data source of ShardingSphere-Proxy.
+     *
+     * <p>
+     * They are opened in addition to JDBC connections of the data source, so at most maximum pool size of the data source plus this size of connections are opened to its database.
+     * </p>
+     */
+    PROXY_BACKEND_NATIVE_PROTOCOL_MAX_CONNECTIONS_SIZE("proxy.backend.native.protocol.max.connections.size", String.valueOf(8), int.class),
+    
+    /**
+     * Max idle connections size of native MySQL protocol client for each data source of ShardingSphere-Proxy.
+     *
+     * <p>
+     * It is capped by max connections size of native MySQL protocol client.
+     * </p>
+     */
+    PROXY_BACKEND_NATIVE_PROTOCOL_CONNECTIONS_SIZE("proxy.backend.native.protocol.connections.size", String.valueOf(4), int.class),
+    
+    /**
+     * Max size of prepared statements cached for each backend connection of ShardingSphere-Proxy, 0 means disabled.
+     *
+     * <p>
+     * Prepared statements are kept on pooled physical connections and reused for the same rewritten SQL, they are invalidated when table meta data is refreshed.
+     * They are cached only for LOCAL transaction and connections pooled by HikariCP.
+     * </p>
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy.backend.prepared.statement.cache.size", String.valueOf(0), int.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -23,8 +23,11 @@ import com.google.common.collect.Multimap;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * The manager that use hint to inject sharding key directly through {@code ThreadLocal}.
@@ -38,10 +41,14 @@ public final class HintManager implements AutoCloseable {
     
     private final Multimap<String, Comparable<?>> tableShardingValues = HashMultimap.create();
     
+    private final List<Comparable<?>> paginationSeekValues = new ArrayList<>();
+    
     private boolean databaseShardingOnly;
     
     private boolean masterRouteOnly;
     
+    private boolean approximateDistinctCount;
+    
     /**
      * Get a new instance for {@code HintManager}.
      *
@@ -145,6 +152,46 @@ public final class HintManager implements AutoCloseable {
         masterRouteOnly = true;
     }
     
+    /**
+     * Set order by values of the last row of previous page for pagination.
+     *
+     * <p>Each shard seeks rows after these values instead of returning the rows of offset to be skipped.
+     * The values must match the order by items of query one by one, and the order by items should identify a row uniquely.</p>
+     *
+     * @param values order by values of the last row of previous page
+     */
+    public void setPaginationSeekValues(final Comparable<?>... values) {
+        paginationSeekValues.clear();
+        paginationSeekValues.addAll(Arrays.asList(values));
+    }
+    
+    /**
+     * Get order by values of the last row of previous page for pagination.
+     *
+     * @return order by values of the last row of previous page
+     */
+    public static List<Comparable<?>> getPaginationSeekValues() {
+        return null == HINT_MANAGER_HOLDER.get() ? Collections.emptyList() : HINT_MANAGER_HOLDER.get().paginationSeekValues;
+    }
+    
+    /**
+     * Set count distinct values approximately.
+     *
+     * <p>Distinct values of {@code COUNT(DISTINCT)} are merged into HyperLogLog sketch instead of being held in memory, the standard error is about 1%.</p>
+     */
+    public void setApproximateDistinctCount() {
+        approximateDistinctCount = true;
+    }
+    
+    /**
+     * Judge whether count distinct values approximately or not.
+     *
+     * @return count distinct values approximately or not
+     */
+    public static boolean isApproximateDistinctCount() {
+        return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().approximateDistinctCount;
+    }
+    
     /**
      * Judge whether route to master database only or not.
      *
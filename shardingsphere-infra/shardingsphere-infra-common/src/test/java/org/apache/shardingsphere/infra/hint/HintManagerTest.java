@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.hint;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -134,6 +136,33 @@ public final class HintManagerTest {
         assertFalse(HintManager.isMasterRouteOnly());
     }
     
+    @Test
+    public void assertSetPaginationSeekValues() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setPaginationSeekValues(1, "foo");
+            hintManager.setPaginationSeekValues(2, "bar");
+            assertThat(HintManager.getPaginationSeekValues(), is(Arrays.<Comparable<?>>asList(2, "bar")));
+        }
+    }
+    
+    @Test
+    public void assertGetPaginationSeekValuesWithoutInstance() {
+        assertTrue(HintManager.getPaginationSeekValues().isEmpty());
+    }
+    
+    @Test
+    public void assertSetApproximateDistinctCount() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setApproximateDistinctCount();
+            assertTrue(HintManager.isApproximateDistinctCount());
+        }
+    }
+    
+    @Test
+    public void assertIsApproximateDistinctCountWithoutInstance() {
+        assertFalse(HintManager.isApproximateDistinctCount());
+    }
+    
     @Test
     public void assertClose() {
         HintManager hintManager = HintManager.getInstance();
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execute results in completion order.
+ *
+ * <p>Results of trunk input group are placed first, results of other input groups are appended as soon as each group completes.
+ * Getting a result which has not arrived yet blocks until it arrives.</p>
+ *
+ * @param <O> type of result
+ */
+public final class CompletionOrderResults<O> extends AbstractList<O> implements RandomAccess {
+    
+    private final int size;
+    
+    private final List<O> arrivedResults;
+    
+    private int pendingGroupCount;
+    
+    private Throwable failure;
+    
+    CompletionOrderResults(final int size, final Collection<O> trunkResults, final int pendingGroupCount) {
+        this.size = size;
+        arrivedResults = new ArrayList<>(size);
+        arrivedResults.addAll(trunkResults);
+        this.pendingGroupCount = pendingGroupCount;
+    }
+    
+    synchronized void complete(final Collection<O> groupResults) {
+        arrivedResults.addAll(groupResults);
+        pendingGroupCount--;
+        notifyAll();
+    }
+    
+    synchronized void fail(final Throwable cause) {
+        if (null == failure) {
+            failure = cause;
+        }
+        pendingGroupCount--;
+        notifyAll();
+    }
+    
+    @Override
+    public synchronized O get(final int index) {
+        Preconditions.checkElementIndex(index, size);
+        while (index >= arrivedResults.size()) {
+            if (null != failure) {
+                throw failure instanceof Exception ? new ShardingSphereException((Exception) failure) : new ShardingSphereException(failure.getMessage());
+            }
+            if (0 == pendingGroupCount) {
+                throw new ShardingSphereException("Expected %s execute results, but only %s returned.", size, arrivedResults.size());
+            }
+            await();
+        }
+        return arrivedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    private void await() {
+        try {
+            wait();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Wait for all input groups to complete no longer than timeout, no matter whether they succeed.
+     *
+     * @param timeout maximum time to wait
+     * @param unit time unit of timeout
+     * @return all input groups completed or not
+     */
+    public synchronized boolean awaitCompletion(final long timeout, final TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (0 != pendingGroupCount) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
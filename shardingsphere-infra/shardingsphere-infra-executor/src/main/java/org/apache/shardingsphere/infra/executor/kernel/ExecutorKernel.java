@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereExecutorService;
@@ -41,7 +44,11 @@ public final class ExecutorKernel implements AutoCloseable {
     private final ShardingSphereExecutorService executorService;
     
     public ExecutorKernel(final int executorSize) {
-        executorService = new ShardingSphereExecutorService(executorSize);
+        this(executorSize, false);
+    }
+    
+    public ExecutorKernel(final int executorSize, final boolean virtualThreadEnabled) {
+        executorService = new ShardingSphereExecutorService(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -78,6 +85,59 @@ public final class ExecutorKernel implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute and return results in completion order.
+     *
+     * <p>The returned results do not wait for all input groups, results of each input group are available as soon as the group completes.
+     * Callbacks must return one result for each input.</p>
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute results in completion order
+     * @throws SQLException throw if execute failure of first input group
+     */
+    public <I, O> List<O> executeInCompletionOrder(final Collection<InputGroup<I>> inputGroups,
+                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) throws SQLException {
+        if (inputGroups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (serial) {
+            return serialExecute(inputGroups, firstCallback, callback);
+        }
+        Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
+        InputGroup<I> firstInputs = inputGroupsIterator.next();
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(Lists.newArrayList(inputGroupsIterator), callback);
+        Collection<O> firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+        CompletionOrderResults<O> result = new CompletionOrderResults<>(getInputSize(inputGroups), firstResults, restResultFutures.size());
+        for (ListenableFuture<Collection<O>> each : restResultFutures) {
+            Futures.addCallback(each, new FutureCallback<Collection<O>>() {
+                
+                @Override
+                public void onSuccess(final Collection<O> groupResults) {
+                    result.complete(groupResults);
+                }
+                
+                @Override
+                public void onFailure(final Throwable cause) {
+                    result.fail(cause);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+        return result;
+    }
+    
+    private <I> int getInputSize(final Collection<InputGroup<I>> inputGroups) {
+        int result = 0;
+        for (InputGroup<I> each : inputGroups) {
+            result += each.getInputs().size();
+        }
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<InputGroup<I>> inputGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
         InputGroup<I> firstInputs = inputGroupsIterator.next();
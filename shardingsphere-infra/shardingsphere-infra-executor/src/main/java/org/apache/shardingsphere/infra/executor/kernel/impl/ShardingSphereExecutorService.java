@@ -20,16 +20,21 @@ package org.apache.shardingsphere.infra.executor.kernel.impl;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * ShardingSphere executor service.
  */
 @Getter
+@Slf4j
 public final class ShardingSphereExecutorService {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -38,15 +43,48 @@ public final class ShardingSphereExecutorService {
     
     private final ListeningExecutorService executorService;
     
+    private final boolean virtualThread;
+    
     public ShardingSphereExecutorService(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ShardingSphereExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ShardingSphereExecutorService(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
+    public ShardingSphereExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        Optional<ExecutorService> virtualThreadExecutorService = virtualThreadEnabled ? getVirtualThreadExecutorService() : Optional.empty();
+        virtualThread = virtualThreadExecutorService.isPresent();
+        executorService = MoreExecutors.listeningDecorator(virtualThreadExecutorService.orElseGet(() -> getExecutorService(executorSize, nameFormat)));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
+    public ShardingSphereExecutorService(final int executorSize, final String nameFormat, final BlockingQueue<Runnable> workQueue) {
+        virtualThread = false;
+        executorService = MoreExecutors.listeningDecorator(
+                new ThreadPoolExecutor(executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, workQueue, ShardingSphereThreadFactoryBuilder.build(nameFormat)));
+        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+    }
+    
+    private Optional<ExecutorService> getVirtualThreadExecutorService() {
+        Optional<ThreadFactory> threadFactory = ShardingSphereThreadFactoryBuilder.buildVirtual();
+        if (!threadFactory.isPresent()) {
+            log.warn("Virtual thread is not supported by current JVM, fall back to platform thread pool.");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory.get()));
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Can not create virtual thread executor, fall back to platform thread pool.", ex);
+            return Optional.empty();
+        }
+    }
+    
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ShardingSphereThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -33,6 +34,8 @@ public final class ShardingSphereThreadFactoryBuilder {
     
     private static final String DEFAULT_EXECUTOR_NAME_FORMAT = NAME_FORMAT_PREFIX + "%d";
     
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = NAME_FORMAT_PREFIX + "Virtual-";
+    
     /**
      * Build default ShardingSphere thread factory.
      *
@@ -51,4 +54,20 @@ public final class ShardingSphereThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build ShardingSphere virtual thread factory.
+     * 
+     * @return ShardingSphere virtual thread factory, absent if current JVM does not support virtual thread
+     */
+    public static Optional<ThreadFactory> buildVirtual() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, VIRTUAL_THREAD_NAME_PREFIX, 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+    }
 }
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Optional;
 
 /**
  * Query result form SQL.
@@ -106,4 +107,22 @@ public interface QueryResult {
      * @throws SQLException SQL Exception
      */
     String getColumnLabel(int columnIndex) throws SQLException;
+    
+    /**
+     * Get current row as raw row.
+     *
+     * @return current raw row, empty if raw row is not supported
+     * @throws SQLException SQL Exception
+     */
+    default Optional<RawRow> getRawRow() throws SQLException {
+        return Optional.empty();
+    }
+    
+    /**
+     * Close query result and release resources held by it.
+     *
+     * @throws SQLException SQL Exception
+     */
+    default void close() throws SQLException {
+    }
 }
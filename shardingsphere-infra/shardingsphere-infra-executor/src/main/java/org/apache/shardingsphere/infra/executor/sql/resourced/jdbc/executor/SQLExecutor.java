@@ -69,4 +69,25 @@ public final class SQLExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and return results in completion order.
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first SQL execute callback
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return execute results in completion order
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> executeInCompletionOrder(final Collection<InputGroup<StatementExecuteUnit>> inputGroups,
+                                                final SQLExecutorCallback<T> firstCallback, final SQLExecutorCallback<T> callback) throws SQLException {
+        try {
+            return executorKernel.executeInCompletionOrder((Collection) inputGroups, firstCallback, callback, serial);
+        } catch (final SQLException ex) {
+            ExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
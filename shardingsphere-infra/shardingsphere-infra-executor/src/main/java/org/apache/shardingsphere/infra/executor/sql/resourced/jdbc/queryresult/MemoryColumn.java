@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column of memory query result, values of column are stored in arrays of rows.
+ */
+abstract class MemoryColumn {
+    
+    private final BitSet nullValues = new BitSet();
+    
+    /**
+     * Load value of current row of result set.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @param rowIndex row index
+     * @throws SQLException SQL exception
+     */
+    final void load(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        loadValue(resultSet, columnIndex, rowIndex);
+        if (resultSet.wasNull()) {
+            nullValues.set(rowIndex);
+        }
+    }
+    
+    protected abstract void loadValue(ResultSet resultSet, int columnIndex, int rowIndex) throws SQLException;
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex row index
+     * @return value is null or not
+     */
+    final boolean isNull(final int rowIndex) {
+        return nullValues.get(rowIndex);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index
+     * @return value
+     */
+    final Object getValue(final int rowIndex) {
+        return isNull(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+    
+    protected static int[] ensureCapacity(final int[] values, final int rowIndex) {
+        return rowIndex < values.length ? values : Arrays.copyOf(values, getNewCapacity(values.length, rowIndex));
+    }
+    
+    protected static long[] ensureCapacity(final long[] values, final int rowIndex) {
+        return rowIndex < values.length ? values : Arrays.copyOf(values, getNewCapacity(values.length, rowIndex));
+    }
+    
+    protected static double[] ensureCapacity(final double[] values, final int rowIndex) {
+        return rowIndex < values.length ? values : Arrays.copyOf(values, getNewCapacity(values.length, rowIndex));
+    }
+    
+    protected static <T> T[] ensureCapacity(final T[] values, final int rowIndex) {
+        return rowIndex < values.length ? values : Arrays.copyOf(values, getNewCapacity(values.length, rowIndex));
+    }
+    
+    private static int getNewCapacity(final int capacity, final int rowIndex) {
+        return Math.max(capacity << 1, rowIndex + 1);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult;
 
+import com.google.common.base.Preconditions;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
 
@@ -29,119 +30,135 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
+ * 
+ * <p>Values are stored by columns, integral and floating point values are stored in primitive arrays.</p>
  */
 public final class MemoryQueryResult implements QueryResult {
     
     private final ResultSetMetaData resultSetMetaData;
     
-    private final Iterator<List<Object>> rows;
+    private final String[] columnNames;
     
-    private List<Object> currentRow;
+    private final String[] columnLabels;
+    
+    private final MemoryColumn[] columns;
+    
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
         resultSetMetaData = resultSet.getMetaData();
-        rows = getRows(resultSet);
-    }
-    
-    private Iterator<List<Object>> getRows(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                Object rowValue = getRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
-            }
-            result.add(rowData);
+        int columnCount = resultSetMetaData.getColumnCount();
+        columnNames = new String[columnCount];
+        columnLabels = new String[columnCount];
+        columns = new MemoryColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = resultSetMetaData.getColumnName(i + 1);
+            columnLabels[i] = resultSetMetaData.getColumnLabel(i + 1);
+            columns[i] = createColumn(resultSetMetaData, i + 1);
         }
-        return result.iterator();
+        rowCount = loadRows(resultSet);
     }
     
-    private Object getRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
+    private MemoryColumn createColumn(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
         switch (metaData.getColumnType(columnIndex)) {
             case Types.BOOLEAN:
-                return resultSet.getBoolean(columnIndex);
+                return new BooleanMemoryColumn();
             case Types.TINYINT:
             case Types.SMALLINT:
-                return resultSet.getInt(columnIndex);
+                return new IntMemoryColumn();
             case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
-                }
-                return resultSet.getLong(columnIndex);
+                return metaData.isSigned(columnIndex) ? new IntMemoryColumn() : new LongMemoryColumn();
             case Types.BIGINT:
                 if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
+                    return new LongMemoryColumn();
                 }
-                BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
-                return bigDecimal == null ? null : bigDecimal.toBigInteger();
+                return new ObjectMemoryColumn((resultSet, index) -> {
+                    BigDecimal bigDecimal = resultSet.getBigDecimal(index);
+                    return null == bigDecimal ? null : bigDecimal.toBigInteger();
+                });
             case Types.NUMERIC:
             case Types.DECIMAL:
-                return resultSet.getBigDecimal(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getBigDecimal);
             case Types.FLOAT:
             case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
+                return new DoubleMemoryColumn();
             case Types.CHAR:
             case Types.VARCHAR:
             case Types.LONGVARCHAR:
-                return resultSet.getString(columnIndex);
+                return new StringMemoryColumn();
             case Types.DATE:
-                return resultSet.getDate(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getDate);
             case Types.TIME:
-                return resultSet.getTime(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getTime);
             case Types.TIMESTAMP:
-                return resultSet.getTimestamp(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getTimestamp);
             case Types.CLOB:
-                return resultSet.getClob(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getClob);
             case Types.BLOB:
             case Types.BINARY:
             case Types.VARBINARY:
             case Types.LONGVARBINARY:
-                return resultSet.getBlob(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getBlob);
             case Types.ARRAY:
-                return resultSet.getArray(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getArray);
             default:
-                return resultSet.getObject(columnIndex);
+                return new ObjectMemoryColumn(ResultSet::getObject);
         }
     }
-
+    
+    private int loadRows(final ResultSet resultSet) throws SQLException {
+        int result = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1, result);
+            }
+            result++;
+        }
+        return result;
+    }
+    
     @Override
     public ResultSetMetaData getResultSetMetaData() {
         return resultSetMetaData;
     }
-
+    
     @Override
     public boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
+            wasNull = false;
             return true;
         }
-        currentRow = null;
+        currentRowIndex = rowCount;
+        wasNull = true;
         return false;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        Object result = getCurrentRowValue(columnIndex);
+        wasNull = null == result;
+        return result;
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        Object result = getCurrentRowValue(columnIndex);
+        wasNull = null == result;
+        return result;
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.get(columnIndex - 1));
+        return getInputStream(getCurrentRowValue(columnIndex));
     }
     
     @SneakyThrows
@@ -154,23 +171,63 @@ public final class MemoryQueryResult implements QueryResult {
         return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
     }
     
+    private Object getCurrentRowValue(final int columnIndex) {
+        return columns[columnIndex - 1].getValue(getCurrentRowIndex());
+    }
+    
+    private int getCurrentRowIndex() {
+        Preconditions.checkState(currentRowIndex >= 0 && currentRowIndex < rowCount, "Current row is out of range.");
+        return currentRowIndex;
+    }
+    
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return wasNull;
+    }
+    
+    /**
+     * Judge whether values of column are integral and can be got without boxing.
+     *
+     * @param columnIndex column index
+     * @return values of column are integral or not
+     */
+    public boolean isIntegralColumn(final int columnIndex) {
+        return columns[columnIndex - 1] instanceof IntegralMemoryColumn;
+    }
+    
+    /**
+     * Judge whether value of current row is null.
+     *
+     * @param columnIndex column index
+     * @return value is null or not
+     */
+    public boolean isNull(final int columnIndex) {
+        return columns[columnIndex - 1].isNull(getCurrentRowIndex());
+    }
+    
+    /**
+     * Get integral value of current row without boxing.
+     *
+     * @param columnIndex column index
+     * @return integral value, 0 if value is null
+     */
+    public long getLong(final int columnIndex) {
+        Preconditions.checkState(isIntegralColumn(columnIndex), "Values of column `%s` are not integral.", columnIndex);
+        return ((IntegralMemoryColumn) columns[columnIndex - 1]).getLong(getCurrentRowIndex());
     }
     
     @Override
-    public int getColumnCount() throws SQLException {
-        return resultSetMetaData.getColumnCount();
+    public int getColumnCount() {
+        return columns.length;
     }
     
     @Override
-    public String getColumnName(final int columnIndex) throws SQLException {
-        return resultSetMetaData.getColumnName(columnIndex);
+    public String getColumnName(final int columnIndex) {
+        return columnNames[columnIndex - 1];
     }
     
     @Override
-    public String getColumnLabel(final int columnIndex) throws SQLException {
-        return resultSetMetaData.getColumnLabel(columnIndex);
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels[columnIndex - 1];
     }
 }
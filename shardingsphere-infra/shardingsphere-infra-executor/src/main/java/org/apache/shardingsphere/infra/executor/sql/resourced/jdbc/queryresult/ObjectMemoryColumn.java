@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Column of memory query result which values are objects.
+ */
+@RequiredArgsConstructor
+final class ObjectMemoryColumn extends MemoryColumn {
+    
+    private final ValueReader valueReader;
+    
+    private Object[] values = new Object[16];
+    
+    @Override
+    protected void loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        values = ensureCapacity(values, rowIndex);
+        values[rowIndex] = valueReader.read(resultSet, columnIndex);
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    /**
+     * Value reader.
+     */
+    interface ValueReader {
+        
+        /**
+         * Read value from result set.
+         *
+         * @param resultSet result set
+         * @param columnIndex column index
+         * @return value
+         * @throws SQLException SQL exception
+         */
+        Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column of memory query result which values are string.
+ * 
+ * <p>Values are dictionary encoded until count of distinct values exceeds dictionary size limit, then they are stored as plain values.</p>
+ */
+final class StringMemoryColumn extends MemoryColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private static final int NULL_CODE = -1;
+    
+    private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private int[] codes = new int[16];
+    
+    private String[] values;
+    
+    @Override
+    protected void loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (null == values && !encode(value, rowIndex)) {
+            decodeAll(rowIndex);
+        }
+        if (null != values) {
+            values = ensureCapacity(values, rowIndex);
+            values[rowIndex] = value;
+        }
+    }
+    
+    private boolean encode(final String value, final int rowIndex) {
+        codes = ensureCapacity(codes, rowIndex);
+        if (null == value) {
+            codes[rowIndex] = NULL_CODE;
+            return true;
+        }
+        Integer code = dictionaryCodes.get(value);
+        if (null == code) {
+            if (dictionary.size() >= MAX_DICTIONARY_SIZE) {
+                return false;
+            }
+            code = dictionary.size();
+            dictionary.add(value);
+            dictionaryCodes.put(value, code);
+        }
+        codes[rowIndex] = code;
+        return true;
+    }
+    
+    private void decodeAll(final int rowCount) {
+        values = new String[Math.max(codes.length, rowCount + 1)];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = decode(codes[i]);
+        }
+        codes = null;
+        dictionary.clear();
+        dictionaryCodes.clear();
+    }
+    
+    private String decode(final int code) {
+        return NULL_CODE == code ? null : dictionary.get(code);
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return null == values ? decode(codes[rowIndex]) : values[rowIndex];
+    }
+}
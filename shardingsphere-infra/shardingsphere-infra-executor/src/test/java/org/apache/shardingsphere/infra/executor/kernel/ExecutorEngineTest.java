@@ -17,19 +17,26 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -93,6 +100,54 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(inputGroups, firstCallback, callback, false);
+        latch.await();
+        assertThat(actual.size(), is(4));
+        assertThat(new ArrayList<>(actual), is(Arrays.asList("succeed", "succeed", "succeed", "succeed")));
+    }
+    
+    @Test
+    public void assertExecuteInCompletionOrderBeforeRestGroupsCompleted() throws SQLException {
+        CountDownLatch restGroupsLatch = new CountDownLatch(1);
+        List<String> actual = executorEngine.executeInCompletionOrder(inputGroups, firstCallback, (inputs, isTrunkThread, dataMap) -> {
+            await(restGroupsLatch);
+            return Arrays.asList("slow", "slow");
+        }, false);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0), is("succeed"));
+        assertThat(actual.get(1), is("succeed"));
+        restGroupsLatch.countDown();
+        assertThat(actual.get(3), is("slow"));
+    }
+    
+    @Test
+    public void assertAwaitCompletionInCompletionOrderWithTimeout() throws SQLException {
+        CountDownLatch restGroupsLatch = new CountDownLatch(1);
+        List<String> actual = executorEngine.executeInCompletionOrder(inputGroups, firstCallback, (inputs, isTrunkThread, dataMap) -> {
+            await(restGroupsLatch);
+            return Arrays.asList("slow", "slow");
+        }, false);
+        assertFalse(((CompletionOrderResults<String>) actual).awaitCompletion(10L, TimeUnit.MILLISECONDS));
+        restGroupsLatch.countDown();
+        assertTrue(((CompletionOrderResults<String>) actual).awaitCompletion(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertExecuteInCompletionOrderWithRestGroupFailure() throws SQLException {
+        List<String> actual = executorEngine.executeInCompletionOrder(inputGroups, firstCallback, (inputs, isTrunkThread, dataMap) -> {
+            throw new SQLException("test");
+        }, false);
+        assertThat(actual.get(1), is("succeed"));
+        actual.get(2);
+    }
+    
+    @SneakyThrows
+    private void await(final CountDownLatch latch) {
+        latch.await();
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -38,6 +38,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -318,6 +319,43 @@ public final class MemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertGetValueByVarcharWithDistinctValuesExceedDictionary() throws SQLException {
+        int rowCount = 70000;
+        ResultSet resultSet = getMockedResultSet(Types.VARCHAR);
+        AtomicInteger rowIndex = new AtomicInteger();
+        when(resultSet.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() <= rowCount);
+        when(resultSet.getString(1)).thenAnswer(invocation -> 0 == rowIndex.get() % 2 ? "value" : "value_" + rowIndex.get());
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        for (int i = 1; i <= rowCount; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, String.class), is(0 == i % 2 ? "value" : "value_" + i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetLongByIntegralColumn() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getInt(1)).thenReturn(1);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.isIntegralColumn(1));
+        assertTrue(actual.next());
+        assertFalse(actual.isNull(1));
+        assertThat(actual.getLong(1), is(1L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetLongByNotIntegralColumn() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DECIMAL);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1"));
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertFalse(actual.isIntegralColumn(1));
+        assertTrue(actual.next());
+        actual.getLong(1);
+    }
+    
     private ResultSet getMockedResultSet(final int columnTypes) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.next()).thenReturn(true, false);
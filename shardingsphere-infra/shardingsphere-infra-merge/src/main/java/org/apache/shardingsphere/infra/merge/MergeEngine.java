@@ -58,10 +58,24 @@ public final class MergeEngine {
     private final Map<ShardingSphereRule, ResultProcessEngine> engines;
     
     public MergeEngine(final DatabaseType databaseType, final SchemaMetaData schemaMetaData, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+        this(databaseType, schemaMetaData, props, getResultProcessEngines(rules));
+    }
+    
+    public MergeEngine(final DatabaseType databaseType, final SchemaMetaData schemaMetaData, final ConfigurationProperties props, final Map<ShardingSphereRule, ResultProcessEngine> engines) {
         this.databaseType = databaseType;
         this.schemaMetaData = schemaMetaData;
         this.props = props;
-        engines = OrderedSPIRegistry.getRegisteredServices(rules, ResultProcessEngine.class);
+        this.engines = engines;
+    }
+    
+    /**
+     * Get result process engines of rules.
+     * 
+     * @param rules rules
+     * @return result process engines
+     */
+    public static Map<ShardingSphereRule, ResultProcessEngine> getResultProcessEngines(final Collection<ShardingSphereRule> rules) {
+        return OrderedSPIRegistry.getRegisteredServices(rules, ResultProcessEngine.class);
     }
     
     /**
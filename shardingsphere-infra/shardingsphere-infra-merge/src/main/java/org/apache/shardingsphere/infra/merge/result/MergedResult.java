@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.infra.merge.result;
 
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
+
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Optional;
 
 /**
  * Merged result after merge engine.
@@ -72,4 +75,22 @@ public interface MergedResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Get current row as raw row, only merged result which keeps rows of query result unchanged supports it.
+     * 
+     * @return current raw row, empty if raw row is not supported
+     * @throws SQLException SQL Exception
+     */
+    default Optional<RawRow> getRawRow() throws SQLException {
+        return Optional.empty();
+    }
+    
+    /**
+     * Close merged result and release resources held by merging, such as temporary files.
+     * 
+     * @throws SQLException SQL Exception
+     */
+    default void close() throws SQLException {
+    }
 }
@@ -17,22 +17,12 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
-import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 
-import java.io.InputStream;
-import java.io.Reader;
-import java.sql.Blob;
-import java.sql.Clob;
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
-import java.sql.SQLXML;
-import java.util.Calendar;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -40,59 +30,11 @@ import java.util.List;
  *
  * @param <T> type of rule
  */
-@RequiredArgsConstructor
-public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
-    
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
-    
-    private MemoryQueryResultRow currentResultSetRow;
-    
-    private boolean wasNull;
+public abstract class MemoryMergedResult<T extends ShardingSphereRule> extends AbstractMemoryMergedResult {
     
     protected MemoryMergedResult(final T rule, final SchemaMetaData schemaMetaData, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schemaMetaData, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRowList.iterator();
-        if (!memoryQueryResultRowList.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRowList.get(0);
-        }
+        setMemoryQueryResultRows(init(rule, schemaMetaData, sqlStatementContext, queryResults));
     }
     
     protected abstract List<MemoryQueryResultRow> init(T rule, SchemaMetaData schemaMetaData, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
-    
-    @Override
-    public final boolean next() {
-        if (memoryResultSetRows.hasNext()) {
-            currentResultSetRow = memoryResultSetRows.next();
-            return true;
-        }
-        return false;
-    }
-    
-    @Override
-    public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
-            throw new SQLFeatureNotSupportedException();
-        }
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
-    }
-    
-    @Override
-    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        // TODO implement with calendar
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
-    }
-    
-    @Override
-    public final InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
-    }
-    
-    @Override
-    public final boolean wasNull() {
-        return wasNull;
-    }
 }
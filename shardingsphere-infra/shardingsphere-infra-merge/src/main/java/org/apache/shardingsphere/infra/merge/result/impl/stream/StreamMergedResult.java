@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.infra.merge.result.impl.stream;
 
 import lombok.Setter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Iterator;
 
 /**
  * Stream merged result.
@@ -42,6 +44,26 @@ public abstract class StreamMergedResult implements MergedResult {
         return currentQueryResult;
     }
     
+    /**
+     * Get next query result.
+     * 
+     * <p>Query results may be executed in completion order, SQL exception of query result which has not arrived is rethrown.</p>
+     * 
+     * @param queryResults query results
+     * @return next query result
+     * @throws SQLException SQL exception
+     */
+    protected static QueryResult nextQueryResult(final Iterator<QueryResult> queryResults) throws SQLException {
+        try {
+            return queryResults.next();
+        } catch (final ShardingSphereException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+    
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
         Object result = getCurrentQueryResult().getValue(columnIndex, type);
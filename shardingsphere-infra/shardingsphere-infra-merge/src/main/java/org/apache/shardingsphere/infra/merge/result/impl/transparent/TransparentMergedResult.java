@@ -19,11 +19,13 @@ package org.apache.shardingsphere.infra.merge.result.impl.transparent;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Optional;
 
 /**
  * Transparent merged result.
@@ -57,4 +59,9 @@ public final class TransparentMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return queryResult.wasNull();
     }
+    
+    @Override
+    public Optional<RawRow> getRawRow() throws SQLException {
+        return queryResult.getRawRow();
+    }
 }
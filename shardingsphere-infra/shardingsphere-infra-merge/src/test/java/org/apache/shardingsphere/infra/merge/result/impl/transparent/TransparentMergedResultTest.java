@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.merge.result.impl.transparent;
 
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -25,6 +26,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.io.InputStream;
 import java.sql.Date;
 import java.sql.SQLException;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -75,4 +77,13 @@ public final class TransparentMergedResultTest {
         TransparentMergedResult actual = new TransparentMergedResult(mock(QueryResult.class));
         assertFalse(actual.wasNull());
     }
+    
+    @Test
+    public void assertGetRawRow() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        RawRow rawRow = mock(RawRow.class);
+        when(queryResult.getRawRow()).thenReturn(Optional.of(rawRow));
+        TransparentMergedResult actual = new TransparentMergedResult(queryResult);
+        assertThat(actual.getRawRow(), is(Optional.of(rawRow)));
+    }
 }
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -33,6 +35,7 @@ import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -50,9 +53,23 @@ public final class SQLRewriteEntry {
     private final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators;
     
     public SQLRewriteEntry(final SchemaMetaData schemaMetaData, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+        this(schemaMetaData, props, getSQLRewriteContextDecorators(rules));
+    }
+    
+    public SQLRewriteEntry(final SchemaMetaData schemaMetaData, final ConfigurationProperties props, final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators) {
         this.schemaMetaData = schemaMetaData;
         this.props = props;
-        decorators = OrderedSPIRegistry.getRegisteredServices(rules, SQLRewriteContextDecorator.class);
+        this.decorators = decorators;
+    }
+    
+    /**
+     * Get SQL rewrite context decorators of rules.
+     * 
+     * @param rules rules
+     * @return SQL rewrite context decorators
+     */
+    public static Map<ShardingSphereRule, SQLRewriteContextDecorator> getSQLRewriteContextDecorators(final Collection<ShardingSphereRule> rules) {
+        return OrderedSPIRegistry.getRegisteredServices(rules, SQLRewriteContextDecorator.class);
     }
     
     /**
@@ -65,6 +82,39 @@ public final class SQLRewriteEntry {
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final RouteContext routeContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, routeContext.getSqlStatementContext(), routeContext);
+        sqlRewriteContext.generateSQLTokens();
+        return rewrite(sqlRewriteContext, routeContext);
+    }
+    
+    /**
+     * Rewrite with SQL rewrite template.
+     * 
+     * <p>SQL tokens of SQL are reused from SQL rewrite template cache, parameters are still rewritten for route context of current execution.</p>
+     * 
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param routeContext route context
+     * @param sqlRewriteTemplateCache SQL rewrite template cache
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final RouteContext routeContext, final SQLRewriteTemplateCache sqlRewriteTemplateCache) {
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, routeContext.getSqlStatementContext(), routeContext);
+        if (!sqlRewriteTemplateCache.isEnabled() || !sqlRewriteContext.isTemplatable()) {
+            sqlRewriteContext.generateSQLTokens();
+            return rewrite(sqlRewriteContext, routeContext);
+        }
+        boolean singleRouting = routeContext.getRouteResult().isSingleRouting();
+        Optional<Collection<SQLToken>> sqlTokens = sqlRewriteTemplateCache.get(sql, singleRouting);
+        if (sqlTokens.isPresent()) {
+            sqlRewriteContext.addSQLTokens(sqlTokens.get());
+        } else {
+            sqlRewriteContext.generateSQLTokens();
+            sqlRewriteTemplateCache.put(sql, singleRouting, sqlRewriteContext.getSqlTokens());
+        }
+        return rewrite(sqlRewriteContext, routeContext);
+    }
+    
+    private SQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         return routeContext.getRouteResult().getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult());
     }
@@ -72,7 +122,6 @@ public final class SQLRewriteEntry {
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext result = new SQLRewriteContext(schemaMetaData, sqlStatementContext, sql, parameters);
         decorate(decorators, result, routeContext);
-        result.generateSQLTokens();
         return result;
     }
     
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * SQL rewrite template cache.
+ * 
+ * <p>SQL rewrite template is SQL tokens generated for SQL, which are cached by SQL and whether SQL is routed to single route unit or not.
+ * Parameter values are not part of the key, routing and parameter rewriting still run for every execution and their results are substituted into the template.
+ * SQL rewrite template cache is disabled if maximum size is 0.</p>
+ */
+public final class SQLRewriteTemplateCache {
+    
+    private final Cache<SQLRewriteTemplateCacheKey, Collection<SQLToken>> cache;
+    
+    public SQLRewriteTemplateCache(final long maximumSize) {
+        cache = maximumSize > 0 ? CacheBuilder.newBuilder().maximumSize(maximumSize).build() : null;
+    }
+    
+    /**
+     * Judge whether SQL rewrite template cache is enabled or not.
+     * 
+     * @return enabled or not
+     */
+    public boolean isEnabled() {
+        return null != cache;
+    }
+    
+    /**
+     * Get SQL tokens of SQL rewrite template.
+     * 
+     * @param sql SQL
+     * @param singleRouting whether SQL is routed to single route unit or not
+     * @return SQL tokens
+     */
+    public Optional<Collection<SQLToken>> get(final String sql, final boolean singleRouting) {
+        return isEnabled() ? Optional.ofNullable(cache.getIfPresent(new SQLRewriteTemplateCacheKey(sql, singleRouting))) : Optional.empty();
+    }
+    
+    /**
+     * Put SQL tokens of SQL rewrite template.
+     * 
+     * @param sql SQL
+     * @param singleRouting whether SQL is routed to single route unit or not
+     * @param sqlTokens SQL tokens
+     */
+    public void put(final String sql, final boolean singleRouting, final Collection<SQLToken> sqlTokens) {
+        if (isEnabled()) {
+            cache.put(new SQLRewriteTemplateCacheKey(sql, singleRouting), Collections.unmodifiableList(new ArrayList<>(sqlTokens)));
+        }
+    }
+    
+    /**
+     * Clear SQL rewrite template cache.
+     */
+    public void clear() {
+        if (isEnabled()) {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -28,10 +28,13 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.Defau
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.DeleteStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.UpdateStatementContext;
 
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -50,7 +53,7 @@ public final class SQLRewriteContext {
     
     private final ParameterBuilder parameterBuilder;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens = new ArrayList<>();
     
     @Getter(AccessLevel.NONE)
     private final SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
@@ -81,4 +84,29 @@ public final class SQLRewriteContext {
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, schemaMetaData));
     }
+    
+    /**
+     * Add SQL tokens of SQL rewrite template instead of generating them.
+     *
+     * @param sqlTokens SQL tokens of SQL rewrite template
+     */
+    public void addSQLTokens(final Collection<SQLToken> sqlTokens) {
+        this.sqlTokens.addAll(sqlTokens);
+    }
+    
+    /**
+     * Judge whether SQL tokens can be generated once and reused as SQL rewrite template for other parameters or not.
+     * 
+     * <p>SQL tokens of insert statements depend on count of values and generated keys, SQL tokens of parameters aware generators depend on values of parameters.
+     * SQL tokens of pagination boundary query depend on count of routes.</p>
+     *
+     * @return SQL tokens can be reused or not
+     */
+    public boolean isTemplatable() {
+        if (sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().isBoundaryQueried()) {
+            return false;
+        }
+        return (sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext)
+                && !sqlTokenGenerators.isParametersAware(sqlStatementContext);
+    }
 }
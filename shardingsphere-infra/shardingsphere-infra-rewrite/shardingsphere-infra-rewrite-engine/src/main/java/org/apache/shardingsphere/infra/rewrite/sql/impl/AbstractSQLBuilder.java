@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -41,28 +42,25 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        StringBuilder result = new StringBuilder(context.getSql().length());
+        result.append(context.getSql(), 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(context.getSql(), getStartIndex(each), getStopIndex(sqlTokens, i));
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
     private int getStartIndex(final SQLToken sqlToken) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
         return Math.min(startIndex, context.getSql().length());
     }
     
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+    private int getStopIndex(final List<SQLToken> sqlTokens, final int currentSQLTokenIndex) {
+        return sqlTokens.size() - 1 == currentSQLTokenIndex ? context.getSql().length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
     }
 }
@@ -85,6 +85,21 @@ public final class SQLTokenGenerators {
         return result;
     }
     
+    /**
+     * Judge whether SQL tokens generated for SQL statement depend on values of parameters or not.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return SQL tokens depend on values of parameters or not
+     */
+    public boolean isParametersAware(final SQLStatementContext sqlStatementContext) {
+        for (SQLTokenGenerator each : sqlTokenGenerators) {
+            if (each instanceof ParametersAware && each.isGenerateSQLToken(sqlStatementContext)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private void setUpSQLTokenGenerator(final SQLTokenGenerator sqlTokenGenerator, final List<Object> parameters, final SchemaMetaData schemaMetaData, final List<SQLToken> previousSQLTokens) {
         if (sqlTokenGenerator instanceof ParametersAware) {
             ((ParametersAware) sqlTokenGenerator).setParameters(parameters);
@@ -37,7 +37,7 @@ public class InsertValue {
     
     @Override
     public final String toString() {
-        StringBuilder result = new StringBuilder();
+        StringBuilder result = new StringBuilder(values.size() * 8);
         result.append("(");
         for (int i = 0; i < values.size(); i++) {
             result.append(getValue(i)).append(", ");
@@ -52,7 +52,7 @@ public class InsertValue {
             return "?";
         } else if (expressionSegment instanceof LiteralExpressionSegment) {
             Object literals = ((LiteralExpressionSegment) expressionSegment).getLiterals();
-            return literals instanceof String ? String.format("'%s'", ((LiteralExpressionSegment) expressionSegment).getLiterals()) : literals.toString();
+            return literals instanceof String ? "'" + literals + "'" : literals.toString();
         }
         return ((ComplexExpressionSegment) expressionSegment).getText();
     }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLRewriteTemplateCacheTest {
+    
+    private final Collection<SQLToken> sqlTokens = Collections.singletonList(mock(SQLToken.class));
+    
+    @Test
+    public void assertGetWithSameSQL() {
+        SQLRewriteTemplateCache sqlRewriteTemplateCache = new SQLRewriteTemplateCache(16L);
+        sqlRewriteTemplateCache.put("SELECT * FROM t_order WHERE order_id = ?", false, sqlTokens);
+        assertThat(sqlRewriteTemplateCache.get("SELECT * FROM t_order WHERE order_id = ?", false).get(), is(sqlTokens));
+        assertFalse(sqlRewriteTemplateCache.get("SELECT * FROM t_order WHERE order_id = ?", true).isPresent());
+        assertFalse(sqlRewriteTemplateCache.get("SELECT * FROM t_order_item WHERE order_id = ?", false).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        SQLRewriteTemplateCache sqlRewriteTemplateCache = new SQLRewriteTemplateCache(16L);
+        sqlRewriteTemplateCache.put("SELECT * FROM t_order WHERE order_id = ?", true, sqlTokens);
+        sqlRewriteTemplateCache.clear();
+        assertFalse(sqlRewriteTemplateCache.get("SELECT * FROM t_order WHERE order_id = ?", true).isPresent());
+    }
+    
+    @Test
+    public void assertDisabled() {
+        SQLRewriteTemplateCache sqlRewriteTemplateCache = new SQLRewriteTemplateCache(0L);
+        assertFalse(sqlRewriteTemplateCache.isEnabled());
+        sqlRewriteTemplateCache.put("SELECT * FROM t_order WHERE order_id = ?", true, sqlTokens);
+        assertFalse(sqlRewriteTemplateCache.get("SELECT * FROM t_order WHERE order_id = ?", true).isPresent());
+        sqlRewriteTemplateCache.clear();
+    }
+    
+    @Test
+    public void assertEnabled() {
+        assertTrue(new SQLRewriteTemplateCache(1L).isEnabled());
+    }
+}
@@ -41,6 +41,10 @@ public final class SQLRewriteEngineTestParameters {
     
     private final List<Object> inputParameters;
     
+    private final List<Object> inputPaginationSeekValues;
+    
+    private final long inputPaginationBoundaryQueryMinOffset;
+    
     private final List<String> outputSQLs;
     
     private final List<List<String>> outputGroupedParameters;
@@ -74,8 +74,9 @@ public final class SQLRewriteEngineTestParametersBuilder {
     private static Collection<Object[]> createTestParameters(final String type, final String fileName, final RewriteAssertionsRootEntity rootAssertions) {
         Collection<Object[]> result = new LinkedList<>();
         for (RewriteAssertionEntity each : rootAssertions.getAssertions()) {
-            result.add(new SQLRewriteEngineTestParameters(type, each.getId(), fileName, rootAssertions.getYamlRule(), each.getInput().getSql(), 
-                    createInputParameters(each.getInput().getParameters()), createOutputSQLs(each.getOutputs()), createOutputGroupedParameters(each.getOutputs()), each.getDatabaseType()).toArray());
+            List<Object> inputPaginationSeekValues = createInputParameters(each.getInput().getPaginationSeekValues());
+            result.add(new SQLRewriteEngineTestParameters(type, each.getId(), fileName, rootAssertions.getYamlRule(), each.getInput().getSql(), createInputParameters(each.getInput().getParameters()), 
+                    inputPaginationSeekValues, each.getInput().getPaginationBoundaryQueryMinOffset(), createOutputSQLs(each.getOutputs()), createOutputGroupedParameters(each.getOutputs()), each.getDatabaseType()).toArray());
         }
         return result;
     }
@@ -37,4 +37,10 @@ public final class RewriteInputEntity {
     
     @XmlAttribute
     private String parameters;
+    
+    @XmlAttribute(name = "pagination-seek-values")
+    private String paginationSeekValues;
+    
+    @XmlAttribute(name = "pagination-boundary-query-min-offset")
+    private long paginationBoundaryQueryMinOffset;
 }
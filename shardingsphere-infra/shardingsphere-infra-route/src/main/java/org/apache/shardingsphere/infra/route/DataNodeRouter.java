@@ -54,12 +54,26 @@ public final class DataNodeRouter {
     private final SPIRoutingHook routingHook;
     
     public DataNodeRouter(final ShardingSphereMetaData metaData, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+        this(metaData, props, getRouteDecorators(rules));
+    }
+    
+    public DataNodeRouter(final ShardingSphereMetaData metaData, final ConfigurationProperties props, final Map<ShardingSphereRule, RouteDecorator> decorators) {
         this.metaData = metaData;
         this.props = props;
-        decorators = OrderedSPIRegistry.getRegisteredServices(rules, RouteDecorator.class);
+        this.decorators = decorators;
         routingHook = new SPIRoutingHook();
     }
     
+    /**
+     * Get route decorators of rules.
+     * 
+     * @param rules rules
+     * @return route decorators
+     */
+    public static Map<ShardingSphereRule, RouteDecorator> getRouteDecorators(final Collection<ShardingSphereRule> rules) {
+        return OrderedSPIRegistry.getRegisteredServices(rules, RouteDecorator.class);
+    }
+    
     /**
      * Route SQL.
      *
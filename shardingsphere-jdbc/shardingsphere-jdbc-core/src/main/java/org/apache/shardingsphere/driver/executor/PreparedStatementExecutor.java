@@ -175,6 +175,7 @@ public final class PreparedStatementExecutor {
             refreshStrategy.get().refreshMetaData(schemaContext.getSchema().getMetaData(), schemaContext.getSchema().getDatabaseType(), 
                     dataSourceMap, sqlStatementContext, tableName -> metaDataLoader.load(schemaContext.getSchema().getDatabaseType(), 
                             dataSourceMap, tableName, schemaContexts.getProps()));
+            schemaContext.getRuntimeContext().getSqlRewriteTemplateCache().clear();
             MetaDataCallback.getInstance().run(DefaultSchema.LOGIC_NAME, schemaContext.getSchema().getMetaData().getSchema());
         }
     }
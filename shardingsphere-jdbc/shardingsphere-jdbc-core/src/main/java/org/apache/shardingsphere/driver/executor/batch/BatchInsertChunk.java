@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Batch insert chunk, which collects parameters of batch for single row insert to route and rewrite them as one multi-row insert.
+ */
+public final class BatchInsertChunk {
+    
+    private static final Collection<String> MULTI_ROW_INSERT_DATABASE_TYPES = Arrays.asList("MySQL", "PostgreSQL", "SQLServer");
+    
+    private final InsertStatement insertStatement;
+    
+    private final int maxSize;
+    
+    private final int parametersCountPerRow;
+    
+    private final List<List<Object>> parameterSets = new ArrayList<>();
+    
+    public BatchInsertChunk(final InsertStatement insertStatement, final int maxSize) {
+        this.insertStatement = insertStatement;
+        this.maxSize = maxSize;
+        parametersCountPerRow = (int) insertStatement.getValues().iterator().next().getValues().stream().filter(each -> each instanceof ParameterMarkerExpressionSegment).count();
+    }
+    
+    /**
+     * Judge whether batch of SQL statement can be routed in chunk or not.
+     * 
+     * @param sqlStatement SQL statement
+     * @param databaseType database type
+     * @return can be routed in chunk or not
+     */
+    public static boolean isChunkable(final SQLStatement sqlStatement, final DatabaseType databaseType) {
+        if (!(sqlStatement instanceof InsertStatement) || !MULTI_ROW_INSERT_DATABASE_TYPES.contains(DatabaseTypes.getTrunkDatabaseTypeName(databaseType))) {
+            return false;
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        return 1 == insertStatement.getValues().size() && !insertStatement.getSetAssignment().isPresent() && !insertStatement.getInsertSelect().isPresent()
+                && !insertStatement.getOnDuplicateKeyColumns().isPresent() && insertStatement.getValues().iterator().next().getValues().stream().allMatch(BatchInsertChunk::isSimpleValue);
+    }
+    
+    private static boolean isSimpleValue(final ExpressionSegment expressionSegment) {
+        return expressionSegment instanceof ParameterMarkerExpressionSegment || expressionSegment instanceof LiteralExpressionSegment;
+    }
+    
+    /**
+     * Add parameters of one batch.
+     * 
+     * @param parameters parameters
+     */
+    public void add(final List<Object> parameters) {
+        parameterSets.add(new ArrayList<>(parameters));
+    }
+    
+    /**
+     * Judge whether chunk is full or not.
+     * 
+     * @return chunk is full or not
+     */
+    public boolean isFull() {
+        return parameterSets.size() >= maxSize;
+    }
+    
+    /**
+     * Judge whether chunk is empty or not.
+     * 
+     * @return chunk is empty or not
+     */
+    public boolean isEmpty() {
+        return parameterSets.isEmpty();
+    }
+    
+    /**
+     * Get rows count.
+     * 
+     * @return rows count
+     */
+    public int size() {
+        return parameterSets.size();
+    }
+    
+    /**
+     * Get multi-row insert statement, each row's parameter markers are shifted to its own parameters.
+     * 
+     * @return multi-row insert statement
+     */
+    public InsertStatement getInsertStatement() {
+        InsertStatement result = new InsertStatement();
+        result.setTable(insertStatement.getTable());
+        insertStatement.getInsertColumns().ifPresent(result::setInsertColumns);
+        InsertValuesSegment valuesSegment = insertStatement.getValues().iterator().next();
+        for (int i = 0; i < parameterSets.size(); i++) {
+            result.getValues().add(0 == i ? valuesSegment : createShiftedValuesSegment(valuesSegment, i * parametersCountPerRow));
+        }
+        result.setParameterCount(parametersCountPerRow * parameterSets.size());
+        return result;
+    }
+    
+    private InsertValuesSegment createShiftedValuesSegment(final InsertValuesSegment valuesSegment, final int parametersOffset) {
+        List<ExpressionSegment> values = new ArrayList<>(valuesSegment.getValues().size());
+        for (ExpressionSegment each : valuesSegment.getValues()) {
+            values.add(each instanceof ParameterMarkerExpressionSegment ? new ParameterMarkerExpressionSegment(
+                    each.getStartIndex(), each.getStopIndex(), ((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex() + parametersOffset) : each);
+        }
+        return new InsertValuesSegment(valuesSegment.getStartIndex(), valuesSegment.getStopIndex(), values);
+    }
+    
+    /**
+     * Get parameters of all rows.
+     * 
+     * @return parameters of all rows
+     */
+    public List<Object> getParameters() {
+        List<Object> result = new ArrayList<>(parametersCountPerRow * parameterSets.size());
+        parameterSets.forEach(result::addAll);
+        return result;
+    }
+    
+    /**
+     * Clear.
+     */
+    public void clear() {
+        parameterSets.clear();
+    }
+}
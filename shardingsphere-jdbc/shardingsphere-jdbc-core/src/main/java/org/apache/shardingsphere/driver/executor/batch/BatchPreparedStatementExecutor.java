@@ -18,11 +18,11 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import com.google.common.base.Preconditions;
-import lombok.Getter;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.ExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutor;
@@ -35,14 +35,20 @@ import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Prepared statement executor to process add batch.
@@ -55,8 +61,9 @@ public final class BatchPreparedStatementExecutor {
     
     private final Collection<InputGroup<StatementExecuteUnit>> inputGroups;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
+    
+    private final Map<Integer, int[]> chunkExpectedUpdateCounts;
     
     private int batchCount;
     
@@ -64,7 +71,8 @@ public final class BatchPreparedStatementExecutor {
         this.schemaContexts = schemaContexts;
         this.sqlExecutor = sqlExecutor;
         inputGroups = new LinkedList<>();
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
+        chunkExpectedUpdateCounts = new HashMap<>();
     }
     
     /**
@@ -78,37 +86,45 @@ public final class BatchPreparedStatementExecutor {
     
     /**
      * Add batch for execution units.
+     * 
+     * <p>Execution units are hashed by data source and SQL, parameters of same execution unit are appended to the first added one.</p>
      *
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(each.getSqlUnit().getParameters()))));
+                batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        return executionUnits.stream().map(BatchExecutionUnit::new).collect(Collectors.toList());
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        batchExecutionUnits.stream().filter(each -> each.equals(batchExecutionUnit)).forEach(each -> reviseBatchExecutionUnit(each, batchExecutionUnit));
-    }
-    
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    /**
+     * Add batch for execution units of chunk, which is multi-row statement of several added batches.
+     * 
+     * <p>Update count of each added batch is its expected update count if total update count of chunk is as expected, or {@code Statement.SUCCESS_NO_INFO} otherwise.</p>
+     *
+     * @param executionUnits execution units
+     * @param expectedUpdateCounts expected update counts of each added batch in chunk
+     */
+    public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits, final int[] expectedUpdateCounts) {
+        chunkExpectedUpdateCounts.put(batchCount, expectedUpdateCounts);
+        addBatchForExecutionUnits(executionUnits);
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        newExecutionUnits.forEach(each -> each.mapAddBatchCount(batchCount));
-        batchExecutionUnits.addAll(newExecutionUnits);
+    /**
+     * Get batch execution units.
+     * 
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -129,9 +145,10 @@ public final class BatchPreparedStatementExecutor {
             }
         };
         List<int[]> results = sqlExecutor.execute(inputGroups, callback);
-        return isNeedAccumulate(
+        int[] result = isNeedAccumulate(
                 schemaContexts.getDefaultSchemaContext().getSchema().getRules().stream().filter(rule -> rule instanceof DataNodeRoutedRule).collect(Collectors.toList()), sqlStatementContext)
                 ? accumulate(results) : results.get(0);
+        return chunkExpectedUpdateCounts.isEmpty() ? result : expandChunks(result);
     }
     
     private boolean isNeedAccumulate(final Collection<ShardingSphereRule> rules, final SQLStatementContext sqlStatementContext) {
@@ -140,29 +157,35 @@ public final class BatchPreparedStatementExecutor {
     
     private int[] accumulate(final List<int[]> results) {
         int[] result = new int[batchCount];
-        int count = 0;
+        Iterator<int[]> resultsIterator = results.iterator();
         for (InputGroup<StatementExecuteUnit> each : inputGroups) {
             for (StatementExecuteUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                int[] actualResult = resultsIterator.next();
+                if (null == batchExecutionUnit || null == actualResult) {
+                    continue;
                 }
-                for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
+                for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+                    result[entry.getKey()] += actualResult[entry.getValue()];
                 }
-                count++;
             }
         }
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final StatementExecuteUnit statementExecuteUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(statementExecuteUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(statementExecuteUnit.getExecutionUnit().getSqlUnit().getSql());
+    private int[] expandChunks(final int[] updateCounts) {
+        IntStream.Builder result = IntStream.builder();
+        for (int i = 0; i < updateCounts.length; i++) {
+            int[] expectedUpdateCounts = chunkExpectedUpdateCounts.get(i);
+            if (null == expectedUpdateCounts) {
+                result.add(updateCounts[i]);
+            } else if (Arrays.stream(expectedUpdateCounts).sum() == updateCounts[i]) {
+                Arrays.stream(expectedUpdateCounts).forEach(result::add);
+            } else {
+                Arrays.stream(expectedUpdateCounts).forEach(each -> result.add(Statement.SUCCESS_NO_INFO));
+            }
+        }
+        return result.build().toArray();
     }
     
     /**
@@ -194,9 +217,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final StatementExecuteUnit executeUnit) {
-        Optional<BatchExecutionUnit> batchExecutionUnit = batchExecutionUnits.stream().filter(each -> isSameDataSourceAndSQL(each, executeUnit)).findFirst();
-        Preconditions.checkState(batchExecutionUnit.isPresent());
-        return batchExecutionUnit.get().getParameterSets();
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executeUnit.getExecutionUnit());
+        Preconditions.checkState(null != batchExecutionUnit);
+        return batchExecutionUnit.getParameterSets();
     }
     
     /**
@@ -210,6 +233,7 @@ public final class BatchPreparedStatementExecutor {
         inputGroups.clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        chunkExpectedUpdateCounts.clear();
     }
     
     private void closeStatements() throws SQLException {
@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.PreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchInsertChunk;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.driver.jdbc.core.resultset.GeneratedKeysResultS
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSet;
 import org.apache.shardingsphere.driver.jdbc.core.statement.metadata.ShardingSphereParameterMetaData;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ExecutorConstant;
@@ -47,18 +49,18 @@ import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.Stateme
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult.StreamQueryResult;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
-import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
-import org.apache.shardingsphere.infra.route.DataNodeRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.DataNodeRoutedRule;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
 import org.apache.shardingsphere.sql.parser.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
 
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
@@ -71,6 +73,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * ShardingSphere prepared statement.
@@ -101,6 +104,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final BatchInsertChunk batchInsertChunk;
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private ExecutionContext executionContext;
@@ -141,6 +146,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         preparedStatementExecutor = new PreparedStatementExecutor(connection.getDataSourceMap(), schemaContexts, sqlExecutor);
         rawExecutor = new RawJDBCExecutor(schemaContexts.getDefaultSchemaContext().getRuntimeContext().getExecutorKernel(), connection.isHoldTransaction());
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(schemaContexts, sqlExecutor);
+        batchInsertChunk = createBatchInsertChunk();
+    }
+    
+    private BatchInsertChunk createBatchInsertChunk() {
+        int batchInsertChunkSize = schemaContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_CHUNK_SIZE);
+        return batchInsertChunkSize > 0 && BatchInsertChunk.isChunkable(sqlStatement, schemaContexts.getDefaultSchemaContext().getSchema().getDatabaseType())
+                ? new BatchInsertChunk((InsertStatement) sqlStatement, batchInsertChunkSize) : null;
     }
     
     @Override
@@ -148,15 +160,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         ResultSet result;
         try {
             clearPrevious();
-            executionContext = createExecutionContext();
-            List<QueryResult> queryResults;
-            if (ExecutorConstant.MANAGED_RESOURCE) {
-                Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
-                cacheStatements(inputGroups);
-                reply();
-                queryResults = preparedStatementExecutor.executeQuery(inputGroups);
-            } else {
-                queryResults = rawExecutor.executeQuery(getRawInputGroups(), new RawSQLExecutorCallback());
+            RouteContext routeContext = route();
+            setPaginationBoundaryQueryMinOffset(routeContext.getSqlStatementContext());
+            executionContext = createExecutionContext(routeContext);
+            List<QueryResult> queryResults = executeQueryResults();
+            if (isLocatingPaginationBoundary(executionContext.getSqlStatementContext())) {
+                mergeQuery(queryResults);
+                clearPrevious();
+                executionContext = createExecutionContext(routeContext);
+                queryResults = executeQueryResults();
             }
             MergedResult mergedResult = mergeQuery(queryResults);
             result = new ShardingSphereResultSet(statements.stream().map(this::getResultSet).collect(Collectors.toList()), mergedResult, this, executionContext);
@@ -167,6 +179,27 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         return result;
     }
     
+    private List<QueryResult> executeQueryResults() throws SQLException {
+        if (ExecutorConstant.MANAGED_RESOURCE) {
+            Collection<InputGroup<StatementExecuteUnit>> inputGroups = getInputGroups();
+            cacheStatements(inputGroups);
+            reply();
+            return preparedStatementExecutor.executeQuery(inputGroups);
+        }
+        return rawExecutor.executeQuery(getRawInputGroups(), new RawSQLExecutorCallback());
+    }
+    
+    private void setPaginationBoundaryQueryMinOffset(final SQLStatementContext<?> sqlStatementContext) {
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            long minOffset = schemaContexts.getProps().<Long>getValue(ConfigurationPropertyKey.PAGINATION_BOUNDARY_QUERY_MIN_OFFSET);
+            ((SelectStatementContext) sqlStatementContext).getPaginationContext().setBoundaryQueryMinOffset(minOffset);
+        }
+    }
+    
+    private boolean isLocatingPaginationBoundary(final SQLStatementContext<?> sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().isLocatingBoundary();
+    }
+    
     @Override
     public int executeUpdate() throws SQLException {
         try {
@@ -255,11 +288,17 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private ExecutionContext createExecutionContext() {
+        return createExecutionContext(route());
+    }
+    
+    private RouteContext route() {
+        return schemaContexts.getDefaultSchemaContext().getSchema().getKernelPipeline().newDataNodeRouter(schemaContexts.getProps()).route(sqlStatement, sql, getParameters());
+    }
+    
+    private ExecutionContext createExecutionContext(final RouteContext routeContext) {
         SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
-        RouteContext routeContext = 
-                new DataNodeRouter(schemaContext.getSchema().getMetaData(), schemaContexts.getProps(), schemaContext.getSchema().getRules()).route(sqlStatement, sql, getParameters());
-        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), 
-                schemaContexts.getProps(), schemaContext.getSchema().getRules()).rewrite(sql, new ArrayList<>(getParameters()), routeContext);
+        SQLRewriteResult sqlRewriteResult = schemaContext.getSchema().getKernelPipeline().newSQLRewriteEntry(schemaContexts.getProps())
+                .rewrite(sql, new ArrayList<>(getParameters()), routeContext, schemaContext.getRuntimeContext().getSqlRewriteTemplateCache());
         ExecutionContext result = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult));
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.add(generatedKey.getGeneratedValues().getLast()));
         logSQL(result);
@@ -268,8 +307,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
         SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
-        MergeEngine mergeEngine = new MergeEngine(schemaContext.getSchema().getDatabaseType(), 
-                schemaContext.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), schemaContexts.getProps(), schemaContext.getSchema().getRules());
+        MergeEngine mergeEngine = schemaContext.getSchema().getKernelPipeline().newMergeEngine(schemaContexts.getProps());
         return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
     }
     
@@ -326,18 +364,49 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
-            executionContext = createExecutionContext();
-            batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+            if (null == batchInsertChunk) {
+                executionContext = createExecutionContext();
+                batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
+            } else {
+                batchInsertChunk.add(getParameters());
+                if (batchInsertChunk.isFull()) {
+                    addBatchForInsertChunk();
+                }
+            }
         } finally {
             currentResultSet = null;
             clearParameters();
         }
     }
     
+    private void addBatchForInsertChunk() {
+        SchemaContext schemaContext = schemaContexts.getDefaultSchemaContext();
+        InsertStatement insertStatement = batchInsertChunk.getInsertStatement();
+        List<Object> parameters = batchInsertChunk.getParameters();
+        RouteContext routeContext = schemaContext.getSchema().getKernelPipeline().newDataNodeRouter(schemaContexts.getProps()).route(insertStatement, sql, new ArrayList<>(parameters));
+        SQLRewriteResult sqlRewriteResult = schemaContext.getSchema().getKernelPipeline().newSQLRewriteEntry(schemaContexts.getProps()).rewrite(sql, new ArrayList<>(parameters), routeContext);
+        executionContext = new ExecutionContext(routeContext.getSqlStatementContext(), ExecutionContextBuilder.build(schemaContext.getSchema().getMetaData(), sqlRewriteResult));
+        findGeneratedKey(executionContext).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
+        logSQL(executionContext);
+        batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits(), getExpectedUpdateCounts(routeContext, batchInsertChunk.size()));
+        batchInsertChunk.clear();
+    }
+    
+    private int[] getExpectedUpdateCounts(final RouteContext routeContext, final int rowsCount) {
+        Collection<Collection<DataNode>> originalDataNodes = routeContext.getRouteResult().getOriginalDataNodes();
+        return originalDataNodes.isEmpty() ? IntStream.generate(() -> 1).limit(rowsCount).toArray() : originalDataNodes.stream().mapToInt(Collection::size).toArray();
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         try {
             // TODO add raw SQL executor
+            if (null != batchInsertChunk && !batchInsertChunk.isEmpty()) {
+                addBatchForInsertChunk();
+            }
+            if (batchPreparedStatementExecutor.getBatchExecutionUnits().isEmpty()) {
+                return new int[0];
+            }
             initBatchPreparedStatementExecutor();
             return batchPreparedStatementExecutor.executeBatch(executionContext.getSqlStatementContext());
         } finally {
@@ -368,6 +437,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() throws SQLException {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        if (null != batchInsertChunk) {
+            batchInsertChunk.clear();
+        }
         clearParameters();
     }
     
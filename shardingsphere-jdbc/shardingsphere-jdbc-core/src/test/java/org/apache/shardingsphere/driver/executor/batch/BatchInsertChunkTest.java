@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BatchInsertChunkTest {
+    
+    @Test
+    public void assertIsChunkable() {
+        assertTrue(BatchInsertChunk.isChunkable(createInsertStatement(), DatabaseTypes.getActualDatabaseType("MySQL")));
+        assertTrue(BatchInsertChunk.isChunkable(createInsertStatement(), DatabaseTypes.getActualDatabaseType("H2")));
+        assertTrue(BatchInsertChunk.isChunkable(createInsertStatement(), DatabaseTypes.getActualDatabaseType("PostgreSQL")));
+    }
+    
+    @Test
+    public void assertIsNotChunkableWithoutMultiRowInsertSupported() {
+        assertFalse(BatchInsertChunk.isChunkable(createInsertStatement(), DatabaseTypes.getActualDatabaseType("Oracle")));
+    }
+    
+    @Test
+    public void assertIsNotChunkableForSelectStatement() {
+        assertFalse(BatchInsertChunk.isChunkable(new SelectStatement(), DatabaseTypes.getActualDatabaseType("MySQL")));
+    }
+    
+    @Test
+    public void assertIsNotChunkableForMultiValues() {
+        InsertStatement insertStatement = createInsertStatement();
+        insertStatement.getValues().add(insertStatement.getValues().iterator().next());
+        assertFalse(BatchInsertChunk.isChunkable(insertStatement, DatabaseTypes.getActualDatabaseType("MySQL")));
+    }
+    
+    @Test
+    public void assertIsNotChunkableWithOnDuplicateKeyColumns() {
+        InsertStatement insertStatement = createInsertStatement();
+        insertStatement.setOnDuplicateKeyColumns(new OnDuplicateKeyColumnsSegment(0, 0, Collections.emptyList()));
+        assertFalse(BatchInsertChunk.isChunkable(insertStatement, DatabaseTypes.getActualDatabaseType("MySQL")));
+    }
+    
+    @Test
+    public void assertAddUntilFull() {
+        BatchInsertChunk actual = new BatchInsertChunk(createInsertStatement(), 2);
+        assertTrue(actual.isEmpty());
+        actual.add(Arrays.asList(1, "init"));
+        assertFalse(actual.isFull());
+        actual.add(Arrays.asList(2, "init"));
+        assertTrue(actual.isFull());
+        assertThat(actual.size(), is(2));
+        actual.clear();
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertAddCopiesParameters() {
+        BatchInsertChunk actual = new BatchInsertChunk(createInsertStatement(), 2);
+        List<Object> parameters = new ArrayList<>(Arrays.asList(1, "init"));
+        actual.add(parameters);
+        parameters.clear();
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, "init")));
+    }
+    
+    @Test
+    public void assertGetInsertStatement() {
+        InsertStatement insertStatement = createInsertStatement();
+        BatchInsertChunk chunk = new BatchInsertChunk(insertStatement, 3);
+        chunk.add(Arrays.asList(1, "init"));
+        chunk.add(Arrays.asList(2, "init"));
+        chunk.add(Arrays.asList(3, "init"));
+        InsertStatement actual = chunk.getInsertStatement();
+        assertThat(actual.getTable(), sameInstance(insertStatement.getTable()));
+        assertThat(actual.getParameterCount(), is(6));
+        List<InsertValuesSegment> actualValues = new ArrayList<>(actual.getValues());
+        assertThat(actualValues.size(), is(3));
+        assertThat(actualValues.get(0), sameInstance(insertStatement.getValues().iterator().next()));
+        for (int i = 0; i < actualValues.size(); i++) {
+            assertThat(((ParameterMarkerExpressionSegment) actualValues.get(i).getValues().get(0)).getParameterMarkerIndex(), is(i * 2));
+            assertThat(((ParameterMarkerExpressionSegment) actualValues.get(i).getValues().get(1)).getParameterMarkerIndex(), is(i * 2 + 1));
+            assertThat(((LiteralExpressionSegment) actualValues.get(i).getValues().get(2)).getLiterals(), is((Object) 10));
+        }
+        assertThat(chunk.getParameters(), is(Arrays.<Object>asList(1, "init", 2, "init", 3, "init")));
+    }
+    
+    private InsertStatement createInsertStatement() {
+        InsertStatement result = new InsertStatement();
+        result.setTable(new SimpleTableSegment(12, 18, new IdentifierValue("t_order")));
+        List<ExpressionSegment> values = Arrays.asList(new ParameterMarkerExpressionSegment(28, 28, 0), new ParameterMarkerExpressionSegment(31, 31, 1), new LiteralExpressionSegment(34, 35, 10));
+        result.getValues().add(new InsertValuesSegment(27, 36, values));
+        result.setParameterCount(2);
+        return result;
+    }
+}
@@ -35,11 +35,17 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -126,23 +132,49 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchForChunks() throws SQLException {
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1)))), new int[] {1, 1, 1});
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1)))), new int[] {1, 1});
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {3, 1});
+        setExecuteGroups(Collections.singletonList(preparedStatement));
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[] {1, 1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        actual.addBatchForExecutionUnits(Arrays.asList(
+                new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(1)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(2)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(3)))));
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(batchExecutionUnits.get(0).getParameterSets(), is(Arrays.<List<Object>>asList(Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(batchExecutionUnits.get(0).getJdbcAndActualAddBatchCallTimesMap().keySet(), is((Set<Integer>) new LinkedHashSet<>(Arrays.asList(0, 1))));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(batchExecutionUnits.get(1).getParameterSets(), is(Arrays.<List<Object>>asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(batchExecutionUnits.get(1).getJdbcAndActualAddBatchCallTimesMap().keySet(), is((Set<Integer>) new LinkedHashSet<>(Arrays.asList(0, 2))));
+    }
+    
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements) {
         Collection<InputGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
         List<StatementExecuteUnit> preparedStatementExecuteUnits = new LinkedList<>();
         executeGroups.add(new InputGroup<>(preparedStatementExecuteUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             preparedStatementExecuteUnits.add(new StatementExecuteUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executeGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<InputGroup<StatementExecuteUnit>> inputGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("inputGroups");
         field.setAccessible(true);
         field.set(actual, inputGroups);
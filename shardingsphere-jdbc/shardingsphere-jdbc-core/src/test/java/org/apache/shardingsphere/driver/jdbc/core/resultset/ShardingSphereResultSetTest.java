@@ -56,6 +56,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingSphereResultSetTest {
@@ -99,6 +100,13 @@ public final class ShardingSphereResultSetTest {
         return result;
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        verify(mergeResultSet).close();
+        assertTrue(shardingSphereResultSet.isClosed());
+    }
+    
     @Test
     public void assertNext() throws SQLException {
         when(mergeResultSet.next()).thenReturn(true);
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.statement;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.common.base.AbstractSQLTest;
+import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.h2.tools.RunScript;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingSpherePreparedStatementBatchInsertChunkTest extends AbstractSQLTest {
+    
+    private static final String CONFIG_BATCH_INSERT_CHUNK = "config-sharding-batch-insert-chunk.yaml";
+    
+    private static final String INSERT_SQL = "INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (?, ?, ?, ?)";
+    
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM t_order_item WHERE user_id = ? AND order_id = ?";
+    
+    private static ShardingSphereDataSource shardingSphereDataSource;
+    
+    @BeforeClass
+    public static void initShardingSphereDataSource() throws SQLException, IOException {
+        shardingSphereDataSource = (ShardingSphereDataSource) YamlShardingSphereDataSourceFactory.createDataSource(
+                Maps.filterKeys(getDATABASE_TYPE_MAP().values().iterator().next(), Arrays.asList("jdbc_0", "jdbc_1")::contains), getFile());
+    }
+    
+    private static File getFile() {
+        return new File(Preconditions.checkNotNull(ShardingSpherePreparedStatementBatchInsertChunkTest.class.getClassLoader().getResource(CONFIG_BATCH_INSERT_CHUNK),
+                "file resource `%s` must not be null.", CONFIG_BATCH_INSERT_CHUNK).getFile());
+    }
+    
+    @Before
+    public void initTable() throws SQLException {
+        try (Connection connection = shardingSphereDataSource.getConnection()) {
+            RunScript.execute(connection, new InputStreamReader(AbstractSQLTest.class.getClassLoader().getResourceAsStream("jdbc_data.sql")));
+        }
+    }
+    
+    @AfterClass
+    public static void clear() {
+        shardingSphereDataSource.close();
+        shardingSphereDataSource = null;
+    }
+    
+    @Test
+    public void assertExecuteBatchInChunks() throws SQLException, ReflectiveOperationException {
+        try (
+                Connection connection = shardingSphereDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 1; i <= 7; i++) {
+                addBatch(preparedStatement, i);
+            }
+            assertThat(getAddedChunksCount(preparedStatement), is(2));
+            int[] actual = preparedStatement.executeBatch();
+            assertThat(actual.length, is(7));
+            for (int each : actual) {
+                assertThat(each, is(1));
+            }
+            assertThat(getAddedChunksCount(preparedStatement), is(0));
+        }
+        for (int i = 1; i <= 7; i++) {
+            assertInserted(i);
+        }
+    }
+    
+    @Test
+    public void assertExecuteBatchWithoutFullChunk() throws SQLException, ReflectiveOperationException {
+        try (
+                Connection connection = shardingSphereDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL)) {
+            addBatch(preparedStatement, 1);
+            addBatch(preparedStatement, 2);
+            assertThat(getAddedChunksCount(preparedStatement), is(0));
+            assertThat(preparedStatement.executeBatch(), is(new int[]{1, 1}));
+        }
+        assertInserted(1);
+        assertInserted(2);
+    }
+    
+    @Test
+    public void assertClearBatchWithPendingChunk() throws SQLException, ReflectiveOperationException {
+        try (
+                Connection connection = shardingSphereDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 1; i <= 4; i++) {
+                addBatch(preparedStatement, i);
+            }
+            assertThat(getAddedChunksCount(preparedStatement), is(1));
+            preparedStatement.clearBatch();
+            assertThat(getAddedChunksCount(preparedStatement), is(0));
+            assertThat(preparedStatement.executeBatch().length, is(0));
+        }
+    }
+    
+    private void addBatch(final PreparedStatement preparedStatement, final int id) throws SQLException {
+        preparedStatement.setInt(1, id);
+        preparedStatement.setInt(2, id);
+        preparedStatement.setInt(3, id);
+        preparedStatement.setString(4, "BATCH");
+        preparedStatement.addBatch();
+    }
+    
+    private int getAddedChunksCount(final PreparedStatement preparedStatement) throws ReflectiveOperationException {
+        Field executorField = ShardingSpherePreparedStatement.class.getDeclaredField("batchPreparedStatementExecutor");
+        executorField.setAccessible(true);
+        Field batchCountField = BatchPreparedStatementExecutor.class.getDeclaredField("batchCount");
+        batchCountField.setAccessible(true);
+        return (int) batchCountField.get(executorField.get(preparedStatement));
+    }
+    
+    private void assertInserted(final int id) throws SQLException {
+        try (
+                Connection connection = shardingSphereDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(COUNT_SQL)) {
+            preparedStatement.setInt(1, id);
+            preparedStatement.setInt(2, id);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(1));
+            }
+        }
+    }
+}
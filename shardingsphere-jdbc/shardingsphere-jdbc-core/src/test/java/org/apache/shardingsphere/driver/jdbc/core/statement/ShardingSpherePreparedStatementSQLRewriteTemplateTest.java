@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.statement;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import org.apache.shardingsphere.driver.api.yaml.YamlShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.common.base.AbstractSQLTest;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCache;
+import org.h2.tools.RunScript;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingSpherePreparedStatementSQLRewriteTemplateTest extends AbstractSQLTest {
+    
+    private static final String CONFIG_SQL_REWRITE_TEMPLATE = "config-sharding-sql-rewrite-template.yaml";
+    
+    private static final String SELECT_SQL = "SELECT item_id, user_id, status FROM t_order_item WHERE order_id = ? AND user_id = ?";
+    
+    private static ShardingSphereDataSource shardingSphereDataSource;
+    
+    @BeforeClass
+    public static void initShardingSphereDataSource() throws SQLException, IOException {
+        shardingSphereDataSource = (ShardingSphereDataSource) YamlShardingSphereDataSourceFactory.createDataSource(
+                Maps.filterKeys(getDATABASE_TYPE_MAP().values().iterator().next(), Arrays.asList("jdbc_0", "jdbc_1")::contains), getFile());
+    }
+    
+    private static File getFile() {
+        return new File(Preconditions.checkNotNull(ShardingSpherePreparedStatementSQLRewriteTemplateTest.class.getClassLoader().getResource(CONFIG_SQL_REWRITE_TEMPLATE),
+                "file resource `%s` must not be null.", CONFIG_SQL_REWRITE_TEMPLATE).getFile());
+    }
+    
+    @Before
+    public void initTable() throws SQLException {
+        try (Connection connection = shardingSphereDataSource.getConnection()) {
+            RunScript.execute(connection, new InputStreamReader(AbstractSQLTest.class.getClassLoader().getResourceAsStream("jdbc_data.sql")));
+        }
+    }
+    
+    @AfterClass
+    public static void clear() {
+        shardingSphereDataSource.close();
+        shardingSphereDataSource = null;
+    }
+    
+    @Test
+    public void assertExecuteQueryWithSQLRewriteTemplate() throws SQLException {
+        SQLRewriteTemplateCache sqlRewriteTemplateCache = shardingSphereDataSource.getSchemaContexts().getDefaultSchemaContext().getRuntimeContext().getSqlRewriteTemplateCache();
+        sqlRewriteTemplateCache.clear();
+        try (
+                Connection connection = shardingSphereDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(SELECT_SQL)) {
+            for (int userId : new int[]{10, 11, 10}) {
+                preparedStatement.setInt(1, userId * 100);
+                preparedStatement.setInt(2, userId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getInt(2), is(userId));
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getInt(2), is(userId));
+                    assertFalse(resultSet.next());
+                }
+                assertTrue(sqlRewriteTemplateCache.get(SELECT_SQL, true).isPresent());
+            }
+        }
+    }
+}
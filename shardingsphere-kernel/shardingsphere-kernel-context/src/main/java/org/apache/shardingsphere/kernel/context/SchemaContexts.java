@@ -22,6 +22,8 @@ import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.kernel.context.runtime.ParseCacheOptionBuilder;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -44,10 +46,13 @@ public final class SchemaContexts implements SchemaContextsAware {
     
     private final boolean isCircuitBreak;
     
+    private final ParseCacheOption parseCacheOption;
+    
     public SchemaContexts() {
         props = new ConfigurationProperties(new Properties());
         authentication = new Authentication();
         isCircuitBreak = false;
+        parseCacheOption = ParseCacheOptionBuilder.build(props);
     }
     
     public SchemaContexts(final Map<String, SchemaContext> schemaContexts, final ConfigurationProperties props, final Authentication authentication) {
@@ -55,6 +60,7 @@ public final class SchemaContexts implements SchemaContextsAware {
         this.props = props;
         this.authentication = authentication;
         isCircuitBreak = false;
+        parseCacheOption = ParseCacheOptionBuilder.build(props);
     }
     
     public SchemaContexts(final Map<String, SchemaContext> schemaContexts, final ConfigurationProperties props, final Authentication authentication, final boolean isCircuitBreak) {
@@ -62,6 +68,7 @@ public final class SchemaContexts implements SchemaContextsAware {
         this.props = props;
         this.authentication = authentication;
         this.isCircuitBreak = isCircuitBreak;
+        parseCacheOption = ParseCacheOptionBuilder.build(props);
     }
     
     /**
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.kernel.context;
 
 import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
 
 import java.util.Map;
 
@@ -41,6 +42,13 @@ public interface SchemaContextsAware extends AutoCloseable {
      */
     ConfigurationProperties getProps();
     
+    /**
+     * Get parse cache option built from configuration properties.
+     * 
+     * @return parse cache option
+     */
+    ParseCacheOption getParseCacheOption();
+    
     /**
      * Get authentication.
      * 
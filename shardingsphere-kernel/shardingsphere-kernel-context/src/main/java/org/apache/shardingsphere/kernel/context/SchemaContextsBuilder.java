@@ -31,9 +31,11 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.RuleSchemaMetaDataLoader;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.kernel.context.runtime.CachedDatabaseMetaData;
+import org.apache.shardingsphere.kernel.context.runtime.ParseCacheOptionBuilder;
 import org.apache.shardingsphere.kernel.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.kernel.context.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.rdl.parser.engine.ShardingSphereSQLParserEngineFactory;
@@ -79,7 +81,8 @@ public final class SchemaContextsBuilder {
         this.configurations = configurations;
         this.authentication = authentication;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorKernel = new ExecutorKernel(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+        executorKernel = new ExecutorKernel(
+                this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), this.props.<Boolean>getValue(ConfigurationPropertyKey.EXECUTOR_VIRTUAL_THREAD_ENABLED));
         log(configurations, props);
     }
     
@@ -100,7 +103,9 @@ public final class SchemaContextsBuilder {
     private SchemaContext createSchemaContext(final String schemaName) throws SQLException {
         Map<String, DataSource> dataSources = this.dataSources.get(schemaName);
         RuntimeContext runtimeContext = new RuntimeContext(createCachedDatabaseMetaData(dataSources),
-                executorKernel, ShardingSphereSQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType)), createShardingTransactionManagerEngine(dataSources));
+                executorKernel, ShardingSphereSQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType), 
+                ParseCacheOptionBuilder.build(props)), createShardingTransactionManagerEngine(dataSources),
+                new SQLRewriteTemplateCache(props.<Long>getValue(ConfigurationPropertyKey.SQL_REWRITE_TEMPLATE_CACHE_SIZE)));
         return new SchemaContext(schemaName, createShardingSphereSchema(schemaName), runtimeContext);
     }
     
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.kernel.context.runtime;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheWeigher;
+
+/**
+ * Parse cache option builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseCacheOptionBuilder {
+    
+    /**
+     * Build parse cache option.
+     * 
+     * @param props configuration properties
+     * @return parse cache option
+     */
+    public static ParseCacheOption build(final ConfigurationProperties props) {
+        return new ParseCacheOption(props.<String>getValue(ConfigurationPropertyKey.SQL_PARSE_CACHE_TYPE).toUpperCase(),
+                ParseCacheWeigher.valueOf(props.<String>getValue(ConfigurationPropertyKey.SQL_PARSE_CACHE_WEIGHER).toUpperCase()),
+                props.<Long>getValue(ConfigurationPropertyKey.SQL_PARSE_CACHE_MAXIMUM_WEIGHT), props.<Boolean>getValue(ConfigurationPropertyKey.SQL_PARSE_NORMALIZED_CACHE_ENABLED),
+                props.<Boolean>getValue(ConfigurationPropertyKey.SQL_PARSE_FAST_PATH_ENABLED), props.<Long>getValue(ConfigurationPropertyKey.SQL_PARSE_DFA_CACHE_CLEAR_PARSE_COUNT));
+    }
+}
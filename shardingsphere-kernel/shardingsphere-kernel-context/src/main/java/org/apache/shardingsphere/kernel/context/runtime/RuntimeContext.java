@@ -20,6 +20,7 @@ package org.apache.shardingsphere.kernel.context.runtime;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.rdl.parser.engine.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 
@@ -37,4 +38,6 @@ public final class RuntimeContext {
     private final ShardingSphereSQLParserEngine sqlParserEngine;
     
     private final ShardingTransactionManagerEngine transactionManagerEngine;
+    
+    private final SQLRewriteTemplateCache sqlRewriteTemplateCache;
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.kernel.context.schema;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.route.DataNodeRouter;
+import org.apache.shardingsphere.infra.route.decorator.RouteDecorator;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Kernel pipeline.
+ * 
+ * <p>Route decorators, SQL rewrite context decorators and result process engines are resolved once from rules of schema,
+ * and shared by all the routers, rewrite entries and merge engines created by the pipeline.</p>
+ */
+public final class KernelPipeline {
+    
+    private final DatabaseType databaseType;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final Map<ShardingSphereRule, RouteDecorator> routeDecorators;
+    
+    private final Map<ShardingSphereRule, SQLRewriteContextDecorator> sqlRewriteContextDecorators;
+    
+    private final Map<ShardingSphereRule, ResultProcessEngine> resultProcessEngines;
+    
+    public KernelPipeline(final DatabaseType databaseType, final Collection<ShardingSphereRule> rules, final ShardingSphereMetaData metaData) {
+        this.databaseType = databaseType;
+        this.metaData = metaData;
+        routeDecorators = Collections.unmodifiableMap(DataNodeRouter.getRouteDecorators(rules));
+        sqlRewriteContextDecorators = Collections.unmodifiableMap(SQLRewriteEntry.getSQLRewriteContextDecorators(rules));
+        resultProcessEngines = Collections.unmodifiableMap(MergeEngine.getResultProcessEngines(rules));
+    }
+    
+    /**
+     * New data node router.
+     * 
+     * @param props configuration properties
+     * @return data node router
+     */
+    public DataNodeRouter newDataNodeRouter(final ConfigurationProperties props) {
+        return new DataNodeRouter(metaData, props, routeDecorators);
+    }
+    
+    /**
+     * New SQL rewrite entry.
+     * 
+     * @param props configuration properties
+     * @return SQL rewrite entry
+     */
+    public SQLRewriteEntry newSQLRewriteEntry(final ConfigurationProperties props) {
+        return new SQLRewriteEntry(metaData.getSchema().getConfiguredSchemaMetaData(), props, sqlRewriteContextDecorators);
+    }
+    
+    /**
+     * New merge engine.
+     * 
+     * @param props configuration properties
+     * @return merge engine
+     */
+    public MergeEngine newMergeEngine(final ConfigurationProperties props) {
+        return new MergeEngine(databaseType, metaData.getSchema().getConfiguredSchemaMetaData(), props, resultProcessEngines);
+    }
+}
@@ -46,6 +46,8 @@ public final class ShardingSphereSchema {
     
     private final ShardingSphereMetaData metaData;
     
+    private final KernelPipeline kernelPipeline;
+    
     public ShardingSphereSchema(final DatabaseType databaseType, final Collection<RuleConfiguration> configurations, final Collection<ShardingSphereRule> rules, 
                                 final Map<String, DataSource> dataSourceMap, final ShardingSphereMetaData shardingSphereMetaData) {
         this.databaseType = databaseType;
@@ -53,6 +55,7 @@ public final class ShardingSphereSchema {
         this.rules.addAll(rules);
         this.dataSources.putAll(dataSourceMap);
         metaData = shardingSphereMetaData;
+        kernelPipeline = new KernelPipeline(databaseType, this.rules, shardingSphereMetaData);
     }
     
     /**
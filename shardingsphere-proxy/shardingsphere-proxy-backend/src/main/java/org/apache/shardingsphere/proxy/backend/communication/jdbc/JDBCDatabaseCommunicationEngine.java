@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicati
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStatus;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.exception.TableModifyInTransactionException;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
@@ -72,6 +74,10 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
+    private boolean rawRowEnabled;
+    
     public JDBCDatabaseCommunicationEngine(final String sql, final BackendConnection backendConnection, final SQLExecuteEngine sqlExecuteEngine) {
         this.sql = sql;
         connection = backendConnection;
@@ -128,6 +134,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         if (refreshStrategy.isPresent()) {
             refreshStrategy.get().refreshMetaData(schema.getSchema().getMetaData(),
                     schema.getSchema().getDatabaseType(), schema.getSchema().getDataSources(), sqlStatementContext, this::loadTableMetaData);
+            schema.getRuntimeContext().getSqlRewriteTemplateCache().clear();
+            PreparedStatementCache.getInstance().invalidate();
             MetaDataCallback.getInstance().run(schema.getName(), schema.getSchema().getMetaData().getSchema());
         }
     }
@@ -144,6 +152,9 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return response;
         }
         mergedResult = mergeQuery(sqlStatementContext, ((QueryResponse) response).getQueryResults());
+        connection.add(mergedResult);
+        columnTypes = getColumnTypes(((QueryResponse) response).getQueryHeaders());
+        rawRowEnabled = isRawRowEnabled((QueryResponse) response);
         return response;
     }
     
@@ -159,11 +170,14 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     }
     
     private MergedResult mergeQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        MergeEngine mergeEngine = new MergeEngine(schema.getSchema().getDatabaseType(), 
-                schema.getSchema().getMetaData().getSchema().getConfiguredSchemaMetaData(), ProxySchemaContexts.getInstance().getSchemaContexts().getProps(), schema.getSchema().getRules());
+        MergeEngine mergeEngine = schema.getSchema().getKernelPipeline().newMergeEngine(ProxySchemaContexts.getInstance().getSchemaContexts().getProps());
         return mergeEngine.merge(queryResults, sqlStatementContext);
     }
     
+    private boolean isRawRowEnabled(final QueryResponse queryResponse) throws SQLException {
+        return !queryResponse.getQueryResults().isEmpty() && queryResponse.getQueryHeaders().size() == queryResponse.getQueryResults().get(0).getColumnCount();
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return null != mergedResult && mergedResult.next();
@@ -171,12 +185,17 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public QueryData getQueryData() throws SQLException {
-        List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
-        List<Object> row = new ArrayList<>(queryHeaders.size());
-        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+        if (rawRowEnabled) {
+            Optional<RawRow> rawRow = mergedResult.getRawRow();
+            if (rawRow.isPresent()) {
+                return new QueryData(columnTypes, rawRow.get().getValues(), rawRow.get().getRawData());
+            }
+        }
+        List<Object> row = new ArrayList<>(columnTypes.size());
+        for (int columnIndex = 1; columnIndex <= columnTypes.size(); columnIndex++) {
             row.add(mergedResult.getValue(columnIndex, Object.class));
         }
-        return new QueryData(getColumnTypes(queryHeaders), row);
+        return new QueryData(columnTypes, row);
     }
     
     private List<Integer> getColumnTypes(final List<QueryHeader> queryHeaders) {
@@ -20,31 +20,44 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.CompletionOrderResults;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.JDBCExecutionConnection;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.masterslave.route.engine.impl.MasterVisitedManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Backend connection.
@@ -59,6 +72,12 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     
     private static final int POSTGRESQL_MEMORY_FETCH_ONE_ROW_A_TIME = 1;
     
+    private static final long PENDING_EXECUTE_RESULTS_TIMEOUT_SECONDS = 10L;
+    
+    private static final Collection<String> BROKEN_CONNECTION_SQL_STATES = Arrays.asList("0A000", "57P01", "57P02", "57P03", "01002", "JZ0C0", "JZ0C1");
+    
+    private static final Collection<Integer> BROKEN_CONNECTION_ERROR_CODES = Arrays.asList(500150, 2399);
+    
     private volatile SchemaContext schema;
     
     private TransactionType transactionType;
@@ -75,8 +94,16 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
+    private final Collection<Connection> cachedStatementConnections = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<QueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<CompletionOrderResults<?>> pendingExecuteResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
     @Getter
@@ -201,17 +228,81 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     @Override
     public PreparedStatement createStorageResource(final String sql, final List<Object> parameters, 
                                                    final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        PreparedStatement result = option.isReturnGeneratedKeys()
+        Optional<PreparedStatement> cachedStatement = borrowCachedStatement(sql, connection, option);
+        PreparedStatement result = cachedStatement.isPresent() ? cachedStatement.get() : option.isReturnGeneratedKeys()
                 ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
         for (int i = 0; i < parameters.size(); i++) {
             result.setObject(i + 1, parameters.get(i));
         }
         if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
             setFetchSize(result);
+        } else if (cachedStatement.isPresent()) {
+            result.setFetchSize(0);
         }
         return result;
     }
     
+    private Optional<PreparedStatement> borrowCachedStatement(final String sql, final Connection connection, final StatementOption option) throws SQLException {
+        if (TransactionType.LOCAL != transactionType) {
+            return Optional.empty();
+        }
+        int cacheSize = ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+        if (cacheSize <= 0) {
+            return Optional.empty();
+        }
+        Optional<PreparedStatement> result = PreparedStatementCache.getInstance().borrow(connection, sql, option.isReturnGeneratedKeys(), cacheSize);
+        if (result.isPresent()) {
+            cachedStatementConnections.add(connection);
+        }
+        return result;
+    }
+    
+    /**
+     * Evict cached prepared statement which throws SQL exception.
+     * 
+     * <p>
+     * Cached prepared statements are executed on physical connections, so their exceptions are not checked by pooled connections of HikariCP.
+     * All statements cached for the physical connection are evicted, and the pooled connection is evicted from its data source if the exception means that the connection is broken.
+     * </p>
+     * 
+     * @param statement statement which throws SQL exception
+     * @param cause SQL exception thrown by statement
+     */
+    public void evictCachedStatement(final Statement statement, final SQLException cause) {
+        Optional<Connection> physicalConnection = PreparedStatementCache.getInstance().evict(statement);
+        if (!physicalConnection.isPresent() || !isConnectionBroken(cause)) {
+            return;
+        }
+        Collection<Entry<String, Connection>> connections;
+        synchronized (cachedConnections) {
+            connections = new ArrayList<>(cachedConnections.entries());
+        }
+        for (Entry<String, Connection> entry : connections) {
+            DataSource dataSource = schema.getSchema().getDataSources().get(entry.getKey());
+            if (dataSource instanceof HikariDataSource && isPooledBy(entry.getValue(), physicalConnection.get())) {
+                ((HikariDataSource) dataSource).evictConnection(entry.getValue());
+            }
+        }
+    }
+    
+    private boolean isConnectionBroken(final SQLException ex) {
+        for (SQLException each = ex; null != each; each = each.getNextException()) {
+            String sqlState = each.getSQLState();
+            if (null != sqlState && (sqlState.startsWith("08") || BROKEN_CONNECTION_SQL_STATES.contains(sqlState)) || BROKEN_CONNECTION_ERROR_CODES.contains(each.getErrorCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isPooledBy(final Connection pooledConnection, final Connection physicalConnection) {
+        try {
+            return physicalConnection == pooledConnection.unwrap(Connection.class);
+        } catch (final SQLException ignored) {
+            return false;
+        }
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         if (schema.getSchema().getDatabaseType() instanceof MySQLDatabaseType) {
             statement.setFetchSize(MYSQL_MEMORY_FETCH_ONE_ROW_A_TIME);
@@ -256,6 +347,33 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
+    /**
+     * Add query result.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final QueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
+    /**
+     * Add execute results which may be still executing.
+     *
+     * @param executeResults execute results to be waited before closing
+     */
+    public void add(final CompletionOrderResults<?> executeResults) {
+        pendingExecuteResults.add(executeResults);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -270,6 +388,9 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(awaitPendingExecuteResults(forceClose));
+        exceptions.addAll(closeMergedResults());
+        exceptions.addAll(closeQueryResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose || TransactionType.BASE == transactionType) {
@@ -279,6 +400,69 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> awaitPendingExecuteResults(final boolean forceClose) {
+        Collection<SQLException> result = new LinkedList<>();
+        if (pendingExecuteResults.isEmpty()) {
+            return result;
+        }
+        if (!awaitPendingExecuteResults(forceClose ? 0L : PENDING_EXECUTE_RESULTS_TIMEOUT_SECONDS)) {
+            result.addAll(cancelStatements());
+            if (!awaitPendingExecuteResults(PENDING_EXECUTE_RESULTS_TIMEOUT_SECONDS)) {
+                log.warn("Execute results are still pending after statements cancelled, close them anyway.");
+            }
+        }
+        pendingExecuteResults.clear();
+        return result;
+    }
+    
+    private boolean awaitPendingExecuteResults(final long timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        for (CompletionOrderResults<?> each : pendingExecuteResults) {
+            if (!each.awaitCompletion(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<SQLException> cancelStatements() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Statement each : cachedStatements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -296,7 +480,9 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
             try {
-                each.close();
+                if (!PreparedStatementCache.getInstance().giveBack(each)) {
+                    each.close();
+                }
             } catch (final SQLException ex) {
                 result.add(ex);
             }
@@ -309,7 +495,7 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
         Collection<SQLException> result = new LinkedList<>();
         for (Connection each : cachedConnections.values()) {
             try {
-                if (forceRollback && stateHandler.isInTransaction()) {
+                if (forceRollback && stateHandler.isInTransaction() || isCommitStateDirty(each)) {
                     each.rollback();
                 }
                 each.close();
@@ -318,10 +504,15 @@ public final class BackendConnection implements JDBCExecutionConnection, AutoClo
             }
         }
         cachedConnections.clear();
+        cachedStatementConnections.clear();
         methodInvocations.clear();
         return result;
     }
     
+    private boolean isCommitStateDirty(final Connection connection) throws SQLException {
+        return cachedStatementConnections.contains(connection) && !connection.getAutoCommit();
+    }
+    
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
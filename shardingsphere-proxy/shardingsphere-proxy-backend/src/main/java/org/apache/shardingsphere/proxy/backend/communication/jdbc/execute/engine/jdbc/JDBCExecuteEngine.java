@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.control.panel.spi.engine.SingletonFacadeEngine;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.CompletionOrderResults;
 import org.apache.shardingsphere.infra.executor.kernel.InputGroup;
 import org.apache.shardingsphere.infra.executor.sql.ExecutorConstant;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -39,14 +42,17 @@ import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendExecutor;
 import org.apache.shardingsphere.proxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
 
 import java.sql.SQLException;
@@ -87,12 +93,23 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         boolean isReturnGeneratedKeys = sqlStatementContext.getSqlStatement() instanceof InsertStatement;
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         Collection<ExecuteResult> executeResults;
-        if (ExecutorConstant.MANAGED_RESOURCE) {
+        if (isExecuteByNativeProtocol(executionContext)) {
+            executeResults = MySQLBackendExecutor.getInstance().execute(sqlStatementContext, backendConnection.getSchema(), executionContext.getExecutionUnits());
+            for (ExecuteResult each : executeResults) {
+                if (each instanceof ExecuteQueryResult) {
+                    backendConnection.add(((ExecuteQueryResult) each).getQueryResult());
+                }
+            }
+        } else if (ExecutorConstant.MANAGED_RESOURCE) {
             ExecuteGroupEngine executeGroupEngine = jdbcExecutorWrapper.getExecuteGroupEngine(backendConnection, new StatementOption(isReturnGeneratedKeys));
             Collection<InputGroup<StatementExecuteUnit>> inputGroups = executeGroupEngine.generate(executionContext.getExecutionUnits());
-            executeResults = sqlExecutor.execute(inputGroups,
-                    new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true),
-                    new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+            ProxySQLExecutorCallback firstCallback = new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true);
+            ProxySQLExecutorCallback callback = new ProxySQLExecutorCallback(sqlStatementContext, backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false);
+            executeResults = isExecuteInCompletionOrder(sqlStatementContext)
+                    ? sqlExecutor.executeInCompletionOrder(inputGroups, firstCallback, callback) : sqlExecutor.execute(inputGroups, firstCallback, callback);
+            if (executeResults instanceof CompletionOrderResults) {
+                backendConnection.add((CompletionOrderResults<?>) executeResults);
+            }
         } else {
             int maxConnectionsSizePerQuery = ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
             Collection<InputGroup<RawSQLExecuteUnit>> inputGroups = new RawExecuteGroupEngine(
@@ -120,7 +137,23 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         }
     }
     
+    private boolean isExecuteByNativeProtocol(final ExecutionContext executionContext) {
+        SQLStatement sqlStatement = executionContext.getSqlStatementContext().getSqlStatement();
+        return ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_PROTOCOL_ENABLED)
+                && backendConnection.getSchema().getSchema().getDatabaseType() instanceof MySQLDatabaseType && !backendConnection.getStateHandler().isInTransaction()
+                && (sqlStatement instanceof SelectStatement || sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement)
+                && MySQLBackendExecutor.getInstance().isSupported(backendConnection.getSchema(), executionContext.getExecutionUnits());
+    }
+    
+    private boolean isExecuteInCompletionOrder(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext.getSqlStatement() instanceof SelectStatement
+                && ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_COMPLETION_ORDER_ENABLED);
+    }
+    
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResult> executeResults) {
+        if (executeResults instanceof CompletionOrderResults) {
+            return new QueryResponse(queryHeaders, Lists.transform((List<ExecuteResult>) executeResults, each -> ((ExecuteQueryResult) each).getQueryResult()));
+        }
         QueryResponse result = new QueryResponse(queryHeaders);
         for (ExecuteResult each : executeResults) {
             result.getQueryResults().add(((ExecuteQueryResult) each).getQueryResult());
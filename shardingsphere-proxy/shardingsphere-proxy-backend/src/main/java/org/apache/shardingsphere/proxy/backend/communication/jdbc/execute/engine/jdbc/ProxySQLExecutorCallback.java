@@ -29,15 +29,11 @@ import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.queryresult.S
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryHeaderBuilder;
-import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
-import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -79,37 +75,22 @@ public final class ProxySQLExecutorCallback extends DefaultSQLExecutorCallback<E
     
     private ExecuteResult executeSQL(final Statement statement, final String sql, final ConnectionMode connectionMode, final boolean withMetadata) throws SQLException {
         backendConnection.add(statement);
-        if (jdbcExecutorWrapper.execute(statement, sql, isReturnGeneratedKeys)) {
+        boolean isQuery;
+        try {
+            isQuery = jdbcExecutorWrapper.execute(statement, sql, isReturnGeneratedKeys);
+        } catch (final SQLException ex) {
+            backendConnection.evictCachedStatement(statement, ex);
+            throw ex;
+        }
+        if (isQuery) {
             ResultSet resultSet = statement.getResultSet();
             backendConnection.add(resultSet);
-            return new ExecuteQueryResult(withMetadata ? getQueryHeaders(sqlStatementContext, resultSet.getMetaData()) : null, createQueryResult(resultSet, connectionMode));
+            List<QueryHeader> queryHeaders = withMetadata ? QueryHeaderBuilder.build(sqlStatementContext, resultSet.getMetaData(), backendConnection.getSchema()) : null;
+            return new ExecuteQueryResult(queryHeaders, createQueryResult(resultSet, connectionMode));
         }
         return new ExecuteUpdateResult(statement.getUpdateCount(), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0L);
     }
     
-    private List<QueryHeader> getQueryHeaders(final SQLStatementContext sqlStatementContext, final ResultSetMetaData resultSetMetaData) throws SQLException {
-        if (sqlStatementContext instanceof SelectStatementContext) {
-            return getQueryHeaders(((SelectStatementContext) sqlStatementContext).getProjectionsContext(), resultSetMetaData);
-        }
-        return getQueryHeaders(resultSetMetaData);
-    }
-    
-    private List<QueryHeader> getQueryHeaders(final ProjectionsContext projectionsContext, final ResultSetMetaData resultSetMetaData) throws SQLException {
-        List<QueryHeader> result = new LinkedList<>();
-        for (int columnIndex = 1; columnIndex <= projectionsContext.getExpandProjections().size(); columnIndex++) {
-            result.add(QueryHeaderBuilder.build(projectionsContext, resultSetMetaData, backendConnection.getSchema(), columnIndex));
-        }
-        return result;
-    }
-    
-    private List<QueryHeader> getQueryHeaders(final ResultSetMetaData resultSetMetaData) throws SQLException {
-        List<QueryHeader> result = new LinkedList<>();
-        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
-            result.add(QueryHeaderBuilder.build(resultSetMetaData, backendConnection.getSchema(), columnIndex));
-        }
-        return result;
-    }
-    
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
         return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
     }
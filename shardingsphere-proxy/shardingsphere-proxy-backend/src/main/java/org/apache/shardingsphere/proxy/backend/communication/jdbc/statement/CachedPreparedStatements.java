@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Prepared statements cached for one physical connection in LRU order.
+ */
+final class CachedPreparedStatements {
+    
+    private final int maxSize;
+    
+    private final Map<StatementKey, PreparedStatement> statements;
+    
+    private final Set<PreparedStatement> borrowedStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    private long version;
+    
+    CachedPreparedStatements(final int maxSize, final long version) {
+        this.maxSize = maxSize;
+        this.version = version;
+        statements = new LinkedHashMap<>(maxSize, 0.75f, true);
+    }
+    
+    /**
+     * Borrow prepared statement.
+     * 
+     * @param connection physical connection which statements are cached for
+     * @param sql SQL
+     * @param returnGeneratedKeys return generated keys or not
+     * @param currentVersion current version of cache, statements prepared in other versions are invalid
+     * @return borrowed prepared statement, empty if the cached one is borrowed already
+     * @throws SQLException SQL exception
+     */
+    synchronized Optional<PreparedStatement> borrow(final Connection connection, final String sql, final boolean returnGeneratedKeys, final long currentVersion) throws SQLException {
+        if (version != currentVersion) {
+            closeIdleStatements();
+            statements.clear();
+            version = currentVersion;
+        }
+        StatementKey key = new StatementKey(sql, returnGeneratedKeys);
+        PreparedStatement result = statements.get(key);
+        if (null != result && borrowedStatements.contains(result)) {
+            return Optional.empty();
+        }
+        if (null == result || result.isClosed()) {
+            result = returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+            statements.put(key, result);
+            evictIfNecessary();
+        }
+        borrowedStatements.add(result);
+        return Optional.of(result);
+    }
+    
+    private void evictIfNecessary() {
+        Iterator<Entry<StatementKey, PreparedStatement>> iterator = statements.entrySet().iterator();
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            PreparedStatement each = iterator.next().getValue();
+            if (!borrowedStatements.contains(each)) {
+                iterator.remove();
+                closeQuietly(each);
+            }
+        }
+    }
+    
+    /**
+     * Give back prepared statement.
+     * 
+     * <p>Parameters of statement are cleared if it is still cached, otherwise it is closed.</p>
+     * 
+     * @param statement statement to be given back
+     * @return statement is borrowed from this cache or not
+     * @throws SQLException SQL exception
+     */
+    synchronized boolean giveBack(final Statement statement) throws SQLException {
+        if (!borrowedStatements.remove(statement)) {
+            return false;
+        }
+        PreparedStatement preparedStatement = (PreparedStatement) statement;
+        if (statements.containsValue(preparedStatement)) {
+            preparedStatement.clearParameters();
+        } else {
+            preparedStatement.close();
+        }
+        return true;
+    }
+    
+    /**
+     * Judge whether statement is borrowed from this cache.
+     * 
+     * @param statement statement
+     * @return statement is borrowed or not
+     */
+    synchronized boolean isBorrowed(final Statement statement) {
+        return borrowedStatements.contains(statement);
+    }
+    
+    /**
+     * Close all idle statements, borrowed statements are closed when they are given back.
+     */
+    synchronized void close() {
+        closeIdleStatements();
+        statements.clear();
+    }
+    
+    private void closeIdleStatements() {
+        for (PreparedStatement each : statements.values()) {
+            if (!borrowedStatements.contains(each)) {
+                closeQuietly(each);
+            }
+        }
+    }
+    
+    private void closeQuietly(final PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class StatementKey {
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.zaxxer.hikari.pool.ProxyConnection;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prepared statement cache of backend connections.
+ * 
+ * <p>
+ * Statements are prepared on physical connections unwrapped from pooled connections, so that they are not closed when pooled connections are given back to pool,
+ * and can be reused by following executions of the same rewritten SQL on the same physical connection.
+ * Only connections of HikariCP are unwrapped to physical connections, connections of other pools may be unwrapped to themselves, so they are not cached.
+ * As statements are executed bypassing pooled connections, statements of physical connection are evicted once one of them throws SQL exception,
+ * and the pooled connection is evicted by its backend connection if the exception means that the connection is broken.
+ * Cached statements reference their physical connections, so entries are invalidated explicitly rather than collected:
+ * entries of closed physical connections are invalidated when a new physical connection is cached, which happens after pool retires or evicts connections,
+ * and entries of physical connections which are not used for a while are discarded.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedStatementCache {
+    
+    private static final PreparedStatementCache INSTANCE = new PreparedStatementCache();
+    
+    private static final long EXPIRE_MINUTES = 30L;
+    
+    private final Cache<Connection, CachedPreparedStatements> connections = CacheBuilder.newBuilder()
+            .expireAfterAccess(EXPIRE_MINUTES, TimeUnit.MINUTES).removalListener(PreparedStatementCache::onRemoval).build();
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Get prepared statement cache instance.
+     * 
+     * @return instance of prepared statement cache
+     */
+    public static PreparedStatementCache getInstance() {
+        return INSTANCE;
+    }
+    
+    private static void onRemoval(final RemovalNotification<Connection, CachedPreparedStatements> notification) {
+        if (null != notification.getValue()) {
+            notification.getValue().close();
+        }
+    }
+    
+    /**
+     * Borrow prepared statement.
+     * 
+     * @param connection pooled connection
+     * @param sql SQL
+     * @param returnGeneratedKeys return generated keys or not
+     * @param maxSize max size of prepared statements cached for each physical connection
+     * @return borrowed prepared statement, empty if pooled connection cannot be unwrapped to physical connection
+     *         or the statement of the same SQL is being used on the physical connection
+     * @throws SQLException SQL exception
+     */
+    public Optional<PreparedStatement> borrow(final Connection connection, final String sql, final boolean returnGeneratedKeys, final int maxSize) throws SQLException {
+        if (!(connection instanceof ProxyConnection)) {
+            return Optional.empty();
+        }
+        Connection physicalConnection = connection.unwrap(Connection.class);
+        long currentVersion = version.get();
+        CachedPreparedStatements cachedPreparedStatements = connections.getIfPresent(physicalConnection);
+        if (null == cachedPreparedStatements) {
+            invalidateClosedConnections();
+            try {
+                cachedPreparedStatements = connections.get(physicalConnection, () -> new CachedPreparedStatements(maxSize, currentVersion));
+            } catch (final ExecutionException ex) {
+                throw new SQLException(ex.getCause());
+            }
+        }
+        return cachedPreparedStatements.borrow(physicalConnection, sql, returnGeneratedKeys, currentVersion);
+    }
+    
+    private void invalidateClosedConnections() {
+        for (Connection each : connections.asMap().keySet()) {
+            if (isClosed(each)) {
+                connections.invalidate(each);
+            }
+        }
+    }
+    
+    private boolean isClosed(final Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (final SQLException ignored) {
+            return true;
+        }
+    }
+    
+    /**
+     * Give back statement.
+     * 
+     * @param statement statement to be given back
+     * @return statement is borrowed from cache or not, statements which are not borrowed from cache should be closed by caller
+     * @throws SQLException SQL exception
+     */
+    public boolean giveBack(final Statement statement) throws SQLException {
+        if (!(statement instanceof PreparedStatement) || 0 == connections.size()) {
+            return false;
+        }
+        CachedPreparedStatements cachedPreparedStatements = connections.getIfPresent(statement.getConnection());
+        return null != cachedPreparedStatements && cachedPreparedStatements.giveBack(statement);
+    }
+    
+    /**
+     * Evict all statements cached for physical connection of statement, which is used after statement throws SQL exception.
+     * 
+     * <p>Idle statements are closed, borrowed statements are not given back to cache any more and should be closed by caller.</p>
+     * 
+     * @param statement statement which throws SQL exception
+     * @return evicted physical connection, empty if statement is not borrowed from cache
+     */
+    public Optional<Connection> evict(final Statement statement) {
+        if (!(statement instanceof PreparedStatement) || 0 == connections.size()) {
+            return Optional.empty();
+        }
+        Connection physicalConnection;
+        try {
+            physicalConnection = statement.getConnection();
+        } catch (final SQLException ignored) {
+            return Optional.empty();
+        }
+        CachedPreparedStatements cachedPreparedStatements = connections.getIfPresent(physicalConnection);
+        if (null == cachedPreparedStatements || !cachedPreparedStatements.isBorrowed(statement)) {
+            return Optional.empty();
+        }
+        connections.invalidate(physicalConnection);
+        return Optional.of(physicalConnection);
+    }
+    
+    /**
+     * Invalidate all cached statements.
+     * 
+     * <p>Statements are closed lazily when their physical connections are used again.</p>
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Character set of MySQL backend, which is negotiated by handshake and used to decode text values.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MySQLBackendCharacterSet {
+    
+    UTF8MB4(45, StandardCharsets.UTF_8),
+    
+    LATIN1(8, StandardCharsets.ISO_8859_1),
+    
+    ASCII(11, StandardCharsets.US_ASCII),
+    
+    GBK(28, Charset.forName("GBK")),
+    
+    BIG5(1, Charset.forName("Big5"));
+    
+    private static final String CHARACTER_ENCODING = "characterEncoding";
+    
+    private static final Pattern CHARACTER_ENCODING_PATTERN = Pattern.compile("[?&;]" + CHARACTER_ENCODING + "=([^&;]+)", Pattern.CASE_INSENSITIVE);
+    
+    private final int id;
+    
+    private final Charset charset;
+    
+    /**
+     * Find character set of data source, which is configured by property or URL parameter {@code characterEncoding} of MySQL Connector/J.
+     * 
+     * @param dataSource data source
+     * @return character set, UTF8MB4 if not configured and empty if not supported
+     */
+    public static Optional<MySQLBackendCharacterSet> find(final HikariDataSource dataSource) {
+        String characterEncoding = null == dataSource.getDataSourceProperties() ? null : dataSource.getDataSourceProperties().getProperty(CHARACTER_ENCODING);
+        if (null == characterEncoding && null != dataSource.getJdbcUrl()) {
+            Matcher matcher = CHARACTER_ENCODING_PATTERN.matcher(dataSource.getJdbcUrl());
+            characterEncoding = matcher.find() ? matcher.group(1) : null;
+        }
+        if (null == characterEncoding) {
+            return Optional.of(UTF8MB4);
+        }
+        Charset charset;
+        try {
+            charset = Charset.forName(characterEncoding);
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+        for (MySQLBackendCharacterSet each : values()) {
+            if (each.charset.equals(charset)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+}
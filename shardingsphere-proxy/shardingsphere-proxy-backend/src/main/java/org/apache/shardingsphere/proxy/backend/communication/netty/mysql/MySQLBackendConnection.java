@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.infra.database.metadata.dialect.MySQLDataSourceMetaData;
+
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection of MySQL backend.
+ * 
+ * <p>Connection is leased to one statement at a time by connection pool, and it is given back to connection pool when the response is fully read.</p>
+ */
+public final class MySQLBackendConnection {
+    
+    private final Channel channel;
+    
+    private final Queue<Promise<Object>> pendingResponses = new ConcurrentLinkedQueue<>();
+    
+    MySQLBackendConnection(final Channel channel, final MySQLBackendConnectionPool connectionPool) {
+        this.channel = channel;
+        channel.pipeline().addLast(new ResponseHandler(this, connectionPool));
+    }
+    
+    /**
+     * Connect to MySQL and authenticate asynchronously.
+     * 
+     * @param eventLoop event loop of connection
+     * @param connectionPool connection pool which connection belongs to
+     * @return future of connection, which is completed when authenticated
+     */
+    public static Future<MySQLBackendConnection> connect(final EventLoop eventLoop, final MySQLBackendConnectionPool connectionPool) {
+        HikariDataSource dataSource = connectionPool.getDataSource();
+        MySQLDataSourceMetaData dataSourceMetaData = connectionPool.getDataSourceMetaData();
+        MySQLBackendCharacterSet characterSet = connectionPool.getCharacterSet();
+        Promise<Void> authResultCallback = eventLoop.newPromise();
+        ChannelFuture channelFuture = new Bootstrap()
+                .group(eventLoop)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) dataSource.getConnectionTimeout())
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel socketChannel) {
+                        socketChannel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                        socketChannel.pipeline().addLast(new MySQLBackendPacketDecoder(characterSet.getCharset()));
+                        socketChannel.pipeline().addLast(new MySQLBackendNegotiateHandler(
+                                dataSource.getUsername(), dataSource.getPassword(), dataSourceMetaData.getCatalog(), characterSet.getId(), authResultCallback));
+                    }
+                }).connect(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort());
+        channelFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                authResultCallback.tryFailure(future.cause());
+            }
+        });
+        ScheduledFuture<?> timeoutFuture = eventLoop.schedule(() -> authResultCallback.tryFailure(
+                new SQLException(String.format("Connect to MySQL backend `%s:%s` timeout.", dataSourceMetaData.getHostName(), dataSourceMetaData.getPort()))),
+                dataSource.getConnectionTimeout(), TimeUnit.MILLISECONDS);
+        Promise<MySQLBackendConnection> result = eventLoop.newPromise();
+        authResultCallback.addListener(future -> {
+            timeoutFuture.cancel(false);
+            if (future.isSuccess()) {
+                result.setSuccess(new MySQLBackendConnection(channelFuture.channel(), connectionPool));
+                return;
+            }
+            channelFuture.channel().close();
+            result.setFailure(future.cause() instanceof SQLException ? future.cause() : new SQLException(future.cause()));
+        });
+        return result;
+    }
+    
+    /**
+     * Execute SQL.
+     * 
+     * @param sql SQL
+     * @return future of response, which is OK packet, ERR packet or query result with rows streaming
+     */
+    public Future<Object> execute(final String sql) {
+        Promise<Object> result = channel.eventLoop().newPromise();
+        if (!channel.isActive()) {
+            result.setFailure(new SQLException("Connection of MySQL backend is closed."));
+            return result;
+        }
+        pendingResponses.add(result);
+        channel.writeAndFlush(new MySQLComQueryPacket(sql)).addListener(future -> {
+            if (!future.isSuccess()) {
+                result.tryFailure(future.cause());
+                channel.close();
+            }
+        });
+        return result;
+    }
+    
+    EventLoop getEventLoop() {
+        return channel.eventLoop();
+    }
+    
+    ChannelFuture closeFuture() {
+        return channel.closeFuture();
+    }
+    
+    /**
+     * Judge whether connection is active.
+     * 
+     * @return connection is active or not
+     */
+    public boolean isActive() {
+        return channel.isActive();
+    }
+    
+    /**
+     * Close connection.
+     */
+    public void close() {
+        channel.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ResponseHandler extends ChannelInboundHandlerAdapter {
+        
+        private final MySQLBackendConnection connection;
+        
+        private final MySQLBackendConnectionPool connectionPool;
+        
+        private MySQLBackendQueryResult streamingQueryResult;
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (null != streamingQueryResult) {
+                readRow(ctx, msg);
+                return;
+            }
+            if (msg instanceof MySQLBackendQueryResult) {
+                streamingQueryResult = (MySQLBackendQueryResult) msg;
+            }
+            Promise<Object> promise = connection.pendingResponses.poll();
+            if (null != promise) {
+                promise.trySuccess(msg);
+            }
+            if (null == streamingQueryResult) {
+                connectionPool.giveBack(connection);
+            }
+        }
+        
+        private void readRow(final ChannelHandlerContext ctx, final Object msg) {
+            if (msg instanceof MySQLBackendRow) {
+                streamingQueryResult.addRow((MySQLBackendRow) msg);
+                return;
+            }
+            if (msg instanceof MySQLErrPacket) {
+                MySQLErrPacket errPacket = (MySQLErrPacket) msg;
+                streamingQueryResult.fail(new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode()));
+            } else {
+                streamingQueryResult.finish();
+            }
+            streamingQueryResult = null;
+            ctx.channel().config().setAutoRead(true);
+            connectionPool.giveBack(connection);
+        }
+        
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) {
+            fail(new SQLException("Connection of MySQL backend is closed."));
+            ctx.fireChannelInactive();
+        }
+        
+        @Override
+        public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+            fail(cause instanceof SQLException ? (SQLException) cause : new SQLException(cause));
+            ctx.channel().close();
+        }
+        
+        private void fail(final SQLException cause) {
+            if (null != streamingQueryResult) {
+                streamingQueryResult.fail(cause);
+                streamingQueryResult = null;
+            }
+            Promise<Object> each;
+            while (null != (each = connection.pendingResponses.poll())) {
+                each.tryFailure(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.database.metadata.dialect.MySQLDataSourceMetaData;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Connection pool of MySQL backend.
+ * 
+ * <p>
+ * Each connection is leased to one statement until its response is fully read, so that a slow result never blocks other statements.
+ * Connections are created asynchronously if no idle connection is available, at most max size connections are opened besides JDBC connections of data source,
+ * and borrowers beyond it wait for connections given back until connection timeout of data source.
+ * At most max idle size connections are kept after given back.
+ * </p>
+ * 
+ * <p>
+ * Data source is not supported if its authentication method is not supported by MySQL backend client,
+ * which is detected by connecting asynchronously when data source is judged supported for the first time, it is not supported until the connection succeeds.
+ * Connecting failed for other reasons is retried after a back-off, which doubles after each failure.
+ * Data source configured with SSL by {@code useSSL}, {@code requireSSL} or {@code sslMode} of MySQL Connector/J is not supported either,
+ * because MySQL backend client does not negotiate SSL.
+ * </p>
+ */
+public final class MySQLBackendConnectionPool {
+    
+    private static final Pattern SSL_PROPERTY_PATTERN = Pattern.compile("[?&;](useSSL|requireSSL|sslMode)=([^&;]+)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Collection<String> SSL_PROPERTY_NAMES = Arrays.asList("usessl", "requiressl", "sslmode");
+    
+    private static final String SSL_MODE = "sslmode";
+    
+    private static final String SSL_MODE_DISABLED = "DISABLED";
+    
+    private static final long MIN_AUTHENTICATION_PROBE_BACKOFF_MILLIS = 1000L;
+    
+    private static final long MAX_AUTHENTICATION_PROBE_BACKOFF_MILLIS = 60000L;
+    
+    private final EventLoopGroup eventLoopGroup;
+    
+    @Getter
+    private final HikariDataSource dataSource;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final MySQLDataSourceMetaData dataSourceMetaData;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final MySQLBackendCharacterSet characterSet;
+    
+    private final boolean sslConfigured;
+    
+    private final int maxSize;
+    
+    private final int maxIdleSize;
+    
+    private final BiFunction<EventLoop, MySQLBackendConnectionPool, Future<MySQLBackendConnection>> connector;
+    
+    private final Queue<MySQLBackendConnection> idleConnections = new LinkedList<>();
+    
+    private final Queue<Promise<MySQLBackendConnection>> pendingBorrowers = new LinkedList<>();
+    
+    private final AtomicBoolean authenticationProbing = new AtomicBoolean();
+    
+    private int size;
+    
+    private boolean closed;
+    
+    private volatile Boolean authenticationSupported;
+    
+    private volatile long nextAuthenticationProbeMillis;
+    
+    private long authenticationProbeBackoffMillis = MIN_AUTHENTICATION_PROBE_BACKOFF_MILLIS;
+    
+    public MySQLBackendConnectionPool(final EventLoopGroup eventLoopGroup, final HikariDataSource dataSource, final int maxSize, final int maxIdleSize) {
+        this(eventLoopGroup, dataSource, maxSize, maxIdleSize, MySQLBackendConnection::connect);
+    }
+    
+    MySQLBackendConnectionPool(final EventLoopGroup eventLoopGroup, final HikariDataSource dataSource, final int maxSize, final int maxIdleSize,
+                               final BiFunction<EventLoop, MySQLBackendConnectionPool, Future<MySQLBackendConnection>> connector) {
+        this.eventLoopGroup = eventLoopGroup;
+        this.dataSource = dataSource;
+        dataSourceMetaData = new MySQLDataSourceMetaData(dataSource.getJdbcUrl());
+        characterSet = MySQLBackendCharacterSet.find(dataSource).orElse(null);
+        sslConfigured = isSSLConfigured(dataSource);
+        this.maxSize = Math.max(1, maxSize);
+        this.maxIdleSize = Math.min(maxIdleSize, this.maxSize);
+        this.connector = connector;
+    }
+    
+    private static boolean isSSLConfigured(final HikariDataSource dataSource) {
+        Map<String, String> sslProperties = new HashMap<>();
+        if (null != dataSource.getJdbcUrl()) {
+            Matcher matcher = SSL_PROPERTY_PATTERN.matcher(dataSource.getJdbcUrl());
+            while (matcher.find()) {
+                sslProperties.put(matcher.group(1).toLowerCase(), matcher.group(2));
+            }
+        }
+        if (null != dataSource.getDataSourceProperties()) {
+            for (String each : dataSource.getDataSourceProperties().stringPropertyNames()) {
+                if (SSL_PROPERTY_NAMES.contains(each.toLowerCase())) {
+                    sslProperties.put(each.toLowerCase(), dataSource.getDataSourceProperties().getProperty(each));
+                }
+            }
+        }
+        for (Map.Entry<String, String> entry : sslProperties.entrySet()) {
+            if (SSL_MODE.equals(entry.getKey()) ? !SSL_MODE_DISABLED.equalsIgnoreCase(entry.getValue()) : Boolean.parseBoolean(entry.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether data source is supported, which never blocks for connecting.
+     * 
+     * @return data source is supported or not
+     */
+    public boolean isSupported() {
+        return null != characterSet && !sslConfigured && isAuthenticationSupported();
+    }
+    
+    private boolean isAuthenticationSupported() {
+        if (null == authenticationSupported) {
+            probeAuthentication();
+        }
+        return Boolean.TRUE.equals(authenticationSupported);
+    }
+    
+    private void probeAuthentication() {
+        if (System.currentTimeMillis() < nextAuthenticationProbeMillis || !authenticationProbing.compareAndSet(false, true)) {
+            return;
+        }
+        borrow().addListener((FutureListener<MySQLBackendConnection>) future -> {
+            if (future.isSuccess()) {
+                authenticationSupported = true;
+                giveBack(future.getNow());
+            } else {
+                nextAuthenticationProbeMillis = System.currentTimeMillis() + authenticationProbeBackoffMillis;
+                authenticationProbeBackoffMillis = Math.min(authenticationProbeBackoffMillis * 2, MAX_AUTHENTICATION_PROBE_BACKOFF_MILLIS);
+            }
+            authenticationProbing.set(false);
+        });
+    }
+    
+    /**
+     * Borrow connection, which is given back automatically when response of statement is fully read.
+     * 
+     * @return future of connection
+     */
+    public Future<MySQLBackendConnection> borrow() {
+        Promise<MySQLBackendConnection> result = eventLoopGroup.next().newPromise();
+        synchronized (this) {
+            if (closed) {
+                return result.setFailure(new SQLException("Connection pool of MySQL backend is closed."));
+            }
+            MySQLBackendConnection idleConnection = pollIdleConnection();
+            if (null != idleConnection) {
+                return idleConnection.getEventLoop().newSucceededFuture(idleConnection);
+            }
+            if (size >= maxSize) {
+                pendingBorrowers.add(result);
+                scheduleBorrowTimeout(result);
+                return result;
+            }
+            size++;
+        }
+        connect(result);
+        return result;
+    }
+    
+    private MySQLBackendConnection pollIdleConnection() {
+        MySQLBackendConnection result;
+        while (null != (result = idleConnections.poll())) {
+            if (result.isActive()) {
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    private void scheduleBorrowTimeout(final Promise<MySQLBackendConnection> borrower) {
+        eventLoopGroup.next().schedule(() -> {
+            if (borrower.tryFailure(new SQLException(String.format("Connection of MySQL backend `%s:%s` is not available, request timed out after %sms.",
+                    dataSourceMetaData.getHostName(), dataSourceMetaData.getPort(), dataSource.getConnectionTimeout())))) {
+                synchronized (this) {
+                    pendingBorrowers.remove(borrower);
+                }
+            }
+        }, dataSource.getConnectionTimeout(), TimeUnit.MILLISECONDS);
+    }
+    
+    private void connect(final Promise<MySQLBackendConnection> borrower) {
+        connector.apply(eventLoopGroup.next(), this).addListener((FutureListener<MySQLBackendConnection>) future -> {
+            if (!future.isSuccess()) {
+                if (future.cause() instanceof SQLFeatureNotSupportedException) {
+                    authenticationSupported = false;
+                }
+                release();
+                borrower.tryFailure(future.cause());
+                return;
+            }
+            authenticationSupported = true;
+            MySQLBackendConnection connection = future.getNow();
+            connection.closeFuture().addListener(each -> release());
+            if (!borrower.trySuccess(connection)) {
+                giveBack(connection);
+            }
+        });
+    }
+    
+    private void release() {
+        Promise<MySQLBackendConnection> borrower;
+        synchronized (this) {
+            size--;
+            borrower = closed ? null : pendingBorrowers.poll();
+            if (null != borrower) {
+                size++;
+            }
+        }
+        if (null != borrower) {
+            connect(borrower);
+        }
+    }
+    
+    void giveBack(final MySQLBackendConnection connection) {
+        while (connection.isActive()) {
+            Promise<MySQLBackendConnection> borrower;
+            synchronized (this) {
+                borrower = closed ? null : pendingBorrowers.poll();
+                if (null == borrower) {
+                    if (closed || idleConnections.size() >= maxIdleSize) {
+                        break;
+                    }
+                    idleConnections.add(connection);
+                    return;
+                }
+            }
+            if (borrower.trySuccess(connection)) {
+                return;
+            }
+        }
+        connection.close();
+    }
+    
+    /**
+     * Close idle connections and fail pending borrowers, leased connections are closed when they are given back.
+     */
+    public void close() {
+        Collection<MySQLBackendConnection> connections;
+        Collection<Promise<MySQLBackendConnection>> borrowers;
+        synchronized (this) {
+            closed = true;
+            connections = new ArrayList<>(idleConnections);
+            idleConnections.clear();
+            borrowers = new ArrayList<>(pendingBorrowers);
+            pendingBorrowers.clear();
+        }
+        connections.forEach(MySQLBackendConnection::close);
+        SQLException cause = new SQLException("Connection pool of MySQL backend is closed.");
+        borrowers.forEach(each -> each.tryFailure(cause));
+    }
+}
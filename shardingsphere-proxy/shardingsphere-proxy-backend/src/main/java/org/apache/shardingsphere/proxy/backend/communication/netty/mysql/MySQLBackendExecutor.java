@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.ExecuteQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.update.ExecuteUpdateResult;
+import org.apache.shardingsphere.kernel.context.SchemaContext;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryHeaderBuilder;
+import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor of MySQL backend, which sends SQL to MySQL by native protocol instead of JDBC.
+ * 
+ * <p>Responses are completed by callbacks of backend connections, so no executor thread is held for each execution unit.
+ * Execute results are completed as soon as query headers are read, rows of query results are streamed afterwards.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLBackendExecutor {
+    
+    private static final MySQLBackendExecutor INSTANCE = new MySQLBackendExecutor();
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("ShardingSphere-MySQL-Backend", true));
+    
+    private final Map<String, MySQLBackendConnectionPool> connectionPools = new ConcurrentHashMap<>();
+    
+    /**
+     * Get MySQL backend executor instance.
+     * 
+     * @return instance of MySQL backend executor
+     */
+    public static MySQLBackendExecutor getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Judge whether execution units are supported.
+     * 
+     * <p>Only parameterless SQL on data sources of HikariCP with supported character set and authentication method and without SSL configured is supported,
+     * others are executed by JDBC.</p>
+     * 
+     * @param schema schema
+     * @param executionUnits execution units
+     * @return execution units are supported or not
+     */
+    public boolean isSupported(final SchemaContext schema, final Collection<ExecutionUnit> executionUnits) {
+        for (ExecutionUnit each : executionUnits) {
+            if (!each.getSqlUnit().getParameters().isEmpty() || !(schema.getSchema().getDataSources().get(each.getDataSourceName()) instanceof HikariDataSource)
+                    || !getConnectionPool(schema, each.getDataSourceName()).isSupported()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Execute and wait for execute results.
+     * 
+     * <p>Only headers of query results are waited, rows are streamed when query results are iterated.</p>
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param schema schema
+     * @param executionUnits execution units
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    public Collection<ExecuteResult> execute(final SQLStatementContext<?> sqlStatementContext, final SchemaContext schema, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        Future<Collection<ExecuteResult>> future = executeAsync(sqlStatementContext, schema, executionUnits);
+        try {
+            future.await();
+        } catch (final InterruptedException ex) {
+            future.addListener(each -> closeQueryResults(future));
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        if (future.isSuccess()) {
+            return future.getNow();
+        }
+        throw future.cause() instanceof SQLException ? (SQLException) future.cause() : new SQLException(future.cause());
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param schema schema
+     * @param executionUnits execution units
+     * @return future of execute results, which is completed when responses of all execution units are received
+     */
+    public Future<Collection<ExecuteResult>> executeAsync(final SQLStatementContext<?> sqlStatementContext, final SchemaContext schema, final Collection<ExecutionUnit> executionUnits) {
+        Promise<Collection<ExecuteResult>> result = eventLoopGroup.next().newPromise();
+        if (executionUnits.isEmpty()) {
+            return result.setSuccess(Collections.emptyList());
+        }
+        Object[] responses = new Object[executionUnits.size()];
+        AtomicInteger remaining = new AtomicInteger(responses.length);
+        int index = 0;
+        for (ExecutionUnit each : executionUnits) {
+            int responseIndex = index++;
+            executeUnit(getConnectionPool(schema, each.getDataSourceName()), each.getSqlUnit().getSql()).addListener(future -> {
+                responses[responseIndex] = future.isSuccess() ? future.getNow() : future.cause();
+                if (0 == remaining.decrementAndGet()) {
+                    complete(result, sqlStatementContext, schema, responses);
+                }
+            });
+        }
+        return result;
+    }
+    
+    private Future<Object> executeUnit(final MySQLBackendConnectionPool connectionPool, final String sql) {
+        Promise<Object> result = eventLoopGroup.next().newPromise();
+        connectionPool.borrow().addListener((FutureListener<MySQLBackendConnection>) connectionFuture -> {
+            if (!connectionFuture.isSuccess()) {
+                result.tryFailure(connectionFuture.cause());
+                return;
+            }
+            connectionFuture.getNow().execute(sql).addListener((FutureListener<Object>) responseFuture -> {
+                if (responseFuture.isSuccess()) {
+                    result.trySuccess(responseFuture.getNow());
+                } else {
+                    result.tryFailure(responseFuture.cause());
+                }
+            });
+        });
+        return result;
+    }
+    
+    private void complete(final Promise<Collection<ExecuteResult>> promise, final SQLStatementContext<?> sqlStatementContext, final SchemaContext schema, final Object[] responses) {
+        try {
+            promise.setSuccess(createExecuteResults(sqlStatementContext, schema, responses));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            for (Object each : responses) {
+                if (each instanceof MySQLBackendQueryResult) {
+                    ((MySQLBackendQueryResult) each).close();
+                }
+            }
+            promise.setFailure(ex);
+        }
+    }
+    
+    private Collection<ExecuteResult> createExecuteResults(final SQLStatementContext<?> sqlStatementContext, final SchemaContext schema, final Object[] responses) throws SQLException {
+        Collection<ExecuteResult> result = new ArrayList<>(responses.length);
+        List<QueryHeader> queryHeaders = null;
+        for (Object each : responses) {
+            if (each instanceof Throwable) {
+                throw each instanceof SQLException ? (SQLException) each : new SQLException((Throwable) each);
+            }
+            if (each instanceof MySQLErrPacket) {
+                MySQLErrPacket errPacket = (MySQLErrPacket) each;
+                throw new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+            }
+            if (each instanceof MySQLOKPacket) {
+                result.add(new ExecuteUpdateResult((int) ((MySQLOKPacket) each).getAffectedRows(), ((MySQLOKPacket) each).getLastInsertId()));
+                continue;
+            }
+            MySQLBackendQueryResult queryResult = (MySQLBackendQueryResult) each;
+            if (null == queryHeaders) {
+                queryHeaders = QueryHeaderBuilder.build(sqlStatementContext, queryResult.getResultSetMetaData(), schema);
+            }
+            result.add(new ExecuteQueryResult(queryHeaders, queryResult));
+        }
+        return result;
+    }
+    
+    private void closeQueryResults(final Future<Collection<ExecuteResult>> future) {
+        if (!future.isSuccess()) {
+            return;
+        }
+        for (ExecuteResult each : future.getNow()) {
+            if (each instanceof ExecuteQueryResult) {
+                ((MySQLBackendQueryResult) ((ExecuteQueryResult) each).getQueryResult()).close();
+            }
+        }
+    }
+    
+    private MySQLBackendConnectionPool getConnectionPool(final SchemaContext schema, final String dataSourceName) {
+        DataSource dataSource = schema.getSchema().getDataSources().get(dataSourceName);
+        String key = schema.getName() + "." + dataSourceName;
+        MySQLBackendConnectionPool result = connectionPools.get(key);
+        if (null != result && result.getDataSource() == dataSource) {
+            return result;
+        }
+        synchronized (connectionPools) {
+            result = connectionPools.get(key);
+            if (null == result || result.getDataSource() != dataSource) {
+                if (null != result) {
+                    result.close();
+                }
+                ConfigurationProperties props = ProxySchemaContexts.getInstance().getSchemaContexts().getProps();
+                int maxSize = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_PROTOCOL_MAX_CONNECTIONS_SIZE);
+                int maxIdleSize = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_NATIVE_PROTOCOL_CONNECTIONS_SIZE);
+                result = new MySQLBackendConnectionPool(eventLoopGroup, (HikariDataSource) dataSource, maxSize, maxIdleSize);
+                connectionPools.put(key, result);
+            }
+            return result;
+        }
+    }
+}
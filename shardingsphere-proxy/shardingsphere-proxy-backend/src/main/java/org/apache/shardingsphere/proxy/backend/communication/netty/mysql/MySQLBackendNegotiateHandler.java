@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Negotiate handler for MySQL backend, only mysql_native_password authentication method is supported.
+ * 
+ * <p>Auth switch request to mysql_native_password is answered with scramble of new auth plugin data,
+ * auth switch request to other methods such as caching_sha2_password fails authentication with {@link SQLFeatureNotSupportedException}.
+ * SSL is not negotiated, so data sources configured with SSL are never connected by it and are executed by JDBC instead.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendNegotiateHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final String database;
+    
+    private final int characterSet;
+    
+    private final Promise<Void> authResultCallback;
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof MySQLHandshakePacket) {
+            MySQLHandshakePacket handshake = (MySQLHandshakePacket) msg;
+            MySQLHandshakeResponse41Packet handshakeResponsePacket = new MySQLHandshakeResponse41Packet(1, MAX_PACKET_SIZE, characterSet, username);
+            handshakeResponsePacket.setAuthResponse(generateAuthResponse(handshake.getAuthPluginData().getAuthPluginData()));
+            handshakeResponsePacket.setCapabilityFlags(generateClientCapability());
+            if (null != database && !database.isEmpty()) {
+                handshakeResponsePacket.setDatabase(database);
+            }
+            handshakeResponsePacket.setAuthPluginName(MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION);
+            ctx.channel().writeAndFlush(handshakeResponsePacket);
+            return;
+        }
+        if (msg instanceof MySQLAuthSwitchRequestPacket) {
+            switchAuthenticationMethod(ctx, (MySQLAuthSwitchRequestPacket) msg);
+            return;
+        }
+        if (msg instanceof MySQLOKPacket) {
+            ctx.channel().pipeline().remove(this);
+            authResultCallback.trySuccess(null);
+            return;
+        }
+        MySQLErrPacket error = (MySQLErrPacket) msg;
+        authResultCallback.tryFailure(new SQLException(error.getErrorMessage(), error.getSqlState(), error.getErrorCode()));
+        ctx.channel().close();
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+        authResultCallback.tryFailure(cause);
+        ctx.channel().close();
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        authResultCallback.tryFailure(new SQLException("Connection of MySQL backend is closed before authenticated."));
+        ctx.fireChannelInactive();
+    }
+    
+    private void switchAuthenticationMethod(final ChannelHandlerContext ctx, final MySQLAuthSwitchRequestPacket authSwitchRequest) {
+        if (!MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName().equals(authSwitchRequest.getAuthPluginName())) {
+            authResultCallback.tryFailure(new SQLFeatureNotSupportedException(String.format(
+                    "Authentication method `%s` is not supported by MySQL backend client, please use mysql_native_password.", authSwitchRequest.getAuthPluginName())));
+            ctx.channel().close();
+            return;
+        }
+        byte[] authResponse = generateAuthResponse(authSwitchRequest.getAuthPluginData().getAuthPluginData());
+        ctx.channel().writeAndFlush(new MySQLAuthSwitchResponsePacket(authSwitchRequest.getSequenceId() + 1, authResponse));
+    }
+    
+    private int generateClientCapability() {
+        return MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_LONG_PASSWORD, MySQLCapabilityFlag.CLIENT_FOUND_ROWS, MySQLCapabilityFlag.CLIENT_LONG_FLAG,
+            MySQLCapabilityFlag.CLIENT_PROTOCOL_41, MySQLCapabilityFlag.CLIENT_TRANSACTIONS, MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION, MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH);
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private byte[] generateAuthResponse(final byte[] authPluginData) {
+        if (null == password || password.isEmpty()) {
+            return new byte[0];
+        }
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+        byte[] passwordSha1 = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+        byte[] passwordDoubleSha1 = messageDigest.digest(passwordSha1);
+        messageDigest.update(authPluginData);
+        messageDigest.update(passwordDoubleSha1);
+        byte[] result = messageDigest.digest();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) (result[i] ^ passwordSha1[i]);
+        }
+        return result;
+    }
+}
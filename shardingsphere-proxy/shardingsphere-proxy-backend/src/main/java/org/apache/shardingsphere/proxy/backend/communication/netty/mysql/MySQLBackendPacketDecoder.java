@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet decoder for MySQL backend.
+ * 
+ * <p>Decodes handshake packet first, then auth switch request packets until authentication result, then one response for each command, which is OK packet, ERR packet or query result.
+ * Query result is decoded as soon as its column definitions are read, followed by its rows and an EOF packet or ERR packet at the end.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendPacketDecoder extends ByteToMessageDecoder {
+    
+    private static final int MAX_EOF_PACKET_LENGTH = 9;
+    
+    private enum State { HANDSHAKE, AUTHENTICATION, RESPONSE, COLUMN_DEFINITION, ROW }
+    
+    private final Charset charset;
+    
+    private State state = State.HANDSHAKE;
+    
+    private List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private MySQLBackendQueryResult queryResult;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(in);
+        switch (state) {
+            case HANDSHAKE:
+                out.add(new MySQLHandshakePacket(payload));
+                state = State.AUTHENTICATION;
+                return;
+            case AUTHENTICATION:
+                decodeAuthenticationResult(payload, out);
+                return;
+            case COLUMN_DEFINITION:
+                decodeColumnDefinition(ctx, payload, out);
+                return;
+            case ROW:
+                decodeRow(payload, out);
+                return;
+            default:
+                decodeResponse(payload, out);
+        }
+    }
+    
+    private void decodeAuthenticationResult(final MySQLPacketPayload payload, final List<Object> out) {
+        int header = getHeader(payload);
+        if (MySQLOKPacket.HEADER == header) {
+            out.add(new MySQLOKPacket(payload));
+            state = State.RESPONSE;
+            return;
+        }
+        if (MySQLErrPacket.HEADER == header) {
+            out.add(new MySQLErrPacket(payload));
+            return;
+        }
+        if (MySQLAuthSwitchRequestPacket.HEADER == header) {
+            out.add(new MySQLAuthSwitchRequestPacket(payload));
+            return;
+        }
+        throw new UnsupportedOperationException(String.format("Unsupported authentication packet with header `0x%02x` for MySQL backend client.", header));
+    }
+    
+    private void decodeResponse(final MySQLPacketPayload payload, final List<Object> out) {
+        switch (getHeader(payload)) {
+            case MySQLOKPacket.HEADER:
+                out.add(new MySQLOKPacket(payload));
+                return;
+            case MySQLErrPacket.HEADER:
+                out.add(new MySQLErrPacket(payload));
+                return;
+            default:
+                columnDefinitions = new ArrayList<>(new MySQLFieldCountPacket(payload).getColumnCount());
+                state = State.COLUMN_DEFINITION;
+        }
+    }
+    
+    private void decodeColumnDefinition(final ChannelHandlerContext ctx, final MySQLPacketPayload payload, final List<Object> out) {
+        if (isEofPacket(payload)) {
+            new MySQLEofPacket(payload);
+            queryResult = new MySQLBackendQueryResult(columnDefinitions, charset, ctx.channel());
+            out.add(queryResult);
+            state = State.ROW;
+            return;
+        }
+        columnDefinitions.add(new MySQLColumnDefinition41Packet(payload));
+    }
+    
+    private void decodeRow(final MySQLPacketPayload payload, final List<Object> out) {
+        if (isEofPacket(payload)) {
+            out.add(new MySQLEofPacket(payload));
+            reset();
+            return;
+        }
+        if (MySQLErrPacket.HEADER == getHeader(payload)) {
+            out.add(new MySQLErrPacket(payload));
+            reset();
+            return;
+        }
+        out.add(new MySQLBackendRow(queryResult, readRow(payload)));
+    }
+    
+    private byte[] readRow(final MySQLPacketPayload payload) {
+        payload.readInt1();
+        byte[] result = new byte[payload.getByteBuf().readableBytes()];
+        payload.getByteBuf().readBytes(result);
+        return result;
+    }
+    
+    private void reset() {
+        columnDefinitions = null;
+        queryResult = null;
+        state = State.RESPONSE;
+    }
+    
+    private boolean isEofPacket(final MySQLPacketPayload payload) {
+        return MySQLEofPacket.HEADER == getHeader(payload) && payload.getByteBuf().readableBytes() <= MAX_EOF_PACKET_LENGTH;
+    }
+    
+    private int getHeader(final MySQLPacketPayload payload) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        return byteBuf.getByte(byteBuf.readerIndex() + 1) & 0xff;
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.Channel;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Query result of MySQL backend, which is decoded from text protocol result set.
+ * 
+ * <p>Rows are streamed from backend through a bounded buffer, reading from backend is paused when the buffer is full and resumed when it is drained.
+ * Rows are kept as raw payloads of text protocol, values are decoded only when they are got.</p>
+ */
+public final class MySQLBackendQueryResult implements QueryResult {
+    
+    private static final int MAX_BUFFERED_ROWS = 1024;
+    
+    private static final int RESUME_BUFFERED_ROWS = MAX_BUFFERED_ROWS / 4;
+    
+    private static final Object END_OF_ROWS = new Object();
+    
+    private final MySQLBackendResultSetMetaData resultSetMetaData;
+    
+    private final Charset charset;
+    
+    private final Channel channel;
+    
+    private final BlockingQueue<Object> bufferedRows = new LinkedBlockingQueue<>();
+    
+    private MySQLBackendRow currentRow;
+    
+    private boolean endOfRows;
+    
+    private boolean wasNull;
+    
+    private boolean finished;
+    
+    private volatile boolean closed;
+    
+    public MySQLBackendQueryResult(final List<MySQLColumnDefinition41Packet> columnDefinitions, final Charset charset, final Channel channel) {
+        resultSetMetaData = new MySQLBackendResultSetMetaData(columnDefinitions);
+        this.charset = charset;
+        this.channel = channel;
+    }
+    
+    /**
+     * Add row, which is called by event loop of backend channel.
+     * 
+     * <p>Reading is paused before the row is published, so that consumer always sees paused reading when the buffer is drained.</p>
+     * 
+     * @param row row to be added
+     */
+    void addRow(final MySQLBackendRow row) {
+        if (closed) {
+            return;
+        }
+        if (bufferedRows.size() + 1 >= MAX_BUFFERED_ROWS) {
+            channel.config().setAutoRead(false);
+        }
+        bufferedRows.add(row);
+    }
+    
+    /**
+     * Finish adding rows, which is called by event loop of backend channel.
+     */
+    void finish() {
+        finished = true;
+        bufferedRows.add(END_OF_ROWS);
+    }
+    
+    /**
+     * Finish adding rows with failure, which is called by event loop of backend channel.
+     * 
+     * @param cause cause of failure
+     */
+    void fail(final SQLException cause) {
+        finished = true;
+        bufferedRows.add(cause);
+    }
+    
+    /**
+     * Get current row.
+     * 
+     * @return current row
+     */
+    public MySQLBackendRow getCurrentRow() {
+        Preconditions.checkState(null != currentRow, "Current row is out of range.");
+        return currentRow;
+    }
+    
+    Object convertValue(final byte[] rawData, final int offset, final int length, final int columnIndex) {
+        switch (resultSetMetaData.getColumnType(columnIndex)) {
+            case Types.BIT:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return Arrays.copyOfRange(rawData, offset, offset + length);
+            default:
+                return convertValue(new String(rawData, offset, length, charset), columnIndex);
+        }
+    }
+    
+    private Object convertValue(final String value, final int columnIndex) {
+        try {
+            switch (resultSetMetaData.getColumnType(columnIndex)) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                    return Integer.parseInt(value);
+                case Types.INTEGER:
+                    return resultSetMetaData.isSigned(columnIndex) ? (Object) Integer.parseInt(value) : (Object) Long.parseLong(value);
+                case Types.BIGINT:
+                    return convertLongValue(value);
+                case Types.DECIMAL:
+                    return new BigDecimal(value);
+                case Types.FLOAT:
+                    return Float.parseFloat(value);
+                case Types.DOUBLE:
+                    return Double.parseDouble(value);
+                case Types.DATE:
+                    return Date.valueOf(value);
+                case Types.TIME:
+                    return Time.valueOf(value);
+                case Types.TIMESTAMP:
+                    return Timestamp.valueOf(value);
+                default:
+                    return value;
+            }
+        } catch (final IllegalArgumentException ignored) {
+            // values such as zero date or time longer than one day can not be presented by JDBC types, keep them as text
+            return value;
+        }
+    }
+    
+    private Object convertLongValue(final String value) {
+        BigInteger result = new BigInteger(value);
+        return result.bitLength() < Long.SIZE ? (Object) result.longValue() : result;
+    }
+    
+    @Override
+    public ResultSetMetaData getResultSetMetaData() {
+        return resultSetMetaData;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (endOfRows) {
+            return false;
+        }
+        Object row = takeRow();
+        if (!channel.config().isAutoRead() && bufferedRows.size() <= RESUME_BUFFERED_ROWS) {
+            channel.config().setAutoRead(true);
+        }
+        if (row instanceof MySQLBackendRow) {
+            currentRow = (MySQLBackendRow) row;
+            wasNull = false;
+            return true;
+        }
+        currentRow = null;
+        endOfRows = true;
+        wasNull = true;
+        if (row instanceof SQLException) {
+            throw (SQLException) row;
+        }
+        return false;
+    }
+    
+    private Object takeRow() throws SQLException {
+        Object result = bufferedRows.poll();
+        if (null != result) {
+            return result;
+        }
+        if (!channel.config().isAutoRead()) {
+            channel.config().setAutoRead(true);
+        }
+        try {
+            return bufferedRows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Object result = getCurrentRowValue(columnIndex);
+        wasNull = null == result;
+        return MySQLBackendValueConverter.convertValue(result, type, charset);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        Object result = getCurrentRowValue(columnIndex);
+        wasNull = null == result;
+        return MySQLBackendValueConverter.convertCalendarValue(result, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getCurrentRowValue(columnIndex));
+    }
+    
+    @SneakyThrows
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    private Object getCurrentRowValue(final int columnIndex) {
+        return getCurrentRow().get(columnIndex - 1);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return resultSetMetaData.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return resultSetMetaData.getColumnName(columnIndex);
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return resultSetMetaData.getColumnLabel(columnIndex);
+    }
+    
+    /**
+     * Get current row as raw row, raw row is supported only if it is encoded by UTF-8 which is same as frontend.
+     * 
+     * @return current raw row
+     */
+    @Override
+    public Optional<RawRow> getRawRow() {
+        return StandardCharsets.UTF_8.equals(charset) ? Optional.of(getCurrentRow()) : Optional.empty();
+    }
+    
+    /**
+     * Close query result, backend connection is closed if rows are not fully read from it.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        endOfRows = true;
+        currentRow = null;
+        bufferedRows.clear();
+        channel.eventLoop().execute(() -> {
+            if (!finished) {
+                channel.close();
+            }
+        });
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Result set meta data of MySQL backend, which is built by column definition packets.
+ */
+public final class MySQLBackendResultSetMetaData implements ResultSetMetaData {
+    
+    private static final int BINARY_CHARACTER_SET = 63;
+    
+    private static final int NOT_NULL_FLAG = 0x0001;
+    
+    private static final int UNSIGNED_FLAG = 0x0020;
+    
+    private static final int AUTO_INCREMENT_FLAG = 0x0200;
+    
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private final int[] columnTypes;
+    
+    public MySQLBackendResultSetMetaData(final List<MySQLColumnDefinition41Packet> columnDefinitions) {
+        this.columnDefinitions = columnDefinitions;
+        columnTypes = new int[columnDefinitions.size()];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columnTypes[i] = getJDBCType(columnDefinitions.get(i));
+        }
+    }
+    
+    private int getJDBCType(final MySQLColumnDefinition41Packet columnDefinition) {
+        boolean binary = BINARY_CHARACTER_SET == columnDefinition.getCharacterSet();
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_BIT:
+                return Types.BIT;
+            case MYSQL_TYPE_TINY:
+                return Types.TINYINT;
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_YEAR:
+                return Types.SMALLINT;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+                return Types.INTEGER;
+            case MYSQL_TYPE_LONGLONG:
+                return Types.BIGINT;
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return Types.DECIMAL;
+            case MYSQL_TYPE_FLOAT:
+                return Types.FLOAT;
+            case MYSQL_TYPE_DOUBLE:
+                return Types.DOUBLE;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+                return Types.DATE;
+            case MYSQL_TYPE_TIME:
+                return Types.TIME;
+            case MYSQL_TYPE_TIMESTAMP:
+            case MYSQL_TYPE_DATETIME:
+                return Types.TIMESTAMP;
+            case MYSQL_TYPE_NULL:
+                return Types.NULL;
+            case MYSQL_TYPE_STRING:
+                return binary ? Types.BINARY : Types.CHAR;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+                return binary ? Types.BLOB : Types.LONGVARCHAR;
+            case MYSQL_TYPE_GEOMETRY:
+                return Types.BINARY;
+            default:
+                return binary ? Types.VARBINARY : Types.VARCHAR;
+        }
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnDefinitions.size();
+    }
+    
+    @Override
+    public boolean isAutoIncrement(final int column) {
+        return 0 != (getColumnDefinition(column).getFlags() & AUTO_INCREMENT_FLAG);
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int column) {
+        return BINARY_CHARACTER_SET == getColumnDefinition(column).getCharacterSet();
+    }
+    
+    @Override
+    public boolean isSearchable(final int column) {
+        return true;
+    }
+    
+    @Override
+    public boolean isCurrency(final int column) {
+        return false;
+    }
+    
+    @Override
+    public int isNullable(final int column) {
+        return 0 == (getColumnDefinition(column).getFlags() & NOT_NULL_FLAG) ? columnNullable : columnNoNulls;
+    }
+    
+    @Override
+    public boolean isSigned(final int column) {
+        return 0 == (getColumnDefinition(column).getFlags() & UNSIGNED_FLAG);
+    }
+    
+    @Override
+    public int getColumnDisplaySize(final int column) {
+        return getColumnDefinition(column).getColumnLength();
+    }
+    
+    @Override
+    public String getColumnLabel(final int column) {
+        return getColumnDefinition(column).getName();
+    }
+    
+    @Override
+    public String getColumnName(final int column) {
+        MySQLColumnDefinition41Packet columnDefinition = getColumnDefinition(column);
+        return columnDefinition.getOrgName().isEmpty() ? columnDefinition.getName() : columnDefinition.getOrgName();
+    }
+    
+    @Override
+    public String getSchemaName(final int column) {
+        return getColumnDefinition(column).getSchema();
+    }
+    
+    @Override
+    public int getPrecision(final int column) {
+        return getColumnDefinition(column).getColumnLength();
+    }
+    
+    @Override
+    public int getScale(final int column) {
+        return getColumnDefinition(column).getDecimals();
+    }
+    
+    @Override
+    public String getTableName(final int column) {
+        MySQLColumnDefinition41Packet columnDefinition = getColumnDefinition(column);
+        return columnDefinition.getOrgTable().isEmpty() ? columnDefinition.getTable() : columnDefinition.getOrgTable();
+    }
+    
+    @Override
+    public String getCatalogName(final int column) {
+        return getColumnDefinition(column).getSchema();
+    }
+    
+    @Override
+    public int getColumnType(final int column) {
+        return columnTypes[column - 1];
+    }
+    
+    @Override
+    public String getColumnTypeName(final int column) {
+        return getColumnDefinition(column).getColumnType().name().substring("MYSQL_TYPE_".length());
+    }
+    
+    @Override
+    public boolean isReadOnly(final int column) {
+        return getTableName(column).isEmpty();
+    }
+    
+    @Override
+    public boolean isWritable(final int column) {
+        return !isReadOnly(column);
+    }
+    
+    @Override
+    public boolean isDefinitelyWritable(final int column) {
+        return false;
+    }
+    
+    @Override
+    public String getColumnClassName(final int column) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getColumnClassName");
+    }
+    
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (isWrapperFor(iface)) {
+            return iface.cast(this);
+        }
+        throw new SQLFeatureNotSupportedException(String.format("Can not unwrap to `%s`", iface.getName()));
+    }
+    
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+    
+    private MySQLColumnDefinition41Packet getColumnDefinition(final int column) {
+        return columnDefinitions.get(column - 1);
+    }
+}
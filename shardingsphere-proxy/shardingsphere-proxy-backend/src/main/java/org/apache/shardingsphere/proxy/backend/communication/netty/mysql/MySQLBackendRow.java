@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Row of MySQL backend.
+ * 
+ * <p>Raw payload of text protocol row packet is kept, so that it can be passed through to client without encoding again.
+ * Values are decoded from raw payload at the first time they are got.</p>
+ */
+public final class MySQLBackendRow extends AbstractList<Object> implements RawRow {
+    
+    private static final int NULL = 0xfb;
+    
+    private static final int INT_2_LENGTH = 0xfc;
+    
+    private static final int INT_3_LENGTH = 0xfd;
+    
+    private final MySQLBackendQueryResult queryResult;
+    
+    @Getter
+    private final byte[] rawData;
+    
+    private Object[] values;
+    
+    MySQLBackendRow(final MySQLBackendQueryResult queryResult, final byte[] rawData) {
+        this.queryResult = queryResult;
+        this.rawData = rawData;
+    }
+    
+    @Override
+    public List<Object> getValues() {
+        return this;
+    }
+    
+    @Override
+    public Object get(final int index) {
+        if (null == values) {
+            values = decode();
+        }
+        return values[index];
+    }
+    
+    @Override
+    public int size() {
+        return queryResult.getColumnCount();
+    }
+    
+    private Object[] decode() {
+        Object[] result = new Object[size()];
+        int offset = 0;
+        for (int i = 0; i < result.length; i++) {
+            int firstByte = rawData[offset++] & 0xff;
+            if (NULL == firstByte) {
+                continue;
+            }
+            int length;
+            if (firstByte < NULL) {
+                length = firstByte;
+            } else if (INT_2_LENGTH == firstByte) {
+                length = readIntLE(offset, 2);
+                offset += 2;
+            } else if (INT_3_LENGTH == firstByte) {
+                length = readIntLE(offset, 3);
+                offset += 3;
+            } else {
+                length = readIntLE(offset, 8);
+                offset += 8;
+            }
+            result[i] = queryResult.convertValue(rawData, offset, length, i + 1);
+            offset += length;
+        }
+        return result;
+    }
+    
+    private int readIntLE(final int offset, final int byteCount) {
+        long result = 0;
+        for (int i = byteCount - 1; i >= 0; i--) {
+            result = (result << 8) | (rawData[offset + i] & 0xff);
+        }
+        return (int) result;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Value converter of MySQL backend, which converts decoded values to types requested by result set getters.
+ * 
+ * <p>Conversion follows JDBC getters: null is converted to default value of primitive types,
+ * numbers are narrowed to primitive types, and temporal values are converted between date, time and timestamp.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLBackendValueConverter {
+    
+    /**
+     * Convert value to requested type.
+     * 
+     * @param value decoded value
+     * @param type requested type
+     * @param charset charset of backend
+     * @return converted value
+     * @throws SQLException SQL exception
+     */
+    public static Object convertValue(final Object value, final Class<?> type, final Charset charset) throws SQLException {
+        if (null == value) {
+            return convertNullValue(type);
+        }
+        if (type.isInstance(value)) {
+            return value;
+        }
+        if (String.class == type) {
+            return value instanceof byte[] ? new String((byte[]) value, charset) : value.toString();
+        }
+        if (byte[].class == type) {
+            return value.toString().getBytes(charset);
+        }
+        if (type.isPrimitive() || BigDecimal.class == type) {
+            return convertNumberValue(toNumber(value, type), type);
+        }
+        if (Date.class == type || Time.class == type || Timestamp.class == type) {
+            return convertDateValue(value, type);
+        }
+        return value;
+    }
+    
+    /**
+     * Convert value to requested temporal type in time zone of calendar.
+     * 
+     * @param value decoded value
+     * @param type requested type, which should be date, time or timestamp
+     * @param calendar calendar of time zone
+     * @return converted value
+     * @throws SQLException SQL exception
+     */
+    public static Object convertCalendarValue(final Object value, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (Date.class != type && Time.class != type && Timestamp.class != type) {
+            throw new SQLException(String.format("Unsupported type: %s", type));
+        }
+        if (null == value) {
+            return null;
+        }
+        java.util.Date localValue = (java.util.Date) convertDateValue(value, type);
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(localValue);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        targetCalendar.set(localCalendar.get(Calendar.YEAR), localCalendar.get(Calendar.MONTH), localCalendar.get(Calendar.DAY_OF_MONTH),
+                localCalendar.get(Calendar.HOUR_OF_DAY), localCalendar.get(Calendar.MINUTE), localCalendar.get(Calendar.SECOND));
+        targetCalendar.set(Calendar.MILLISECOND, localCalendar.get(Calendar.MILLISECOND));
+        long timeInMillis = targetCalendar.getTimeInMillis();
+        if (Date.class == type) {
+            return new Date(timeInMillis);
+        }
+        if (Time.class == type) {
+            return new Time(timeInMillis);
+        }
+        Timestamp result = new Timestamp(timeInMillis);
+        result.setNanos(((Timestamp) localValue).getNanos());
+        return result;
+    }
+    
+    private static Object convertNullValue(final Class<?> type) {
+        if (boolean.class == type) {
+            return false;
+        }
+        if (byte.class == type) {
+            return (byte) 0;
+        }
+        if (short.class == type) {
+            return (short) 0;
+        }
+        if (int.class == type) {
+            return 0;
+        }
+        if (long.class == type) {
+            return 0L;
+        }
+        if (float.class == type) {
+            return 0F;
+        }
+        if (double.class == type) {
+            return 0D;
+        }
+        return null;
+    }
+    
+    private static Number toNumber(final Object value, final Class<?> type) throws SQLException {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof byte[]) {
+            return new BigInteger(1, (byte[]) value);
+        }
+        if (boolean.class == type && ("true".equalsIgnoreCase(value.toString()) || "false".equalsIgnoreCase(value.toString()))) {
+            return "true".equalsIgnoreCase(value.toString()) ? 1 : 0;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (final NumberFormatException ex) {
+            throw new SQLException(String.format("Can not convert value `%s` to %s.", value, type.getName()), ex);
+        }
+    }
+    
+    private static Object convertNumberValue(final Number number, final Class<?> type) {
+        if (boolean.class == type) {
+            return 0 != number.doubleValue();
+        }
+        if (byte.class == type) {
+            return number.byteValue();
+        }
+        if (short.class == type) {
+            return number.shortValue();
+        }
+        if (int.class == type) {
+            return number.intValue();
+        }
+        if (long.class == type) {
+            return number.longValue();
+        }
+        if (float.class == type) {
+            return number.floatValue();
+        }
+        if (double.class == type) {
+            return number.doubleValue();
+        }
+        return number instanceof BigDecimal ? number : new BigDecimal(number.toString());
+    }
+    
+    private static Object convertDateValue(final Object value, final Class<?> type) throws SQLException {
+        if (type.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof java.util.Date) {
+            long time = ((java.util.Date) value).getTime();
+            if (Date.class == type) {
+                return new Date(time);
+            }
+            return Time.class == type ? new Time(time) : new Timestamp(time);
+        }
+        try {
+            if (Date.class == type) {
+                return Date.valueOf(value.toString());
+            }
+            return Time.class == type ? Time.valueOf(value.toString()) : Timestamp.valueOf(value.toString());
+        } catch (final IllegalArgumentException ex) {
+            throw new SQLException(String.format("Can not convert value `%s` to %s.", value, type.getName()), ex);
+        }
+    }
+}
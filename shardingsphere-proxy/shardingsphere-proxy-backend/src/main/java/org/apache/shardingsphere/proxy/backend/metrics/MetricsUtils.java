@@ -60,6 +60,30 @@ public final class MetricsUtils {
         SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.counterIncrement(MetricsLabelEnum.TRANSACTION.getName(), labelValue));
     }
     
+    /**
+     * Buried SQL parse cache metric.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheName name of parse cache
+     * @param event cache event, hit, miss or eviction
+     */
+    public static void buriedSQLParseCacheMetric(final String databaseTypeName, final String cacheName, final String event) {
+        SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.counterIncrement(MetricsLabelEnum.SQL_PARSE_CACHE.getName(), databaseTypeName, cacheName, event));
+    }
+    
+    /**
+     * Buried group by merge spill metrics.
+     *
+     * @param partitionCount count of spilled partitions
+     * @param spilledBytes bytes of spilled files
+     */
+    public static void buriedGroupByMergeSpillMetrics(final int partitionCount, final long spilledBytes) {
+        SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> {
+            metricsHandlerFacade.counterIncrement(MetricsLabelEnum.GROUP_BY_MERGE_SPILL_PARTITIONS.getName(), partitionCount);
+            metricsHandlerFacade.counterIncrement(MetricsLabelEnum.GROUP_BY_MERGE_SPILL_BYTES.getName(), spilledBytes);
+        });
+    }
+    
     /**
      * Buried sharding rule metrics.
      *
@@ -32,4 +32,10 @@ public final class QueryData {
     private final List<Integer> columnTypes;
     
     private final List<Object> data;
+    
+    private final byte[] rawTextRow;
+    
+    public QueryData(final List<Integer> columnTypes, final List<Object> data) {
+        this(columnTypes, data, null);
+    }
 }
@@ -26,9 +26,13 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -37,6 +41,30 @@ import java.util.Optional;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class QueryHeaderBuilder {
     
+    /**
+     * Build query headers.
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param resultSetMetaData result set meta data
+     * @param schema schema
+     * @return query headers
+     * @throws SQLException SQL exception
+     */
+    public static List<QueryHeader> build(final SQLStatementContext<?> sqlStatementContext, final ResultSetMetaData resultSetMetaData, final SchemaContext schema) throws SQLException {
+        List<QueryHeader> result = new LinkedList<>();
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            ProjectionsContext projectionsContext = ((SelectStatementContext) sqlStatementContext).getProjectionsContext();
+            for (int columnIndex = 1; columnIndex <= projectionsContext.getExpandProjections().size(); columnIndex++) {
+                result.add(build(projectionsContext, resultSetMetaData, schema, columnIndex));
+            }
+            return result;
+        }
+        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
+            result.add(build(resultSetMetaData, schema, columnIndex));
+        }
+        return result;
+    }
+    
     /**
      * Build query header builder.
      * 
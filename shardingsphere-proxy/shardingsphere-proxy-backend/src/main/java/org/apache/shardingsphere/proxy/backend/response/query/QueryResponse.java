@@ -35,5 +35,9 @@ public final class QueryResponse implements BackendResponse {
     
     private final List<QueryHeader> queryHeaders;
     
-    private final List<QueryResult> queryResults = new LinkedList<>();
+    private final List<QueryResult> queryResults;
+    
+    public QueryResponse(final List<QueryHeader> queryHeaders) {
+        this(queryHeaders, new LinkedList<>());
+    }
 }
@@ -50,4 +50,15 @@ public interface TextProtocolBackendHandler {
      * @throws SQLException SQL exception
      */
     QueryData getQueryData() throws SQLException;
+    
+    /**
+     * Judge whether handler is non-blocking.
+     * 
+     * <p>Non-blocking handlers neither access databases nor wait for other resources.</p>
+     *
+     * @return non-blocking or not
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
 }
@@ -21,7 +21,9 @@ import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypes;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.backend.text.admin.BroadcastBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.admin.ShowDatabasesBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.admin.UnicastBackendHandler;
@@ -44,12 +46,22 @@ import org.apache.shardingsphere.sql.parser.sql.statement.tcl.SetAutoCommitState
 import org.apache.shardingsphere.sql.parser.sql.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.transaction.core.TransactionOperationType;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Text protocol backend handler factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TextProtocolBackendHandlerFactory {
     
+    private static final String MYSQL = "MySQL";
+    
+    private static final Pattern USE_PATTERN = Pattern.compile("USE\\s+(`[^`]+`|[\\w$]+)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern SHOW_DATABASES_PATTERN = Pattern.compile("SHOW\\s+(DATABASES|SCHEMAS)", Pattern.CASE_INSENSITIVE);
+    
     /**
      * Create new instance of text protocol backend handler.
      *
@@ -59,14 +71,12 @@ public final class TextProtocolBackendHandlerFactory {
      * @return instance of text protocol backend handler
      */
     public static TextProtocolBackendHandler newInstance(final DatabaseType databaseType, final String sql, final BackendConnection backendConnection) {
-        if (Strings.isNullOrEmpty(sql)) {
-            return new SkipBackendHandler();
+        Optional<TextProtocolBackendHandler> result = newInstanceWithoutParsing(databaseType, sql, backendConnection);
+        if (result.isPresent()) {
+            return result.get();
         }
-        String trimSQL = SCTLUtils.trimComment(sql);
-        if (trimSQL.toUpperCase().startsWith(ShardingCTLBackendHandlerFactory.SCTL)) {
-            return ShardingCTLBackendHandlerFactory.newInstance(trimSQL, backendConnection);
-        }
-        SQLStatement sqlStatement = SQLParserEngineFactory.getSQLParserEngine(databaseType.getName()).parse(sql, false);
+        SQLStatement sqlStatement = SQLParserEngineFactory.getSQLParserEngine(databaseType.getName(), 
+                ProxySchemaContexts.getInstance().getSchemaContexts().getParseCacheOption()).parse(sql, false);
         if (sqlStatement instanceof TCLStatement) {
             return createTCLBackendHandler(sql, (TCLStatement) sqlStatement, backendConnection);
         }
@@ -76,6 +86,41 @@ public final class TextProtocolBackendHandlerFactory {
         return new QueryBackendHandler(sql, backendConnection);
     }
     
+    /**
+     * Create new instance of text protocol backend handler if it can be decided without parsing SQL.
+     *
+     * @param databaseType database type
+     * @param sql SQL to be executed
+     * @param backendConnection backend connection
+     * @return instance of text protocol backend handler, or empty if SQL need to be parsed
+     */
+    public static Optional<TextProtocolBackendHandler> newInstanceWithoutParsing(final DatabaseType databaseType, final String sql, final BackendConnection backendConnection) {
+        if (Strings.isNullOrEmpty(sql)) {
+            return Optional.of(new SkipBackendHandler());
+        }
+        String trimSQL = SCTLUtils.trimComment(sql);
+        if (trimSQL.toUpperCase().startsWith(ShardingCTLBackendHandlerFactory.SCTL)) {
+            return Optional.of(ShardingCTLBackendHandlerFactory.newInstance(trimSQL, backendConnection));
+        }
+        if (MYSQL.equals(DatabaseTypes.getTrunkDatabaseTypeName(databaseType))) {
+            return createMySQLAdminBackendHandler(trimSQL, backendConnection);
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<TextProtocolBackendHandler> createMySQLAdminBackendHandler(final String trimSQL, final BackendConnection backendConnection) {
+        Matcher useMatcher = USE_PATTERN.matcher(trimSQL);
+        if (useMatcher.matches()) {
+            UseStatement useStatement = new UseStatement();
+            useStatement.setSchema(useMatcher.group(1));
+            return Optional.of(new UseDatabaseBackendHandler(useStatement, backendConnection));
+        }
+        if (SHOW_DATABASES_PATTERN.matcher(trimSQL).matches()) {
+            return Optional.of(new ShowDatabasesBackendHandler(backendConnection));
+        }
+        return Optional.empty();
+    }
+    
     private static TextProtocolBackendHandler createTCLBackendHandler(final String sql, final TCLStatement tclStatement, final BackendConnection backendConnection) {
         if (tclStatement instanceof BeginTransactionStatement) {
             return new TransactionBackendHandler(TransactionOperationType.BEGIN, backendConnection);
@@ -69,4 +69,9 @@ public final class ShowDatabasesBackendHandler implements TextProtocolBackendHan
     public QueryData getQueryData() throws SQLException {
         return new QueryData(Collections.singletonList(Types.VARCHAR), Collections.singletonList(mergedResult.getValue(1, Object.class)));
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
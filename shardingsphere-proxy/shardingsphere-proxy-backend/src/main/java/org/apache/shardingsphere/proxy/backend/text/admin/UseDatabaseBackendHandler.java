@@ -66,4 +66,9 @@ public final class UseDatabaseBackendHandler implements TextProtocolBackendHandl
     public QueryData getQueryData() {
         return null;
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
@@ -70,4 +70,9 @@ public final class ShardingCTLSetBackendHandler implements TextProtocolBackendHa
     public QueryData getQueryData() {
         return null;
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
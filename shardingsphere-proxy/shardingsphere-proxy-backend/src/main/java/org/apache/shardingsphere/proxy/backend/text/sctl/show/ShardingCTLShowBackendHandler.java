@@ -81,4 +81,9 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
     public QueryData getQueryData() throws SQLException {
         return new QueryData(Collections.singletonList(Types.VARCHAR), Collections.singletonList(mergedResult.getValue(1, Object.class)));
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
@@ -41,4 +41,9 @@ public final class SkipBackendHandler implements TextProtocolBackendHandler {
     public QueryData getQueryData() {
         return null;
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
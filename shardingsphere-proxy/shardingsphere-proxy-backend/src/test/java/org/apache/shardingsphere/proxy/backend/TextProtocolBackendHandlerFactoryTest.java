@@ -43,8 +43,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Optional;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -190,4 +194,43 @@ public final class TextProtocolBackendHandlerFactoryTest {
         TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, backendConnection);
         assertThat(actual, instanceOf(SkipBackendHandler.class));
     }
+    
+    @Test
+    public void assertNewInstanceWithoutParsingWithSCTL() {
+        Optional<TextProtocolBackendHandler> actual = TextProtocolBackendHandlerFactory.newInstanceWithoutParsing(databaseType, "sctl:show cached_connections", backendConnection);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(ShardingCTLShowBackendHandler.class));
+        assertTrue(actual.get().isNonBlocking());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutParsingWithUse() {
+        Optional<TextProtocolBackendHandler> actual = TextProtocolBackendHandlerFactory.newInstanceWithoutParsing(databaseType, "/* comment */ use `sharding_db`;", backendConnection);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(UseDatabaseBackendHandler.class));
+        assertTrue(actual.get().isNonBlocking());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutParsingWithShowDatabases() {
+        Optional<TextProtocolBackendHandler> actual = TextProtocolBackendHandlerFactory.newInstanceWithoutParsing(databaseType, "SHOW  SCHEMAS", backendConnection);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(ShowDatabasesBackendHandler.class));
+        assertTrue(actual.get().isNonBlocking());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutParsingWithShowDatabasesLike() {
+        assertFalse(TextProtocolBackendHandlerFactory.newInstanceWithoutParsing(databaseType, "show databases like 'sharding%'", backendConnection).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutParsingWithShowDatabasesForPostgreSQL() {
+        assertFalse(TextProtocolBackendHandlerFactory.newInstanceWithoutParsing(DatabaseTypes.getActualDatabaseType("PostgreSQL"), "show databases", backendConnection).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutParsingWithQuery() {
+        assertFalse(TextProtocolBackendHandlerFactory.newInstanceWithoutParsing(databaseType, "select * from t_order limit 1", backendConnection).isPresent());
+    }
 }
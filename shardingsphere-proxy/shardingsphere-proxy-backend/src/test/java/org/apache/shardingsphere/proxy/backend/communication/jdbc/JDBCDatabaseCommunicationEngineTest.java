@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptAlgorithmMetaData;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptMergedResult;
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.RawRow;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
+import org.apache.shardingsphere.kernel.context.SchemaContexts;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
+import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JDBCDatabaseCommunicationEngineTest {
+    
+    private static final String SQL = "SELECT order_id FROM t_order";
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private SQLExecuteEngine sqlExecuteEngine;
+    
+    @Mock
+    private MergeEngine mergeEngine;
+    
+    @Mock
+    private QueryResult queryResult;
+    
+    @Before
+    @SneakyThrows(ReflectiveOperationException.class)
+    public void setUp() {
+        Field schemaContexts = ProxySchemaContexts.getInstance().getClass().getDeclaredField("schemaContexts");
+        schemaContexts.setAccessible(true);
+        schemaContexts.set(ProxySchemaContexts.getInstance(), new SchemaContexts(Collections.emptyMap(), new ConfigurationProperties(new Properties()), new Authentication()));
+        when(backendConnection.getSchema().getSchema().getKernelPipeline().newMergeEngine(any())).thenReturn(mergeEngine);
+    }
+    
+    @Test
+    public void assertGetQueryDataWithRawRow() throws SQLException {
+        RawRow rawRow = mock(RawRow.class);
+        when(rawRow.getRawData()).thenReturn(new byte[]{1, 49});
+        when(rawRow.getValues()).thenReturn(Collections.singletonList(1));
+        when(queryResult.getRawRow()).thenReturn(Optional.of(rawRow));
+        QueryData actual = executeAndGetQueryData(new TransparentMergedResult(queryResult), 1);
+        assertThat(actual.getRawTextRow(), is(new byte[]{1, 49}));
+        assertThat(actual.getData(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertGetQueryDataWithEncryptMergedResult() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        QueryData actual = executeAndGetQueryData(new EncryptMergedResult(mock(EncryptAlgorithmMetaData.class), new TransparentMergedResult(queryResult), false), 1);
+        assertThat(actual.getRawTextRow(), nullValue());
+        assertThat(actual.getData(), is(Collections.<Object>singletonList(1)));
+        verify(queryResult, never()).getRawRow();
+    }
+    
+    @Test
+    public void assertGetQueryDataWithPagination() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        PaginationContext paginationContext = new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 0), new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList());
+        QueryData actual = executeAndGetQueryData(new LimitDecoratorMergedResult(new IteratorStreamMergedResult(Collections.singletonList(queryResult)), paginationContext), 1);
+        assertThat(actual.getRawTextRow(), nullValue());
+        assertThat(actual.getData(), is(Collections.<Object>singletonList(1)));
+        verify(queryResult, never()).getRawRow();
+    }
+    
+    @Test
+    public void assertGetQueryDataWithColumnCountMismatch() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        QueryData actual = executeAndGetQueryData(new IteratorStreamMergedResult(Collections.singletonList(queryResult)), 2);
+        assertThat(actual.getRawTextRow(), nullValue());
+        assertThat(actual.getData(), is(Collections.<Object>singletonList(1)));
+        verify(queryResult, never()).getRawRow();
+    }
+    
+    private QueryData executeAndGetQueryData(final MergedResult mergedResult, final int backendColumnCount) throws SQLException {
+        ExecutionContext executionContext = new ExecutionContext(mock(SQLStatementContext.class), new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.emptyList())));
+        when(sqlExecuteEngine.execute(SQL)).thenReturn(executionContext);
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnType()).thenReturn(Types.INTEGER);
+        QueryResponse queryResponse = new QueryResponse(Collections.singletonList(queryHeader));
+        queryResponse.getQueryResults().add(queryResult);
+        when(sqlExecuteEngine.execute(executionContext)).thenReturn(queryResponse);
+        when(queryResult.getColumnCount()).thenReturn(backendColumnCount);
+        when(queryResult.next()).thenReturn(true);
+        when(mergeEngine.merge(anyList(), any())).thenReturn(mergedResult);
+        JDBCDatabaseCommunicationEngine engine = new JDBCDatabaseCommunicationEngine(SQL, backendConnection, sqlExecuteEngine);
+        assertThat(engine.execute(), is(queryResponse));
+        assertTrue(engine.next());
+        return engine.getQueryData();
+    }
+}
@@ -17,15 +17,22 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.ProxyConnection;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.CompletionOrderResults;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.group.StatementOption;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
 import org.apache.shardingsphere.kernel.context.runtime.RuntimeContext;
 import org.apache.shardingsphere.kernel.context.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -39,25 +46,32 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -79,9 +93,13 @@ public final class BackendConnectionTest {
     }
     
     private void setSchemaContexts() throws NoSuchFieldException, IllegalAccessException {
+        setSchemaContexts(new Properties());
+    }
+    
+    private void setSchemaContexts(final Properties props) throws NoSuchFieldException, IllegalAccessException {
         Field field = ProxySchemaContexts.getInstance().getClass().getDeclaredField("schemaContexts");
         field.setAccessible(true);
-        field.set(ProxySchemaContexts.getInstance(), new SchemaContexts(getSchemaContextMap(), new ConfigurationProperties(new Properties()), new Authentication()));
+        field.set(ProxySchemaContexts.getInstance(), new SchemaContexts(getSchemaContextMap(), new ConfigurationProperties(props), new Authentication()));
     }
     
     private Map<String, SchemaContext> getSchemaContextMap() {
@@ -236,6 +254,62 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertAutoCloseConnectionWaitPendingExecuteResults() throws SQLException {
+        CompletionOrderResults<?> executeResults = mock(CompletionOrderResults.class);
+        when(executeResults.awaitCompletion(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            backendConnection.add(statement);
+            backendConnection.add(executeResults);
+        }
+        verify(executeResults).awaitCompletion(anyLong(), any(TimeUnit.class));
+        verify(statement, never()).cancel();
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertAutoCloseConnectionCancelStatementsWhenPendingExecuteResultsTimeout() throws SQLException {
+        CompletionOrderResults<?> executeResults = mock(CompletionOrderResults.class);
+        Statement statement = mock(Statement.class);
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            backendConnection.add(statement);
+            backendConnection.add(executeResults);
+        }
+        verify(statement).cancel();
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertForceCloseConnectionCancelStatementsWithoutWaitingPendingExecuteResults() throws SQLException {
+        CompletionOrderResults<?> executeResults = mock(CompletionOrderResults.class);
+        when(executeResults.awaitCompletion(0L, TimeUnit.NANOSECONDS)).thenReturn(false);
+        when(executeResults.awaitCompletion(longThat(each -> each > 0L), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        backendConnection.setCurrentSchema("schema_0");
+        backendConnection.add(statement);
+        backendConnection.add(executeResults);
+        backendConnection.close(true);
+        verify(executeResults).awaitCompletion(0L, TimeUnit.NANOSECONDS);
+        verify(statement).cancel();
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertAutoCloseConnectionCloseMergedResults() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        BackendConnection actual;
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            backendConnection.add(mergedResult);
+            actual = backendConnection;
+        }
+        verify(mergedResult).close();
+        assertTrue(actual.getCachedMergedResults().isEmpty());
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
@@ -252,6 +326,89 @@ public final class BackendConnectionTest {
         }
     }
     
+    @Test
+    public void assertCreateStorageResourceWithCachedStatementForLocalTransaction() throws SQLException {
+        setPreparedStatementCacheSize();
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(physicalConnection);
+        ProxyConnection pooledConnection = mock(ProxyConnection.class);
+        when(pooledConnection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        PreparedStatement actual = backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), pooledConnection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false));
+        assertThat(actual, is(statement));
+        verify(pooledConnection, never()).prepareStatement("SELECT 1");
+        assertTrue(PreparedStatementCache.getInstance().giveBack(actual));
+    }
+    
+    @Test
+    public void assertEvictCachedStatementWithBrokenConnection() throws SQLException {
+        setPreparedStatementCacheSize();
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(backendConnection.getSchema().getSchema().getDataSources()).thenReturn(Collections.singletonMap("ds", dataSource));
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(physicalConnection);
+        ProxyConnection pooledConnection = mock(ProxyConnection.class);
+        when(pooledConnection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        when(backendDataSource.getConnections(anyString(), eq("ds"), eq(1), any())).thenReturn(Collections.singletonList(pooledConnection));
+        backendConnection.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY);
+        PreparedStatement actual = backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), pooledConnection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false));
+        backendConnection.evictCachedStatement(actual, new SQLException("Communications link failure", "08S01"));
+        verify(dataSource).evictConnection(pooledConnection);
+        assertFalse(PreparedStatementCache.getInstance().giveBack(actual));
+    }
+    
+    @Test
+    public void assertEvictCachedStatementWithoutBrokenConnection() throws SQLException {
+        setPreparedStatementCacheSize();
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(physicalConnection);
+        ProxyConnection pooledConnection = mock(ProxyConnection.class);
+        when(pooledConnection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        PreparedStatement actual = backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), pooledConnection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false));
+        backendConnection.evictCachedStatement(actual, new SQLException("Duplicate entry", "23000", 1062));
+        assertFalse(PreparedStatementCache.getInstance().giveBack(actual));
+    }
+    
+    @Test
+    public void assertReleaseConnectionsRollbackCachedStatementConnectionNotAutoCommit() throws SQLException {
+        setPreparedStatementCacheSize();
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(statement);
+        ProxyConnection pooledConnection = mock(ProxyConnection.class);
+        when(pooledConnection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        when(backendDataSource.getConnections(anyString(), eq("ds"), eq(1), any())).thenReturn(Collections.singletonList(pooledConnection));
+        backendConnection.getConnections("ds", 1, ConnectionMode.CONNECTION_STRICTLY);
+        backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), pooledConnection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false));
+        backendConnection.releaseConnections(false);
+        verify(pooledConnection).rollback();
+        verify(pooledConnection).close();
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithoutCachedStatementForXATransaction() throws SQLException {
+        setPreparedStatementCacheSize();
+        ProxyConnection pooledConnection = mock(ProxyConnection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(pooledConnection.prepareStatement("SELECT 1")).thenReturn(statement);
+        PreparedStatement actual = new BackendConnection(TransactionType.XA).createStorageResource(
+                "SELECT 1", Collections.emptyList(), pooledConnection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false));
+        assertThat(actual, is(statement));
+        verify(pooledConnection, never()).unwrap(Connection.class);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setPreparedStatementCacheSize() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "2");
+        setSchemaContexts(props);
+    }
+    
     @Test(expected = ShardingSphereException.class)
     public void assertFailedSwitchTransactionTypeWhileBegin() {
         BackendTransactionManager transactionManager = new BackendTransactionManager(backendConnection);
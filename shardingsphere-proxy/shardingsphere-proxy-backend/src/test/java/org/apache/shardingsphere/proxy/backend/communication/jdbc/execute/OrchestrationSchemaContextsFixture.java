@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContextsAware;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
 
 import java.util.Collections;
 import java.util.Map;
@@ -42,6 +43,11 @@ public final class OrchestrationSchemaContextsFixture implements SchemaContextsA
         return new ConfigurationProperties(new Properties());
     }
     
+    @Override
+    public ParseCacheOption getParseCacheOption() {
+        return new ParseCacheOption();
+    }
+    
     @Override
     public Authentication getAuthentication() {
         return new Authentication();
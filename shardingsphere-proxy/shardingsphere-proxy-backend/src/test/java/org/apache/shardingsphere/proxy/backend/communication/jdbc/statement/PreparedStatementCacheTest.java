@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import com.zaxxer.hikari.pool.ProxyConnection;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private ProxyConnection pooledConnection;
+    
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        pooledConnection = mock(ProxyConnection.class);
+        when(pooledConnection.unwrap(Connection.class)).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenAnswer(invocation -> mockPreparedStatement());
+        when(connection.prepareStatement("SELECT 2")).thenAnswer(invocation -> mockPreparedStatement());
+    }
+    
+    private PreparedStatement mockPreparedStatement() throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    @Test
+    public void assertReuseGivenBackStatement() throws SQLException {
+        PreparedStatement statement = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).get();
+        assertTrue(PreparedStatementCache.getInstance().giveBack(statement));
+        verify(statement).clearParameters();
+        verify(statement, never()).close();
+        assertThat(PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).get(), is(statement));
+        assertTrue(PreparedStatementCache.getInstance().giveBack(statement));
+        verify(connection, times(1)).prepareStatement("SELECT 1");
+    }
+    
+    @Test
+    public void assertNotBorrowStatementWhenPooledConnectionNotUnwrappedToPhysicalConnection() throws SQLException {
+        Connection delegatingConnection = mock(Connection.class);
+        assertFalse(PreparedStatementCache.getInstance().borrow(delegatingConnection, "SELECT 1", false, 2).isPresent());
+        verify(delegatingConnection, never()).unwrap(Connection.class);
+        verify(delegatingConnection, never()).prepareStatement("SELECT 1");
+    }
+    
+    @Test
+    public void assertBorrowStatementInUse() throws SQLException {
+        PreparedStatement statement = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).get();
+        assertFalse(PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).isPresent());
+        assertTrue(PreparedStatementCache.getInstance().giveBack(statement));
+    }
+    
+    @Test
+    public void assertGiveBackUncachedStatement() throws SQLException {
+        PreparedStatement statement = mockPreparedStatement();
+        PreparedStatementCache.getInstance().giveBack(PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).get());
+        assertFalse(PreparedStatementCache.getInstance().giveBack(statement));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsedStatement() throws SQLException {
+        PreparedStatement evicted = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 1).get();
+        PreparedStatementCache.getInstance().giveBack(evicted);
+        PreparedStatement statement = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 2", false, 1).get();
+        verify(evicted).close();
+        PreparedStatementCache.getInstance().giveBack(statement);
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    public void assertCloseInvalidatedStatement() throws SQLException {
+        PreparedStatement statement = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).get();
+        PreparedStatementCache.getInstance().invalidate();
+        Optional<PreparedStatement> actual = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 2", false, 2);
+        assertTrue(actual.isPresent());
+        assertTrue(PreparedStatementCache.getInstance().giveBack(statement));
+        verify(statement).close();
+        PreparedStatementCache.getInstance().giveBack(actual.get());
+    }
+    
+    @Test
+    public void assertEvict() throws SQLException {
+        PreparedStatement idle = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 2", false, 2).get();
+        PreparedStatementCache.getInstance().giveBack(idle);
+        PreparedStatement statement = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).get();
+        assertThat(PreparedStatementCache.getInstance().evict(statement), is(Optional.of(connection)));
+        verify(idle).close();
+        assertFalse(PreparedStatementCache.getInstance().giveBack(statement));
+        assertFalse(PreparedStatementCache.getInstance().evict(statement).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateClosedConnectionWhenNewConnectionCached() throws SQLException {
+        PreparedStatement statement = PreparedStatementCache.getInstance().borrow(pooledConnection, "SELECT 1", false, 2).get();
+        PreparedStatementCache.getInstance().giveBack(statement);
+        when(connection.isClosed()).thenReturn(true);
+        Connection newConnection = mock(Connection.class);
+        ProxyConnection newPooledConnection = mock(ProxyConnection.class);
+        when(newPooledConnection.unwrap(Connection.class)).thenReturn(newConnection);
+        when(newConnection.prepareStatement("SELECT 1")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache.getInstance().borrow(newPooledConnection, "SELECT 1", false, 2);
+        verify(statement).close();
+        assertFalse(PreparedStatementCache.getInstance().giveBack(statement));
+    }
+}
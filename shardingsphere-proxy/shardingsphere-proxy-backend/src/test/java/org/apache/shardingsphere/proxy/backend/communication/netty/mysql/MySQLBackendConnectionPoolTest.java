@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLBackendConnectionPoolTest {
+    
+    private final EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+    
+    private final AtomicInteger connectCount = new AtomicInteger();
+    
+    private HikariDataSource dataSource;
+    
+    private MySQLBackendConnectionPool connectionPool;
+    
+    @Before
+    public void setUp() {
+        dataSource = mock(HikariDataSource.class);
+        when(dataSource.getJdbcUrl()).thenReturn("jdbc:mysql://127.0.0.1:3306/db");
+        when(dataSource.getDataSourceProperties()).thenReturn(new Properties());
+        when(dataSource.getConnectionTimeout()).thenReturn(200L);
+        connectionPool = new MySQLBackendConnectionPool(eventLoopGroup, dataSource, 1, 1, (eventLoop, pool) -> {
+            connectCount.incrementAndGet();
+            return eventLoop.newSucceededFuture(new MySQLBackendConnection(new EmbeddedChannel(), pool));
+        });
+    }
+    
+    @After
+    public void tearDown() {
+        connectionPool.close();
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    @Test
+    public void assertBorrowWaitsForConnectionGivenBack() throws InterruptedException {
+        MySQLBackendConnection connection = borrow();
+        Future<MySQLBackendConnection> pending = connectionPool.borrow();
+        assertFalse(pending.isDone());
+        connectionPool.giveBack(connection);
+        assertTrue(pending.await(1L, TimeUnit.SECONDS));
+        assertThat(pending.getNow(), is(connection));
+        assertThat(connectCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertBorrowConnectsWhenConnectionClosed() throws InterruptedException {
+        MySQLBackendConnection connection = borrow();
+        Future<MySQLBackendConnection> pending = connectionPool.borrow();
+        connection.close();
+        assertTrue(pending.await(1L, TimeUnit.SECONDS));
+        assertThat(pending.getNow(), not(connection));
+        assertThat(connectCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertBorrowTimeout() throws InterruptedException {
+        borrow();
+        Future<MySQLBackendConnection> pending = connectionPool.borrow();
+        assertTrue(pending.await(1L, TimeUnit.SECONDS));
+        assertThat(pending.cause(), instanceOf(SQLException.class));
+        assertThat(connectCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertCloseFailsPendingBorrowers() throws InterruptedException {
+        borrow();
+        Future<MySQLBackendConnection> pending = connectionPool.borrow();
+        connectionPool.close();
+        assertTrue(pending.await(1L, TimeUnit.SECONDS));
+        assertThat(pending.cause(), instanceOf(SQLException.class));
+    }
+    
+    @Test
+    public void assertReuseIdleConnection() throws InterruptedException {
+        MySQLBackendConnection connection = borrow();
+        connectionPool.giveBack(connection);
+        assertThat(borrow(), is(connection));
+        assertThat(connectCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertIsSupportedAfterAuthenticated() throws InterruptedException {
+        assertTrue(awaitSupported());
+        assertThat(connectCount.get(), is(1));
+        borrow();
+        assertThat(connectCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithUnsupportedAuthenticationMethod() throws InterruptedException {
+        connectionPool.close();
+        connectionPool = new MySQLBackendConnectionPool(eventLoopGroup, dataSource, 1, 1, (eventLoop, pool) -> {
+            connectCount.incrementAndGet();
+            return eventLoop.newFailedFuture(new SQLFeatureNotSupportedException("Authentication method `caching_sha2_password` is not supported."));
+        });
+        assertFalse(connectionPool.isSupported());
+        assertFalse(awaitSupported());
+        assertThat(connectCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWhenConnectFailed() throws InterruptedException {
+        connectionPool.close();
+        connectionPool = new MySQLBackendConnectionPool(eventLoopGroup, dataSource, 1, 1, (eventLoop, pool) -> {
+            connectCount.incrementAndGet();
+            return eventLoop.newFailedFuture(new SQLException("Connection refused."));
+        });
+        assertFalse(connectionPool.isSupported());
+        assertFalse(awaitSupported());
+        assertThat(connectCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithSSLConfiguredByProperties() {
+        Properties props = new Properties();
+        props.setProperty("useSSL", "true");
+        when(dataSource.getDataSourceProperties()).thenReturn(props);
+        connectionPool.close();
+        connectionPool = new MySQLBackendConnectionPool(eventLoopGroup, dataSource, 1, 1, (eventLoop, pool) -> {
+            connectCount.incrementAndGet();
+            return eventLoop.newSucceededFuture(new MySQLBackendConnection(new EmbeddedChannel(), pool));
+        });
+        assertFalse(connectionPool.isSupported());
+        assertThat(connectCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithSSLConfiguredByURL() {
+        when(dataSource.getJdbcUrl()).thenReturn("jdbc:mysql://127.0.0.1:3306/db?sslMode=REQUIRED");
+        connectionPool.close();
+        connectionPool = new MySQLBackendConnectionPool(eventLoopGroup, dataSource, 1, 1, (eventLoop, pool) -> {
+            connectCount.incrementAndGet();
+            return eventLoop.newSucceededFuture(new MySQLBackendConnection(new EmbeddedChannel(), pool));
+        });
+        assertFalse(connectionPool.isSupported());
+        assertThat(connectCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertIsSupportedWithSSLDisabled() throws InterruptedException {
+        when(dataSource.getJdbcUrl()).thenReturn("jdbc:mysql://127.0.0.1:3306/db?useSSL=false&sslMode=DISABLED");
+        connectionPool.close();
+        connectionPool = new MySQLBackendConnectionPool(eventLoopGroup, dataSource, 1, 1, (eventLoop, pool) -> {
+            connectCount.incrementAndGet();
+            return eventLoop.newSucceededFuture(new MySQLBackendConnection(new EmbeddedChannel(), pool));
+        });
+        assertTrue(awaitSupported());
+    }
+    
+    private boolean awaitSupported() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            if (connectionPool.isSupported()) {
+                return true;
+            }
+            Thread.sleep(50L);
+        }
+        return false;
+    }
+    
+    private MySQLBackendConnection borrow() throws InterruptedException {
+        Future<MySQLBackendConnection> result = connectionPool.borrow();
+        assertTrue(result.await(1L, TimeUnit.SECONDS));
+        return result.getNow();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.Future;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.ExecuteQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.update.ExecuteUpdateResult;
+import org.apache.shardingsphere.kernel.context.SchemaContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLBackendExecutorTest {
+    
+    private final EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+    
+    private final SchemaContext schema = mock(SchemaContext.class, RETURNS_DEEP_STUBS);
+    
+    private MySQLBackendConnectionPool connectionPool;
+    
+    private EmbeddedChannel channel;
+    
+    private MySQLBackendConnection connection;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getJdbcUrl()).thenReturn("jdbc:mysql://127.0.0.1:3306/db");
+        when(dataSource.getDataSourceProperties()).thenReturn(new Properties());
+        when(schema.getName()).thenReturn("schema");
+        when(schema.getSchema().getDataSources()).thenReturn(Collections.singletonMap("ds_0", dataSource));
+        when(schema.getSchema().getRules()).thenReturn(Collections.emptyList());
+        connectionPool = new MySQLBackendConnectionPool(eventLoopGroup, dataSource, 1, 1);
+        getConnectionPools().put("schema.ds_0", connectionPool);
+        channel = new EmbeddedChannel(new MySQLBackendPacketDecoder(connectionPool.getCharacterSet().getCharset()));
+        channel.writeInbound(createPacket(new MySQLHandshakePacket(1, new MySQLAuthPluginData())));
+        channel.writeInbound(createPacket(new MySQLOKPacket(2)));
+        channel.releaseInbound();
+        connection = new MySQLBackendConnection(channel, connectionPool);
+        connectionPool.giveBack(connection);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, MySQLBackendConnectionPool> getConnectionPools() throws ReflectiveOperationException {
+        Field field = MySQLBackendExecutor.class.getDeclaredField("connectionPools");
+        field.setAccessible(true);
+        return (Map<String, MySQLBackendConnectionPool>) field.get(MySQLBackendExecutor.getInstance());
+    }
+    
+    @After
+    public void tearDown() throws ReflectiveOperationException {
+        getConnectionPools().remove("schema.ds_0");
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(MySQLBackendExecutor.getInstance().isSupported(schema, createExecutionUnits("SELECT 1")));
+        assertFalse(MySQLBackendExecutor.getInstance().isSupported(schema, Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit("SELECT ?", Collections.singletonList(1))))));
+    }
+    
+    @Test
+    public void assertExecuteUpdate() throws InterruptedException {
+        Future<Collection<ExecuteResult>> actual = MySQLBackendExecutor.getInstance().executeAsync(mock(SQLStatementContext.class), schema, createExecutionUnits("DELETE FROM t_order_0"));
+        assertThat(((MySQLComQueryPacket) channel.readOutbound()).getSql(), is("DELETE FROM t_order_0"));
+        assertFalse(actual.isDone());
+        channel.writeInbound(createPacket(new MySQLOKPacket(1, 10L, 0L)));
+        assertTrue(actual.await(1, TimeUnit.SECONDS));
+        ExecuteUpdateResult executeResult = (ExecuteUpdateResult) actual.getNow().iterator().next();
+        assertThat(executeResult.getUpdateCount(), is(10));
+        assertThat(connectionPool.borrow().getNow(), is(connection));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithStreamingRows() throws InterruptedException, SQLException {
+        Future<Collection<ExecuteResult>> actual = MySQLBackendExecutor.getInstance().executeAsync(mock(SQLStatementContext.class), schema, createExecutionUnits("SELECT order_id FROM t_order_0"));
+        channel.readOutbound();
+        assertFalse(actual.isDone());
+        channel.writeInbound(createPacket(new MySQLFieldCountPacket(1, 1)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(2, 0, "db", "t_order_0", "t_order_0", "order_id", "order_id", 11, MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        channel.writeInbound(createPacket(new MySQLEofPacket(3)));
+        assertTrue(actual.await(1, TimeUnit.SECONDS));
+        ExecuteQueryResult executeResult = (ExecuteQueryResult) actual.getNow().iterator().next();
+        assertThat(executeResult.getQueryHeaders().get(0).getColumnLabel(), is("order_id"));
+        channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(4, Collections.singletonList(1))));
+        assertTrue(executeResult.getQueryResult().next());
+        assertThat(executeResult.getQueryResult().getValue(1, Object.class), is((Object) 1));
+        channel.writeInbound(createPacket(new MySQLEofPacket(5)));
+        assertFalse(executeResult.getQueryResult().next());
+        assertThat(connectionPool.borrow().getNow(), is(connection));
+    }
+    
+    @Test
+    public void assertExecuteWithErrPacket() throws InterruptedException {
+        Future<Collection<ExecuteResult>> actual = MySQLBackendExecutor.getInstance().executeAsync(mock(SQLStatementContext.class), schema, createExecutionUnits("SELECT * FROM t_order_0"));
+        channel.readOutbound();
+        channel.writeInbound(createPacket(new MySQLErrPacket(1, 1146, "42S02", "Table 't_order_0' doesn't exist")));
+        assertTrue(actual.await(1, TimeUnit.SECONDS));
+        assertThat(actual.cause(), instanceOf(SQLException.class));
+        assertThat(((SQLException) actual.cause()).getErrorCode(), is(1146));
+        assertThat(connectionPool.borrow().getNow(), is(connection));
+    }
+    
+    @Test
+    public void assertExecuteWhenConnectionClosed() throws InterruptedException {
+        Future<Collection<ExecuteResult>> actual = MySQLBackendExecutor.getInstance().executeAsync(mock(SQLStatementContext.class), schema, createExecutionUnits("SELECT * FROM t_order_0"));
+        channel.close();
+        assertTrue(actual.await(1, TimeUnit.SECONDS));
+        assertThat(actual.cause(), instanceOf(SQLException.class));
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final String sql) {
+        return Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.emptyList())));
+    }
+    
+    private ByteBuf createPacket(final MySQLPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(packet.getSequenceId());
+        packet.write(new MySQLPacketPayload(result));
+        return result;
+    }
+}
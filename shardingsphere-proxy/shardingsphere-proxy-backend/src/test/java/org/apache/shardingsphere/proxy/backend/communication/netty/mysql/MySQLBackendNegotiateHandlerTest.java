@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLBackendNegotiateHandlerTest {
+    
+    private EmbeddedChannel channel;
+    
+    private Promise<Void> authResultCallback;
+    
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel();
+        authResultCallback = channel.eventLoop().newPromise();
+        channel.pipeline().addLast(new MySQLBackendNegotiateHandler("root", "pwd", "db", MySQLBackendCharacterSet.GBK.getId(), authResultCallback));
+    }
+    
+    @Test
+    public void assertHandshake() throws NoSuchAlgorithmException {
+        MySQLAuthPluginData authPluginData = new MySQLAuthPluginData();
+        channel.writeInbound(new MySQLHandshakePacket(1, authPluginData));
+        MySQLHandshakeResponse41Packet actual = channel.readOutbound();
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getCharacterSet(), is(28));
+        assertThat(actual.getUsername(), is("root"));
+        assertThat(actual.getDatabase(), is("db"));
+        assertThat(actual.getAuthPluginName(), is(MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName()));
+        assertThat(actual.getAuthResponse(), is(scramble("pwd", authPluginData.getAuthPluginData())));
+        assertFalse(authResultCallback.isDone());
+    }
+    
+    @Test
+    public void assertAuthenticated() {
+        channel.writeInbound(new MySQLHandshakePacket(1, new MySQLAuthPluginData()));
+        channel.writeInbound(new MySQLOKPacket(2));
+        assertTrue(authResultCallback.isSuccess());
+        assertThat(channel.pipeline().get(MySQLBackendNegotiateHandler.class), nullValue());
+        assertTrue(channel.isOpen());
+    }
+    
+    @Test
+    public void assertAuthenticationFailed() {
+        channel.writeInbound(new MySQLHandshakePacket(1, new MySQLAuthPluginData()));
+        channel.writeInbound(new MySQLErrPacket(2, 1045, "28000", "Access denied for user 'root'"));
+        assertThat(authResultCallback.cause(), instanceOf(SQLException.class));
+        assertThat(((SQLException) authResultCallback.cause()).getErrorCode(), is(1045));
+        assertFalse(channel.isOpen());
+    }
+    
+    @Test
+    public void assertSwitchToNativePassword() throws NoSuchAlgorithmException {
+        channel.writeInbound(new MySQLHandshakePacket(1, new MySQLAuthPluginData()));
+        channel.readOutbound();
+        MySQLAuthPluginData authPluginData = new MySQLAuthPluginData();
+        channel.writeInbound(new MySQLAuthSwitchRequestPacket(2, MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName(), authPluginData));
+        MySQLAuthSwitchResponsePacket actual = channel.readOutbound();
+        assertThat(actual.getSequenceId(), is(3));
+        assertThat(actual.getAuthPluginResponse(), is(scramble("pwd", authPluginData.getAuthPluginData())));
+        assertFalse(authResultCallback.isDone());
+        channel.writeInbound(new MySQLOKPacket(4));
+        assertTrue(authResultCallback.isSuccess());
+    }
+    
+    @Test
+    public void assertSwitchToUnsupportedAuthenticationMethod() {
+        channel.writeInbound(new MySQLHandshakePacket(1, new MySQLAuthPluginData()));
+        channel.readOutbound();
+        channel.writeInbound(new MySQLAuthSwitchRequestPacket(2, "caching_sha2_password", new MySQLAuthPluginData()));
+        assertThat(authResultCallback.cause(), instanceOf(SQLFeatureNotSupportedException.class));
+        assertThat(channel.readOutbound(), nullValue());
+        assertFalse(channel.isOpen());
+    }
+    
+    @Test
+    public void assertClosedBeforeAuthenticated() {
+        channel.close();
+        assertThat(authResultCallback.cause(), instanceOf(SQLException.class));
+    }
+    
+    private byte[] scramble(final String password, final byte[] authPluginData) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+        byte[] stage1 = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+        byte[] stage2 = messageDigest.digest(stage1);
+        messageDigest.update(authPluginData);
+        byte[] result = messageDigest.digest(stage2);
+        for (int i = 0; i < result.length; i++) {
+            result[i] ^= stage1[i];
+        }
+        return result;
+    }
+}
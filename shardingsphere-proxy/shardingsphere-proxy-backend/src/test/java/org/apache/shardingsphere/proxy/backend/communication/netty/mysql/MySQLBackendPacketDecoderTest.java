@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLBackendPacketDecoderTest {
+    
+    private EmbeddedChannel channel;
+    
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLBackendPacketDecoder(StandardCharsets.UTF_8));
+        channel.writeInbound(createPacket(new MySQLHandshakePacket(1, new MySQLAuthPluginData())));
+        assertThat(channel.readInbound(), instanceOf(MySQLHandshakePacket.class));
+        channel.writeInbound(createPacket(new MySQLOKPacket(2)));
+        assertThat(channel.readInbound(), instanceOf(MySQLOKPacket.class));
+    }
+    
+    @Test
+    public void assertDecodeAuthSwitchRequestPacket() {
+        channel = new EmbeddedChannel(new MySQLBackendPacketDecoder(StandardCharsets.UTF_8));
+        channel.writeInbound(createPacket(new MySQLHandshakePacket(1, new MySQLAuthPluginData())));
+        assertThat(channel.readInbound(), instanceOf(MySQLHandshakePacket.class));
+        MySQLAuthPluginData authPluginData = new MySQLAuthPluginData();
+        channel.writeInbound(createPacket(new MySQLAuthSwitchRequestPacket(2, "mysql_native_password", authPluginData)));
+        MySQLAuthSwitchRequestPacket actual = channel.readInbound();
+        assertThat(actual.getSequenceId(), is(2));
+        assertThat(actual.getAuthPluginName(), is("mysql_native_password"));
+        assertThat(actual.getAuthPluginData().getAuthPluginData(), is(authPluginData.getAuthPluginData()));
+        channel.writeInbound(createPacket(new MySQLOKPacket(4)));
+        assertThat(channel.readInbound(), instanceOf(MySQLOKPacket.class));
+    }
+    
+    @Test
+    public void assertDecodeOKPacket() {
+        channel.writeInbound(createPacket(new MySQLOKPacket(1, 10L, 100L)));
+        MySQLOKPacket actual = channel.readInbound();
+        assertThat(actual.getAffectedRows(), is(10L));
+        assertThat(actual.getLastInsertId(), is(100L));
+    }
+    
+    @Test
+    public void assertDecodeErrPacket() {
+        channel.writeInbound(createPacket(new MySQLErrPacket(1, 1146, "42S02", "Table 't_order_0' doesn't exist")));
+        MySQLErrPacket actual = channel.readInbound();
+        assertThat(actual.getErrorCode(), is(1146));
+        assertThat(actual.getSqlState(), is("42S02"));
+    }
+    
+    @Test
+    public void assertDecodeQueryResult() {
+        writeQueryResultHeader();
+        MySQLBackendQueryResult actual = channel.readInbound();
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getColumnLabel(1), is("order_id"));
+        channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(4, Arrays.asList(1, "foo"))));
+        MySQLBackendRow firstRow = channel.readInbound();
+        assertThat(firstRow.get(0), is((Object) 1));
+        assertThat(firstRow.get(1), is((Object) "foo"));
+        channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(5, Arrays.asList(2, null))));
+        MySQLBackendRow secondRow = channel.readInbound();
+        assertThat(secondRow.get(0), is((Object) 2));
+        assertThat(secondRow.get(1), nullValue());
+        channel.writeInbound(createPacket(new MySQLEofPacket(6)));
+        assertThat(channel.readInbound(), instanceOf(MySQLEofPacket.class));
+        channel.writeInbound(createPacket(new MySQLOKPacket(1)));
+        assertThat(channel.readInbound(), instanceOf(MySQLOKPacket.class));
+    }
+    
+    @Test
+    public void assertDecodeQueryResultWithCharset() {
+        channel = new EmbeddedChannel(new MySQLBackendPacketDecoder(Charset.forName("GBK")));
+        channel.writeInbound(createPacket(new MySQLHandshakePacket(1, new MySQLAuthPluginData())));
+        channel.writeInbound(createPacket(new MySQLOKPacket(2)));
+        channel.readInbound();
+        channel.readInbound();
+        writeQueryResultHeader();
+        channel.readInbound();
+        ByteBuf row = Unpooled.buffer();
+        row.writeByte(4);
+        MySQLPacketPayload payload = new MySQLPacketPayload(row);
+        payload.writeStringLenenc("1");
+        payload.writeBytesLenenc("中文".getBytes(Charset.forName("GBK")));
+        channel.writeInbound(row);
+        MySQLBackendRow actual = channel.readInbound();
+        assertThat(actual.get(1), is((Object) "中文"));
+    }
+    
+    private void writeQueryResultHeader() {
+        channel.writeInbound(createPacket(new MySQLFieldCountPacket(1, 2)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(2, 0x0001, "db", "t_order_0", "t_order_0", "order_id", "order_id", 11, MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(3, 0, "db", "t_order_0", "t_order_0", "status", "status", 45, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0)));
+        channel.writeInbound(createPacket(new MySQLEofPacket(4)));
+    }
+    
+    private ByteBuf createPacket(final MySQLPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(packet.getSequenceId());
+        packet.write(new MySQLPacketPayload(result));
+        return result;
+    }
+}
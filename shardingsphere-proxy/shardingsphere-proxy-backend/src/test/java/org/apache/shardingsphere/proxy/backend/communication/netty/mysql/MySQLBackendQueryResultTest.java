@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLBackendQueryResultTest {
+    
+    private static final int UNSIGNED_FLAG = 0x0020;
+    
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Arrays.asList(
+                createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0), createColumnDefinition("c_int_unsigned", MySQLColumnType.MYSQL_TYPE_LONG, UNSIGNED_FLAG),
+                createColumnDefinition("c_bigint", MySQLColumnType.MYSQL_TYPE_LONGLONG, UNSIGNED_FLAG), createColumnDefinition("c_decimal", MySQLColumnType.MYSQL_TYPE_NEWDECIMAL, 0),
+                createColumnDefinition("c_date", MySQLColumnType.MYSQL_TYPE_DATE, 0), createColumnDefinition("c_datetime", MySQLColumnType.MYSQL_TYPE_DATETIME, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("-1", "4294967295", "18446744073709551615", "1.50", "2020-08-01", "0000-00-00 00:00:00")));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("1", "1", "1", "1", null, "2020-08-02 10:00:00")));
+        actual.finish();
+        assertThat(actual.next(), is(true));
+        assertThat(actual.getValue(1, Object.class), is((Object) (-1)));
+        assertThat(actual.getValue(2, Object.class), is((Object) 4294967295L));
+        assertThat(actual.getValue(3, Object.class), is((Object) new BigInteger("18446744073709551615")));
+        assertThat(actual.getValue(4, Object.class), is((Object) new BigDecimal("1.50")));
+        assertThat(actual.getValue(5, Object.class), is((Object) Date.valueOf("2020-08-01")));
+        assertThat(actual.getValue(6, Object.class), is((Object) "0000-00-00 00:00:00"));
+        assertThat(actual.next(), is(true));
+        assertThat(actual.getValue(3, Object.class), is((Object) 1L));
+        assertThat(actual.getValue(5, Object.class), nullValue());
+        assertThat(actual.getValue(6, Object.class), is((Object) Timestamp.valueOf("2020-08-02 10:00:00")));
+        assertThat(actual.getCurrentRow().getRawData(), is(createRawData("1", "1", "1", "1", null, "2020-08-02 10:00:00")));
+        assertThat(actual.next(), is(false));
+    }
+    
+    @Test
+    public void assertGetValueWithType() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Arrays.asList(
+                createColumnDefinition("c_int_unsigned", MySQLColumnType.MYSQL_TYPE_LONG, UNSIGNED_FLAG), createColumnDefinition("c_decimal", MySQLColumnType.MYSQL_TYPE_NEWDECIMAL, 0),
+                createColumnDefinition("c_varchar", MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0), createColumnDefinition("c_datetime", MySQLColumnType.MYSQL_TYPE_DATETIME, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("4294967295", "1.50", "10", "2020-08-02 10:00:00")));
+        actual.addRow(new MySQLBackendRow(actual, createRawData(null, null, "foo", null)));
+        actual.finish();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is((Object) 4294967295L));
+        assertThat(actual.getValue(1, String.class), is((Object) "4294967295"));
+        assertThat(actual.getValue(1, BigDecimal.class), is((Object) new BigDecimal("4294967295")));
+        assertThat(actual.getValue(2, double.class), is((Object) 1.5D));
+        assertThat(actual.getValue(2, int.class), is((Object) 1));
+        assertThat(actual.getValue(3, int.class), is((Object) 10));
+        assertThat(actual.getValue(3, boolean.class), is((Object) true));
+        assertThat(actual.getValue(3, byte[].class), is((Object) "10".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.getValue(4, Timestamp.class), is((Object) Timestamp.valueOf("2020-08-02 10:00:00")));
+        assertThat(actual.getValue(4, Date.class), is((Object) new Date(Timestamp.valueOf("2020-08-02 10:00:00").getTime())));
+        assertThat(actual.getValue(4, String.class), is((Object) "2020-08-02 10:00:00.0"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is((Object) 0L));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getValue(2, BigDecimal.class), nullValue());
+        assertThat(actual.getValue(4, Timestamp.class), nullValue());
+        assertThat(actual.getValue(3, String.class), is((Object) "foo"));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetValueWithUnconvertibleType() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_varchar", MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("foo")));
+        assertTrue(actual.next());
+        actual.getValue(1, int.class);
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Arrays.asList(
+                createColumnDefinition("c_datetime", MySQLColumnType.MYSQL_TYPE_DATETIME, 0), createColumnDefinition("c_time", MySQLColumnType.MYSQL_TYPE_TIME, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("2020-08-02 10:00:00.5", "10:00:00")));
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT+08:00"));
+        Timestamp expectedTimestamp = new Timestamp(createTimeInMillis(calendar, 2020, Calendar.AUGUST, 2, 10));
+        expectedTimestamp.setNanos(500000000);
+        assertThat(actual.getCalendarValue(1, Timestamp.class, calendar), is((Object) expectedTimestamp));
+        assertThat(actual.getCalendarValue(1, Date.class, calendar), is((Object) new Date(createTimeInMillis(calendar, 2020, Calendar.AUGUST, 2, 10) + 500L)));
+        assertThat(actual.getCalendarValue(2, Time.class, calendar), is((Object) new Time(createTimeInMillis(calendar, 1970, Calendar.JANUARY, 1, 10))));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetCalendarValueWithUnsupportedType() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_datetime", MySQLColumnType.MYSQL_TYPE_DATETIME, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("2020-08-02 10:00:00")));
+        assertTrue(actual.next());
+        actual.getCalendarValue(1, String.class, Calendar.getInstance());
+    }
+    
+    @Test
+    public void assertGetResultSetMetaData() throws SQLException {
+        ResultSetMetaData actual = createQueryResult(Arrays.asList(
+                createColumnDefinition("c_bigint", MySQLColumnType.MYSQL_TYPE_LONGLONG, 0x0001 | 0x0200 | UNSIGNED_FLAG),
+                createColumnDefinition("c_varchar", MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0)))
+                .getResultSetMetaData();
+        assertThat(actual.getColumnType(1), is(Types.BIGINT));
+        assertThat(actual.isSigned(1), is(false));
+        assertThat(actual.isAutoIncrement(1), is(true));
+        assertThat(actual.isNullable(1), is(ResultSetMetaData.columnNoNulls));
+        assertThat(actual.getColumnType(2), is(Types.VARCHAR));
+        assertThat(actual.isSigned(2), is(true));
+        assertThat(actual.isNullable(2), is(ResultSetMetaData.columnNullable));
+        assertThat(actual.getTableName(2), is("t_order_0"));
+    }
+    
+    @Test
+    public void assertGetRawRow() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("1")));
+        assertTrue(actual.next());
+        assertThat(actual.getRawRow().get().getRawData(), is(createRawData("1")));
+        assertThat(actual.getRawRow().get().getValues().get(0), is((Object) 1));
+    }
+    
+    @Test
+    public void assertGetRawRowWithoutUTF8() throws SQLException {
+        MySQLBackendQueryResult actual = new MySQLBackendQueryResult(
+                Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)), MySQLBackendCharacterSet.GBK.getCharset(), channel);
+        actual.addRow(new MySQLBackendRow(actual, createRawData("1")));
+        assertTrue(actual.next());
+        assertFalse(actual.getRawRow().isPresent());
+    }
+    
+    @Test
+    public void assertNextWithBackPressure() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        for (int i = 0; i < 1024; i++) {
+            assertTrue(channel.config().isAutoRead());
+            actual.addRow(new MySQLBackendRow(actual, createRawData(String.valueOf(i))));
+        }
+        assertFalse(channel.config().isAutoRead());
+        actual.finish();
+        for (int i = 0; i < 768; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) i));
+            assertFalse(channel.config().isAutoRead());
+        }
+        assertTrue(actual.next());
+        assertTrue(channel.config().isAutoRead());
+        while (actual.next()) {
+            assertThat(actual.getCurrentRow().size(), is(1));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextAfterStreamingFromAnotherThread() throws SQLException, InterruptedException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        Thread producer = new Thread(() -> {
+            actual.addRow(new MySQLBackendRow(actual, createRawData("1")));
+            actual.finish();
+        });
+        producer.start();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertFalse(actual.next());
+        producer.join();
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertNextResumeReadingWhenBufferDrained() throws SQLException, InterruptedException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        channel.config().setAutoRead(false);
+        Thread producer = new Thread(() -> {
+            while (!channel.config().isAutoRead()) {
+                Thread.yield();
+            }
+            actual.addRow(new MySQLBackendRow(actual, createRawData("1")));
+            actual.finish();
+        });
+        producer.start();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertFalse(actual.next());
+        producer.join();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWhenFailed() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("1")));
+        actual.fail(new SQLException("Query execution was interrupted", "70100", 1317));
+        assertTrue(actual.next());
+        actual.next();
+    }
+    
+    @Test
+    public void assertCloseBeforeFinished() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("1")));
+        actual.close();
+        channel.runPendingTasks();
+        assertFalse(channel.isOpen());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseAfterFinished() {
+        MySQLBackendQueryResult actual = createQueryResult(Collections.singletonList(createColumnDefinition("c_int", MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        actual.addRow(new MySQLBackendRow(actual, createRawData("1")));
+        actual.finish();
+        actual.close();
+        channel.runPendingTasks();
+        assertTrue(channel.isOpen());
+    }
+    
+    private long createTimeInMillis(final Calendar calendar, final int year, final int month, final int day, final int hour) {
+        Calendar result = (Calendar) calendar.clone();
+        result.clear();
+        result.set(year, month, day, hour, 0, 0);
+        return result.getTimeInMillis();
+    }
+    
+    private MySQLBackendQueryResult createQueryResult(final List<MySQLColumnDefinition41Packet> columnDefinitions) {
+        return new MySQLBackendQueryResult(columnDefinitions, StandardCharsets.UTF_8, channel);
+    }
+    
+    private MySQLColumnDefinition41Packet createColumnDefinition(final String name, final MySQLColumnType columnType, final int flags) {
+        return new MySQLColumnDefinition41Packet(1, flags, "db", "t_order_0", "t_order_0", name, name, 20, columnType, 0);
+    }
+    
+    private byte[] createRawData(final String... values) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new MySQLTextResultSetRowPacket(1, Arrays.asList((Object[]) values)).write(new MySQLPacketPayload(byteBuf));
+        byte[] result = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(result);
+        return result;
+    }
+}
@@ -43,5 +43,17 @@ public final class MetricsUtilsTest {
         MetricsUtils.buriedTransactionMetric("rollback");
     }
     
+    @Test
+    public void testBuriedSQLParseCacheMetric() {
+        MetricsUtils.buriedSQLParseCacheMetric("MySQL", "sql", "hit");
+        MetricsUtils.buriedSQLParseCacheMetric("MySQL", "sql", "miss");
+        MetricsUtils.buriedSQLParseCacheMetric("MySQL", "sql", "eviction");
+    }
+    
+    @Test
+    public void testBuriedGroupByMergeSpillMetrics() {
+        MetricsUtils.buriedGroupByMergeSpillMetrics(16, 1024L);
+    }
+    
 }
 
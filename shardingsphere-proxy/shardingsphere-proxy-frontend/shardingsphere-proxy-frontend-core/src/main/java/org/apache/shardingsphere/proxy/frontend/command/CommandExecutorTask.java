@@ -56,6 +56,79 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private PacketPayload preparedPayload;
+    
+    private CommandExecutor preparedCommandExecutor;
+    
+    private Exception prepareException;
+    
+    /**
+     * Decode command and create command executor in advance.
+     * 
+     * <p>Creating command executor neither parses SQL nor accesses databases, so it can be done in IO thread.</p>
+     *
+     * @return whether prepared command is non-blocking, which can be executed in IO thread directly
+     */
+    public boolean prepare() {
+        preparedPayload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message);
+        try {
+            preparedCommandExecutor = createCommandExecutor(preparedPayload, backendConnection);
+            return preparedCommandExecutor.isNonBlocking();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            prepareException = ex;
+            return true;
+        }
+    }
+    
+    /**
+     * Execute prepared non-blocking command.
+     * 
+     * <p>Non-blocking command holds no backend resource, so it neither waits for backend connection released nor closes backend connection.</p>
+     */
+    public void executeNonBlocking() {
+        RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
+        rootInvokeHook.start();
+        Supplier<Boolean> histogramSupplier = startRequestLatencyTimer();
+        int connectionSize = 0;
+        boolean isNeedFlush = false;
+        try (PacketPayload payload = preparedPayload) {
+            if (null != prepareException) {
+                throw prepareException;
+            }
+            isNeedFlush = executeCommand(context, preparedCommandExecutor, backendConnection);
+            connectionSize = backendConnection.getConnectionSize();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            processException(ex);
+        } finally {
+            if (isNeedFlush) {
+                context.flush();
+            }
+            rootInvokeHook.finish(connectionSize);
+            if (null != histogramSupplier) {
+                histogramSupplier.get();
+            }
+        }
+    }
+    
+    /**
+     * Reject command without executing it.
+     *
+     * @param cause cause of rejection
+     */
+    public void reject(final Exception cause) {
+        try (PacketPayload ignored = null == preparedPayload ? databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message) : preparedPayload) {
+            processException(cause);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur: ", ex);
+        }
+    }
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -66,26 +139,23 @@ public final class CommandExecutorTask implements Runnable {
     public void run() {
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
-        Supplier<Boolean> histogramSupplier = null;
-        Optional<MetricsHandlerFacade> handlerFacade = SingletonFacadeEngine.buildMetrics();
-        if (handlerFacade.isPresent()) {
-            histogramSupplier = handlerFacade.get().histogramStartTimer(MetricsLabelEnum.REQUEST_LATENCY.getName());
-        }
+        Supplier<Boolean> histogramSupplier = startRequestLatencyTimer();
         int connectionSize = 0;
         boolean isNeedFlush = false;
         try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+             PacketPayload payload = null == preparedPayload ? databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message) : preparedPayload) {
+            if (null != prepareException) {
+                throw prepareException;
+            }
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
+            CommandExecutor commandExecutor = null == preparedCommandExecutor ? createCommandExecutor(payload, backendConnection) : preparedCommandExecutor;
+            isNeedFlush = executeCommand(context, commandExecutor, backendConnection);
             connectionSize = backendConnection.getConnectionSize();
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            log.error("Exception occur: ", ex);
-            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
-            Optional<DatabasePacket> databasePacket = databaseProtocolFrontendEngine.getCommandExecuteEngine().getOtherPacket();
-            databasePacket.ifPresent(context::writeAndFlush);
+            processException(ex);
         } finally {
             if (isNeedFlush) {
                 context.flush();
@@ -97,11 +167,20 @@ public final class CommandExecutorTask implements Runnable {
         }
     }
     
-    private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
+    private Supplier<Boolean> startRequestLatencyTimer() {
+        Optional<MetricsHandlerFacade> handlerFacade = SingletonFacadeEngine.buildMetrics();
+        return handlerFacade.map(each -> each.histogramStartTimer(MetricsLabelEnum.REQUEST_LATENCY.getName())).orElse(null);
+    }
+    
+    private CommandExecutor createCommandExecutor(final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
-        CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+        return commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+    }
+    
+    private boolean executeCommand(final ChannelHandlerContext context, final CommandExecutor commandExecutor, final BackendConnection backendConnection) throws SQLException {
+        CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         Collection<DatabasePacket> responsePackets = commandExecutor.execute();
         if (responsePackets.isEmpty()) {
             return false;
@@ -113,4 +192,11 @@ public final class CommandExecutorTask implements Runnable {
         }
         return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
+    
+    private void processException(final Exception cause) {
+        log.error("Exception occur: ", cause);
+        context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(cause));
+        Optional<DatabasePacket> databasePacket = databaseProtocolFrontendEngine.getCommandExecuteEngine().getOtherPacket();
+        databasePacket.ifPresent(context::writeAndFlush);
+    }
 }
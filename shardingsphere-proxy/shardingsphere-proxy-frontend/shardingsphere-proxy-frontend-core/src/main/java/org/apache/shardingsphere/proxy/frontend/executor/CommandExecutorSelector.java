@@ -40,7 +40,19 @@ public final class CommandExecutorSelector {
      * @return executor service
      */
     public static ExecutorService getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final ChannelId channelId) {
-        return (isOccupyThreadForPerConnection || supportHint || TransactionType.XA == transactionType || TransactionType.BASE == transactionType)
+        return isOccupyChannelThread(isOccupyThreadForPerConnection, supportHint, transactionType)
                 ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
     }
+    
+    /**
+     * Judge whether commands should be executed by thread of channel.
+     *
+     * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
+     * @param supportHint is support hint
+     * @param transactionType transaction type
+     * @return occupy channel thread or not
+     */
+    public static boolean isOccupyChannelThread(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType) {
+        return isOccupyThreadForPerConnection || supportHint || TransactionType.XA == transactionType || TransactionType.BASE == transactionType;
+    }
 }
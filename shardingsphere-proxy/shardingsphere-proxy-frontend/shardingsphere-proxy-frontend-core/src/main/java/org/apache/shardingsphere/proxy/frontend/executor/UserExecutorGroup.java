@@ -18,11 +18,18 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
+import io.netty.channel.Channel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.impl.ShardingSphereExecutorService;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Command execute engine.
  */
@@ -39,8 +46,18 @@ public final class UserExecutorGroup implements AutoCloseable {
     @Getter
     private final ListeningExecutorService executorService;
     
+    private final BlockingQueue<Runnable> workQueue;
+    
+    private final Queue<Channel> pausedChannels = new ConcurrentLinkedQueue<>();
+    
     private UserExecutorGroup() {
-        shardingSphereExecutorService = new ShardingSphereExecutorService(PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.ACCEPTOR_SIZE), NAME_FORMAT);
+        this(PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.ACCEPTOR_SIZE),
+                PROXY_SCHEMA_CONTEXTS.getSchemaContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_QUEUE_SIZE));
+    }
+    
+    UserExecutorGroup(final int executorSize, final int maxQueueSize) {
+        workQueue = new LinkedBlockingQueue<>(0 == maxQueueSize ? Integer.MAX_VALUE : maxQueueSize);
+        shardingSphereExecutorService = new ShardingSphereExecutorService(executorSize, NAME_FORMAT, workQueue);
         executorService = shardingSphereExecutorService.getExecutorService();
     }
     
@@ -53,6 +70,63 @@ public final class UserExecutorGroup implements AutoCloseable {
         return INSTANCE;
     }
     
+    /**
+     * Execute command.
+     * 
+     * <p>Channels paused reading are resumed after each command if commands waiting for execution fall to low water mark.</p>
+     *
+     * @param command command to be executed
+     * @throws RejectedExecutionException if commands waiting for execution reach max queue size
+     */
+    public void execute(final Runnable command) {
+        executorService.execute(() -> {
+            try {
+                command.run();
+            } finally {
+                resumeReadingIfNecessary();
+            }
+        });
+    }
+    
+    /**
+     * Pause reading of channel if commands waiting for execution reach high water mark, which is three quarters of max queue size.
+     * 
+     * <p>Reading is paused before max queue size is reached, so that commands already read from paused channels are still accepted.
+     * Paused channels are resumed when commands waiting for execution fall to low water mark, which is half of max queue size.</p>
+     *
+     * @param channel channel to be paused
+     */
+    public void pauseReadingIfNecessary(final Channel channel) {
+        if (workQueue.size() < getHighWaterMark()) {
+            return;
+        }
+        channel.config().setAutoRead(false);
+        pausedChannels.add(channel);
+        resumeReadingIfNecessary();
+    }
+    
+    private void resumeReadingIfNecessary() {
+        if (pausedChannels.isEmpty() || workQueue.size() > getLowWaterMark()) {
+            return;
+        }
+        Channel each;
+        while (null != (each = pausedChannels.poll())) {
+            each.config().setAutoRead(true);
+        }
+    }
+    
+    private int getHighWaterMark() {
+        return Math.max(1, (int) (getMaxQueueSize() * 3L / 4));
+    }
+    
+    private int getLowWaterMark() {
+        return getMaxQueueSize() / 2;
+    }
+    
+    private int getMaxQueueSize() {
+        return workQueue.size() + workQueue.remainingCapacity();
+    }
+    
     @Override
     public void close() {
         shardingSphereExecutorService.close();
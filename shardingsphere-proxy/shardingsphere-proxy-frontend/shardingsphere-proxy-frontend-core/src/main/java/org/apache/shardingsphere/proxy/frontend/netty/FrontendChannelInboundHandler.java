@@ -27,14 +27,18 @@ import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.metrics.enums.MetricsLabelEnum;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStatus;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.proxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.executor.CommandExecutorSelector;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Frontend channel inbound handler.
@@ -47,6 +51,8 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     private volatile boolean authorized;
     
+    private final AtomicInteger runningCommandsCount = new AtomicInteger();
+    
     private final BackendConnection backendConnection = new BackendConnection(
             TransactionType.valueOf(ProxySchemaContexts.getInstance().getSchemaContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE)),
             ProxySchemaContexts.getInstance().getSchemaContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
@@ -65,8 +71,40 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             return;
         }
         SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.counterIncrement(MetricsLabelEnum.REQUEST_TOTAL.getName()));
-        CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
-                backendConnection.getTransactionType(), context.channel().id()).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message);
+        if (CommandExecutorSelector.isOccupyChannelThread(
+                databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(), backendConnection.getTransactionType())) {
+            ChannelThreadExecutorGroup.getInstance().get(context.channel().id()).execute(commandExecutorTask);
+            return;
+        }
+        if (0 == runningCommandsCount.get() && context.channel().isWritable() && isBackendConnectionReleased() && commandExecutorTask.prepare()) {
+            commandExecutorTask.executeNonBlocking();
+            return;
+        }
+        executeByUserExecutorGroup(context, commandExecutorTask);
+    }
+    
+    private boolean isBackendConnectionReleased() {
+        ConnectionStatus status = backendConnection.getStateHandler().getStatus();
+        return ConnectionStatus.RUNNING != status && ConnectionStatus.TERMINATED != status;
+    }
+    
+    private void executeByUserExecutorGroup(final ChannelHandlerContext context, final CommandExecutorTask commandExecutorTask) {
+        runningCommandsCount.incrementAndGet();
+        try {
+            UserExecutorGroup.getInstance().execute(() -> {
+                try {
+                    commandExecutorTask.run();
+                } finally {
+                    runningCommandsCount.decrementAndGet();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            commandExecutorTask.reject(ex);
+            runningCommandsCount.decrementAndGet();
+            return;
+        }
+        UserExecutorGroup.getInstance().pauseReadingIfNecessary(context.channel());
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -82,14 +120,22 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     }
     
     @Override
-    public void channelInactive(final ChannelHandlerContext context) throws SQLException {
+    public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
-        databaseProtocolFrontendEngine.release(backendConnection);
-        backendConnection.close(true);
+        ChannelThreadExecutorGroup.getInstance().get(context.channel().id()).execute(this::closeBackendConnection);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
         SingletonFacadeEngine.buildMetrics().ifPresent(metricsHandlerFacade -> metricsHandlerFacade.gaugeDecrement(MetricsLabelEnum.CHANNEL_COUNT.getName()));
     }
     
+    private void closeBackendConnection() {
+        databaseProtocolFrontendEngine.release(backendConnection);
+        try {
+            backendConnection.close(true);
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+        }
+    }
+    
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
@@ -24,7 +24,9 @@ import org.junit.Test;
 import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorGroupTest {
@@ -55,4 +57,14 @@ public final class ExecutorGroupTest {
         ChannelThreadExecutorGroup.getInstance().register(channelId);
         assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.BASE, channelId), instanceOf(ExecutorService.class));
     }
+    
+    @Test
+    public void assertIsOccupyChannelThreadWithLocal() {
+        assertFalse(CommandExecutorSelector.isOccupyChannelThread(false, false, TransactionType.LOCAL));
+    }
+    
+    @Test
+    public void assertIsOccupyChannelThreadWithHint() {
+        assertTrue(CommandExecutorSelector.isOccupyChannelThread(false, true, TransactionType.LOCAL));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class UserExecutorGroupTest {
+    
+    @Test
+    public void assertPauseReadingAtHighWaterMarkAndResumeAtLowWaterMark() throws InterruptedException {
+        UserExecutorGroup userExecutorGroup = new UserExecutorGroup(1, 4);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            userExecutorGroup.execute(() -> awaitQuietly(running, release));
+            running.await();
+            userExecutorGroup.execute(() -> { });
+            userExecutorGroup.execute(() -> { });
+            userExecutorGroup.pauseReadingIfNecessary(channel);
+            assertTrue(channel.config().isAutoRead());
+            userExecutorGroup.execute(() -> { });
+            userExecutorGroup.pauseReadingIfNecessary(channel);
+            assertFalse(channel.config().isAutoRead());
+            userExecutorGroup.execute(() -> { });
+            release.countDown();
+            long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5L);
+            while (!channel.config().isAutoRead() && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10L);
+            }
+            assertTrue(channel.config().isAutoRead());
+        } finally {
+            release.countDown();
+            userExecutorGroup.close();
+            channel.close();
+        }
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertExecuteWhenSaturated() throws InterruptedException {
+        UserExecutorGroup userExecutorGroup = new UserExecutorGroup(1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            userExecutorGroup.execute(() -> awaitQuietly(running, release));
+            running.await();
+            userExecutorGroup.execute(() -> { });
+            userExecutorGroup.execute(() -> { });
+        } finally {
+            release.countDown();
+            userExecutorGroup.close();
+        }
+    }
+    
+    @Test
+    public void assertNotPauseReadingWithUnlimitedQueueSize() throws InterruptedException {
+        UserExecutorGroup userExecutorGroup = new UserExecutorGroup(1, 0);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            userExecutorGroup.execute(() -> awaitQuietly(running, release));
+            running.await();
+            userExecutorGroup.execute(() -> { });
+            userExecutorGroup.pauseReadingIfNecessary(channel);
+            assertTrue(channel.config().isAutoRead());
+        } finally {
+            release.countDown();
+            userExecutorGroup.close();
+            channel.close();
+        }
+    }
+    
+    private void awaitQuietly(final CountDownLatch running, final CountDownLatch release) {
+        running.countDown();
+        try {
+            release.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
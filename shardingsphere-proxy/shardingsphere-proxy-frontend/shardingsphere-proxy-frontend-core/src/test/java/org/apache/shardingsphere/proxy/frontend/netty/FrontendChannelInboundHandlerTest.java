@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
+import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.proxy.frontend.engine.AuthenticationEngine;
+import org.apache.shardingsphere.proxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class FrontendChannelInboundHandlerTest {
+    
+    private final CommandExecuteEngine commandExecuteEngine = mock(CommandExecuteEngine.class);
+    
+    private final CommandExecutor commandExecutor = mock(CommandExecutor.class);
+    
+    private final DatabaseProtocolFrontendEngine frontendEngine = mock(DatabaseProtocolFrontendEngine.class);
+    
+    private FrontendChannelInboundHandler frontendChannelInboundHandler;
+    
+    private EmbeddedChannel channel;
+    
+    private Object originalWorkQueue;
+    
+    private Object originalExecutorService;
+    
+    @Before
+    @SneakyThrows
+    public void setUp() {
+        when(frontendEngine.getFrontendContext()).thenReturn(new FrontendContext(false, false));
+        DatabasePacketCodecEngine<?> codecEngine = mock(DatabasePacketCodecEngine.class);
+        when(codecEngine.createPacketPayload(any())).thenAnswer(invocation -> mock(PacketPayload.class));
+        when(frontendEngine.getCodecEngine()).thenAnswer(invocation -> codecEngine);
+        AuthenticationEngine authEngine = mock(AuthenticationEngine.class);
+        when(authEngine.auth(any(), any(), any())).thenReturn(true);
+        when(frontendEngine.getAuthEngine()).thenReturn(authEngine);
+        when(frontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        CommandPacketType commandPacketType = mock(CommandPacketType.class);
+        CommandPacket commandPacket = mock(CommandPacket.class);
+        when(commandExecuteEngine.getCommandPacketType(any())).thenReturn(commandPacketType);
+        when(commandExecuteEngine.getCommandPacket(any(), any(), any())).thenReturn(commandPacket);
+        when(commandExecuteEngine.getCommandExecutor(any(), any(), any())).thenReturn(commandExecutor);
+        frontendChannelInboundHandler = new FrontendChannelInboundHandler(frontendEngine);
+        channel = new EmbeddedChannel(frontendChannelInboundHandler);
+        channel.writeInbound(createMessage());
+        originalWorkQueue = getUserExecutorGroupField("workQueue").get(UserExecutorGroup.getInstance());
+        originalExecutorService = getUserExecutorGroupField("executorService").get(UserExecutorGroup.getInstance());
+    }
+    
+    @After
+    @SneakyThrows
+    public void tearDown() {
+        setUserExecutorGroupField("workQueue", originalWorkQueue);
+        setUserExecutorGroupField("executorService", originalExecutorService);
+        channel.close();
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertRunNonBlockingCommandInline() {
+        when(commandExecutor.isNonBlocking()).thenReturn(true);
+        AtomicReference<Thread> executeThread = new AtomicReference<>();
+        when(commandExecutor.execute()).thenAnswer(invocation -> {
+            executeThread.set(Thread.currentThread());
+            return Collections.emptyList();
+        });
+        channel.writeInbound(createMessage());
+        assertThat(executeThread.get(), is(Thread.currentThread()));
+        assertThat(getBackendConnection().getStateHandler().getStatus(), is(ConnectionStatus.INIT));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertNotRunNonBlockingCommandInlineWhenBackendConnectionRunning() {
+        when(commandExecutor.isNonBlocking()).thenReturn(true);
+        getBackendConnection().getStateHandler().setStatus(ConnectionStatus.RUNNING);
+        CountDownLatch executed = new CountDownLatch(1);
+        AtomicReference<Thread> executeThread = new AtomicReference<>();
+        when(commandExecutor.execute()).thenAnswer(invocation -> {
+            executeThread.set(Thread.currentThread());
+            executed.countDown();
+            return Collections.emptyList();
+        });
+        channel.writeInbound(createMessage());
+        getBackendConnection().getStateHandler().setStatus(ConnectionStatus.RELEASE);
+        getBackendConnection().getResourceSynchronizer().doNotify();
+        assertTrue(executed.await(5L, TimeUnit.SECONDS));
+        assertThat(executeThread.get(), not(Thread.currentThread()));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertTurnOffAutoReadAtHighWaterMarkAndTurnOnAtLowWaterMark() {
+        BlockingQueue<Runnable> workQueue = createFullWorkQueue();
+        setUserExecutorGroupField("workQueue", workQueue);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> executeThread = new AtomicReference<>();
+        when(commandExecutor.execute()).thenAnswer(invocation -> {
+            executeThread.set(Thread.currentThread());
+            running.countDown();
+            release.await();
+            return Collections.emptyList();
+        });
+        channel.writeInbound(createMessage());
+        assertFalse(channel.config().isAutoRead());
+        assertTrue(running.await(5L, TimeUnit.SECONDS));
+        assertThat(executeThread.get(), not(Thread.currentThread()));
+        workQueue.clear();
+        release.countDown();
+        long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5L);
+        while (!channel.config().isAutoRead() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertNotTurnOffAutoReadBelowHighWaterMark() {
+        BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<>(4);
+        workQueue.offer(() -> { });
+        workQueue.offer(() -> { });
+        setUserExecutorGroupField("workQueue", workQueue);
+        CountDownLatch executed = new CountDownLatch(1);
+        when(commandExecutor.execute()).thenAnswer(invocation -> {
+            executed.countDown();
+            return Collections.emptyList();
+        });
+        channel.writeInbound(createMessage());
+        assertTrue(channel.config().isAutoRead());
+        assertTrue(executed.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertRejectCommandWhenUserExecutorGroupSaturated() {
+        ListeningExecutorService executorService = mock(ListeningExecutorService.class);
+        doThrow(new RejectedExecutionException()).when(executorService).execute(any());
+        setUserExecutorGroupField("executorService", executorService);
+        setUserExecutorGroupField("workQueue", createFullWorkQueue());
+        channel.writeInbound(createMessage());
+        verify(commandExecuteEngine).getErrorPacket(any(RejectedExecutionException.class));
+        verify(commandExecutor, never()).execute();
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertCloseBackendConnectionOutOfEventLoop() {
+        CountDownLatch released = new CountDownLatch(1);
+        AtomicReference<Thread> releaseThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            releaseThread.set(Thread.currentThread());
+            released.countDown();
+            return null;
+        }).when(frontendEngine).release(any());
+        channel.close();
+        assertTrue(released.await(5L, TimeUnit.SECONDS));
+        assertThat(releaseThread.get(), not(Thread.currentThread()));
+    }
+    
+    private BlockingQueue<Runnable> createFullWorkQueue() {
+        BlockingQueue<Runnable> result = new LinkedBlockingQueue<>(1);
+        result.offer(() -> { });
+        return result;
+    }
+    
+    private ByteBuf createMessage() {
+        return Unpooled.wrappedBuffer(new byte[]{0, 1});
+    }
+    
+    @SneakyThrows
+    private BackendConnection getBackendConnection() {
+        Field field = FrontendChannelInboundHandler.class.getDeclaredField("backendConnection");
+        field.setAccessible(true);
+        return (BackendConnection) field.get(frontendChannelInboundHandler);
+    }
+    
+    @SneakyThrows
+    private void setUserExecutorGroupField(final String fieldName, final Object value) {
+        getUserExecutorGroupField(fieldName).set(UserExecutorGroup.getInstance(), value);
+    }
+    
+    @SneakyThrows
+    private Field getUserExecutorGroupField(final String fieldName) {
+        Field result = UserExecutorGroup.class.getDeclaredField(fieldName);
+        result.setAccessible(true);
+        return result;
+    }
+}
@@ -55,4 +55,9 @@ public final class MySQLComInitDbExecutor implements CommandExecutor {
         Collection<String> authorizedSchemas = ProxySchemaContexts.getInstance().getSchemaContexts().getAuthentication().getUsers().get(backendConnection.getUserName()).getAuthorizedSchemas();
         return authorizedSchemas.isEmpty() || authorizedSchemas.contains(schema);
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
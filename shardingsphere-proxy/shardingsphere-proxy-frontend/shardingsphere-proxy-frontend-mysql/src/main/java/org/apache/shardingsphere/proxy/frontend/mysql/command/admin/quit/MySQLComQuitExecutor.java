@@ -33,4 +33,9 @@ public final class MySQLComQuitExecutor implements CommandExecutor {
     public Collection<DatabasePacket> execute() {
         return Collections.singletonList(new MySQLOKPacket(1));
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.clos
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.api.CommandExecutor;
 
 import java.util.Collection;
@@ -33,10 +34,16 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     private final MySQLComStmtClosePacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
-        //TODO we need to design the cache in future.
-//        packet.removeCachedStatement();
+        packet.removeCachedStatement(backendConnection.getConnectionId());
         return Collections.emptyList();
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
@@ -54,7 +54,11 @@ import java.util.List;
  */
 public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
-    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    private final MySQLComStmtExecutePacket comStmtExecutePacket;
+    
+    private final BackendConnection backendConnection;
+    
+    private DatabaseCommunicationEngine databaseCommunicationEngine;
     
     private volatile boolean isQuery;
     
@@ -67,8 +71,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     private int currentSequenceId;
     
     public MySQLComStmtExecuteExecutor(final MySQLComStmtExecutePacket comStmtExecutePacket, final BackendConnection backendConnection) {
-        databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
-                backendConnection.getSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getParameters(), backendConnection);
+        this.comStmtExecutePacket = comStmtExecutePacket;
+        this.backendConnection = backendConnection;
     }
     
     @Override
@@ -76,6 +80,10 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         if (ProxySchemaContexts.getInstance().getSchemaContexts().isCircuitBreak()) {
             return Collections.singletonList(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
         }
+        if (null == databaseCommunicationEngine) {
+            databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
+                    backendConnection.getSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getParameters(), backendConnection);
+        }
         BackendResponse backendResponse = databaseCommunicationEngine.execute();
         if (backendResponse instanceof ErrorResponse) {
             isErrorResponse = true;
@@ -39,4 +39,9 @@ public final class MySQLComStmtResetExecutor implements CommandExecutor {
         // TODO we should implement the stmt reset after supporting COM_STMT_SEND_LONG_DATA
         return Collections.singletonList(new MySQLOKPacket(1));
     }
+    
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
 }
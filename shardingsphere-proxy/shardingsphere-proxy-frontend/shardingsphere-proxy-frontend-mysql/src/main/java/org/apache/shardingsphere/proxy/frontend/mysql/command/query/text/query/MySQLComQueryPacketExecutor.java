@@ -24,6 +24,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnFieldDetailFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLRawTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.Que
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.schema.ProxySchemaContexts;
@@ -54,7 +56,11 @@ import java.util.List;
  */
 public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
-    private final TextProtocolBackendHandler textProtocolBackendHandler;
+    private final String sql;
+    
+    private final BackendConnection backendConnection;
+    
+    private TextProtocolBackendHandler textProtocolBackendHandler;
     
     private volatile boolean isQuery;
     
@@ -67,7 +73,9 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     private int currentSequenceId;
     
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
-        textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), comQueryPacket.getSql(), backendConnection);
+        sql = comQueryPacket.getSql();
+        this.backendConnection = backendConnection;
+        textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstanceWithoutParsing(DatabaseTypes.getActualDatabaseType("MySQL"), sql, backendConnection).orElse(null);
     }
     
     @Override
@@ -75,6 +83,9 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         if (ProxySchemaContexts.getInstance().getSchemaContexts().isCircuitBreak()) {
             return Collections.singletonList(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
         }
+        if (null == textProtocolBackendHandler) {
+            textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), sql, backendConnection);
+        }
         BackendResponse backendResponse = textProtocolBackendHandler.execute();
         if (backendResponse instanceof ErrorResponse) {
             isErrorResponse = true;
@@ -88,6 +99,11 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return createQueryPackets((QueryResponse) backendResponse);
     }
     
+    @Override
+    public boolean isNonBlocking() {
+        return null != textProtocolBackendHandler && textProtocolBackendHandler.isNonBlocking();
+    }
+    
     private MySQLErrPacket createErrorPacket(final Exception cause) {
         return MySQLErrPacketFactory.newInstance(1, cause);
     }
@@ -137,6 +153,10 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryData() throws SQLException {
-        return new MySQLTextResultSetRowPacket(++currentSequenceId, textProtocolBackendHandler.getQueryData().getData());
+        QueryData queryData = textProtocolBackendHandler.getQueryData();
+        if (null != queryData.getRawTextRow()) {
+            return new MySQLRawTextResultSetRowPacket(++currentSequenceId, queryData.getRawTextRow());
+        }
+        return new MySQLTextResultSetRowPacket(++currentSequenceId, queryData.getData());
     }
 }
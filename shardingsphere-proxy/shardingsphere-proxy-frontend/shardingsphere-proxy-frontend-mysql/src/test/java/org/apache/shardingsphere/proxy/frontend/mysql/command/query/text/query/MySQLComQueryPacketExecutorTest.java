@@ -18,9 +18,13 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLRawTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
@@ -32,6 +36,7 @@ import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
 
 import static org.junit.Assert.assertThat;
@@ -49,6 +54,41 @@ public class MySQLComQueryPacketExecutorTest {
     
     private final MySQLComQueryPacketExecutor mysqlComQueryPacketExecutor = new MySQLComQueryPacketExecutor(mock(MySQLComQueryPacket.class), null);
     
+    @Test
+    public void assertIsNonBlockingWithoutParsing() {
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("sctl:show cached_connections");
+        assertThat(new MySQLComQueryPacketExecutor(packet, null).isNonBlocking(), Matchers.is(true));
+    }
+    
+    @Test
+    public void assertIsNonBlockingWithUse() {
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("USE sharding_db");
+        assertThat(new MySQLComQueryPacketExecutor(packet, null).isNonBlocking(), Matchers.is(true));
+    }
+    
+    @Test
+    public void assertIsNonBlockingWithShowDatabases() {
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("SHOW DATABASES");
+        assertThat(new MySQLComQueryPacketExecutor(packet, null).isNonBlocking(), Matchers.is(true));
+    }
+    
+    @Test
+    public void assertIsNotNonBlockingWithSet() {
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("SET NAMES utf8mb4");
+        assertThat(new MySQLComQueryPacketExecutor(packet, null).isNonBlocking(), Matchers.is(false));
+    }
+    
+    @Test
+    public void assertIsNotNonBlockingWhenParsingRequired() {
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("SELECT * FROM t_order");
+        assertThat(new MySQLComQueryPacketExecutor(packet, null).isNonBlocking(), Matchers.is(false));
+    }
+    
     @Test
     @SneakyThrows
     public void assertIsErrorResponse() {
@@ -76,4 +116,25 @@ public class MySQLComQueryPacketExecutorTest {
         mysqlComQueryPacketExecutor.execute();
         assertThat(mysqlComQueryPacketExecutor.isQuery(), Matchers.is(true));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertGetQueryDataWithRawRow() {
+        FieldSetter.setField(mysqlComQueryPacketExecutor, MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandler"), textProtocolBackendHandler);
+        byte[] rawData = new byte[]{1, 49};
+        when(textProtocolBackendHandler.getQueryData()).thenReturn(new QueryData(Collections.singletonList(Types.INTEGER), Collections.singletonList(1), rawData));
+        MySQLPacket actual = mysqlComQueryPacketExecutor.getQueryData();
+        assertThat(actual, Matchers.instanceOf(MySQLRawTextResultSetRowPacket.class));
+        assertThat(((MySQLRawTextResultSetRowPacket) actual).getRawData(), Matchers.is(rawData));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertGetQueryDataWithoutRawRow() {
+        FieldSetter.setField(mysqlComQueryPacketExecutor, MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandler"), textProtocolBackendHandler);
+        when(textProtocolBackendHandler.getQueryData()).thenReturn(new QueryData(Collections.singletonList(Types.INTEGER), Collections.singletonList(1)));
+        MySQLPacket actual = mysqlComQueryPacketExecutor.getQueryData();
+        assertThat(actual, Matchers.instanceOf(MySQLTextResultSetRowPacket.class));
+        assertThat(((MySQLTextResultSetRowPacket) actual).getData(), Matchers.is(Collections.<Object>singletonList(1)));
+    }
 }
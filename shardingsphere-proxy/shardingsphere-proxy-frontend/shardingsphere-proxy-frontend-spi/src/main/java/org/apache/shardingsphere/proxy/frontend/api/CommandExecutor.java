@@ -34,4 +34,15 @@ public interface CommandExecutor {
      * @throws SQLException SQL exception
      */
     Collection<DatabasePacket> execute() throws SQLException;
+    
+    /**
+     * Judge whether command is non-blocking.
+     * 
+     * <p>Non-blocking commands neither access databases nor wait for other resources, they can be executed in IO threads directly.</p>
+     *
+     * @return non-blocking or not
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.auth.Authentication;
 import org.apache.shardingsphere.infra.auth.ProxyUser;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.kernel.context.SchemaContext;
 import org.apache.shardingsphere.kernel.context.SchemaContexts;
 import org.apache.shardingsphere.kernel.context.runtime.RuntimeContext;
@@ -46,6 +47,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ProxyOrchestrationSchemaContextsTest {
     
@@ -62,6 +64,7 @@ public final class ProxyOrchestrationSchemaContextsTest {
         for (int i = 0; i < 10; i++) {
             String name = "schema_" + i;
             ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+            when(schema.getDatabaseType()).thenReturn(new MySQLDatabaseType());
             RuntimeContext runtimeContext = mock(RuntimeContext.class);
             result.put(name, new SchemaContext(name, schema, runtimeContext));
         }
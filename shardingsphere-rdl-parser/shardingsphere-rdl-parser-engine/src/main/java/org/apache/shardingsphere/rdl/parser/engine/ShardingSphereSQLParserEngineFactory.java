@@ -19,6 +19,7 @@ package org.apache.shardingsphere.rdl.parser.engine;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
 import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.engine.SQLParserEngineFactory;
 
@@ -35,7 +36,18 @@ public final class ShardingSphereSQLParserEngineFactory {
      * @return SQL parser engine
      */
     public static ShardingSphereSQLParserEngine getSQLParserEngine(final String databaseTypeName) {
-        SQLParserEngine sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(databaseTypeName);
+        return getSQLParserEngine(databaseTypeName, new ParseCacheOption());
+    }
+    
+    /**
+     * Get SQL parser engine.
+     *
+     * @param databaseTypeName name of database type
+     * @param parseCacheOption parse cache option
+     * @return SQL parser engine
+     */
+    public static ShardingSphereSQLParserEngine getSQLParserEngine(final String databaseTypeName, final ParseCacheOption parseCacheOption) {
+        SQLParserEngine sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(databaseTypeName, parseCacheOption);
         return new ShardingSphereSQLParserEngine(sqlParserEngine);
     }
 }
@@ -22,6 +22,7 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.rdl.parser.engine.executor.RDLSQLParserExecutor;
 import org.apache.shardingsphere.rdl.parser.sql.visitor.ShardingSphereVisitor;
 import org.apache.shardingsphere.sql.parser.engine.QuerySQLParserEngine;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
 import org.apache.shardingsphere.sql.parser.hook.ParsingHookRegistry;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
@@ -34,7 +35,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public final class RDLSQLParserEngine implements QuerySQLParserEngine {
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    private final SQLParseResultCache cache = new SQLParseResultCache("ShardingSphere", new ParseCacheOption());
     
     private final ParsingHookRegistry parsingHookRegistry = ParsingHookRegistry.getInstance();
     
@@ -70,7 +71,7 @@ public final class RDLSQLParserEngine implements QuerySQLParserEngine {
         ParseTree parseTree = new RDLSQLParserExecutor(sql).execute().getRootNode();
         SQLStatement result = (SQLStatement) new ShardingSphereVisitor().visit(parseTree);
         if (useCache) {
-            cache.put(sql, result);
+            cache.put(sql, result, parseTree);
         }
         return result;
     }
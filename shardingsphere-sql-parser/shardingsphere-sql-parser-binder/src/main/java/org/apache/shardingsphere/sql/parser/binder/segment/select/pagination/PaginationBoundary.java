@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.binder.segment.select.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Pagination boundary.
+ * 
+ * <p>Boundary query fetches rows of every route from offset divided by count of routes,
+ * all rows of pagination are between the smallest first row and the greatest last row of routes.
+ * Head row count is the sum of rows of every route which are not after the first row of the route.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PaginationBoundary {
+    
+    private final List<Object> lowerValues;
+    
+    private final List<Object> upperValues;
+    
+    private final List<List<Object>> firstValues;
+    
+    private final long headRowCount;
+}
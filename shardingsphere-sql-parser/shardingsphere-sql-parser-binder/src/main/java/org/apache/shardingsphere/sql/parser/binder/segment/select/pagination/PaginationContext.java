@@ -18,12 +18,15 @@
 package org.apache.shardingsphere.sql.parser.binder.segment.select.pagination;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.NumberLiteralPaginationValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.PaginationValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.ParameterMarkerPaginationValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitValueSegment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +46,25 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    @Getter
+    private List<Object> seekValues = Collections.emptyList();
+    
+    @Getter
+    @Setter
+    private long seekOffset;
+    
+    @Getter
+    @Setter
+    private long boundaryQueryMinOffset;
+    
+    private Long boundaryOffset;
+    
+    private long boundaryRowCount;
+    
+    private boolean boundaryLocatingStopped;
+    
+    private PaginationBoundary boundary;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> parameters) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -121,13 +143,87 @@ public final class PaginationContext {
                 ? Optional.of(((ParameterMarkerPaginationValueSegment) rowCountSegment).getParameterIndex()) : Optional.empty();
     }
     
+    /**
+     * Seek rows after order by values of the last row of previous page, instead of skipping rows of offset.
+     *
+     * @param seekValues order by values of the last row of previous page
+     */
+    public void seek(final List<?> seekValues) {
+        this.seekValues = new ArrayList<>(seekValues);
+    }
+    
+    /**
+     * Judge whether seek rows after order by values of the last row of previous page.
+     *
+     * @return seek or not
+     */
+    public boolean isSeeking() {
+        return !seekValues.isEmpty();
+    }
+    
+    /**
+     * Locate boundary of pagination by fetching rows of boundary offset and boundary row count from every route.
+     *
+     * @param boundaryOffset offset of boundary query
+     * @param boundaryRowCount row count of boundary query
+     */
+    public void locateBoundary(final long boundaryOffset, final long boundaryRowCount) {
+        this.boundaryOffset = boundaryOffset;
+        this.boundaryRowCount = boundaryRowCount;
+    }
+    
+    /**
+     * Judge whether boundary query is issued or not.
+     *
+     * @return boundary query is issued or not
+     */
+    public boolean isBoundaryQueried() {
+        return null != boundaryOffset;
+    }
+    
+    /**
+     * Judge whether locating boundary of pagination.
+     *
+     * @return locating boundary or not
+     */
+    public boolean isLocatingBoundary() {
+        return isBoundaryQueried() && !boundaryLocatingStopped;
+    }
+    
+    /**
+     * Seek rows between boundary of pagination, rows of seek offset are skipped while merging.
+     *
+     * @param boundary boundary of pagination
+     */
+    public void seekBetween(final PaginationBoundary boundary) {
+        this.boundary = boundary;
+        seekValues = new ArrayList<>(boundary.getLowerValues());
+        boundaryLocatingStopped = true;
+    }
+    
+    /**
+     * Stop locating boundary of pagination, rows are fetched and skipped as without boundary query.
+     */
+    public void stopLocatingBoundary() {
+        boundaryLocatingStopped = true;
+    }
+    
+    /**
+     * Get boundary of pagination.
+     *
+     * @return boundary of pagination
+     */
+    public Optional<PaginationBoundary> getBoundary() {
+        return Optional.ofNullable(boundary);
+    }
+    
     /**
      * Get revised offset.
      *
      * @return revised offset
      */
     public long getRevisedOffset() {
-        return 0L;
+        return isLocatingBoundary() ? boundaryOffset : 0L;
     }
     
     /**
@@ -140,7 +236,10 @@ public final class PaginationContext {
         if (isMaxRowCount(selectStatementContext)) {
             return Integer.MAX_VALUE;
         }
-        return rowCountSegment instanceof LimitValueSegment ? actualOffset + actualRowCount : actualRowCount;
+        if (isLocatingBoundary()) {
+            return boundaryRowCount;
+        }
+        return rowCountSegment instanceof LimitValueSegment && (!isSeeking() || null != boundary) ? actualOffset + actualRowCount : actualRowCount;
     }
     
     private boolean isMaxRowCount(final SelectStatementContext selectStatementContext) {
@@ -82,8 +82,9 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
     }
     
     private List<InsertValueContext> getInsertValueContexts(final List<Object> parameters, final AtomicInteger parametersOffset) {
-        List<InsertValueContext> result = new LinkedList<>();
-        for (Collection<ExpressionSegment> each : getSqlStatement().getAllValueExpressions()) {
+        List<List<ExpressionSegment>> allValueExpressions = getSqlStatement().getAllValueExpressions();
+        List<InsertValueContext> result = new ArrayList<>(allValueExpressions.size());
+        for (Collection<ExpressionSegment> each : allValueExpressions) {
             InsertValueContext insertValueContext = new InsertValueContext(each, parameters, parametersOffset.get());
             result.add(insertValueContext);
             parametersOffset.addAndGet(insertValueContext.getParametersCount());
@@ -127,7 +128,7 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
      * @return grouped parameters
      */
     public List<List<Object>> getGroupedParameters() {
-        List<List<Object>> result = new LinkedList<>();
+        List<List<Object>> result = new ArrayList<>(insertValueContexts.size() + 1);
         for (InsertValueContext each : insertValueContexts) {
             result.add(each.getParameters());
         }
@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -133,6 +134,59 @@ public final class PaginationContextTest {
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getRevisedRowCount(selectStatementContext), is(50L));
     }
     
+    @Test
+    public void getRevisedRowCountWithSeek() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, Collections.emptyList(), selectStatement);
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.seek(Collections.singletonList(100));
+        assertTrue(paginationContext.isSeeking());
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(20L));
+    }
+    
+    @Test
+    public void getRevisedOffsetAndRowCountWithLocatingBoundary() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, Collections.emptyList(), selectStatement);
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.locateBoundary(7L, 22L);
+        assertTrue(paginationContext.isLocatingBoundary());
+        assertThat(paginationContext.getRevisedOffset(), is(7L));
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(22L));
+    }
+    
+    @Test
+    public void getRevisedOffsetAndRowCountWithSeekBetween() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, Collections.emptyList(), selectStatement);
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.locateBoundary(7L, 22L);
+        paginationContext.seekBetween(new PaginationBoundary(Collections.singletonList(100), Collections.singletonList(200), Collections.emptyList(), 0L));
+        assertFalse(paginationContext.isLocatingBoundary());
+        assertTrue(paginationContext.isSeeking());
+        assertThat(paginationContext.getSeekValues(), is(Collections.<Object>singletonList(100)));
+        assertThat(paginationContext.getRevisedOffset(), is(0L));
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(50L));
+    }
+    
+    @Test
+    public void getRevisedOffsetAndRowCountWithStopLocatingBoundary() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, Collections.emptyList(), selectStatement);
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.locateBoundary(7L, 22L);
+        paginationContext.stopLocatingBoundary();
+        assertTrue(paginationContext.isBoundaryQueried());
+        assertFalse(paginationContext.isLocatingBoundary());
+        assertFalse(paginationContext.isSeeking());
+        assertThat(paginationContext.getRevisedOffset(), is(0L));
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(50L));
+    }
+    
     @Test
     public void getRevisedRowCountWithMax() {
         SelectStatement selectStatement = new SelectStatement();
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sql.parser.cache.ParseCache;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
+import org.apache.shardingsphere.sql.parser.cache.WeightedValue;
+
+import java.util.Optional;
+
+/**
+ * Parse cache for caffeine, which evicts values by W-TinyLFU.
+ * 
+ * <p>Values are evicted on the calling thread, so the eviction callback is invoked without extra executor.</p>
+ * 
+ * @param <V> type of cached value
+ */
+public final class CaffeineParseCache<V> implements ParseCache<V> {
+    
+    private final Cache<String, WeightedValue<V>> cache;
+    
+    public CaffeineParseCache(final ParseCacheOption option, final Runnable evictionCallback) {
+        cache = Caffeine.newBuilder().initialCapacity(128).maximumWeight(option.getMaximumWeight()).executor(Runnable::run)
+                .<String, WeightedValue<V>>weigher((key, value) -> value.getWeight())
+                .removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictionCallback.run();
+                    }
+                }).build();
+    }
+    
+    @Override
+    public void put(final String key, final V value, final int weight) {
+        cache.put(key, new WeightedValue<>(value, weight));
+    }
+    
+    @Override
+    public Optional<V> get(final String key) {
+        WeightedValue<V> result = cache.getIfPresent(key);
+        return null == result ? Optional.empty() : Optional.of(result.getValue());
+    }
+    
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
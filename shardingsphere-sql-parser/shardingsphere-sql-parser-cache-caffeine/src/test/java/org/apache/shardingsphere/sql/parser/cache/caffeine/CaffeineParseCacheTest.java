@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache.caffeine;
+
+import org.apache.shardingsphere.sql.parser.cache.ParseCache;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheFactoryRegistry;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheWeigher;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CaffeineParseCacheTest {
+    
+    private final ParseCacheOption option = new ParseCacheOption("CAFFEINE", ParseCacheWeigher.ENTRY, 10L, false, false);
+    
+    @Test
+    public void assertGetParseCacheFactory() {
+        assertThat(ParseCacheFactoryRegistry.getInstance().getParseCacheFactory("CAFFEINE"), instanceOf(CaffeineParseCacheFactory.class));
+    }
+    
+    @Test
+    public void assertGetWithinCache() {
+        ParseCache<String> actual = new CaffeineParseCache<>(option, () -> { });
+        actual.put("SELECT 1", "value", 1);
+        assertTrue(actual.get("SELECT 1").isPresent());
+        assertThat(actual.get("SELECT 1").get(), is("value"));
+        assertFalse(actual.get("SELECT 2").isPresent());
+    }
+    
+    @Test
+    public void assertEvictByWeight() {
+        AtomicInteger evictionCount = new AtomicInteger();
+        ParseCache<String> actual = new CaffeineParseCache<>(option, evictionCount::incrementAndGet);
+        actual.put("SELECT 1", "value", 8);
+        actual.put("SELECT 2", "value", 8);
+        assertThat(evictionCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParseCache<String> actual = new CaffeineParseCache<>(option, () -> { });
+        actual.put("SELECT 1", "value", 1);
+        actual.clear();
+        assertFalse(actual.get("SELECT 1").isPresent());
+    }
+}
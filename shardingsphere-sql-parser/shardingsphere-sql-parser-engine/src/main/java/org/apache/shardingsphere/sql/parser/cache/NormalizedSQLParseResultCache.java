@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import org.apache.shardingsphere.sql.parser.hook.ParseCacheHookRegistry;
+
+import java.util.Optional;
+
+/**
+ * Normalized SQL parse result cache.
+ */
+public final class NormalizedSQLParseResultCache {
+    
+    private static final String CACHE_NAME = "normalized_sql";
+    
+    private final String databaseTypeName;
+    
+    private final ParseCacheWeigher weigher;
+    
+    private final ParseCache<ParseTreeTemplate> cache;
+    
+    private final ParseCacheHookRegistry parseCacheHookRegistry = ParseCacheHookRegistry.getInstance();
+    
+    public NormalizedSQLParseResultCache(final String databaseTypeName, final ParseCacheOption option) {
+        this.databaseTypeName = databaseTypeName;
+        weigher = option.getWeigher();
+        cache = ParseCacheFactoryRegistry.getInstance().getParseCacheFactory(option.getType()).newInstance(option, () -> parseCacheHookRegistry.evict(databaseTypeName, CACHE_NAME));
+    }
+    
+    /**
+     * Put SQL shape and parse tree template into cache.
+     * 
+     * @param sql SQL
+     * @param shape SQL shape
+     * @param parseTreeTemplate parse tree template
+     */
+    public void put(final String sql, final SQLShape shape, final ParseTreeTemplate parseTreeTemplate) {
+        cache.put(shape.getKey(), parseTreeTemplate, weigher.weigh(sql, parseTreeTemplate.getParseTree()));
+    }
+    
+    /**
+     * Get parse tree template.
+     *
+     * @param shape SQL shape
+     * @return parse tree template
+     */
+    public Optional<ParseTreeTemplate> getParseTreeTemplate(final SQLShape shape) {
+        Optional<ParseTreeTemplate> result = cache.get(shape.getKey());
+        if (result.isPresent()) {
+            parseCacheHookRegistry.hit(databaseTypeName, CACHE_NAME);
+        } else {
+            parseCacheHookRegistry.miss(databaseTypeName, CACHE_NAME);
+        }
+        return result;
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+}
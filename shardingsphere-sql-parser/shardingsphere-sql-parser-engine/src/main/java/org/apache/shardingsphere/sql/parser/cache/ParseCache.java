@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import java.util.Optional;
+
+/**
+ * Parse cache.
+ * 
+ * @param <V> type of cached value
+ */
+public interface ParseCache<V> {
+    
+    /**
+     * Put value into cache.
+     * 
+     * @param key key
+     * @param value value
+     * @param weight weight of value
+     */
+    void put(String key, V value, int weight);
+    
+    /**
+     * Get value.
+     * 
+     * @param key key
+     * @return value
+     */
+    Optional<V> get(String key);
+    
+    /**
+     * Clear cache.
+     */
+    void clear();
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Parse cache factory registry.
+ */
+public final class ParseCacheFactoryRegistry {
+    
+    private static final ParseCacheFactoryRegistry INSTANCE = new ParseCacheFactoryRegistry();
+    
+    private final Map<String, ParseCacheFactory> factories;
+    
+    private ParseCacheFactoryRegistry() {
+        factories = new HashMap<>();
+        for (ParseCacheFactory each : ServiceLoader.load(ParseCacheFactory.class)) {
+            factories.put(each.getType(), each);
+        }
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static ParseCacheFactoryRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get parse cache factory.
+     * 
+     * @param type type of parse cache
+     * @return parse cache factory
+     */
+    public ParseCacheFactory getParseCacheFactory(final String type) {
+        if (factories.containsKey(type)) {
+            return factories.get(type);
+        }
+        throw new UnsupportedOperationException(String.format("Cannot support parse cache type '%s'", type));
+    }
+}
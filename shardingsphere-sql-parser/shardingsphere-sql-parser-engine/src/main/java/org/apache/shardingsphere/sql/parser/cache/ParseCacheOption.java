@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parse cache option.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public final class ParseCacheOption {
+    
+    private final String type;
+    
+    private final ParseCacheWeigher weigher;
+    
+    private final long maximumWeight;
+    
+    private final boolean normalizedEnabled;
+    
+    private final boolean fastPathEnabled;
+    
+    private final long dfaCacheClearParseCount;
+    
+    public ParseCacheOption() {
+        this("GUAVA", ParseCacheWeigher.ENTRY, 65535L, false, false);
+    }
+    
+    public ParseCacheOption(final String type, final ParseCacheWeigher weigher, final long maximumWeight, final boolean normalizedEnabled, final boolean fastPathEnabled) {
+        this(type, weigher, maximumWeight, normalizedEnabled, fastPathEnabled, 0L);
+    }
+}
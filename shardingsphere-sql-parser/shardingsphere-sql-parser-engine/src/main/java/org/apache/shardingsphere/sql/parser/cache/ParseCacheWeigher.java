@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Parse cache weigher.
+ */
+public enum ParseCacheWeigher {
+    
+    /**
+     * Weigh every cached value as one, maximum weight means maximum entry size.
+     */
+    ENTRY {
+        
+        @Override
+        public int weigh(final String sql, final ParseTree parseTree) {
+            return 1;
+        }
+    },
+    
+    /**
+     * Weigh cached value by length of SQL.
+     */
+    SQL_LENGTH {
+        
+        @Override
+        public int weigh(final String sql, final ParseTree parseTree) {
+            return sql.length();
+        }
+    },
+    
+    /**
+     * Weigh cached value by node count of abstract syntax tree, SQL recognized by fast path has no parse tree and weighs as one.
+     */
+    NODE_COUNT {
+        
+        @Override
+        public int weigh(final String sql, final ParseTree parseTree) {
+            return null == parseTree ? 1 : getNodeCount(parseTree);
+        }
+        
+        private int getNodeCount(final ParseTree parseTree) {
+            int result = 1;
+            for (int i = 0; i < parseTree.getChildCount(); i++) {
+                result += getNodeCount(parseTree.getChild(i));
+            }
+            return result;
+        }
+    };
+    
+    /**
+     * Weigh cached value.
+     * 
+     * @param sql SQL
+     * @param parseTree parse tree of SQL, null if SQL is recognized by fast path
+     * @return weight
+     */
+    public abstract int weigh(String sql, ParseTree parseTree);
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Parse tree template.
+ * 
+ * <p>
+ * The tokens referenced by parse trees of template can be rebound to the tokens of another SQL with same {@code SQLShape}.
+ * Each parse tree is bound by one thread at a time, and its tokens are released after visited.
+ * Template keeps several parse trees of same shape, so that concurrent binding does not need to wait for each other.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseTreeTemplate {
+    
+    private static final int NULL_TOKEN_ORDINAL = -1;
+    
+    private static final int MAX_PARSE_TREE_SIZE = Runtime.getRuntime().availableProcessors();
+    
+    @Getter
+    private final ParseTree parseTree;
+    
+    private final int[] terminalNodeTokenOrdinals;
+    
+    private final int[] startTokenOrdinals;
+    
+    private final int[] stopTokenOrdinals;
+    
+    private final Queue<BindableParseTree> idleParseTrees = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger parseTreeSize = new AtomicInteger();
+    
+    /**
+     * New instance of parse tree template.
+     * 
+     * @param parseTree parse tree
+     * @param shape SQL shape of parse tree
+     * @return parse tree template, absent if parse tree contains error or conjured tokens
+     */
+    public static Optional<ParseTreeTemplate> newInstance(final ParseTree parseTree, final SQLShape shape) {
+        Map<Token, Integer> tokenOrdinals = new IdentityHashMap<>(shape.getTokens().size());
+        for (Token each : shape.getTokens()) {
+            tokenOrdinals.put(each, tokenOrdinals.size());
+        }
+        Optional<BindableParseTree> bindableParseTree = BindableParseTree.newInstance(parseTree);
+        if (!bindableParseTree.isPresent()) {
+            return Optional.empty();
+        }
+        TerminalNodeImpl[] terminalNodes = bindableParseTree.get().terminalNodes;
+        int[] terminalNodeTokenOrdinals = new int[terminalNodes.length];
+        for (int i = 0; i < terminalNodes.length; i++) {
+            terminalNodeTokenOrdinals[i] = getTokenOrdinal(tokenOrdinals, terminalNodes[i].getSymbol());
+        }
+        ParserRuleContext[] ruleContexts = bindableParseTree.get().ruleContexts;
+        int[] startTokenOrdinals = new int[ruleContexts.length];
+        int[] stopTokenOrdinals = new int[ruleContexts.length];
+        for (int i = 0; i < ruleContexts.length; i++) {
+            startTokenOrdinals[i] = getTokenOrdinal(tokenOrdinals, ruleContexts[i].getStart());
+            stopTokenOrdinals[i] = getTokenOrdinal(tokenOrdinals, ruleContexts[i].getStop());
+        }
+        if (isConjured(terminalNodeTokenOrdinals) || isConjured(startTokenOrdinals) || isConjured(stopTokenOrdinals)) {
+            return Optional.empty();
+        }
+        ParseTreeTemplate result = new ParseTreeTemplate(parseTree, terminalNodeTokenOrdinals, startTokenOrdinals, stopTokenOrdinals);
+        result.parseTreeSize.incrementAndGet();
+        result.giveBack(bindableParseTree.get());
+        return Optional.of(result);
+    }
+    
+    private static int getTokenOrdinal(final Map<Token, Integer> tokenOrdinals, final Token token) {
+        if (null == token) {
+            return NULL_TOKEN_ORDINAL;
+        }
+        Integer result = tokenOrdinals.get(token);
+        return null == result ? Integer.MIN_VALUE : result;
+    }
+    
+    private static boolean isConjured(final int[] tokenOrdinals) {
+        for (int each : tokenOrdinals) {
+            if (Integer.MIN_VALUE == each) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Bind tokens of SQL with same shape to an idle parse tree and visit it.
+     * 
+     * @param shape SQL shape which has same key with shape of parse tree template
+     * @param visitor visitor to create SQL statement from parse tree
+     * @return SQL statement, absent if all parse trees of template are being bound by other threads
+     */
+    public Optional<SQLStatement> bind(final SQLShape shape, final Function<ParseTree, SQLStatement> visitor) {
+        BindableParseTree bindableParseTree = idleParseTrees.poll();
+        if (null == bindableParseTree) {
+            return Optional.empty();
+        }
+        try {
+            List<Token> tokens = shape.getTokens();
+            for (int i = 0; i < terminalNodeTokenOrdinals.length; i++) {
+                bindableParseTree.terminalNodes[i].symbol = tokens.get(terminalNodeTokenOrdinals[i]);
+            }
+            for (int i = 0; i < startTokenOrdinals.length; i++) {
+                bindableParseTree.ruleContexts[i].start = getToken(tokens, startTokenOrdinals[i]);
+                bindableParseTree.ruleContexts[i].stop = getToken(tokens, stopTokenOrdinals[i]);
+            }
+            return Optional.of(visitor.apply(bindableParseTree.parseTree));
+        } finally {
+            giveBack(bindableParseTree);
+        }
+    }
+    
+    private Token getToken(final List<Token> tokens, final int tokenOrdinal) {
+        return NULL_TOKEN_ORDINAL == tokenOrdinal ? null : tokens.get(tokenOrdinal);
+    }
+    
+    /**
+     * Add parse tree of SQL with same shape, so that more threads can bind the template at the same time.
+     * 
+     * @param parseTree parse tree
+     */
+    public void addParseTree(final ParseTree parseTree) {
+        if (parseTreeSize.incrementAndGet() > MAX_PARSE_TREE_SIZE) {
+            parseTreeSize.decrementAndGet();
+            return;
+        }
+        Optional<BindableParseTree> bindableParseTree = BindableParseTree.newInstance(parseTree);
+        if (bindableParseTree.isPresent() && bindableParseTree.get().terminalNodes.length == terminalNodeTokenOrdinals.length
+                && bindableParseTree.get().ruleContexts.length == startTokenOrdinals.length) {
+            giveBack(bindableParseTree.get());
+        } else {
+            parseTreeSize.decrementAndGet();
+        }
+    }
+    
+    private void giveBack(final BindableParseTree bindableParseTree) {
+        bindableParseTree.releaseTokens();
+        idleParseTrees.offer(bindableParseTree);
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class BindableParseTree {
+        
+        private final ParseTree parseTree;
+        
+        private final TerminalNodeImpl[] terminalNodes;
+        
+        private final ParserRuleContext[] ruleContexts;
+        
+        private static Optional<BindableParseTree> newInstance(final ParseTree parseTree) {
+            List<TerminalNodeImpl> terminalNodes = new LinkedList<>();
+            List<ParserRuleContext> ruleContexts = new LinkedList<>();
+            if (!collectNodes(parseTree, terminalNodes, ruleContexts)) {
+                return Optional.empty();
+            }
+            return Optional.of(new BindableParseTree(parseTree, terminalNodes.toArray(new TerminalNodeImpl[0]), ruleContexts.toArray(new ParserRuleContext[0])));
+        }
+        
+        private static boolean collectNodes(final ParseTree parseTree, final List<TerminalNodeImpl> terminalNodes, final List<ParserRuleContext> ruleContexts) {
+            if (parseTree instanceof ErrorNode || !(parseTree instanceof TerminalNodeImpl || parseTree instanceof ParserRuleContext)) {
+                return false;
+            }
+            if (parseTree instanceof TerminalNodeImpl) {
+                terminalNodes.add((TerminalNodeImpl) parseTree);
+                return true;
+            }
+            ruleContexts.add((ParserRuleContext) parseTree);
+            for (int i = 0; i < parseTree.getChildCount(); i++) {
+                if (!collectNodes(parseTree.getChild(i), terminalNodes, ruleContexts)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private void releaseTokens() {
+            for (TerminalNodeImpl each : terminalNodes) {
+                each.symbol = null;
+            }
+            for (ParserRuleContext each : ruleContexts) {
+                each.start = null;
+                each.stop = null;
+            }
+        }
+    }
+}
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser.cache;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.hook.ParseCacheHookRegistry;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.Optional;
@@ -28,16 +28,31 @@ import java.util.Optional;
  */
 public final class SQLParseResultCache {
     
-    private final Cache<String, SQLStatement> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
+    private static final String CACHE_NAME = "sql";
+    
+    private final String databaseTypeName;
+    
+    private final ParseCacheWeigher weigher;
+    
+    private final ParseCache<SQLStatement> cache;
+    
+    private final ParseCacheHookRegistry parseCacheHookRegistry = ParseCacheHookRegistry.getInstance();
+    
+    public SQLParseResultCache(final String databaseTypeName, final ParseCacheOption option) {
+        this.databaseTypeName = databaseTypeName;
+        weigher = option.getWeigher();
+        cache = ParseCacheFactoryRegistry.getInstance().getParseCacheFactory(option.getType()).newInstance(option, () -> parseCacheHookRegistry.evict(databaseTypeName, CACHE_NAME));
+    }
     
     /**
      * Put SQL and parse result into cache.
      * 
      * @param sql SQL
      * @param sqlStatement SQL statement
+     * @param parseTree parse tree of SQL, null if SQL is recognized by fast path
      */
-    public void put(final String sql, final SQLStatement sqlStatement) {
-        cache.put(sql, sqlStatement);
+    public void put(final String sql, final SQLStatement sqlStatement, final ParseTree parseTree) {
+        cache.put(sql, sqlStatement, weigher.weigh(sql, parseTree));
     }
     
     /**
@@ -47,13 +62,19 @@ public final class SQLParseResultCache {
      * @return SQL statement
      */
     public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.ofNullable(cache.getIfPresent(sql));
+        Optional<SQLStatement> result = cache.get(sql);
+        if (result.isPresent()) {
+            parseCacheHookRegistry.hit(databaseTypeName, CACHE_NAME);
+        } else {
+            parseCacheHookRegistry.miss(databaseTypeName, CACHE_NAME);
+        }
+        return result;
     }
     
     /**
      * Clear cache.
      */
     public synchronized void clear() {
-        cache.invalidateAll();
+        cache.clear();
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SQL shape.
+ * 
+ * <p>SQL shape is the token sequence of SQL whose literals are replaced by slot markers, SQLs with same shape can share one parse tree.</p>
+ */
+@Getter
+public final class SQLShape {
+    
+    private static final Collection<String> LITERAL_SYMBOLIC_NAMES = Arrays.asList("STRING_", "NUMBER_");
+    
+    private static final char SLOT_MARKER = 0;
+    
+    private final String key;
+    
+    private final List<Token> tokens;
+    
+    public SQLShape(final CommonTokenStream tokenStream) {
+        tokenStream.fill();
+        tokens = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                tokens.add(each);
+            }
+        }
+        key = createKey(((Lexer) tokenStream.getTokenSource()).getVocabulary());
+    }
+    
+    private String createKey(final Vocabulary vocabulary) {
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokens) {
+            if (LITERAL_SYMBOLIC_NAMES.contains(vocabulary.getSymbolicName(each.getType()))) {
+                result.append(SLOT_MARKER).append(each.getType());
+            } else {
+                result.append(each.getText());
+            }
+            result.append(' ');
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableReferenceSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.StringLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fast path SQL parser.
+ * 
+ * <p>Fast path SQL parser recognizes point DML, such as {@code SELECT ... FROM t WHERE pk = ?}, {@code INSERT INTO t (...) VALUES (?, ...)},
+ * {@code UPDATE t SET ... WHERE pk = ?} and {@code DELETE FROM t WHERE pk = ?}, by recursive descent over the tokens of dialect lexer.
+ * Tokens accepted as identifier are taken from the {@code identifier} rule of dialect grammar.
+ * It builds the same SQL statement as ANTLR parser and visitor do, and gives up on any other SQL so that it can be parsed by ANTLR.</p>
+ */
+public final class FastPathSQLParser {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = Collections.singleton("MySQL");
+    
+    private static final Map<String, IntervalSet> IDENTIFIER_TOKEN_TYPES = new ConcurrentHashMap<>();
+    
+    private final List<Token> tokens;
+    
+    private final IntervalSet identifierTokenTypes;
+    
+    private final Vocabulary vocabulary;
+    
+    private int position;
+    
+    private int parameterIndex;
+    
+    public FastPathSQLParser(final String databaseTypeName, final CommonTokenStream tokenStream) {
+        tokenStream.fill();
+        tokens = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel() && Token.EOF != each.getType()) {
+                tokens.add(each);
+            }
+        }
+        vocabulary = ((Lexer) tokenStream.getTokenSource()).getVocabulary();
+        identifierTokenTypes = IDENTIFIER_TOKEN_TYPES.computeIfAbsent(databaseTypeName, key -> loadIdentifierTokenTypes(key, tokenStream));
+    }
+    
+    private static IntervalSet loadIdentifierTokenTypes(final String databaseTypeName, final CommonTokenStream tokenStream) {
+        Parser parser = (Parser) SQLParserFactory.newInstance(databaseTypeName, tokenStream);
+        ATN atn = parser.getATN();
+        return atn.nextTokens(atn.ruleToStartState[Arrays.asList(parser.getRuleNames()).indexOf("identifier")]);
+    }
+    
+    /**
+     * Judge whether fast path is supported for database type.
+     * 
+     * @param databaseTypeName name of database type
+     * @return fast path is supported or not
+     */
+    public static boolean isSupported(final String databaseTypeName) {
+        return SUPPORTED_DATABASE_TYPES.contains(databaseTypeName);
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @return SQL statement, empty if SQL can not be recognized by fast path
+     */
+    public Optional<SQLStatement> parse() {
+        AbstractSQLStatement result = parseStatement();
+        if (null == result) {
+            return Optional.empty();
+        }
+        skipIfPresent("SEMI_");
+        if (position != tokens.size()) {
+            return Optional.empty();
+        }
+        result.setParameterCount(parameterIndex);
+        return Optional.of(result);
+    }
+    
+    private AbstractSQLStatement parseStatement() {
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        switch (getSymbolicName(position)) {
+            case "SELECT":
+                return parseSelect();
+            case "INSERT":
+                return parseInsert();
+            case "UPDATE":
+                return parseUpdate();
+            case "DELETE":
+                return parseDelete();
+            default:
+                return null;
+        }
+    }
+    
+    private SelectStatement parseSelect() {
+        position++;
+        ProjectionsSegment projections = parseProjections();
+        if (null == projections || !skipIfPresent("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        SelectStatement result = new SelectStatement();
+        result.setProjections(projections);
+        TableFactorSegment tableFactor = new TableFactorSegment();
+        tableFactor.setTable(table);
+        TableReferenceSegment tableReference = new TableReferenceSegment();
+        tableReference.setTableFactor(tableFactor);
+        result.getTableReferences().add(tableReference);
+        if (isCurrent("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        int startIndex = getCurrentStartIndex();
+        Collection<ProjectionSegment> projections = new LinkedList<>();
+        if (isCurrent("ASTERISK_")) {
+            Token asterisk = tokens.get(position++);
+            projections.add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+        } else {
+            ColumnSegment column = parseColumnName();
+            if (null == column) {
+                return null;
+            }
+            projections.add(new ColumnProjectionSegment(column));
+        }
+        while (skipIfPresent("COMMA_")) {
+            ColumnSegment column = parseColumnName();
+            if (null == column) {
+                return null;
+            }
+            projections.add(new ColumnProjectionSegment(column));
+        }
+        ProjectionsSegment result = new ProjectionsSegment(startIndex, getPreviousStopIndex());
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private InsertStatement parseInsert() {
+        position++;
+        skipIfPresent("INTO");
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        InsertColumnsSegment insertColumns = isCurrent("LP_") ? parseInsertColumns() : new InsertColumnsSegment(getCurrentStartIndex() - 1, getCurrentStartIndex() - 1, Collections.emptyList());
+        if (null == insertColumns || !skipIfPresent("VALUES") && !skipIfPresent("VALUE")) {
+            return null;
+        }
+        InsertStatement result = new InsertStatement();
+        do {
+            InsertValuesSegment insertValues = parseInsertValues();
+            if (null == insertValues) {
+                return null;
+            }
+            result.getValues().add(insertValues);
+        } while (skipIfPresent("COMMA_"));
+        result.setInsertColumns(insertColumns);
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        int startIndex = getCurrentStartIndex();
+        position++;
+        Collection<ColumnSegment> columns = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumnName();
+            if (null == column) {
+                return null;
+            }
+            columns.add(column);
+        } while (skipIfPresent("COMMA_"));
+        return skipIfPresent("RP_") ? new InsertColumnsSegment(startIndex, getPreviousStopIndex(), columns) : null;
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        if (!isCurrent("LP_")) {
+            return null;
+        }
+        int startIndex = getCurrentStartIndex();
+        position++;
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (skipIfPresent("COMMA_"));
+        return skipIfPresent("RP_") ? new InsertValuesSegment(startIndex, getPreviousStopIndex(), values) : null;
+    }
+    
+    private UpdateStatement parseUpdate() {
+        position++;
+        SimpleTableSegment table = parseTableName();
+        if (null == table || !isCurrent("SET")) {
+            return null;
+        }
+        SetAssignmentSegment setAssignment = parseSetAssignment();
+        if (null == setAssignment) {
+            return null;
+        }
+        UpdateStatement result = new UpdateStatement();
+        result.getTables().add(table);
+        result.setSetAssignment(setAssignment);
+        if (isCurrent("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private SetAssignmentSegment parseSetAssignment() {
+        int startIndex = getCurrentStartIndex();
+        position++;
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumnName();
+            if (null == column || !skipIfPresent("EQ_")) {
+                return null;
+            }
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            assignments.add(new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value));
+        } while (skipIfPresent("COMMA_"));
+        return new SetAssignmentSegment(startIndex, getPreviousStopIndex(), assignments);
+    }
+    
+    private DeleteStatement parseDelete() {
+        position++;
+        if (!skipIfPresent("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        DeleteStatement result = new DeleteStatement();
+        result.getTables().add(table);
+        if (isCurrent("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private WhereSegment parseWhere() {
+        int startIndex = getCurrentStartIndex();
+        position++;
+        AndPredicate andPredicate = new AndPredicate();
+        do {
+            PredicateSegment predicate = parsePredicate();
+            if (null == predicate) {
+                return null;
+            }
+            andPredicate.getPredicates().add(predicate);
+        } while (skipIfPresent("AND"));
+        WhereSegment result = new WhereSegment(startIndex, getPreviousStopIndex());
+        result.getAndPredicates().add(andPredicate);
+        return result;
+    }
+    
+    private PredicateSegment parsePredicate() {
+        ColumnSegment column = parseColumnName();
+        if (null == column || !isCurrent("EQ_")) {
+            return null;
+        }
+        String operator = tokens.get(position++).getText();
+        ExpressionSegment value = parseValue();
+        return null == value ? null : new PredicateSegment(column.getStartIndex(), value.getStopIndex(), column, new PredicateCompareRightValue(operator, value));
+    }
+    
+    private ExpressionSegment parseValue() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        Token token = tokens.get(position);
+        switch (getSymbolicName(position)) {
+            case "QUESTION_":
+                position++;
+                return new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex++);
+            case "NUMBER_":
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case "STRING_":
+                if ('\'' != token.getText().charAt(0)) {
+                    return null;
+                }
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                return null;
+        }
+    }
+    
+    private SimpleTableSegment parseTableName() {
+        int startIndex = getCurrentStartIndex();
+        Token first = parseIdentifier();
+        if (null == first) {
+            return null;
+        }
+        if (!skipIfPresent("DOT_")) {
+            return new SimpleTableSegment(new TableNameSegment(startIndex, first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        Token second = parseIdentifier();
+        if (null == second) {
+            return null;
+        }
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(startIndex, second.getStopIndex(), new IdentifierValue(second.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ColumnSegment parseColumnName() {
+        int startIndex = getCurrentStartIndex();
+        Token first = parseIdentifier();
+        if (null == first) {
+            return null;
+        }
+        if (!skipIfPresent("DOT_")) {
+            return new ColumnSegment(startIndex, first.getStopIndex(), new IdentifierValue(first.getText()));
+        }
+        Token second = parseIdentifier();
+        if (null == second) {
+            return null;
+        }
+        ColumnSegment result = new ColumnSegment(startIndex, second.getStopIndex(), new IdentifierValue(second.getText()));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private Token parseIdentifier() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        Token token = tokens.get(position);
+        if (!identifierTokenTypes.contains(token.getType()) || '"' == token.getText().charAt(0)) {
+            return null;
+        }
+        position++;
+        return token;
+    }
+    
+    private boolean isCurrent(final String symbolicName) {
+        return position < tokens.size() && symbolicName.equals(getSymbolicName(position));
+    }
+    
+    private boolean skipIfPresent(final String symbolicName) {
+        if (isCurrent(symbolicName)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private String getSymbolicName(final int index) {
+        String result = vocabulary.getSymbolicName(tokens.get(index).getType());
+        return null == result ? "" : result;
+    }
+    
+    private int getCurrentStartIndex() {
+        return position < tokens.size() ? tokens.get(position).getStartIndex() : -1;
+    }
+    
+    private int getPreviousStopIndex() {
+        return tokens.get(position - 1).getStopIndex();
+    }
+}
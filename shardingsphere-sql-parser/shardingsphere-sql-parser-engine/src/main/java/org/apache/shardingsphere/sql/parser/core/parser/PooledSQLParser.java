@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
+
+/**
+ * Pooled SQL parser.
+ * 
+ * <p>Lexer, parser and error strategies are created once and reset with new input instead of being reallocated for each SQL.</p>
+ */
+@Getter
+final class PooledSQLParser {
+    
+    private final Lexer lexer;
+    
+    private final SQLParser sqlParser;
+    
+    private final BailErrorStrategy bailErrorStrategy = new BailErrorStrategy();
+    
+    private final DefaultErrorStrategy defaultErrorStrategy = new DefaultErrorStrategy();
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    PooledSQLParser(final SQLParserConfiguration configuration) {
+        lexer = (Lexer) configuration.getLexerClass().getConstructor(CharStream.class).newInstance((CharStream) null);
+        sqlParser = configuration.getParserClass().getConstructor(TokenStream.class).newInstance((TokenStream) null);
+    }
+    
+    /**
+     * Reset lexer with new input.
+     * 
+     * @param charStream char stream
+     * @return lexer
+     */
+    Lexer resetLexer(final CharStream charStream) {
+        lexer.setInputStream(charStream);
+        return lexer;
+    }
+    
+    /**
+     * Reset SQL parser with new input.
+     *
+     * @param tokenStream token stream
+     * @return SQL parser
+     */
+    SQLParser resetSQLParser(final TokenStream tokenStream) {
+        ((Parser) sqlParser).setInputStream(tokenStream);
+        return sqlParser;
+    }
+    
+    /**
+     * Release input, so that the last SQL is not retained by current thread.
+     */
+    void release() {
+        lexer.setInputStream(null);
+        ((Parser) sqlParser).setInputStream(null);
+    }
+    
+    /**
+     * Clear DFA cache.
+     */
+    void clearDFA() {
+        lexer.getInterpreter().clearDFA();
+        ((Parser) sqlParser).getInterpreter().clearDFA();
+    }
+}
@@ -18,9 +18,8 @@
 package org.apache.shardingsphere.sql.parser.core.parser;
 
 import lombok.RequiredArgsConstructor;
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -44,22 +43,37 @@ public final class SQLParserExecutor {
      * @return AST node
      */
     public ParseASTNode execute() {
-        ParseASTNode result = twoPhaseParse();
-        if (result.getRootNode() instanceof ErrorNode) {
-            throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
+        return execute(SQLParserFactory.newTokenStream(databaseTypeName, sql));
+    }
+    
+    /**
+     * Execute to parse SQL with tokens which have been lexed already.
+     *
+     * @param tokenStream token stream
+     * @return AST node
+     */
+    public ParseASTNode execute(final TokenStream tokenStream) {
+        PooledSQLParser pooledSQLParser = SQLParserPool.getPooledSQLParser(databaseTypeName);
+        try {
+            ParseASTNode result = twoPhaseParse(pooledSQLParser, tokenStream);
+            if (result.getRootNode() instanceof ErrorNode) {
+                throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
+            }
+            return result;
+        } finally {
+            pooledSQLParser.release();
         }
-        return result;
     }
     
-    private ParseASTNode twoPhaseParse() {
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseTypeName, sql);
+    private ParseASTNode twoPhaseParse(final PooledSQLParser pooledSQLParser, final TokenStream tokenStream) {
+        SQLParser sqlParser = pooledSQLParser.resetSQLParser(tokenStream);
         try {
-            ((Parser) sqlParser).setErrorHandler(new BailErrorStrategy());
+            ((Parser) sqlParser).setErrorHandler(pooledSQLParser.getBailErrorStrategy());
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
         } catch (final ParseCancellationException ex) {
             ((Parser) sqlParser).reset();
-            ((Parser) sqlParser).setErrorHandler(new DefaultErrorStrategy());
+            ((Parser) sqlParser).setErrorHandler(pooledSQLParser.getDefaultErrorStrategy());
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
             return (ParseASTNode) sqlParser.parse();
         }
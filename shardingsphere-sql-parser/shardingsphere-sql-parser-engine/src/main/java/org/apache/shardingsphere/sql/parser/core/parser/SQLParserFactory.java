@@ -20,15 +20,12 @@ package org.apache.shardingsphere.sql.parser.core.parser;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
-import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CodePointBuffer;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.core.SQLParserConfigurationRegistry;
-import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
 
 import java.nio.CharBuffer;
 
@@ -46,14 +43,38 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final String databaseTypeName, final String sql) {
-        return createSQLParser(sql, SQLParserConfigurationRegistry.getInstance().getSQLParserConfiguration(databaseTypeName));
+        return newInstance(databaseTypeName, newTokenStream(databaseTypeName, sql));
     }
     
+    /**
+     * New instance of SQL parser with tokens which have been lexed already.
+     *
+     * @param databaseTypeName name of database type
+     * @param tokenStream token stream
+     * @return SQL parser
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final String sql, final SQLParserConfiguration configuration) {
-        CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
-        CodePointCharStream codePointCharStream = CodePointCharStream.fromBuffer(buffer);
-        Lexer lexer = (Lexer) configuration.getLexerClass().getConstructor(CharStream.class).newInstance(codePointCharStream);
-        return configuration.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+    public static SQLParser newInstance(final String databaseTypeName, final TokenStream tokenStream) {
+        return SQLParserConfigurationRegistry.getInstance().getSQLParserConfiguration(databaseTypeName).getParserClass().getConstructor(TokenStream.class).newInstance(tokenStream);
+    }
+    
+    /**
+     * New instance of token stream.
+     * 
+     * <p>SQL is tokenized eagerly by pooled lexer of current thread, so that the lexer can be reused once this method returns.</p>
+     *
+     * @param databaseTypeName name of database type
+     * @param sql SQL
+     * @return token stream
+     */
+    public static CommonTokenStream newTokenStream(final String databaseTypeName, final String sql) {
+        PooledSQLParser pooledSQLParser = SQLParserPool.getPooledSQLParser(databaseTypeName);
+        CommonTokenStream result = new CommonTokenStream(pooledSQLParser.resetLexer(CodePointCharStream.fromBuffer(CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray())))));
+        try {
+            result.fill();
+        } finally {
+            pooledSQLParser.release();
+        }
+        return result;
     }
 }
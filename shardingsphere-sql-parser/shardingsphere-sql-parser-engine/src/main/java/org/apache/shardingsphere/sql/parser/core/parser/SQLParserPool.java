@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.core.SQLParserConfigurationRegistry;
+import org.apache.shardingsphere.sql.parser.spi.SQLParserConfiguration;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * SQL parser pool.
+ * 
+ * <p>Each thread holds one pooled SQL parser for each SQL parser configuration.
+ * DFA cache is held by static fields of generated lexer and parser, so it is shared by all pooled SQL parsers of same database type.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserPool {
+    
+    private static final ThreadLocal<Map<SQLParserConfiguration, PooledSQLParser>> POOLED_SQL_PARSERS = ThreadLocal.withInitial(IdentityHashMap::new);
+    
+    /**
+     * Get pooled SQL parser of current thread.
+     * 
+     * @param databaseTypeName name of database type
+     * @return pooled SQL parser
+     */
+    static PooledSQLParser getPooledSQLParser(final String databaseTypeName) {
+        return POOLED_SQL_PARSERS.get().computeIfAbsent(SQLParserConfigurationRegistry.getInstance().getSQLParserConfiguration(databaseTypeName), PooledSQLParser::new);
+    }
+    
+    /**
+     * Clear DFA cache of database type.
+     * 
+     * <p>DFA cache grows with the variety of parsed SQL, clear it to reclaim memory at the cost of warming up again.
+     * SQL parser engine clears it after every {@code sql.parse.dfa.cache.clear.parse.count} SQL parsed by ANTLR.
+     * It is safe to clear while other threads are parsing, because ANTLR simulators only replace the DFA of each decision,
+     * and parsing in progress keeps working on the DFA it has already fetched.</p>
+     * 
+     * @param databaseTypeName name of database type
+     */
+    public static void clearDFACache(final String databaseTypeName) {
+        getPooledSQLParser(databaseTypeName).clearDFA();
+    }
+}
@@ -17,29 +17,64 @@
 
 package org.apache.shardingsphere.sql.parser.engine;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.cache.NormalizedSQLParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
+import org.apache.shardingsphere.sql.parser.cache.ParseTreeTemplate;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.SQLShape;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathSQLParser;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserPool;
 import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
 import org.apache.shardingsphere.sql.parser.core.visitor.VisitorRule;
 import org.apache.shardingsphere.sql.parser.hook.ParsingHookRegistry;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SQL parser engine.
  */
-@RequiredArgsConstructor
 public final class SQLParserEngine implements QuerySQLParserEngine {
     
     private final String databaseTypeName;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    @Getter
+    private final ParseCacheOption parseCacheOption;
+    
+    private final boolean fastPathEnabled;
+    
+    private final boolean normalizedCacheEnabled;
+    
+    private final long dfaCacheClearParseCount;
+    
+    private final AtomicLong parseCount = new AtomicLong();
+    
+    private final SQLParseResultCache cache;
+    
+    private final NormalizedSQLParseResultCache normalizedCache;
     
     private final ParsingHookRegistry parsingHookRegistry = ParsingHookRegistry.getInstance();
     
+    public SQLParserEngine(final String databaseTypeName) {
+        this(databaseTypeName, new ParseCacheOption());
+    }
+    
+    public SQLParserEngine(final String databaseTypeName, final ParseCacheOption parseCacheOption) {
+        this.databaseTypeName = databaseTypeName;
+        this.parseCacheOption = parseCacheOption;
+        fastPathEnabled = parseCacheOption.isFastPathEnabled() && FastPathSQLParser.isSupported(databaseTypeName);
+        normalizedCacheEnabled = parseCacheOption.isNormalizedEnabled();
+        dfaCacheClearParseCount = parseCacheOption.getDfaCacheClearParseCount();
+        cache = new SQLParseResultCache(databaseTypeName, parseCacheOption);
+        normalizedCache = normalizedCacheEnabled ? new NormalizedSQLParseResultCache(databaseTypeName, parseCacheOption) : null;
+    }
+    
     // TODO check skywalking plugin
     /*
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
@@ -69,11 +104,57 @@ public final class SQLParserEngine implements QuerySQLParserEngine {
                 return cachedSQLStatement.get();
             }
         }
-        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute().getRootNode();
-        SQLStatement result = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(databaseTypeName, sql);
+        Optional<SQLStatement> fastPathResult = fastPathEnabled ? new FastPathSQLParser(databaseTypeName, tokenStream).parse() : Optional.empty();
+        if (fastPathResult.isPresent()) {
+            if (useCache) {
+                cache.put(sql, fastPathResult.get(), null);
+            }
+            return fastPathResult.get();
+        }
+        if (normalizedCacheEnabled) {
+            return parseWithNormalizedCache(sql, useCache, tokenStream);
+        }
+        return visitAndCache(sql, useCache, parseByANTLR(sql, tokenStream));
+    }
+    
+    private SQLStatement parseWithNormalizedCache(final String sql, final boolean useCache, final CommonTokenStream tokenStream) {
+        SQLShape shape = new SQLShape(tokenStream);
+        Optional<ParseTreeTemplate> parseTreeTemplate = normalizedCache.getParseTreeTemplate(shape);
+        Optional<SQLStatement> boundSQLStatement = parseTreeTemplate.isPresent() ? parseTreeTemplate.get().bind(shape, this::visit) : Optional.empty();
+        if (boundSQLStatement.isPresent()) {
+            if (useCache) {
+                cache.put(sql, boundSQLStatement.get(), parseTreeTemplate.get().getParseTree());
+            }
+            return boundSQLStatement.get();
+        }
+        ParseTree parseTree = parseByANTLR(sql, tokenStream);
+        SQLStatement result = visitAndCache(sql, useCache, parseTree);
+        if (parseTreeTemplate.isPresent()) {
+            parseTreeTemplate.get().addParseTree(parseTree);
+        } else {
+            ParseTreeTemplate.newInstance(parseTree, shape).ifPresent(each -> normalizedCache.put(sql, shape, each));
+        }
+        return result;
+    }
+    
+    private ParseTree parseByANTLR(final String sql, final CommonTokenStream tokenStream) {
+        ParseTree result = new SQLParserExecutor(databaseTypeName, sql).execute(tokenStream).getRootNode();
+        if (dfaCacheClearParseCount > 0 && 0 == parseCount.incrementAndGet() % dfaCacheClearParseCount) {
+            SQLParserPool.clearDFACache(databaseTypeName);
+        }
+        return result;
+    }
+    
+    private SQLStatement visitAndCache(final String sql, final boolean useCache, final ParseTree parseTree) {
+        SQLStatement result = visit(parseTree);
         if (useCache) {
-            cache.put(sql, result);
+            cache.put(sql, result, parseTree);
         }
         return result;
     }
+    
+    private SQLStatement visit(final ParseTree parseTree) {
+        return (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
+    }
 }
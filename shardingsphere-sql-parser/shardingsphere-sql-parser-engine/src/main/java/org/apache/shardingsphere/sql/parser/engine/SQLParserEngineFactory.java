@@ -19,12 +19,15 @@ package org.apache.shardingsphere.sql.parser.engine;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL parser engine factory.
+ * 
+ * <p>One engine is kept for each database type, and it is replaced when parse cache option changes, so that engines and caches of stale options are not retained.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserEngineFactory {
@@ -38,16 +41,22 @@ public final class SQLParserEngineFactory {
      * @return SQL parser engine
      */
     public static SQLParserEngine getSQLParserEngine(final String databaseTypeName) {
-        if (ENGINES.containsKey(databaseTypeName)) {
-            return ENGINES.get(databaseTypeName);
-        }
-        synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseTypeName)) {
-                return ENGINES.get(databaseTypeName);
-            }
-            SQLParserEngine result = new SQLParserEngine(databaseTypeName);
-            ENGINES.put(databaseTypeName, result);
+        return getSQLParserEngine(databaseTypeName, new ParseCacheOption());
+    }
+    
+    /**
+     * Get SQL parser engine.
+     *
+     * @param databaseTypeName name of database type
+     * @param parseCacheOption parse cache option
+     * @return SQL parser engine
+     */
+    public static SQLParserEngine getSQLParserEngine(final String databaseTypeName, final ParseCacheOption parseCacheOption) {
+        SQLParserEngine result = ENGINES.get(databaseTypeName);
+        if (null != result && result.getParseCacheOption().equals(parseCacheOption)) {
             return result;
         }
+        return ENGINES.compute(databaseTypeName,
+                (key, value) -> null != value && value.getParseCacheOption().equals(parseCacheOption) ? value : new SQLParserEngine(databaseTypeName, parseCacheOption));
     }
 }
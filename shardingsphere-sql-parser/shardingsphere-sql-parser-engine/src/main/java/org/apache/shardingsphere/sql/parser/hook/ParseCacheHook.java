@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.hook;
+
+/**
+ * Parse cache hook.
+ */
+public interface ParseCacheHook {
+    
+    /**
+     * Handle when cache hit.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheName name of parse cache
+     */
+    void hit(String databaseTypeName, String cacheName);
+    
+    /**
+     * Handle when cache missed.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheName name of parse cache
+     */
+    void miss(String databaseTypeName, String cacheName);
+    
+    /**
+     * Handle when cached value evicted.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheName name of parse cache
+     */
+    void evict(String databaseTypeName, String cacheName);
+}
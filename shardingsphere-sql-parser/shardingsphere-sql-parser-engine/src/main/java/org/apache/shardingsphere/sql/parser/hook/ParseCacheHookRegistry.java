@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.hook;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.ServiceLoader;
+
+/**
+ * Parse cache hook registry.
+ */
+public final class ParseCacheHookRegistry {
+    
+    private static final ParseCacheHookRegistry INSTANCE = new ParseCacheHookRegistry();
+    
+    private final Collection<ParseCacheHook> hooks;
+    
+    private ParseCacheHookRegistry() {
+        hooks = new LinkedList<>();
+        for (ParseCacheHook each : ServiceLoader.load(ParseCacheHook.class)) {
+            hooks.add(each);
+        }
+    }
+    
+    /**
+     * Get instance.
+     * 
+     * @return instance
+     */
+    public static ParseCacheHookRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Handle when cache hit.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheName name of parse cache
+     */
+    public void hit(final String databaseTypeName, final String cacheName) {
+        hooks.forEach(each -> each.hit(databaseTypeName, cacheName));
+    }
+    
+    /**
+     * Handle when cache missed.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheName name of parse cache
+     */
+    public void miss(final String databaseTypeName, final String cacheName) {
+        hooks.forEach(each -> each.miss(databaseTypeName, cacheName));
+    }
+    
+    /**
+     * Handle when cached value evicted.
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheName name of parse cache
+     */
+    public void evict(final String databaseTypeName, final String cacheName) {
+        hooks.forEach(each -> each.evict(databaseTypeName, cacheName));
+    }
+}
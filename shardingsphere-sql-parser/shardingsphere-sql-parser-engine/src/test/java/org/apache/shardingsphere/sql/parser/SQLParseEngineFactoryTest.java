@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheWeigher;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.engine.SQLParserEngineFactory;
 import org.junit.After;
 import org.junit.Before;
@@ -26,6 +29,7 @@ import java.lang.reflect.Field;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
 public final class SQLParseEngineFactoryTest {
@@ -42,4 +46,28 @@ public final class SQLParseEngineFactoryTest {
     public void assertGetSQLParseEngine() {
         assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL"), is(SQLParserEngineFactory.getSQLParserEngine("MySQL")));
     }
+    
+    @Test
+    public void assertGetSQLParseEngineWithNormalizedCache() {
+        ParseCacheOption parseCacheOption = new ParseCacheOption("GUAVA", ParseCacheWeigher.ENTRY, 65535L, true, false);
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", parseCacheOption), is(SQLParserEngineFactory.getSQLParserEngine("MySQL", parseCacheOption)));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", parseCacheOption), not(SQLParserEngineFactory.getSQLParserEngine("MySQL")));
+    }
+    
+    @Test
+    public void assertReplaceSQLParseEngineWhenParseCacheOptionChanged() throws NoSuchFieldException, IllegalAccessException {
+        SQLParserEngine staleSQLParserEngine = SQLParserEngineFactory.getSQLParserEngine("MySQL");
+        ParseCacheOption parseCacheOption = new ParseCacheOption("GUAVA", ParseCacheWeigher.ENTRY, 1024L, false, false);
+        SQLParserEngine actual = SQLParserEngineFactory.getSQLParserEngine("MySQL", parseCacheOption);
+        assertThat(actual, not(staleSQLParserEngine));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", parseCacheOption), is(actual));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("PostgreSQL", parseCacheOption), not(actual));
+        assertThat(getEngines().size(), is(2));
+    }
+    
+    private Map<?, ?> getEngines() throws NoSuchFieldException, IllegalAccessException {
+        Field field = SQLParserEngineFactory.class.getDeclaredField("ENGINES");
+        field.setAccessible(true);
+        return (Map<?, ?>) field.get(SQLParserEngineFactory.class);
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ParseCacheWeigherTest {
+    
+    @Test
+    public void assertWeighByEntry() {
+        assertThat(ParseCacheWeigher.ENTRY.weigh("SELECT 1", mock(ParseTree.class)), is(1));
+    }
+    
+    @Test
+    public void assertWeighBySQLLength() {
+        assertThat(ParseCacheWeigher.SQL_LENGTH.weigh("SELECT 1", mock(ParseTree.class)), is(8));
+    }
+    
+    @Test
+    public void assertWeighByNodeCount() {
+        ParseTree parseTree = mock(ParseTree.class);
+        when(parseTree.getChildCount()).thenReturn(2);
+        ParseTree child = mock(ParseTree.class);
+        when(parseTree.getChild(0)).thenReturn(child);
+        when(parseTree.getChild(1)).thenReturn(child);
+        assertThat(ParseCacheWeigher.NODE_COUNT.weigh("SELECT 1", parseTree), is(3));
+    }
+}
@@ -17,39 +17,67 @@
 
 package org.apache.shardingsphere.sql.parser.cache;
 
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.hook.fixture.ParseCacheHookFixture;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public final class SQLParseResultCacheTest {
     
+    private final ParseTree parseTree = mock(ParseTree.class);
+    
+    @Before
+    public void setUp() {
+        ParseCacheHookFixture.clearActions();
+    }
+    
     @Test
     public void assertGetSQLStatementWithinCache() {
-        SQLParseResultCache actual = new SQLParseResultCache();
+        SQLParseResultCache actual = new SQLParseResultCache("MySQL", new ParseCacheOption());
         SQLStatement selectStatement = new SelectStatement();
-        actual.put("SELECT 1", selectStatement);
+        actual.put("SELECT 1", selectStatement, parseTree);
         assertTrue(actual.getSQLStatement("SELECT 1").isPresent());
         assertThat(actual.getSQLStatement("SELECT 1").get(), is(selectStatement));
+        assertTrue(ParseCacheHookFixture.containsAction("hit"));
     }
     
     @Test
     public void assertGetSQLStatementWithoutCache() {
-        SQLParseResultCache actual = new SQLParseResultCache();
+        SQLParseResultCache actual = new SQLParseResultCache("MySQL", new ParseCacheOption());
         SQLStatement selectStatement = new SelectStatement();
-        actual.put("SELECT 1", selectStatement);
+        actual.put("SELECT 1", selectStatement, parseTree);
         assertFalse(actual.getSQLStatement("SELECT 2").isPresent());
+        assertTrue(ParseCacheHookFixture.containsAction("miss"));
+    }
+    
+    @Test
+    public void assertEvictBySQLLength() {
+        SQLParseResultCache actual = new SQLParseResultCache("MySQL", new ParseCacheOption("GUAVA", ParseCacheWeigher.SQL_LENGTH, 10L, false, false));
+        actual.put("SELECT 1", new SelectStatement(), parseTree);
+        actual.put("SELECT 2", new SelectStatement(), parseTree);
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertTrue(actual.getSQLStatement("SELECT 2").isPresent());
+        assertTrue(ParseCacheHookFixture.containsAction("evict"));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertNewInstanceWithUnsupportedCacheType() {
+        new SQLParseResultCache("MySQL", new ParseCacheOption("UNKNOWN", ParseCacheWeigher.ENTRY, 10L, false, false));
     }
     
     @Test
     public void assertClear() {
-        SQLParseResultCache actual = new SQLParseResultCache();
+        SQLParseResultCache actual = new SQLParseResultCache("MySQL", new ParseCacheOption());
         SQLStatement selectStatement = new SelectStatement();
-        actual.put("SELECT 1", selectStatement);
+        actual.put("SELECT 1", selectStatement, parseTree);
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
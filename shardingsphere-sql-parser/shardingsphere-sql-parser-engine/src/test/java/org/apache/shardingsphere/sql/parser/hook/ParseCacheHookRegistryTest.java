@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.hook;
+
+import org.apache.shardingsphere.sql.parser.hook.fixture.ParseCacheHookFixture;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public final class ParseCacheHookRegistryTest {
+    
+    private final ParseCacheHookRegistry registry = ParseCacheHookRegistry.getInstance();
+    
+    @Before
+    public void setUp() {
+        ParseCacheHookFixture.clearActions();
+    }
+    
+    @Test
+    public void assertHit() {
+        registry.hit("MySQL", "sql");
+        assertTrue(ParseCacheHookFixture.containsAction("hit"));
+    }
+    
+    @Test
+    public void assertMiss() {
+        registry.miss("MySQL", "sql");
+        assertTrue(ParseCacheHookFixture.containsAction("miss"));
+    }
+    
+    @Test
+    public void assertEvict() {
+        registry.evict("MySQL", "sql");
+        assertTrue(ParseCacheHookFixture.containsAction("evict"));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
+import org.apache.shardingsphere.sql.parser.core.visitor.VisitorRule;
+import org.apache.shardingsphere.sql.parser.integrate.jaxb.cases.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.sql.parser.integrate.jaxb.cases.SQLParserTestCasesRegistryFactory;
+import org.apache.shardingsphere.sql.parser.integrate.jaxb.sql.SQLCaseType;
+import org.apache.shardingsphere.sql.parser.integrate.jaxb.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.sql.parser.integrate.jaxb.sql.loader.SQLCasesRegistry;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class FastPathSQLParserParameterizedTest {
+    
+    private static final SQLCasesLoader SQL_CASES_LOADER = SQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static final SQLParserTestCasesRegistry SQL_PARSER_TEST_CASES_REGISTRY = SQLParserTestCasesRegistryFactory.getInstance().getRegistry();
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    @Parameters(name = "{0} ({2}) -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        Collection<Object[]> result = new LinkedList<>();
+        for (Object[] each : SQL_CASES_LOADER.getSQLTestParameters()) {
+            if (FastPathSQLParser.isSupported(getTrunkDatabaseType(each[1].toString())) && SQL_PARSER_TEST_CASES_REGISTRY.getAllSQLCaseIDs().contains(each[0].toString())) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static String getTrunkDatabaseType(final String databaseType) {
+        return "H2".equals(databaseType) ? "MySQL" : databaseType;
+    }
+    
+    @Test
+    public void assertSameAsANTLRParser() throws IllegalAccessException {
+        String databaseType = getTrunkDatabaseType(this.databaseType);
+        String sql = SQL_CASES_LOADER.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters());
+        Optional<SQLStatement> actual = new FastPathSQLParser(databaseType, SQLParserFactory.newTokenStream(databaseType, sql)).parse();
+        if (actual.isPresent()) {
+            ParseTree parseTree = new SQLParserExecutor(databaseType, sql).execute().getRootNode();
+            Object expected = ParseTreeVisitorFactory.newInstance(databaseType, VisitorRule.valueOf(parseTree.getClass())).visit(parseTree);
+            assertSameFields(actual.get(), expected, actual.get().getClass().getSimpleName());
+        }
+    }
+    
+    private void assertSameFields(final Object actual, final Object expected, final String path) throws IllegalAccessException {
+        if (null == actual || null == expected || isValue(actual.getClass())) {
+            assertThat(String.format("Mismatched `%s` of SQL case `%s`.", path, sqlCaseId), actual, is(expected));
+            return;
+        }
+        assertThat(String.format("Mismatched type of `%s` of SQL case `%s`.", path, sqlCaseId), actual.getClass().getName(), is(expected.getClass().getName()));
+        if (actual instanceof Collection) {
+            assertSameElements((Collection<?>) actual, (Collection<?>) expected, path);
+            return;
+        }
+        for (Class<?> clazz = actual.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    each.setAccessible(true);
+                    assertSameFields(each.get(actual), each.get(expected), path + "." + each.getName());
+                }
+            }
+        }
+    }
+    
+    private void assertSameElements(final Collection<?> actual, final Collection<?> expected, final String path) throws IllegalAccessException {
+        assertThat(String.format("Mismatched size of `%s` of SQL case `%s`.", path, sqlCaseId), actual.size(), is(expected.size()));
+        Iterator<?> expectedIterator = expected.iterator();
+        int index = 0;
+        for (Object each : actual) {
+            assertSameFields(each, expectedIterator.next(), path + "[" + index++ + "]");
+        }
+    }
+    
+    private boolean isValue(final Class<?> clazz) {
+        return clazz.isPrimitive() || clazz.isEnum() || Number.class.isAssignableFrom(clazz) || CharSequence.class.isAssignableFrom(clazz) || Boolean.class == clazz || Character.class == clazz;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FastPathSQLParserTest {
+    
+    @Test
+    public void assertParseSelectByPrimaryKey() {
+        Optional<SQLStatement> actual = parse("SELECT order_id, user_id FROM t_order WHERE order_id = ? AND user_id = 10;");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(SelectStatement.class));
+        SelectStatement selectStatement = (SelectStatement) actual.get();
+        assertThat(selectStatement.getProjections().getProjections().size(), is(2));
+        assertThat(selectStatement.getWhere().get().getAndPredicates().iterator().next().getPredicates().size(), is(2));
+        assertThat(selectStatement.getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertParseInsertWithMultipleValues() {
+        Optional<SQLStatement> actual = parse("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (2, 'init')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(InsertStatement.class));
+        InsertStatement insertStatement = (InsertStatement) actual.get();
+        assertThat(insertStatement.getTable().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(insertStatement.getColumns().size(), is(2));
+        assertThat(insertStatement.getValues().size(), is(2));
+        assertThat(insertStatement.getParameterCount(), is(2));
+    }
+    
+    @Test
+    public void assertParseUpdateByPrimaryKey() {
+        Optional<SQLStatement> actual = parse("UPDATE `t_order` SET user_id = ? WHERE t_order.order_id = ?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(UpdateStatement.class));
+        UpdateStatement updateStatement = (UpdateStatement) actual.get();
+        assertThat(updateStatement.getSetAssignment().getAssignments().size(), is(1));
+        PredicateSegment predicate = updateStatement.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next();
+        assertThat(predicate.getColumn().getOwner().get().getIdentifier().getValue(), is("t_order"));
+        assertThat(updateStatement.getParameterCount(), is(2));
+    }
+    
+    @Test
+    public void assertParseDeleteByPrimaryKey() {
+        Optional<SQLStatement> actual = parse("delete from t_order where order_id = ?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(DeleteStatement.class));
+        assertThat(actual.get().getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertParseUnsupportedSQL() {
+        assertFalse(parse("SELECT order_id FROM t_order WHERE order_id = ? OR user_id = ?").isPresent());
+        assertFalse(parse("SELECT order_id FROM t_order WHERE order_id = ? ORDER BY order_id").isPresent());
+        assertFalse(parse("SELECT o.order_id FROM t_order o WHERE o.order_id = ?").isPresent());
+        assertFalse(parse("SELECT COUNT(*) FROM t_order").isPresent());
+        assertFalse(parse("SELECT order_id FROM t_order WHERE order_id > ?").isPresent());
+        assertFalse(parse("INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = ?").isPresent());
+        assertFalse(parse("INSERT INTO t_order (order_id) VALUES (NULL)").isPresent());
+        assertFalse(parse("UPDATE t_order SET status = status + 1 WHERE order_id = ?").isPresent());
+        assertFalse(parse("DELETE FROM t_order WHERE order_id = ? LIMIT 1").isPresent());
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(FastPathSQLParser.isSupported("MySQL"));
+        assertFalse(FastPathSQLParser.isSupported("PostgreSQL"));
+    }
+    
+    private Optional<SQLStatement> parse(final String sql) {
+        return new FastPathSQLParser("MySQL", SQLParserFactory.newTokenStream("MySQL", sql)).parse();
+    }
+}
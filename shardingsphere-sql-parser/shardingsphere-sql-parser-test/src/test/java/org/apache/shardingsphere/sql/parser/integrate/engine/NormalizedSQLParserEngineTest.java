@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheWeigher;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class NormalizedSQLParserEngineTest {
+    
+    @Test
+    public void assertParseSelectWithDifferentLiterals() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL", new ParseCacheOption("GUAVA", ParseCacheWeigher.ENTRY, 65535L, true, false));
+        SelectStatement expected = (SelectStatement) sqlParserEngine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        SelectStatement actual = (SelectStatement) sqlParserEngine.parse("SELECT  *  FROM t_order WHERE order_id=1000", false);
+        assertThat(actual, not(sameInstance(expected)));
+        PredicateSegment expectedPredicate = expected.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next();
+        PredicateSegment actualPredicate = actual.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next();
+        assertThat(((LiteralExpressionSegment) ((PredicateCompareRightValue) expectedPredicate.getRightValue()).getExpression()).getLiterals(), is((Object) 1));
+        assertThat(((LiteralExpressionSegment) ((PredicateCompareRightValue) actualPredicate.getRightValue()).getExpression()).getLiterals(), is((Object) 1000));
+        assertThat(actualPredicate.getStartIndex(), is(30));
+        assertThat(actualPredicate.getStopIndex(), is(42));
+    }
+    
+    @Test
+    public void assertParseInsertWithDifferentLiterals() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL", new ParseCacheOption("GUAVA", ParseCacheWeigher.ENTRY, 65535L, true, false));
+        sqlParserEngine.parse("INSERT INTO t_order (order_id, status) VALUES (1, 'init')", false);
+        InsertStatement actual = (InsertStatement) sqlParserEngine.parse("INSERT INTO t_order (order_id, status) VALUES (10, 'finished')", false);
+        LiteralExpressionSegment actualOrderId = (LiteralExpressionSegment) actual.getValues().iterator().next().getValues().get(0);
+        assertThat(actualOrderId.getLiterals(), is((Object) 10));
+        assertThat(actualOrderId.getStartIndex(), is(47));
+        assertThat(actualOrderId.getStopIndex(), is(48));
+        LiteralExpressionSegment actualStatus = (LiteralExpressionSegment) actual.getValues().iterator().next().getValues().get(1);
+        assertThat(actualStatus.getLiterals(), is((Object) "finished"));
+        assertThat(actualStatus.getStartIndex(), is(51));
+        assertThat(actualStatus.getStopIndex(), is(60));
+    }
+    
+    @Test
+    public void assertParseWithDifferentLiteralTypes() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL", new ParseCacheOption("GUAVA", ParseCacheWeigher.ENTRY, 65535L, true, false));
+        sqlParserEngine.parse("SELECT * FROM t_order WHERE status = 1", false);
+        SelectStatement actual = (SelectStatement) sqlParserEngine.parse("SELECT * FROM t_order WHERE status = 'init'", false);
+        PredicateSegment actualPredicate = actual.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next();
+        assertThat(((LiteralExpressionSegment) ((PredicateCompareRightValue) actualPredicate.getRightValue()).getExpression()).getLiterals(), is((Object) "init"));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.integrate.engine;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.TokenSource;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheOption;
+import org.apache.shardingsphere.sql.parser.cache.ParseCacheWeigher;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserPool;
+import org.apache.shardingsphere.sql.parser.engine.SQLParserEngine;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserPoolTest {
+    
+    @Test
+    public void assertReuseLexerInSameThread() {
+        CommonTokenStream first = SQLParserFactory.newTokenStream("MySQL", "SELECT order_id FROM t_order");
+        CommonTokenStream second = SQLParserFactory.newTokenStream("MySQL", "DELETE FROM t_user");
+        assertThat(second.getTokenSource(), sameInstance(first.getTokenSource()));
+        assertThat(first.get(1).getText(), is("order_id"));
+        assertThat(first.get(3).getText(), is("t_order"));
+        assertThat(second.get(2).getText(), is("t_user"));
+    }
+    
+    @Test
+    public void assertNotShareLexerBetweenThreads() throws ExecutionException, InterruptedException {
+        TokenSource actual = SQLParserFactory.newTokenStream("MySQL", "SELECT 1").getTokenSource();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(executorService.submit(() -> SQLParserFactory.newTokenStream("MySQL", "SELECT 1").getTokenSource()).get(), not(sameInstance(actual)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertParseAfterClearDFACache() {
+        assertNotNull(new SQLParserExecutor("MySQL", "SELECT * FROM t_order WHERE order_id = ?").execute().getRootNode());
+        SQLParserPool.clearDFACache("MySQL");
+        assertNotNull(new SQLParserExecutor("MySQL", "SELECT * FROM t_order WHERE order_id = ?").execute().getRootNode());
+        assertNotNull(new SQLParserExecutor("MySQL", "UPDATE t_order SET status = ? WHERE order_id = ?").execute().getRootNode());
+    }
+    
+    @Test
+    public void assertClearDFACacheAfterParseCount() {
+        Lexer lexer = (Lexer) SQLParserFactory.newTokenStream("MySQL", "SELECT 1").getTokenSource();
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL", new ParseCacheOption("GUAVA", ParseCacheWeigher.ENTRY, 65535L, false, false, 2L));
+        sqlParserEngine.parse("SELECT * FROM t_order WHERE order_id = ?", false);
+        assertFalse(lexer.getInterpreter().getDFA(Lexer.DEFAULT_MODE).states.isEmpty());
+        sqlParserEngine.parse("UPDATE t_order SET status = ? WHERE order_id = ?", false);
+        assertTrue(lexer.getInterpreter().getDFA(Lexer.DEFAULT_MODE).states.isEmpty());
+    }
+}